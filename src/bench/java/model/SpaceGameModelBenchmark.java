@@ -0,0 +1,68 @@
+package model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.HeadlessSimulation.Scenario;
+
+/**
+ * Measures the time of a single {@link SpaceGameModel} tick in each
+ * {@link HeadlessSimulation} scenario.
+ * <p>
+ * Run with <code>mvn -P benchmark test-compile exec:exec</code>. The profile
+ * adds the JMH GC profiler, so the report includes the bytes allocated per tick
+ * (<code>gc.alloc.rate.norm</code>). The average number of colliders per tick
+ * is printed at the end of each scenario.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpaceGameModelBenchmark {
+
+    @Param({ "ASTEROID_STORM", "ENEMY_FLEET", "SUSTAINED_FIRE" })
+    public Scenario scenario;
+
+    @Param({ "1" })
+    public long seed;
+
+    private HeadlessSimulation simulation;
+    private long ticks;
+    private long colliders;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        simulation = new HeadlessSimulation(scenario, seed);
+        // let the scenario reach a steady state before measuring
+        simulation.run(600);
+    }
+
+    @Benchmark
+    public SpaceGameModel tick() {
+        simulation.tick();
+        ticks++;
+        colliders += simulation.getModel().getColliderCount();
+        return simulation.getModel();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n%s: %.1f colliders per tick over %d ticks%n", scenario, (double) colliders / ticks,
+                ticks);
+    }
+}
@@ -0,0 +1,118 @@
+package model.collision;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the broad phases on moving bodies at different collider counts.
+ * <p>
+ * The bodies are spread out so that the density stays roughly the same as on
+ * screen during play, and move a little every tick like in
+ * <code>SpaceGameModel.update</code>. Each tick runs the broad phase update and
+ * the exact circle test on every reported pair.
+ * <p>
+ * Run with <code>mvn -P benchmark test-compile exec:exec
+ * -Djmh.include=BroadPhaseBenchmark</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadPhaseBenchmark {
+
+    public enum Engine {
+        ALL_PAIRS,
+        UNIFORM_GRID,
+        SWEEP_AND_PRUNE
+    }
+
+    private static final float delta = 1f / 60f;
+
+    @Param({ "ALL_PAIRS", "UNIFORM_GRID", "SWEEP_AND_PRUNE" })
+    public Engine engine;
+
+    @Param({ "100", "1000", "10000" })
+    public int count;
+
+    private BroadPhase broadPhase;
+    private int[] ids;
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private float[] r;
+    private int[] partners;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        broadPhase = switch (engine) {
+            case ALL_PAIRS -> new AllPairsBroadPhase();
+            case UNIFORM_GRID -> new SpatialHashGrid();
+            case SWEEP_AND_PRUNE -> new SweepAndPruneBroadPhase();
+        };
+
+        Random rng = new Random(112);
+        float side = 3f * (float) Math.sqrt(count);
+
+        ids = new int[count];
+        x = new float[count];
+        y = new float[count];
+        vx = new float[count];
+        vy = new float[count];
+        r = new float[count];
+        partners = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i;
+            x[i] = rng.nextFloat(side);
+            y[i] = rng.nextFloat(side);
+            vx[i] = rng.nextFloat(-8f, 8f);
+            vy[i] = rng.nextFloat(-8f, 8f);
+            r[i] = rng.nextFloat(0.125f, 1f);
+        }
+    }
+
+    /**
+     * Moves every body one tick, and counts the overlapping pairs.
+     *
+     * @return the number of overlapping pairs, so that the test isn't optimized
+     *         away.
+     */
+    @Benchmark
+    public long tick() {
+        for (int i = 0; i < count; i++) {
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+        }
+
+        long overlaps = 0;
+        broadPhase.update(ids, x, y, r, count);
+        for (int i = 0; i < count; i++) {
+            int found = broadPhase.queryPartners(i, partners);
+            for (int k = 0; k < found; k++) {
+                int j = partners[k];
+                float dx = x[i] - x[j];
+                float dy = y[i] - y[j];
+                float radii = r[i] + r[j];
+                if (dx * dx + dy * dy < radii * radii) {
+                    overlaps++;
+                }
+            }
+        }
+        return overlaps;
+    }
+}
@@ -1,5 +1,7 @@
 package app;
 
+import java.util.Arrays;
+
 import org.lwjgl.system.Configuration;
 
 import com.badlogic.gdx.Graphics.DisplayMode;
@@ -23,7 +25,12 @@ public class Main {
         cfg.setTitle("Space Adventure");
         cfg.setWindowedMode(dm.width / 2, (int) (aspectRatio * (float) dm.height / 2f));
 
+        // simulate on a thread of its own when there is a core to spare for it,
+        // unless told not to
+        boolean simulationThreaded = Runtime.getRuntime().availableProcessors() > 1
+                && !Arrays.asList(args).contains("--single-threaded");
+
         // cfg.setFullscreenMode(Lwjgl3ApplicationConfiguration.getDisplayMode());
-        new Lwjgl3Application(new SpaceGameImpl(), cfg);
+        new Lwjgl3Application(new SpaceGameImpl(simulationThreaded), cfg);
     }
 }
\ No newline at end of file
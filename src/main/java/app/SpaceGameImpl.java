@@ -33,9 +33,22 @@ public class SpaceGameImpl extends Game implements SpaceGame {
     private ScreenViewport screenViewport;
 
     private GameStateModel gameStateModel;
+    private final boolean simulationThreaded;
     private final int METERS = 15; // screen will be meters x meters (we use meters as Game coordinates, NOT pixel
     // coordinates - these depend on window size, awful to work with)
 
+    /**
+     * @param simulationThreaded true to run the space game's simulation on a
+     *                           thread of its own.
+     */
+    public SpaceGameImpl(boolean simulationThreaded) {
+        this.simulationThreaded = simulationThreaded;
+    }
+
+    public SpaceGameImpl() {
+        this(false);
+    }
+
     @Override
     public void create() {
         batch = new SpriteBatch();
@@ -108,10 +121,21 @@ public class SpaceGameImpl extends Game implements SpaceGame {
         return this.gameStateModel;
     }
 
+    /**
+     * Stops the simulation of the space screen, if it is showing, so that the
+     * next screen may read the model while it is being made.
+     */
+    private void stopSimulation() {
+        if (screen instanceof SpaceScreen spaceScreen) {
+            spaceScreen.stopSimulation();
+        }
+    }
+
     /**
      * Change to the start screen
      */
     public void setStartScreen() {
+        stopSimulation();
         setScreen(new StartGameScreen(this, gameStateModel));
     }
 
@@ -119,6 +143,7 @@ public class SpaceGameImpl extends Game implements SpaceGame {
      * Change active screen to UpgradeScreen.
      */
     public void setUpgradeScreen() {
+        stopSimulation();
         gameStateModel.showUpgradeScreen();
         UpgradeScreen upgradeScreen = new UpgradeScreen(this, gameStateModel);
         setScreen(upgradeScreen);
@@ -128,6 +153,7 @@ public class SpaceGameImpl extends Game implements SpaceGame {
      * Change active screen to SpaceScreen.
      */
     public void setSpaceScreen() {
+        stopSimulation();
         if (gameStateModel.getSpaceGameModel() == null) {
             gameStateModel.startNewGame();
         } else {
@@ -137,7 +163,6 @@ public class SpaceGameImpl extends Game implements SpaceGame {
         SpaceGameModel spaceGameModel = gameStateModel.getSpaceGameModel();
         SpaceScreen spaceScreen = new SpaceScreen(this, gameStateModel);
 
-        spaceGameModel.setAnimationCallback(spaceScreen);
         spaceGameModel.setScreenBoundsProvider(spaceScreen);
         setScreen(spaceScreen);
     }
@@ -146,6 +171,7 @@ public class SpaceGameImpl extends Game implements SpaceGame {
      * Change active screen to OptionsScreen
      */
     public void setOptionsScreen() {
+        stopSimulation();
 
         if (gameStateModel.getCurrentState() != GameState.OPTIONS) {
             gameStateModel.changeState(GameState.OPTIONS);
@@ -155,6 +181,7 @@ public class SpaceGameImpl extends Game implements SpaceGame {
 
     @Override
     public void setHighScoreScreen() {
+        stopSimulation();
         if (gameStateModel.getCurrentState() != GameState.HIGH_SCORE) {
             gameStateModel.changeState(GameState.HIGH_SCORE);
         }
@@ -170,4 +197,9 @@ public class SpaceGameImpl extends Game implements SpaceGame {
     public SoundManager getSoundManager() {
         return this.soundManager;
     }
+
+    @Override
+    public boolean isSimulationThreaded() {
+        return simulationThreaded;
+    }
 }
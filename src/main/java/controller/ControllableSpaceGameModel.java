@@ -1,10 +1,8 @@
 package controller;
 
-import controller.audio.AudioCallback;
-import model.Animation.AnimationCallback;
 import model.ScreenBoundsProvider;
 
-public interface ControllableSpaceGameModel {
+public interface ControllableSpaceGameModel extends PlayerControls {
 
     /**
      * Updates the game model by the given delta time in seconds.
@@ -13,40 +11,6 @@ public interface ControllableSpaceGameModel {
      */
     void update(float delta);
 
-    /**
-     * Set ship to accelerate forwards.
-     */
-    void setAccelerateForward(boolean accelerate);
-
-    /**
-     * Set ship to accelerate backwards.
-     */
-    void setAccelerateBackward(boolean accelerate);
-
-    /**
-     * Set ship rotational acceleration to counter clockwise.
-     */
-    void setAccelerateCounterClockwise(boolean accelerate);
-
-    /**
-     * Set ship rotational acceleration to clockwise.
-     */
-    void setAccelerateClockwise(boolean accelerate);
-
-    /**
-     * Sets the audio callback object.
-     *
-     * @param audioCallback the <code>AudioCallback</code> object.
-     */
-    void setAudioCallback(AudioCallback audioCallback);
-
-    /**
-     * Sets the <code>AnimationCallback</code> for the model.
-     *
-     * @param animationCallback an AnimationCallback object.
-     */
-    void setAnimationCallback(AnimationCallback animationCallback);
-
     /**
      * Sets the <code>ScreenBoundsProvider</code> for the model.
      *
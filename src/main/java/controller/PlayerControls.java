@@ -0,0 +1,32 @@
+package controller;
+
+/**
+ * The ways the player can steer and fire their ship.
+ */
+public interface PlayerControls {
+
+    /**
+     * Set ship to accelerate forwards.
+     */
+    void setAccelerateForward(boolean accelerate);
+
+    /**
+     * Set ship to accelerate backwards.
+     */
+    void setAccelerateBackward(boolean accelerate);
+
+    /**
+     * Set ship rotational acceleration to counter clockwise.
+     */
+    void setAccelerateCounterClockwise(boolean accelerate);
+
+    /**
+     * Set ship rotational acceleration to clockwise.
+     */
+    void setAccelerateClockwise(boolean accelerate);
+
+    /**
+     * Fire every turret of the player's ship that is ready.
+     */
+    void playerShoot();
+}
@@ -13,17 +13,42 @@ import view.screens.SpaceScreen;
 public class SpaceScreenController extends GenericController implements AudioCallback {
 
     private final SpaceGameModel model;
+    private final SpaceScreen spaceScreen;
+    private PlayerControls controls;
 
     public SpaceScreenController(SpaceScreen view, GameStateModel gameStateModel, SpaceGame game) {
         super(view, gameStateModel, game);
         this.model = gameStateModel.getSpaceGameModel();
+        this.controls = model;
+        this.spaceScreen = view;
         soundManager.init();
-        model.setAudioCallback(this);
     }
 
+    /**
+     * Passes the player's input to the given controls rather than to the model,
+     * such as when the model runs on a thread of its own.
+     *
+     * @param controls the controls to steer the player's ship with.
+     */
+    public void setControls(PlayerControls controls) {
+        this.controls = controls;
+    }
+
+    /**
+     * Updates the model. Only call this when the model isn't running on a
+     * thread of its own.
+     *
+     * @param delta the time since the last update, in seconds.
+     */
     public void update(float delta) {
         model.update(delta);
-        if (model.isGameOver()) {
+    }
+
+    /**
+     * @param gameOver whether the game is over, as last seen by the view.
+     */
+    public void updateGameState(boolean gameOver) {
+        if (gameOver) {
             gameStateModel.changeState(GameState.GAME_OVER);
         }
     }
@@ -35,39 +60,39 @@ public class SpaceScreenController extends GenericController implements AudioCal
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateForward(true);
-                model.setAccelerateBackward(false);
+                controls.setAccelerateForward(true);
+                controls.setAccelerateBackward(false);
                 yield true;
             }
             case Input.Keys.S -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateBackward(true);
-                model.setAccelerateForward(false);
+                controls.setAccelerateBackward(true);
+                controls.setAccelerateForward(false);
                 yield true;
             }
             case Input.Keys.A -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateCounterClockwise(true);
-                model.setAccelerateClockwise(false);
+                controls.setAccelerateCounterClockwise(true);
+                controls.setAccelerateClockwise(false);
                 yield true;
             }
             case Input.Keys.D -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateClockwise(true);
-                model.setAccelerateCounterClockwise(false);
+                controls.setAccelerateClockwise(true);
+                controls.setAccelerateCounterClockwise(false);
                 yield true;
             }
             case Input.Keys.SPACE -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.playerShoot();
+                controls.playerShoot();
                 yield true;
             }
             case Input.Keys.U -> {
@@ -88,6 +113,14 @@ public class SpaceScreenController extends GenericController implements AudioCal
                 game.setOptionsScreen();
                 yield true;
             }
+            case Input.Keys.F3 -> {
+                spaceScreen.toggleProfiler();
+                yield true;
+            }
+            case Input.Keys.F4 -> {
+                spaceScreen.dumpProfile();
+                yield true;
+            }
             default -> false;
         };
     }
@@ -99,28 +132,28 @@ public class SpaceScreenController extends GenericController implements AudioCal
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateForward(false);
+                controls.setAccelerateForward(false);
                 yield true;
             }
             case Input.Keys.S -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateBackward(false);
+                controls.setAccelerateBackward(false);
                 yield true;
             }
             case Input.Keys.A -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateCounterClockwise(false);
+                controls.setAccelerateCounterClockwise(false);
                 yield true;
             }
             case Input.Keys.D -> {
                 if (gameStateModel.getCurrentState() == GameState.GAME_OVER) {
                     yield true;
                 }
-                model.setAccelerateClockwise(false);
+                controls.setAccelerateClockwise(false);
                 yield true;
             }
             default -> false;
@@ -128,10 +161,10 @@ public class SpaceScreenController extends GenericController implements AudioCal
     }
 
     public void reset() {
-        model.setAccelerateForward(false);
-        model.setAccelerateBackward(false);
-        model.setAccelerateClockwise(false);
-        model.setAccelerateCounterClockwise(false);
+        controls.setAccelerateForward(false);
+        controls.setAccelerateBackward(false);
+        controls.setAccelerateClockwise(false);
+        controls.setAccelerateCounterClockwise(false);
     }
 
     @Override
@@ -0,0 +1,270 @@
+package grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A grid stored in a single flat array, in row-major order. The value at
+ * (row, col) is found at index <code>row * cols + col</code>.
+ * <p>
+ * Setting a value only writes to the array. The <code>GridCell</code> objects
+ * handed out by the iterator are created the first time a cell is visited
+ * after it changed, and reused for later iterations, so iterating an unchanged
+ * grid only allocates the iterator itself. {@link #cursor()} and
+ * {@link #forEachNonEmpty(CellVisitor)} visit the cells without creating any
+ * <code>GridCell</code> at all.
+ * <p>
+ * Which cells hold a value is also kept in an {@link OccupancyMap}, which
+ * answers emptiness, count and bounds queries without scanning the grid.
+ * <p>
+ * A grid can be emptied and given a new size with {@link #reset(int, int)},
+ * which reuses its arrays as long as the new size has no more cells than the
+ * grid was made with.
+ *
+ * @param <E> the type of the grid's elements.
+ */
+public class ArrayGrid<E> implements IGrid<E> {
+
+    private int rows;
+    private int columns;
+    private final Object[] values;
+    private final GridCell<?>[] cells;
+    private final OccupancyMap occupancy;
+
+    /**
+     * Construct a grid with {@code rows} rows and {@code columns} columns, holding
+     * null in every cell.
+     *
+     * @param rows    the number of rows in the grid
+     * @param columns the number of columns in the grid
+     * @throws IllegalArgumentException if supplied either number of rows or columns
+     *                                  < 1.
+     */
+    public ArrayGrid(int rows, int columns) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("A grid must have positive integer indices");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.values = new Object[rows * columns];
+        this.cells = new GridCell<?>[rows * columns];
+        this.occupancy = new OccupancyMap(rows, columns);
+    }
+
+    /**
+     * Creates an <code>ArrayGrid</code> with the same dimensions and values as
+     * another grid.
+     *
+     * @param grid the grid to copy.
+     * @return the copy.
+     */
+    public static <E> ArrayGrid<E> copyOf(IGrid<E> grid) {
+        ArrayGrid<E> copy = new ArrayGrid<>(grid.rows(), grid.cols());
+        grid.forEachNonEmpty(copy::set);
+        return copy;
+    }
+
+    /**
+     * Empties the grid and gives it a new size, without allocating. This is only
+     * possible if the new size has no more cells than the grid was made with.
+     *
+     * @param rows    the new number of rows.
+     * @param columns the new number of columns.
+     * @return true if the grid was reset, false if it doesn't have room for the
+     *         new size, in which case it is left as it was.
+     * @throws IllegalArgumentException if supplied either number of rows or columns
+     *                                  < 1.
+     */
+    public boolean reset(int rows, int columns) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("A grid must have positive integer indices");
+        }
+        if (rows * columns > values.length || !occupancy.reset(rows, columns)) {
+            return false;
+        }
+        Arrays.fill(values, 0, this.rows * this.columns, null);
+        Arrays.fill(cells, 0, this.rows * this.columns, null);
+        this.rows = rows;
+        this.columns = columns;
+        return true;
+    }
+
+    @Override
+    public void set(CellPosition pos, E value) throws IndexOutOfBoundsException {
+        checkPosition(pos);
+        set(pos.row(), pos.col(), value);
+    }
+
+    /**
+     * Sets the value at a given row and column.
+     *
+     * @param row   the row of the position.
+     * @param col   the column of the position.
+     * @param value the value to store.
+     * @throws IndexOutOfBoundsException if the position does not exist in the grid.
+     */
+    public void set(int row, int col, E value) throws IndexOutOfBoundsException {
+        int index = indexOf(row, col);
+        values[index] = value;
+        cells[index] = null;
+        occupancy.set(row, col, value != null);
+    }
+
+    @Override
+    public E get(CellPosition pos) throws IndexOutOfBoundsException {
+        checkPosition(pos);
+        return get(pos.row(), pos.col());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int row, int col) throws IndexOutOfBoundsException {
+        return (E) values[indexOf(row, col)];
+    }
+
+    private int indexOf(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= columns) {
+            throw new IndexOutOfBoundsException("Position is not on the grid");
+        }
+        return row * columns + col;
+    }
+
+    @Override
+    public boolean positionIsOnGrid(CellPosition pos) {
+        if (pos == null) {
+            return false;
+        }
+        return (pos.row() >= 0) && (pos.row() < rows) && (pos.col() >= 0) && (pos.col() < columns);
+    }
+
+    private void checkPosition(CellPosition pos) throws IndexOutOfBoundsException {
+        if (!positionIsOnGrid(pos)) {
+            throw new IndexOutOfBoundsException("Position is not on the grid");
+        }
+    }
+
+    @Override
+    public int rows() {
+        return rows;
+    }
+
+    @Override
+    public int cols() {
+        return columns;
+    }
+
+    @SuppressWarnings("unchecked")
+    private GridCell<E> cellAt(int index) {
+        GridCell<E> cell = (GridCell<E>) cells[index];
+        if (cell == null) {
+            cell = new GridCell<>(new CellPosition(index / columns, index % columns), (E) values[index]);
+            cells[index] = cell;
+        }
+        return cell;
+    }
+
+    @Override
+    public Iterator<GridCell<E>> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < rows * columns;
+            }
+
+            @Override
+            public GridCell<E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return cellAt(index++);
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachNonEmpty(CellVisitor<? super E> visitor) {
+        for (int i = 0; i < rows * columns; i++) {
+            if (values[i] != null) {
+                visitor.visit(i / columns, i % columns, (E) values[i]);
+            }
+        }
+    }
+
+    @Override
+    public IGrid<E> copy() {
+        return resized(rows, columns, 0, 0);
+    }
+
+    /**
+     * Creates a grid of a new size holding the values of <code>this</code>, moved
+     * by an offset. Values that end up outside the new grid are left out. Only the
+     * rows within the bounds of the occupied cells are copied.
+     *
+     * @param rows      the number of rows of the new grid.
+     * @param columns   the number of columns of the new grid.
+     * @param rowOffset the number of rows to move the values down by.
+     * @param colOffset the number of columns to move the values right by.
+     * @return the new grid.
+     * @throws IllegalArgumentException if supplied either number of rows or columns
+     *                                  < 1.
+     */
+    public ArrayGrid<E> resized(int rows, int columns, int rowOffset, int colOffset) {
+        ArrayGrid<E> resized = new ArrayGrid<>(rows, columns);
+        if (occupancy.isEmpty()) {
+            return resized;
+        }
+
+        int firstCol = Math.max(occupancy.minCol(), -colOffset);
+        int lastCol = Math.min(occupancy.maxCol(), columns - 1 - colOffset);
+        int firstRow = Math.max(occupancy.minRow(), -rowOffset);
+        int lastRow = Math.min(occupancy.maxRow(), rows - 1 - rowOffset);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int index = row * this.columns + col;
+                if (values[index] != null) {
+                    resized.set(row + rowOffset, col + colOffset, get(row, col));
+                }
+            }
+        }
+        return resized;
+    }
+
+    /**
+     * @return the occupancy of <code>this</code>. It follows later changes to
+     *         <code>this</code>, and must not be changed directly.
+     */
+    public OccupancyMap occupancy() {
+        return occupancy;
+    }
+
+    @Override
+    public boolean isEmptyAt(CellPosition pos) {
+        return get(pos) == null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return occupancy.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        ArrayList<GridCell<E>> nonNullCells = new ArrayList<>();
+        for (int i = 0; i < rows * columns; i++) {
+            if (values[i] != null) {
+                nonNullCells.add(cellAt(i));
+            }
+        }
+
+        if (nonNullCells.isEmpty()) {
+            return "Grid is empty.";
+        } else {
+            return nonNullCells.toString();
+        }
+    }
+}
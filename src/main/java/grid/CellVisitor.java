@@ -0,0 +1,19 @@
+package grid;
+
+/**
+ * Visits the cells of a grid, receiving the coordinates as primitives so that
+ * no <code>CellPosition</code> or <code>GridCell</code> has to be created.
+ *
+ * @param <E> the type of the grid's elements.
+ * @see IGrid#forEachNonEmpty(CellVisitor)
+ */
+@FunctionalInterface
+public interface CellVisitor<E> {
+
+    /**
+     * @param row   the row of the cell.
+     * @param col   the column of the cell.
+     * @param value the value stored in the cell.
+     */
+    void visit(int row, int col, E value);
+}
@@ -84,6 +84,11 @@ public class Grid<E> implements IGrid<E> {
         return grid.get(pos.row()).get(pos.col()).value();
     }
 
+    @Override
+    public E get(int row, int col) throws IndexOutOfBoundsException {
+        return grid.get(row).get(col).value();
+    }
+
     @Override
     public boolean positionIsOnGrid(CellPosition pos) {
         if (pos == null) { return false; }
@@ -149,39 +154,41 @@ public class Grid<E> implements IGrid<E> {
      *         adjusted accordingly
      */
     public static <E> IGrid<E> shrinkGridToFit(IGrid<E> expandedGrid) {
+        if (expandedGrid instanceof ArrayGrid<E> arrayGrid) {
+            OccupancyMap occupancy = arrayGrid.occupancy();
+            if (occupancy.isEmpty()) {
+                return new ArrayGrid<>(1, 1);
+            }
+            return arrayGrid.resized(occupancy.maxRow() - occupancy.minRow() + 1,
+                    occupancy.maxCol() - occupancy.minCol() + 1, -occupancy.minRow(), -occupancy.minCol());
+        }
+
         boolean hasValidCells = false;
         int minRow = Integer.MAX_VALUE;
         int maxRow = 0;
         int minCol = Integer.MAX_VALUE;
         int maxCol = 0;
 
-        for (GridCell<E> cell : expandedGrid) {
-            if (cell.value() != null) {
-                hasValidCells = true;
-                int row = cell.pos().row();
-                int col = cell.pos().col();
-                minRow = Math.min(minRow, row);
-                maxRow = Math.max(maxRow, row);
-                minCol = Math.min(minCol, col);
-                maxCol = Math.max(maxCol, col);
-            }
+        GridCursor<E> cells = expandedGrid.cursor();
+        while (cells.nextNonEmpty()) {
+            hasValidCells = true;
+            minRow = Math.min(minRow, cells.row());
+            maxRow = Math.max(maxRow, cells.row());
+            minCol = Math.min(minCol, cells.col());
+            maxCol = Math.max(maxCol, cells.col());
         }
 
         if (!hasValidCells) {
-            return new Grid<>(1, 1);
+            return new ArrayGrid<>(1, 1);
         }
 
         int newRows = maxRow - minRow + 1;
         int newCols = maxCol - minCol + 1;
-        IGrid<E> shrunkGrid = new Grid<>(newRows, newCols);
+        ArrayGrid<E> shrunkGrid = new ArrayGrid<>(newRows, newCols);
 
-        for (GridCell<E> cell : expandedGrid) {
-            if (cell.value() != null) {
-                int row = cell.pos().row() - minRow;
-                int col = cell.pos().col() - minCol;
-                CellPosition newPos = new CellPosition(row, col);
-                shrunkGrid.set(newPos, cell.value());
-            }
+        cells.reset();
+        while (cells.nextNonEmpty()) {
+            shrunkGrid.set(cells.row() - minRow, cells.col() - minCol, cells.value());
         }
 
         return shrunkGrid;
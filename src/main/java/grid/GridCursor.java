@@ -0,0 +1,106 @@
+package grid;
+
+/**
+ * A cursor over the cells of a grid, in row-major order. Unlike the grid's
+ * <code>Iterator</code>, the cursor hands out the row, column and value of the
+ * current cell directly, so it can be kept and reused with {@link #reset()}
+ * without allocating anything.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * cursor.reset();
+ * while (cursor.nextNonEmpty()) {
+ *     use(cursor.row(), cursor.col(), cursor.value());
+ * }
+ * </pre>
+ *
+ * @param <E> the type of the grid's elements.
+ */
+public class GridCursor<E> {
+
+    private final IGrid<E> grid;
+    private int index;
+    private int row;
+    private int col;
+    private E value;
+
+    /**
+     * @param grid the grid to move over. The cursor starts before the first cell.
+     */
+    public GridCursor(IGrid<E> grid) {
+        this.grid = grid;
+        reset();
+    }
+
+    /**
+     * Moves the cursor back to before the first cell.
+     *
+     * @return <code>this</code>
+     */
+    public GridCursor<E> reset() {
+        index = -1;
+        row = 0;
+        col = -1;
+        value = null;
+        return this;
+    }
+
+    /**
+     * Moves the cursor to the next cell.
+     *
+     * @return true if the cursor is on a cell, false if it has moved past the last
+     *         cell.
+     */
+    public boolean next() {
+        if (index >= grid.rows() * grid.cols() - 1) {
+            index = grid.rows() * grid.cols();
+            value = null;
+            return false;
+        }
+        index++;
+        col++;
+        if (col == grid.cols()) {
+            col = 0;
+            row++;
+        }
+        value = grid.get(row, col);
+        return true;
+    }
+
+    /**
+     * Moves the cursor to the next cell holding a value.
+     *
+     * @return true if the cursor is on a cell, false if there are no more cells
+     *         holding a value.
+     */
+    public boolean nextNonEmpty() {
+        while (next()) {
+            if (value != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the row of the current cell.
+     */
+    public int row() {
+        return row;
+    }
+
+    /**
+     * @return the column of the current cell.
+     */
+    public int col() {
+        return col;
+    }
+
+    /**
+     * @return the value stored in the current cell.
+     */
+    public E value() {
+        return value;
+    }
+}
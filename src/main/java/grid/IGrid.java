@@ -22,6 +22,18 @@ public interface IGrid<E> extends IGridDimension, Iterable<GridCell<E>> {
      */
     E get(CellPosition pos);
 
+    /**
+     * Gets the current value at a given row and column.
+     *
+     * @param row the row of the position to get.
+     * @param col the column of the position to get.
+     * @return the value stored at that position.
+     * @throws IndexOutOfBoundsException if the position does not exist in the grid.
+     */
+    default E get(int row, int col) {
+        return get(new CellPosition(row, col));
+    }
+
     /**
      * Reports whether a position is within bounds for this grid
      *
@@ -49,4 +61,27 @@ public interface IGrid<E> extends IGridDimension, Iterable<GridCell<E>> {
      * @return {@code true} if the grid is empty, {@code false} otherwise.
      */
     boolean isEmpty();
+
+    /**
+     * Calls the visitor for every cell holding a value, in row-major order.
+     *
+     * @param visitor the visitor to call.
+     */
+    default void forEachNonEmpty(CellVisitor<? super E> visitor) {
+        for (int row = 0; row < rows(); row++) {
+            for (int col = 0; col < cols(); col++) {
+                E value = get(row, col);
+                if (value != null) {
+                    visitor.visit(row, col, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a new cursor over the cells of the grid, which can be reused.
+     */
+    default GridCursor<E> cursor() {
+        return new GridCursor<>(this);
+    }
 }
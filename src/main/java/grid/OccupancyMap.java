@@ -0,0 +1,227 @@
+package grid;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which cells of a grid hold a value, as one bit per cell packed into
+ * <code>long</code> words in row-major order. The number of occupied cells and
+ * the smallest rectangle containing them are kept up to date as cells change,
+ * so emptiness, count and bounds queries don't have to look at the grid.
+ * <p>
+ * Occupying a cell grows the bounds in place. Clearing a cell on the edge of
+ * the bounds only marks them as stale, and they are found again from the bits
+ * the next time they are asked for.
+ * <p>
+ * The map can be cleared and given a new size with {@link #reset(int, int)},
+ * reusing its words if there are enough of them.
+ */
+public class OccupancyMap {
+
+    private int rows;
+    private int cols;
+    private final long[] bits;
+    private int count;
+
+    private int minRow;
+    private int maxRow;
+    private int minCol;
+    private int maxCol;
+    private boolean boundsStale;
+
+    /**
+     * Construct an occupancy map with no occupied cells.
+     *
+     * @param rows the number of rows of the grid.
+     * @param cols the number of columns of the grid.
+     * @throws IllegalArgumentException if supplied either number of rows or columns
+     *                                  < 1.
+     */
+    public OccupancyMap(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("A grid must have positive integer indices");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.bits = new long[(rows * cols + 63) >>> 6];
+        resetBounds();
+    }
+
+    /**
+     * Marks every cell as empty and gives the map a new size, without allocating.
+     * This is only possible if the new size needs no more words than the map was
+     * made with.
+     *
+     * @param rows the new number of rows of the grid.
+     * @param cols the new number of columns of the grid.
+     * @return true if the map was reset, false if it doesn't have room for the new
+     *         size, in which case it is left as it was.
+     * @throws IllegalArgumentException if supplied either number of rows or columns
+     *                                  < 1.
+     */
+    public boolean reset(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("A grid must have positive integer indices");
+        }
+        if (((rows * cols + 63) >>> 6) > bits.length) {
+            return false;
+        }
+        Arrays.fill(bits, 0L);
+        this.rows = rows;
+        this.cols = cols;
+        count = 0;
+        resetBounds();
+        return true;
+    }
+
+    private void resetBounds() {
+        minRow = Integer.MAX_VALUE;
+        maxRow = Integer.MIN_VALUE;
+        minCol = Integer.MAX_VALUE;
+        maxCol = Integer.MIN_VALUE;
+        boundsStale = false;
+    }
+
+    /**
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     * @return true if the cell is occupied, false if it is empty or not on the
+     *         grid.
+     */
+    public boolean isOccupied(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        int index = row * cols + col;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks a cell as occupied or empty.
+     *
+     * @param row      the row of the cell.
+     * @param col      the column of the cell.
+     * @param occupied whether the cell is occupied.
+     * @throws IndexOutOfBoundsException if the cell is not on the grid.
+     */
+    public void set(int row, int col, boolean occupied) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Position is not on the grid");
+        }
+        if (occupied == isOccupied(row, col)) {
+            return;
+        }
+
+        int index = row * cols + col;
+        bits[index >>> 6] ^= 1L << index;
+
+        if (occupied) {
+            count++;
+            if (!boundsStale) {
+                minRow = Math.min(minRow, row);
+                maxRow = Math.max(maxRow, row);
+                minCol = Math.min(minCol, col);
+                maxCol = Math.max(maxCol, col);
+            }
+        } else {
+            count--;
+            if (row == minRow || row == maxRow || col == minCol || col == maxCol) {
+                boundsStale = true;
+            }
+        }
+    }
+
+    /**
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     * @return true if at least one of the orthogonal neighbours of the cell is
+     *         occupied. The cell itself may lie just outside the grid.
+     */
+    public boolean hasOccupiedNeighbour(int row, int col) {
+        return isOccupied(row - 1, col) || isOccupied(row + 1, col)
+                || isOccupied(row, col - 1) || isOccupied(row, col + 1);
+    }
+
+    /**
+     * @return the number of occupied cells.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return true if no cell is occupied.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return the smallest row holding an occupied cell. Only meaningful if the map
+     *         is not empty.
+     */
+    public int minRow() {
+        updateBounds();
+        return minRow;
+    }
+
+    /**
+     * @return the largest row holding an occupied cell. Only meaningful if the map
+     *         is not empty.
+     */
+    public int maxRow() {
+        updateBounds();
+        return maxRow;
+    }
+
+    /**
+     * @return the smallest column holding an occupied cell. Only meaningful if the
+     *         map is not empty.
+     */
+    public int minCol() {
+        updateBounds();
+        return minCol;
+    }
+
+    /**
+     * @return the largest column holding an occupied cell. Only meaningful if the
+     *         map is not empty.
+     */
+    public int maxCol() {
+        updateBounds();
+        return maxCol;
+    }
+
+    /**
+     * @return true if the occupied cells touch every edge of the grid, so the grid
+     *         can't be shrunk without losing a cell. An empty map only fits a 1x1
+     *         grid.
+     */
+    public boolean fitsGrid() {
+        if (isEmpty()) {
+            return rows == 1 && cols == 1;
+        }
+        updateBounds();
+        return minRow == 0 && minCol == 0 && maxRow == rows - 1 && maxCol == cols - 1;
+    }
+
+    private void updateBounds() {
+        if (!boundsStale) {
+            return;
+        }
+        resetBounds();
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+
+                int row = index / cols;
+                int col = index % cols;
+                minRow = Math.min(minRow, row);
+                maxRow = Math.max(maxRow, row);
+                minCol = Math.min(minCol, col);
+                maxCol = Math.max(maxCol, col);
+            }
+        }
+    }
+}
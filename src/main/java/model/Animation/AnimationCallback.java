@@ -2,5 +2,15 @@ package model.Animation;
 
 public interface AnimationCallback {
 
-    void addAnimationState(AnimationState state);
+    /**
+     * Starts an animation. The position and size are passed as values rather than
+     * as an <code>AnimationState</code>, so that the receiver can keep its
+     * animations in preallocated slots.
+     *
+     * @param x      the x coordinate of the center of the animation.
+     * @param y      the y coordinate of the center of the animation.
+     * @param radius the radius of the animation.
+     * @param type   the type of animation.
+     */
+    void addAnimationState(float x, float y, float radius, AnimationType type);
 }
@@ -0,0 +1,191 @@
+package model.Animation;
+
+/**
+ * A fixed number of animation slots, kept in a ring from oldest to newest.
+ * <p>
+ * Every slot holds an {@link AnimationStateImpl} made up front. Starting an
+ * animation reuses the slot of one that has finished, so a burst of
+ * explosions makes no garbage. When every slot is in use, the
+ * {@link OverflowPolicy} decides what happens to the new animation.
+ * <p>
+ * The live animations are read with {@link #size()} and {@link #get(int)}, so
+ * that they can be drawn without an iterator.
+ */
+public class AnimationRingBuffer implements AnimationCallback {
+
+    /**
+     * What to do with a new animation when every slot is in use.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Replace the oldest animation.
+         */
+        DROP_OLDEST,
+        /**
+         * Grow the newest animation of the same type that overlaps the new one, so
+         * that it covers both. If none overlap, replace the oldest animation.
+         */
+        MERGE_NEARBY
+    }
+
+    private final AnimationStateImpl[] slots;
+    private final OverflowPolicy policy;
+    private final float[] durations = new float[AnimationType.values().length];
+    private int head = 0;
+    private int size = 0;
+    private int dropped = 0;
+    private int merged = 0;
+
+    /**
+     * Makes a buffer where every type of animation lasts until it's cleared.
+     * Give each type a duration with {@link #setDuration}.
+     *
+     * @param capacity the number of slots.
+     * @param policy   what to do with a new animation when every slot is in use.
+     * @throws IllegalArgumentException if <code>capacity</code> is less than 1.
+     */
+    public AnimationRingBuffer(int capacity, OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.slots = new AnimationStateImpl[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AnimationStateImpl(0f, 0f, 0f, AnimationType.EXPLOSION);
+        }
+        this.policy = policy;
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = Float.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * @param type    the type of animation.
+     * @param seconds how long animations of the type last before their slots are
+     *                reused.
+     */
+    public void setDuration(AnimationType type, float seconds) {
+        durations[type.ordinal()] = seconds;
+    }
+
+    @Override
+    public void addAnimationState(float x, float y, float radius, AnimationType type) {
+        if (size < slots.length) {
+            slots[(head + size) % slots.length].init(x, y, radius, type);
+            size++;
+            return;
+        }
+
+        if (policy == OverflowPolicy.MERGE_NEARBY && merge(x, y, radius, type)) {
+            merged++;
+            return;
+        }
+
+        // the oldest slot becomes the newest
+        slots[head].init(x, y, radius, type);
+        head = (head + 1) % slots.length;
+        dropped++;
+    }
+
+    private boolean merge(float x, float y, float radius, AnimationType type) {
+        for (int i = size - 1; i >= 0; i--) {
+            AnimationStateImpl state = slots[(head + i) % slots.length];
+            if (state.getAnimationType() != type) {
+                continue;
+            }
+            float dx = x - state.getX();
+            float dy = y - state.getY();
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+            if (distance > state.getRadius() + radius) {
+                continue;
+            }
+
+            // the smallest circle around both
+            if (distance + radius <= state.getRadius()) {
+                return true;
+            }
+            if (distance + state.getRadius() <= radius) {
+                state.reshape(x, y, radius);
+                return true;
+            }
+            float mergedRadius = (distance + state.getRadius() + radius) / 2f;
+            float shift = (mergedRadius - state.getRadius()) / distance;
+            state.reshape(state.getX() + dx * shift, state.getY() + dy * shift, mergedRadius);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Advances every animation, and frees the slots of those that have lasted
+     * their duration. The remaining animations keep their order.
+     *
+     * @param delta the time since the last update, in seconds.
+     */
+    public void update(float delta) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % slots.length;
+            AnimationStateImpl state = slots[index];
+            state.update(delta);
+            if (state.getStateTime() >= durations[state.getAnimationType().ordinal()]) {
+                continue;
+            }
+
+            // move the state down over the freed slots, and the freed one up
+            int keptIndex = (head + kept) % slots.length;
+            slots[index] = slots[keptIndex];
+            slots[keptIndex] = state;
+            kept++;
+        }
+        size = kept;
+    }
+
+    /**
+     * @param i the index of the animation, from 0 for the oldest to
+     *          <code>size() - 1</code> for the newest.
+     * @return the animation.
+     * @throws IndexOutOfBoundsException if <code>i</code> is not less than
+     *                                   {@link #size()}.
+     */
+    public AnimationState get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return slots[(head + i) % slots.length];
+    }
+
+    /**
+     * @return the number of live animations.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return the number of animations that replaced the oldest one since the
+     *         buffer was made.
+     */
+    public int getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * @return the number of animations that were merged into another since the
+     *         buffer was made.
+     */
+    public int getMergedCount() {
+        return merged;
+    }
+
+    /**
+     * Removes every animation.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+}
@@ -4,24 +4,47 @@ import model.Globals.Collidable;
 
 public class AnimationStateImpl implements AnimationState {
 
-    private final float x;
-    private final float y;
-    private final float radius;
-    private final AnimationType type;
+    private float x;
+    private float y;
+    private float radius;
+    private AnimationType type;
     private float stateTime = 0f;
 
     public AnimationStateImpl(float x, float y, float radius, AnimationType type) {
+        init(x, y, radius, type);
+    }
+
+    public AnimationStateImpl(Collidable collideable, AnimationType type) {
+        this(collideable.getX(), collideable.getY(), collideable.getRadius(), type);
+    }
+
+    /**
+     * Restarts this state as a new animation, so that the object can be reused.
+     *
+     * @param x      the x coordinate of the center of the animation.
+     * @param y      the y coordinate of the center of the animation.
+     * @param radius the radius of the animation.
+     * @param type   the type of animation.
+     */
+    public void init(float x, float y, float radius, AnimationType type) {
         this.x = x;
         this.y = y;
         this.radius = radius;
         this.type = type;
+        this.stateTime = 0f;
     }
 
-    public AnimationStateImpl(Collidable collideable, AnimationType type) {
-        this.x = collideable.getX();
-        this.y = collideable.getY();
-        this.radius = collideable.getRadius();
-        this.type = type;
+    /**
+     * Moves and resizes the animation, without restarting it.
+     *
+     * @param x      the new x coordinate of the center of the animation.
+     * @param y      the new y coordinate of the center of the animation.
+     * @param radius the new radius of the animation.
+     */
+    void reshape(float x, float y, float radius) {
+        this.x = x;
+        this.y = y;
+        this.radius = radius;
     }
 
     @Override
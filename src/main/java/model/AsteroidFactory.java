@@ -14,7 +14,7 @@ import model.utils.SpaceCalculator;
 
 public abstract class AsteroidFactory {
 
-    private final Random rng = new Random();
+    private final Random rng;
 
     private final int largeSize = 4;
 
@@ -27,6 +27,18 @@ public abstract class AsteroidFactory {
         }
     };
 
+    protected AsteroidFactory() {
+        this(new Random());
+    }
+
+    /**
+     * @param rng the random number generator to draw asteroid sizes, positions and
+     *            velocities from.
+     */
+    protected AsteroidFactory(Random rng) {
+        this.rng = rng;
+    }
+
     /**
      * Spawns an asteroid at a random position on the spawn perimeter.
      *
@@ -7,7 +7,7 @@ import model.SpaceCharacters.ViewableSpaceBody;
 
 public class DiamondFactory {
 
-    private final Random random = new Random();
+    private final Random random;
     private final Pool<Diamond> diamondPool = new Pool<>() {
         @Override
         protected Diamond newObject() {
@@ -15,6 +15,17 @@ public class DiamondFactory {
         }
     };
 
+    public DiamondFactory() {
+        this(new Random());
+    }
+
+    /**
+     * @param random the random number generator to draw diamond values from.
+     */
+    public DiamondFactory(Random random) {
+        this.random = random;
+    }
+
     /**
      * Spawns a {@link Diamond} instance and places it relative to the given
      * {@link ViewableSpaceBody}.
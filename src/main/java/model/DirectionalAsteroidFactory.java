@@ -9,7 +9,19 @@ import model.utils.SpaceCalculator;
 
 public class DirectionalAsteroidFactory extends AsteroidFactory {
 
-    private final Random rng = new Random();
+    private final Random rng;
+
+    public DirectionalAsteroidFactory() {
+        this(new Random());
+    }
+
+    /**
+     * @param rng the random number generator to draw the asteroids from.
+     */
+    public DirectionalAsteroidFactory(Random rng) {
+        super(rng);
+        this.rng = rng;
+    }
 
     /**
      * Generates a single asteroid at a random position at a certain angle from the
@@ -0,0 +1,66 @@
+package model;
+
+import com.badlogic.gdx.utils.Pool;
+import model.ShipComponents.ShipStructure;
+import model.SpaceCharacters.Ships.EnemyShip;
+import model.SpaceCharacters.Ships.Player;
+import model.ai.EnhancedLerpBrain;
+
+public class EnemyShipFactory {
+
+    private final Player player;
+    private final Pool<EnemyShip> enemyShipPool = new Pool<>() {
+        @Override
+        protected EnemyShip newObject() {
+            EnemyShip enemyShip = new EnemyShip(new ShipStructure(1, 1), "enemy", "an enemy ship", 0f, 0f, 0f);
+            enemyShip.setBrain(new EnhancedLerpBrain(enemyShip, player));
+            return enemyShip;
+        }
+    };
+
+    /**
+     * @param player the player the enemy ships go after.
+     */
+    public EnemyShipFactory(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Spawns an {@link EnemyShip} with an {@link EnhancedLerpBrain}, reusing a
+     * freed ship along with its brain, health bar, transform cache and the grid of
+     * its structure if there is one.
+     * <p>
+     * The ship's own structure is reset to hold the fuselage of
+     * <code>shipStructure</code>, so <code>shipStructure</code> itself may be
+     * reset and reused once the ship is spawned.
+     *
+     * @param shipStructure the structure whose fuselage the ship is made of.
+     * @param x             the x-coordinate of the ship.
+     * @param y             the y-coordinate of the ship.
+     * @param angle         the angle of rotation of the ship, in degrees.
+     * @return an {@link EnemyShip} instance
+     */
+    public EnemyShip spawn(ShipStructure shipStructure, float x, float y, float angle) {
+        EnemyShip enemyShip = enemyShipPool.obtain();
+        enemyShip.init(shipStructure, x, y, angle);
+        return enemyShip;
+    }
+
+    /**
+     * Frees an {@link EnemyShip} instance and returns it to the pool for reuse.
+     * The ship must no longer be in the game, and nothing, including events
+     * about it, may still refer to it.
+     *
+     * @param enemyShip the ship to release
+     */
+    public void free(EnemyShip enemyShip) {
+        enemyShipPool.free(enemyShip);
+    }
+
+    /**
+     * @return the number of freed ships waiting to be reused.
+     */
+    public int getFreeCount() {
+        return enemyShipPool.getFree();
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import model.constants.GameState;
+import model.constants.PhysicsParameters;
 
 public class GameStateModel {
 
@@ -29,7 +30,7 @@ public class GameStateModel {
 
         // initialize models if needed
         if (newState == GameState.PLAYING && spaceGameModel == null) {
-            spaceGameModel = new SpaceGameModel();
+            spaceGameModel = createSpaceGameModel();
         } else if (newState == GameState.UPGRADE && spaceGameModel != null) {
             if (upgradeScreenModel == null) {
                 upgradeScreenModel = new UpgradeScreenModel(spaceGameModel.getPlayer());
@@ -38,6 +39,12 @@ public class GameStateModel {
         this.currentState = newState;
     }
 
+    private SpaceGameModel createSpaceGameModel() {
+        SpaceGameModel model = new SpaceGameModel();
+        model.setTickRate(PhysicsParameters.simulationTickRate);
+        return model;
+    }
+
     public GameState getPreviousState() {
         return this.previousState;
     }
@@ -47,7 +54,7 @@ public class GameStateModel {
     }
 
     public void startNewGame() {
-        this.spaceGameModel = new SpaceGameModel();
+        this.spaceGameModel = createSpaceGameModel();
         this.upgradeScreenModel = null;
         changeState(GameState.PLAYING);
     }
@@ -1,67 +1,141 @@
 package model;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 
-import grid.CellPosition;
-import grid.GridCell;
+import com.badlogic.gdx.utils.ObjectSet;
+
 import model.Globals.Collidable;
-import model.ShipComponents.Components.Fuselage;
+import model.collision.BoundingCircleTree;
+import model.collision.BroadPhase;
+import model.collision.SpatialHashGrid;
 import model.SpaceCharacters.Bullet;
 import model.SpaceCharacters.Ships.SpaceShip;
-import model.constants.PhysicsParameters;
-import model.utils.FloatPair;
+import model.utils.EntityStore;
 import model.utils.SpaceCalculator;
 
 public class HitDetection {
 
-    protected final LinkedList<Collidable> colliders = new LinkedList<>();
+    // the handles of the colliders are the stable ids handed to the broad phase
+    protected final EntityStore<Collidable> colliders = new EntityStore<>();
     private final SpaceGameModel model;
 
+    private BroadPhase broadPhase;
+
+    // where each collider comes in the collider list, by handle. colliders added
+    // one at a time go in front, newest first, and lists go at the back, in order
+    private int[] orderOfHandle = new int[16];
+    private int frontOrder = 0;
+    private int backOrder = 0;
+
+    // per-tick snapshot of the colliders and their bounding circles
+    private Collidable[] snapshot = new Collidable[0];
+    private int[] ids = new int[0];
+    private float[] boundsX = new float[0];
+    private float[] boundsY = new float[0];
+    private float[] boundsRadius = new float[0];
+    private int[] partners = new int[0];
+    // the order of a collider in the high bits, its index in the store in the low
+    private long[] sortKeys = new long[0];
+
+    // colliders removed while a collision pass is running
+    private final ObjectSet<Collidable> removedDuringPass = new ObjectSet<>();
+    private boolean passInProgress = false;
+
     public HitDetection(SpaceGameModel model) {
+        this(model, new SpatialHashGrid());
+    }
+
+    /**
+     * @param model      the model to report collisions to.
+     * @param broadPhase the {@link BroadPhase} used to find candidate pairs.
+     */
+    public HitDetection(SpaceGameModel model, BroadPhase broadPhase) {
         this.model = model;
+        setBroadPhase(broadPhase);
+    }
+
+    /**
+     * Sets the {@link BroadPhase} used to find pairs of colliders that might be
+     * colliding. The choice of broad phase does not change which collisions are
+     * detected, only how fast they are found.
+     *
+     * @param broadPhase the broad phase to use.
+     */
+    public void setBroadPhase(BroadPhase broadPhase) {
+        if (broadPhase == null) {
+            throw new IllegalArgumentException("Broad phase can't be null");
+        }
+        this.broadPhase = broadPhase;
     }
 
     /**
-     * Adds a {@link Collidable} object to the front of the collider list.
+     * Adds a {@link Collidable} object to the front of the collider list. Adding
+     * an object that is already in the list does nothing.
      * 
      * @param collideable The {@code Collidable} object to be added.
      */
     public void addCollider(Collidable collideable) {
-        colliders.addFirst(collideable);
+        if (!colliders.contains(collideable)) {
+            setOrder(colliders.add(collideable), --frontOrder);
+        }
     }
 
     /**
-     * Adds a list of {@link Collidable} objects to the collider list.
+     * Adds a list of {@link Collidable} objects to the end of the collider list,
+     * in order. Objects that are already in the list are left where they are.
      *
      * @param colliders A list of objects that implement the {@code Collidable}
      *                  interface to be added.
      */
     public void addColliders(List<? extends Collidable> colliders) {
-        this.colliders.addAll(colliders);
+        for (int i = 0; i < colliders.size(); i++) {
+            Collidable collider = colliders.get(i);
+            if (!this.colliders.contains(collider)) {
+                setOrder(this.colliders.add(collider), ++backOrder);
+            }
+        }
+    }
+
+    private void setOrder(int handle, int order) {
+        if (handle >= orderOfHandle.length) {
+            orderOfHandle = Arrays.copyOf(orderOfHandle, Math.max(handle + 1, 2 * orderOfHandle.length));
+        }
+        orderOfHandle[handle] = order;
     }
 
     /**
-     * Removes the specified {@link Collidable} object from the collider list.
+     * Removes the specified {@link Collidable} object from the collider list. The
+     * other objects keep their order.
      *
      * @param c The {@code Collidable} object to be removed.
      */
     public void removeCollider(Collidable c) {
         colliders.remove(c);
+        if (passInProgress) {
+            removedDuringPass.add(c);
+        }
+    }
+
+    /**
+     * @return the number of objects in the collider list.
+     */
+    public int getColliderCount() {
+        return colliders.size();
     }
 
     private boolean objectProximity(Collidable c1, Collidable c2) {
         if (c1 instanceof SpaceShip ship1) {
             if (c2 instanceof SpaceShip ship2) {
-                float dx = ship1.getAbsoluteCenterOfMass().x() - ship2.getAbsoluteCenterOfMass().x();
-                float dy = ship1.getAbsoluteCenterOfMass().y() - ship2.getAbsoluteCenterOfMass().y();
+                float dx = ship1.getAbsoluteCenterOfMassX() - ship2.getAbsoluteCenterOfMassX();
+                float dy = ship1.getAbsoluteCenterOfMassY() - ship2.getAbsoluteCenterOfMassY();
                 float distance = SpaceCalculator.distance(dx, dy);
 
                 return distance < ship1.getProximityRadius() + ship2.getProximityRadius();
 
             } else {
-                float dx = ship1.getAbsoluteCenterOfMass().x() - c2.getX();
-                float dy = ship1.getAbsoluteCenterOfMass().y() - c2.getY();
+                float dx = ship1.getAbsoluteCenterOfMassX() - c2.getX();
+                float dy = ship1.getAbsoluteCenterOfMassY() - c2.getY();
                 float distance = SpaceCalculator.distance(dx, dy);
 
                 return distance < ship1.getProximityRadius() + c2.getRadius();
@@ -69,8 +143,8 @@ public class HitDetection {
         }
 
         if (c2 instanceof SpaceShip ship2) {
-            float dx = c1.getX() - ship2.getAbsoluteCenterOfMass().x();
-            float dy = c1.getY() - ship2.getAbsoluteCenterOfMass().y();
+            float dx = c1.getX() - ship2.getAbsoluteCenterOfMassX();
+            float dy = c1.getY() - ship2.getAbsoluteCenterOfMassY();
             float distance = SpaceCalculator.distance(dx, dy);
 
             return distance < c1.getRadius() + ship2.getProximityRadius();
@@ -80,26 +154,108 @@ public class HitDetection {
     }
 
     /**
-     * Iterates through all pairs of registered {@link Collidable} objects and
-     * checks
-     * for potential collisions based on their proximity.
+     * Checks all pairs of registered {@link Collidable} objects for collisions.
+     * <p>
+     * The bounding circles of the colliders are first handed to the
+     * {@link BroadPhase}, so that only pairs that might overlap are considered.
+     * Pairs are visited in the same order as an all-pairs scan of the collider
+     * list: objects added with {@link #addCollider} come first, newest first,
+     * followed by those added with {@link #addColliders}, in the order they were
+     * added. If two objects are within proximity of each other (as
+     * determined by {@link #objectProximity}), the {@link #checkCollision}
+     * method is called to handle the collision logic.
      * <p>
-     * If two objects are within proximity of each other (as determined by
-     * {@link #objectProximity}),
-     * the {@link #checkCollision} method is called to handle the collision logic.
+     * The pass works on the colliders as they were when it started. Colliders
+     * removed while it is running, such as an asteroid destroyed by a laser, are
+     * skipped for the rest of the pass, so no later pair can hit them again.
+     * Colliders added while it is running are first checked in the next pass.
      */
     public void checkCollisions() {
-        for (int i = 0; i < colliders.size(); i++) {
-            Collidable collA = colliders.get(i);
-            for (int j = i + 1; j < colliders.size(); j++) {
-                Collidable collB = colliders.get(j);
-                if (objectProximity(collA, collB)) {
-                    checkCollision(collA, collB);
+        int count = takeSnapshot();
+        broadPhase.update(ids, boundsX, boundsY, boundsRadius, count);
+
+        passInProgress = true;
+        try {
+            for (int i = 0; i < count; i++) {
+                Collidable collA = snapshot[i];
+                int numPartners = broadPhase.queryPartners(i, partners);
+                for (int k = 0; k < numPartners; k++) {
+                    if (isRemoved(collA)) {
+                        break;
+                    }
+                    Collidable collB = snapshot[partners[k]];
+                    if (isRemoved(collB)) {
+                        continue;
+                    }
+                    if (objectProximity(collA, collB)) {
+                        checkCollision(collA, collB);
+                    }
                 }
             }
+        } finally {
+            passInProgress = false;
+            removedDuringPass.clear();
+            clearSnapshot(count);
         }
     }
 
+    private boolean isRemoved(Collidable c) {
+        return removedDuringPass.notEmpty() && removedDuringPass.contains(c);
+    }
+
+    /**
+     * Copies the colliders and their bounding circles into the snapshot arrays, in
+     * the order of the collider list. The store moves colliders around as others
+     * are removed, so they are sorted by the order they were given when added.
+     */
+    private int takeSnapshot() {
+        int count = colliders.size();
+        ensureSnapshotCapacity(count);
+
+        for (int i = 0; i < count; i++) {
+            sortKeys[i] = ((long) orderOfHandle[colliders.handleAt(i)] << 32) | i;
+        }
+        Arrays.sort(sortKeys, 0, count);
+
+        for (int k = 0; k < count; k++) {
+            int i = (int) sortKeys[k];
+            Collidable c = colliders.get(i);
+            snapshot[k] = c;
+            ids[k] = colliders.handleAt(i);
+            if (c instanceof SpaceShip ship) {
+                boundsX[k] = ship.getAbsoluteCenterOfMassX();
+                boundsY[k] = ship.getAbsoluteCenterOfMassY();
+                boundsRadius[k] = ship.getProximityRadius();
+            } else {
+                boundsX[k] = c.getX();
+                boundsY[k] = c.getY();
+                boundsRadius[k] = c.getRadius();
+            }
+        }
+        return count;
+    }
+
+    private void clearSnapshot(int count) {
+        // don't keep removed colliders reachable until the next pass
+        for (int i = 0; i < count; i++) {
+            snapshot[i] = null;
+        }
+    }
+
+    private void ensureSnapshotCapacity(int count) {
+        if (snapshot.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, 2 * snapshot.length);
+        snapshot = new Collidable[capacity];
+        ids = new int[capacity];
+        boundsX = new float[capacity];
+        boundsY = new float[capacity];
+        boundsRadius = new float[capacity];
+        partners = new int[capacity];
+        sortKeys = new long[capacity];
+    }
+
     private boolean checkCollision(Collidable target1, Collidable target2) {
         if (target1 instanceof SpaceShip ship1 && target2 instanceof SpaceShip ship2) {
             return doubleShipCollision(ship1, ship2);
@@ -119,55 +275,21 @@ public class HitDetection {
     }
 
     private boolean shipCollision(SpaceShip ship, Collidable c) {
-        for (GridCell<Fuselage> gridCell : ship.getShipStructure().getGridCopy()) {
-            if (gridCell.value() == null) {
-                continue;
-            }
-
-            CellPosition cell = gridCell.pos();
-
-            float x = (float) cell.col();
-            float y = (float) cell.row();
-            FloatPair point = SpaceCalculator.rotatePoint(x, y, ship.getRelativeCenterOfMass(),
-                    ship.getAbsoluteCenterOfMass(), ship.getRotationAngle());
-
-            float d = SpaceCalculator.distance(point.x() - c.getX(), point.y() - c.getY());
-            if (d < PhysicsParameters.fuselageRadius + c.getRadius()) {
-                model.handleCollision(ship, c);
-                return true;
-            }
+        BoundingCircleTree cells = ship.getTransformCache().getFuselageTree();
+        if (cells.overlapsCircle(c.getX(), c.getY(), c.getRadius())) {
+            model.handleCollision(ship, c);
+            return true;
         }
         return false;
     }
 
     private boolean doubleShipCollision(SpaceShip shipA, SpaceShip shipB) {
         model.handleShipProximity(shipA, shipB); // ships are close
-        for (GridCell<Fuselage> gridCellA : shipA.getShipStructure().getGridCopy()) {
-            if (gridCellA.value() == null) {
-                continue;
-            }
-
-            CellPosition cellA = gridCellA.pos();
-
-            FloatPair pointA = SpaceCalculator.rotatePoint(cellA.col(), cellA.row(), shipA.getRelativeCenterOfMass(),
-                    shipA.getAbsoluteCenterOfMass(), shipA.getRotationAngle());
-
-            for (GridCell<Fuselage> gridCellB : shipB.getShipStructure().getGridCopy()) {
-                if (gridCellB.value() == null) {
-                    continue;
-                }
-
-                CellPosition cellB = gridCellB.pos();
-
-                FloatPair pointB = SpaceCalculator.rotatePoint(cellB.col(), cellB.row(),
-                        shipB.getRelativeCenterOfMass(), shipB.getAbsoluteCenterOfMass(), shipB.getRotationAngle());
-
-                float d = SpaceCalculator.distance(pointA.x() - pointB.x(), pointA.y() - pointB.y());
-                if (d < 2 * PhysicsParameters.fuselageRadius) {
-                    model.handleCollision(shipA, shipB);
-                    return true;
-                }
-            }
+        BoundingCircleTree cellsA = shipA.getTransformCache().getFuselageTree();
+        BoundingCircleTree cellsB = shipB.getTransformCache().getFuselageTree();
+        if (cellsA.overlapsTree(cellsB)) {
+            model.handleCollision(shipA, shipB);
+            return true;
         }
         return false;
     }
@@ -8,7 +8,19 @@ import model.SpaceCharacters.Asteroid;
 
 public class RandomAsteroidFactory extends AsteroidFactory {
 
-    private final Random rng = new Random();
+    private final Random rng;
+
+    public RandomAsteroidFactory() {
+        this(new Random());
+    }
+
+    /**
+     * @param rng the random number generator to draw the asteroids from.
+     */
+    public RandomAsteroidFactory(Random rng) {
+        super(rng);
+        this.rng = rng;
+    }
 
     /**
      * Generates a shower of multiple asteroids at random positions in a set radius
@@ -14,4 +14,16 @@ public interface ScreenBoundsProvider {
      * @return a <code>Ractangle</code> object
      */
     Rectangle getBounds();
+
+    /**
+     * Copies the current bounds of the space into the given
+     * <code>Rectangle</code>. Providers that can do so without allocating should
+     * override this, as the model calls it every tick.
+     *
+     * @param bounds the <code>Rectangle</code> to copy the bounds into.
+     * @return <code>bounds</code>
+     */
+    default Rectangle getBounds(Rectangle bounds) {
+        return bounds.set(getBounds());
+    }
 }
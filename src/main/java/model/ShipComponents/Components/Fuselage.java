@@ -86,28 +86,31 @@ public class Fuselage extends ShipUpgrade {
      *         <code>ShipUpgrade</code>.
      */
     public float getMass() {
-        return getModifiers().get(Stat.MASS).floatValue();
+        if (hasUpgrade()) {
+            return statModifier.get(Stat.MASS) + heldUpgrade.getMass();
+        }
+        return statModifier.get(Stat.MASS);
     }
 
     @Override
     public int getResourceValue() {
-        return getModifiers().get(Stat.RESOURCE_VALUE).intValue();
+        if (hasUpgrade()) {
+            return statModifier.getInt(Stat.RESOURCE_VALUE) + heldUpgrade.statModifier.getInt(Stat.RESOURCE_VALUE);
+        }
+        return statModifier.getInt(Stat.RESOURCE_VALUE);
     }
 
     @Override
     public StatModifier getStatModifier() {
         if (hasUpgrade()) {
-            return statModifier.copy().addModifier(heldUpgrade.getStatModifier());
+            return statModifier.copy().addModifier(heldUpgrade.statModifier);
         }
         return statModifier.copy();
     }
 
     @Override
     public HashMap<Stat, Number> getModifiers() {
-        if (hasUpgrade()) {
-            return statModifier.copy().addModifier(heldUpgrade.getStatModifier()).getModifiers();
-        }
-        return statModifier.copy().getModifiers();
+        return getStatModifier().getModifiers();
     }
 
     @Override
@@ -49,7 +49,7 @@ public abstract class ShipUpgrade {
     }
 
     public float getMass() {
-        return getModifiers().get(Stat.MASS).floatValue();
+        return statModifier.get(Stat.MASS);
     }
 
     public StatModifier getStatModifier() {
@@ -57,7 +57,7 @@ public abstract class ShipUpgrade {
     }
 
     public HashMap<Stat, Number> getModifiers() {
-        return statModifier.copy().getModifiers();
+        return statModifier.getModifiers();
     }
 
     public StatModifier getUpgradeStatModifier() {
@@ -65,7 +65,7 @@ public abstract class ShipUpgrade {
     }
 
     public HashMap<Stat, Number> getUpgradeModifiers() {
-        return upgradeModifier.copy().getModifiers();
+        return upgradeModifier.getModifiers();
     }
 
     /**
@@ -98,7 +98,7 @@ public abstract class ShipUpgrade {
      * @return the amount of resources to loot.
      */
     public int getResourceValue() {
-        int value = getModifiers().get(Stat.RESOURCE_VALUE).intValue();
+        int value = statModifier.getInt(Stat.RESOURCE_VALUE);
 
         return value * (stage.ordinal() + 1);
     }
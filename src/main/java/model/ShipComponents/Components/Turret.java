@@ -18,7 +18,7 @@ public class Turret extends UpdateableShipUpgrade {
     public Turret(UpgradeStage stage) {
         super("Turret", "Fires lasers at enemies and asteroids", UpgradeType.TURRET, stage);
         // simple workaround to able to fire immediately
-        timeSinceLastShot = statModifier.getModifiers().get(Stat.FIRE_RATE).floatValue();
+        timeSinceLastShot = statModifier.get(Stat.FIRE_RATE);
     }
 
     /**
@@ -46,7 +46,7 @@ public class Turret extends UpdateableShipUpgrade {
     }
 
     public boolean canShoot() { // 1/x means it fires 1 shot every x seconds
-        return timeSinceLastShot >= 1f / statModifier.getModifiers().get(Stat.FIRE_RATE).floatValue();
+        return timeSinceLastShot >= 1f / statModifier.get(Stat.FIRE_RATE);
     }
 
     public boolean shoot() {
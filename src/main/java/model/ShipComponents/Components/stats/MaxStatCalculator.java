@@ -22,12 +22,7 @@ public class MaxStatCalculator {
 
         List<Fuselage> upgrades = Arrays.asList(fuselageTurret, fuselageShield, fuselageThruster);
         for (Fuselage fuselage : upgrades) {
-            for (Stat stat : Stat.values()) {
-                Number statValue = fuselage.getModifiers().get(stat);
-                if (statValue.floatValue() > (fuselageMax.getModifiers().get(stat)).floatValue()) {
-                    fuselageMax.setModifier(stat, statValue);
-                }
-            }
+            fuselageMax.max(fuselage.getStatModifier());
         }
     }
 
@@ -43,12 +38,7 @@ public class MaxStatCalculator {
     public StatModifier getFuselageMax(int numFuselage) {
         if (numFuselage <= 0) {
             return new StatModifier();
-        } else {
-            StatModifier shipMax = new StatModifier();
-            for (int i = 0; i < numFuselage; i++) {
-                shipMax.addModifier(fuselageMax);
-            }
-            return shipMax;
         }
+        return fuselageMax.copy().scale(numFuselage);
     }
 }
@@ -2,58 +2,129 @@ package model.ShipComponents.Components.stats;
 
 import java.util.HashMap;
 
+/**
+ * A value for every <code>Stat</code>, stored in a primitive array indexed by
+ * <code>Stat.ordinal()</code>. Int based stats are kept as whole numbers.
+ * <p>
+ * The operations change <code>this</code> in place and return it, so they can
+ * be chained without allocating.
+ */
 public class StatModifier {
 
-    protected final HashMap<Stat, Number> modifiers;
+    private static final Stat[] stats = Stat.values();
+
+    protected final float[] values;
 
     public StatModifier() {
-        modifiers = new HashMap<>();
-        for (Stat stat : Stat.values()) {
-            if (stat.intBased) {
-                modifiers.put(stat, 0);
-            } else {
-                modifiers.put(stat, 0f);
-            }
-        }
+        values = new float[stats.length];
+    }
+
+    /**
+     * @param stat the <code>Stat</code> to get
+     * @return the value of <code>stat</code>
+     */
+    public float get(Stat stat) {
+        return values[stat.ordinal()];
+    }
+
+    /**
+     * @param stat the <code>Stat</code> to get
+     * @return the value of <code>stat</code>, rounded down to a whole number
+     */
+    public int getInt(Stat stat) {
+        return (int) values[stat.ordinal()];
     }
 
     /**
      * Sets the value of a stat.
-     * 
+     *
      * @param stat  the <code>Stat</code> to set
      * @param value the new value
      */
     public void setModifier(Stat stat, Number value) {
-        if (stat.intBased) {
-            modifiers.put(stat, value.intValue());
-        } else {
-            modifiers.put(stat, value.floatValue());
-        }
+        set(stat, stat.intBased ? value.intValue() : value.floatValue());
+    }
+
+    /**
+     * Sets the value of a stat. The value of an int based stat is rounded down to
+     * a whole number.
+     *
+     * @param stat  the <code>Stat</code> to set
+     * @param value the new value
+     */
+    public void set(Stat stat, float value) {
+        values[stat.ordinal()] = stat.intBased ? (int) value : value;
     }
 
     /**
-     * @return the HashMap of modifiers.
+     * Gets the stats as a map, with int based stats as <code>Integer</code> and
+     * the rest as <code>Float</code>. The map is a copy, so changing it does not
+     * change <code>this</code>.
+     *
+     * @return a HashMap of the modifiers.
      */
     public HashMap<Stat, Number> getModifiers() {
+        HashMap<Stat, Number> modifiers = new HashMap<>();
+        for (Stat stat : stats) {
+            if (stat.intBased) {
+                modifiers.put(stat, getInt(stat));
+            } else {
+                modifiers.put(stat, get(stat));
+            }
+        }
         return modifiers;
     }
 
     /**
      * Adds the modifiers of another <code>StatModifier</code> to <code>this</code>,
      * and returns <code>this</code>.
-     * 
+     *
      * @param addedModifiers the <code>StatModifier</code> to add
      * @return <code>this</code>
      */
     public StatModifier addModifier(StatModifier addedModifiers) {
-        for (Stat stat : Stat.values()) {
-            if (stat.intBased) {
-                modifiers.put(stat,
-                        modifiers.get(stat).intValue() + addedModifiers.getModifiers().get(stat).intValue());
-            } else {
-                modifiers.put(stat,
-                        modifiers.get(stat).floatValue() + addedModifiers.getModifiers().get(stat).floatValue());
-            }
+        for (int i = 0; i < values.length; i++) {
+            values[i] += addedModifiers.values[i];
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every stat of <code>this</code> by a factor, and returns
+     * <code>this</code>. Int based stats are rounded down to whole numbers.
+     *
+     * @param factor the factor to multiply by
+     * @return <code>this</code>
+     */
+    public StatModifier scale(float factor) {
+        for (int i = 0; i < values.length; i++) {
+            set(stats[i], values[i] * factor);
+        }
+        return this;
+    }
+
+    /**
+     * Sets every stat of <code>this</code> to the largest of its own value and the
+     * value in another <code>StatModifier</code>, and returns <code>this</code>.
+     *
+     * @param other the <code>StatModifier</code> to compare with
+     * @return <code>this</code>
+     */
+    public StatModifier max(StatModifier other) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.max(values[i], other.values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Sets every stat of <code>this</code> to zero, and returns <code>this</code>.
+     *
+     * @return <code>this</code>
+     */
+    public StatModifier clear() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0f;
         }
         return this;
     }
@@ -63,18 +134,12 @@ public class StatModifier {
      */
     public StatModifier copy() {
         StatModifier copy = new StatModifier();
-        for (Stat stat : Stat.values()) {
-            if (stat.intBased) {
-                copy.setModifier(stat, modifiers.get(stat).intValue());
-            } else {
-                copy.setModifier(stat, modifiers.get(stat).floatValue());
-            }
-        }
+        System.arraycopy(values, 0, copy.values, 0, values.length);
         return copy;
     }
 
     @Override
     public String toString() {
-        return modifiers.toString();
+        return getModifiers().toString();
     }
 }
@@ -0,0 +1,123 @@
+package model.ShipComponents;
+
+import com.badlogic.gdx.utils.IntArray;
+import grid.CellPosition;
+import java.util.HashMap;
+
+/**
+ * Keeps track of which ship components are connected to each other through
+ * orthogonal neighbours, as positions are added one at a time.
+ * <p>
+ * The positions are kept in a hash map, so finding the neighbours of a new
+ * position is a constant number of lookups, and the connected groups are kept
+ * in a union-find structure with path halving and union by size. Adding a
+ * position is therefore close to constant time, and checking that a whole ship
+ * is connected is close to linear in its number of components.
+ */
+public class ShipConnectivity {
+
+    private final HashMap<CellPosition, Integer> indices = new HashMap<>();
+    private final IntArray parent = new IntArray();
+    private final IntArray groupSize = new IntArray();
+    private int groups = 0;
+
+    /**
+     * Adds a component position, and joins it with the groups of any neighbouring
+     * positions already added.
+     *
+     * @param pos the position to add.
+     * @return true if the position was added, false if it was already added.
+     */
+    public boolean add(CellPosition pos) {
+        if (indices.containsKey(pos)) {
+            return false;
+        }
+
+        int index = parent.size;
+        indices.put(pos, index);
+        parent.add(index);
+        groupSize.add(1);
+        groups++;
+
+        union(index, new CellPosition(pos.row() - 1, pos.col()));
+        union(index, new CellPosition(pos.row() + 1, pos.col()));
+        union(index, new CellPosition(pos.row(), pos.col() - 1));
+        union(index, new CellPosition(pos.row(), pos.col() + 1));
+        return true;
+    }
+
+    /**
+     * @param pos the position to look for.
+     * @return true if the position has been added.
+     */
+    public boolean contains(CellPosition pos) {
+        return indices.containsKey(pos);
+    }
+
+    /**
+     * @param a the first position.
+     * @param b the second position.
+     * @return true if both positions have been added and are connected to each
+     *         other.
+     */
+    public boolean isConnected(CellPosition a, CellPosition b) {
+        Integer indexA = indices.get(a);
+        Integer indexB = indices.get(b);
+        if (indexA == null || indexB == null) {
+            return false;
+        }
+        return find(indexA) == find(indexB);
+    }
+
+    /**
+     * @return true if at least one position has been added, and all added
+     *         positions are connected.
+     */
+    public boolean isConnected() {
+        return groups == 1;
+    }
+
+    /**
+     * @return the number of groups of connected positions.
+     */
+    public int getGroupCount() {
+        return groups;
+    }
+
+    /**
+     * @return the number of added positions.
+     */
+    public int size() {
+        return parent.size;
+    }
+
+    private void union(int index, CellPosition neighbour) {
+        Integer neighbourIndex = indices.get(neighbour);
+        if (neighbourIndex == null) {
+            return;
+        }
+
+        int rootA = find(index);
+        int rootB = find(neighbourIndex);
+        if (rootA == rootB) {
+            return;
+        }
+
+        if (groupSize.get(rootA) < groupSize.get(rootB)) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent.set(rootB, rootA);
+        groupSize.set(rootA, groupSize.get(rootA) + groupSize.get(rootB));
+        groups--;
+    }
+
+    private int find(int index) {
+        while (parent.get(index) != index) {
+            parent.set(index, parent.get(parent.get(index)));
+            index = parent.get(index);
+        }
+        return index;
+    }
+}
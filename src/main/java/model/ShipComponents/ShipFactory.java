@@ -3,15 +3,17 @@ package model.ShipComponents;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import grid.ArrayGrid;
 import grid.CellPosition;
 import grid.Grid;
 import grid.GridCell;
-import grid.IGrid;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import model.ShipComponents.Components.Fuselage;
 import model.ShipComponents.Components.Shield;
 import model.ShipComponents.Components.Thruster;
@@ -112,13 +114,46 @@ public final class ShipFactory {
      */
     public static ShipStructure generateShipStructure(int numFuselage, int numUpgrades)
             throws IllegalArgumentException {
+        return generateShipStructure(numFuselage, numUpgrades, new Random());
+    }
+
+    /**
+     * Generates an enemy ship with the specified number of fuselages and upgrades,
+     * drawing the layout from the given random number generator.
+     *
+     * @param numFuselage number of <code>Fuselages</code> in
+     *                    <code>ShipStructure</code>.
+     * @param numUpgrades number of <code>ShipUpgrade</code> held by in
+     *                    <code>ShipStructure</code>.
+     * @param rng         the random number generator to use.
+     * @return a randomly generated and valid <code>ShipStructure</code> with the
+     *         specified number of fuselages and upgrades.
+     * @see #generateShipStructure(int, int)
+     */
+    public static ShipStructure generateShipStructure(int numFuselage, int numUpgrades, Random rng)
+            throws IllegalArgumentException {
+        return new ShipStructure(Grid.shrinkGridToFit(generateShipGrid(numFuselage, numUpgrades, rng)));
+    }
+
+    /**
+     * Lays out an enemy ship like {@link #generateShipStructure(int, int, Random)}
+     * does, without making a <code>ShipStructure</code> of it. The grid is larger
+     * than the ship, so it is meant to be passed to
+     * {@link ShipStructure#reset(grid.IGrid)}.
+     *
+     * @param numFuselage number of <code>Fuselages</code> in the ship.
+     * @param numUpgrades number of <code>ShipUpgrade</code> held by the ship.
+     * @param rng         the random number generator to use.
+     * @return a grid holding a valid ship with the specified number of fuselages
+     *         and upgrades.
+     */
+    public static ArrayGrid<Fuselage> generateShipGrid(int numFuselage, int numUpgrades, Random rng)
+            throws IllegalArgumentException {
         if (numFuselage < 2 || numUpgrades < 2 || numFuselage < numUpgrades) {
             throw new IllegalArgumentException(
                     "numFuselage and numUpgrades must be 2 or greater, and numFuselage must be greater than numUpgrades");
         }
 
-        Random rng = new Random();
-
         LinkedList<Fuselage> components = new LinkedList<>();
         components.add(new Fuselage(new Thruster()));
         components.add(new Fuselage(new Turret()));
@@ -141,41 +176,39 @@ public final class ShipFactory {
         }
 
         // shuffle around the upgrade order for the end ShipStructure
-        Collections.shuffle(components);
+        Collections.shuffle(components, rng);
 
         // startpos is in the middle, with enough padding to allow
         // randomly adding all components on a line
-        IGrid<Fuselage> grid = new Grid<>(2 * numFuselage - 1, 2 * numFuselage - 1);
+        ArrayGrid<Fuselage> grid = new ArrayGrid<>(2 * numFuselage - 1, 2 * numFuselage - 1);
         CellPosition startPosition = new CellPosition(numFuselage - 1, numFuselage - 1);
 
-        grid.set(startPosition, components.poll());
+        // the empty positions next to the ship, kept up to date as components are
+        // placed rather than searched for again each time
+        List<CellPosition> validPositions = new ArrayList<>();
+        Set<CellPosition> candidates = new HashSet<>();
+
+        placeComponent(grid, startPosition, components.poll(), validPositions, candidates);
 
         while (!components.isEmpty()) {
-            List<CellPosition> validPositions = getEmptyAdjacentPositions(grid);
             int index = rng.nextInt(validPositions.size());
-            grid.set(validPositions.get(index), components.poll());
+            CellPosition pos = validPositions.get(index);
+            validPositions.set(index, validPositions.get(validPositions.size() - 1));
+            validPositions.remove(validPositions.size() - 1);
+            placeComponent(grid, pos, components.poll(), validPositions, candidates);
         }
 
-        return new ShipStructure(Grid.shrinkGridToFit(grid));
+        return grid;
     }
 
-    private static List<CellPosition> getEmptyAdjacentPositions(IGrid<Fuselage> grid) {
-        ArrayList<CellPosition> positions = new ArrayList<>();
-        for (GridCell<Fuselage> gridCell : grid) {
-            if (gridCell.value() == null) {
-                continue;
-            }
-
-            List<CellPosition> adjacent = SpaceCalculator.getOrthogonalNeighbours(gridCell.pos());
-            for (CellPosition cell : adjacent) {
-                if (grid.get(cell) == null) {
-                    if (!positions.contains(cell)) {
-                        positions.add(cell);
-                    }
-                }
+    private static void placeComponent(ArrayGrid<Fuselage> grid, CellPosition pos, Fuselage fuselage,
+            List<CellPosition> validPositions, Set<CellPosition> candidates) {
+        grid.set(pos, fuselage);
+        for (CellPosition neighbour : SpaceCalculator.getOrthogonalNeighbours(pos)) {
+            if (grid.positionIsOnGrid(neighbour) && grid.get(neighbour) == null && candidates.add(neighbour)) {
+                validPositions.add(neighbour);
             }
         }
-        return positions;
     }
 
     /**
@@ -185,24 +218,48 @@ public final class ShipFactory {
      * @param numStageUpgrades the ship's upgrade budget
      */
     public static void upgradeStages(SpaceShip ship, int numStageUpgrades) {
+        upgradeStages(ship, numStageUpgrades, new Random());
+    }
+
+    /**
+     * Randomly upgrades a ship's upgrade stages, drawing the upgrades from the given
+     * random number generator.
+     *
+     * @param ship             the ship to upgrade
+     * @param numStageUpgrades the ship's upgrade budget
+     * @param rng              the random number generator to use
+     */
+    public static void upgradeStages(SpaceShip ship, int numStageUpgrades, Random rng) {
+        upgradeStages(ship.getShipStructure(), numStageUpgrades, rng);
+    }
+
+    /**
+     * Randomly upgrades the upgrade stages of a ship structure, drawing the
+     * upgrades from the given random number generator. The structure doesn't need
+     * to belong to a ship yet.
+     *
+     * @param structure        the structure to upgrade
+     * @param numStageUpgrades the upgrade budget
+     * @param rng              the random number generator to use
+     */
+    public static void upgradeStages(ShipStructure structure, int numStageUpgrades, Random rng) {
         if (numStageUpgrades <= 0) {
             return;
         }
 
         List<GridCell<Fuselage>> fuselageCells = new ArrayList<>();
-        for (GridCell<Fuselage> gridCell : ship.getShipStructure()) {
+        for (GridCell<Fuselage> gridCell : structure) {
             if (gridCell.value() == null) {
                 continue;
             }
             fuselageCells.add(gridCell);
         }
 
-        Random rng = new Random();
-
-        while (numStageUpgrades > 0 && canHaveStageUpgrades(ship)) {
+        while (numStageUpgrades > 0 && canHaveStageUpgrades(structure)) {
 
             int index = rng.nextInt(fuselageCells.size());
-            if (fuselageCells.get(index).value().upgrade()) {
+            CellPosition pos = fuselageCells.get(index).pos();
+            if (structure.upgradeStage(pos, true)) {
                 numStageUpgrades--;
                 if (numStageUpgrades == 0) {
                     break;
@@ -212,7 +269,7 @@ public final class ShipFactory {
                     continue;
                 }
 
-                if (fuselageCells.get(index).value().getUpgrade().upgrade()) {
+                if (structure.upgradeStage(pos, false)) {
                     numStageUpgrades--;
                 }
             }
@@ -220,8 +277,8 @@ public final class ShipFactory {
         }
     }
 
-    private static boolean canHaveStageUpgrades(SpaceShip ship) {
-        for (GridCell<Fuselage> gridCell : ship.getShipStructure()) {
+    private static boolean canHaveStageUpgrades(ShipStructure structure) {
+        for (GridCell<Fuselage> gridCell : structure) {
             if (gridCell.value() == null) {
                 continue;
             }
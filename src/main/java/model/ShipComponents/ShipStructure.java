@@ -1,9 +1,13 @@
 package model.ShipComponents;
 
+import grid.ArrayGrid;
 import grid.CellPosition;
+import grid.CellVisitor;
 import grid.Grid;
 import grid.GridCell;
+import grid.GridCursor;
 import grid.IGrid;
+import grid.OccupancyMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -20,20 +24,26 @@ import model.utils.SpaceCalculator;
 
 public class ShipStructure implements ViewableShipStructure {
 
-    private IGrid<Fuselage> grid;
+    private ArrayGrid<Fuselage> grid;
+    private GridCursor<Fuselage> cells;
     private float mass;
     private float radius;
     private FloatPair centerOfMass;
+    private int structureVersion;
+    // the resource value, summed again when the structure version changes
+    private int resourceValue;
+    private int resourceValueVersion = -1;
+    private final StatModifier combinedStats = new StatModifier();
 
     public ShipStructure(int width, int height) {
-        this(new Grid<>(height, width));
+        this(new ArrayGrid<>(height, width));
     }
 
     public ShipStructure(IGrid<Fuselage> grid) {
         if (!ShipValidator.isValid(grid)) {
             throw new IllegalArgumentException("Invalid ship grid: does not meet requirements.");
         }
-        this.grid = grid;
+        setGrid(grid instanceof ArrayGrid<Fuselage> arrayGrid ? arrayGrid : ArrayGrid.copyOf(grid));
         updateFields();
     }
 
@@ -54,14 +64,90 @@ public class ShipStructure implements ViewableShipStructure {
         updateFields();
     }
 
+    /**
+     * Replaces the fuselage of <code>this</code> with those of the given grid,
+     * fitted to their bounds. The grid of <code>this</code> is emptied and reused
+     * if it has room for them, so a structure that is reset over and over only
+     * allocates when it gets bigger than it has been before.
+     * <p>
+     * The fuselage aren't copied, so they are shared with <code>layout</code>.
+     *
+     * @param layout the grid holding the new fuselage.
+     * @throws IllegalArgumentException if the fuselage don't form a valid ship.
+     */
+    public void reset(IGrid<Fuselage> layout) {
+        if (!ShipValidator.isValid(layout)) {
+            throw new IllegalArgumentException("Invalid ship grid: does not meet requirements.");
+        }
+        resetGrid(layout instanceof ArrayGrid<Fuselage> arrayGrid ? arrayGrid : ArrayGrid.copyOf(layout));
+    }
+
+    /**
+     * Replaces the fuselage of <code>this</code> with those of another structure,
+     * reusing the grid of <code>this</code> if it has room for them. The fuselage
+     * aren't copied, so they are shared with <code>source</code>.
+     *
+     * @param source the structure to take the fuselage of.
+     */
+    public void reset(ShipStructure source) {
+        if (source != this) {
+            resetGrid(source.grid);
+        }
+    }
+
+    private void resetGrid(ArrayGrid<Fuselage> layout) {
+        OccupancyMap occupancy = layout.occupancy();
+        if (occupancy.isEmpty()) {
+            if (!grid.reset(1, 1)) {
+                setGrid(new ArrayGrid<>(1, 1));
+            }
+        } else {
+            int minRow = occupancy.minRow();
+            int minCol = occupancy.minCol();
+            int rows = occupancy.maxRow() - minRow + 1;
+            int cols = occupancy.maxCol() - minCol + 1;
+            if (!grid.reset(rows, cols)) {
+                setGrid(new ArrayGrid<>(rows, cols));
+            }
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    Fuselage fuselage = layout.get(row + minRow, col + minCol);
+                    if (fuselage != null) {
+                        grid.set(row, col, fuselage);
+                    }
+                }
+            }
+        }
+        structureVersion++;
+        updateFields();
+    }
+
+    private void setGrid(ArrayGrid<Fuselage> grid) {
+        this.grid = grid;
+        this.cells = grid.cursor();
+    }
+
+    /**
+     * @return the cursor over <code>this.grid</code>, moved back to the start.
+     *         Shared by the methods of <code>this</code>, so it must not be used
+     *         by two loops at once.
+     */
+    private GridCursor<Fuselage> cells() {
+        return cells.reset();
+    }
+
     private void updateFields() {
+        updateCombinedStats();
         updateMassAndCenterOfMass();
         updateRadius();
     }
 
     /**
      * Updates the ship structure by adding a fuselage at the specified position.
-     * Expands the grid temporarily to ensure sufficient space for placement.
+     * The position is given in the grid of the upgrade screen, which is the ship
+     * grid expanded by 2x2 and centered, so it may lie one cell outside the ship
+     * grid. The grid is then fitted to the ship, and only reallocated if its
+     * bounds changed.
      *
      * @param pos The position where the fuselage should be placed.
      * @return {@code true} if the fuselage was successfully placed, {@code false}
@@ -69,24 +155,50 @@ public class ShipStructure implements ViewableShipStructure {
      *         not possible.
      */
     public boolean updateWithFuselage(CellPosition pos) {
-
-        // Local grid must match the grid from the updateScreen, which is expanded by
-        // 2x2
-        grid = getExpandedGrid(grid, 2, 2, true);
-
-        if (!canBuildAt(pos)) {
-            grid = Grid.shrinkGridToFit(grid);
+        int row = pos.row() - 1;
+        int col = pos.col() - 1;
+        OccupancyMap occupancy = grid.occupancy();
+
+        boolean inExpandedGrid = row >= -1 && row <= grid.rows() && col >= -1 && col <= grid.cols();
+        if (!inExpandedGrid || !(occupancy.isEmpty()
+                || (!occupancy.isOccupied(row, col) && occupancy.hasOccupiedNeighbour(row, col)))) {
+            fitGridToShip();
             return false;
         }
 
-        grid.set(pos, new Fuselage());
-        grid = Grid.shrinkGridToFit(grid);
+        int minRow = row;
+        int maxRow = row;
+        int minCol = col;
+        int maxCol = col;
+        if (!occupancy.isEmpty()) {
+            minRow = Math.min(minRow, occupancy.minRow());
+            maxRow = Math.max(maxRow, occupancy.maxRow());
+            minCol = Math.min(minCol, occupancy.minCol());
+            maxCol = Math.max(maxCol, occupancy.maxCol());
+        }
+
+        int rows = maxRow - minRow + 1;
+        int cols = maxCol - minCol + 1;
+        if (minRow != 0 || minCol != 0 || rows != grid.rows() || cols != grid.cols()) {
+            setGrid(grid.resized(rows, cols, -minRow, -minCol));
+        }
+        grid.set(row - minRow, col - minCol, new Fuselage());
 
         updateFields();
 
         return true;
     }
 
+    /**
+     * Shrinks the grid to the bounds of the fuselage, unless it already fits.
+     */
+    private void fitGridToShip() {
+        if (!grid.occupancy().fitsGrid()) {
+            setGrid((ArrayGrid<Fuselage>) Grid.shrinkGridToFit(grid));
+            structureVersion++;
+        }
+    }
+
     /**
      * Computes the total mass and center of mass of a given {@link ShipStructure}.
      * Computes the total mass and center of mass of the {@link ShipStructure}.
@@ -109,17 +221,31 @@ public class ShipStructure implements ViewableShipStructure {
      *         <code>StatModifier</code>.
      */
     public StatModifier getCombinedStatModifier() {
-        StatModifier combinedModifier = new StatModifier();
+        return combinedStats.copy();
+    }
 
-        for (GridCell<Fuselage> cell : grid) {
-            if (cell.value() == null) {
-                continue;
-            }
+    /**
+     * Gets the total value of a single stat for <code>this</code>, without
+     * allocating. The total is kept up to date as fuselage and upgrades are added
+     * and upgraded, so this is a lookup rather than a sum over the grid.
+     * <p>
+     * Stage upgrades only count if they are made through {@link #upgradeStage};
+     * upgrading a component directly is only picked up by the next
+     * {@link #normalize()}.
+     *
+     * @param stat the <code>Stat</code> to get.
+     * @return the total value of <code>stat</code> for <code>this</code>.
+     */
+    public float getCombinedStat(Stat stat) {
+        return combinedStats.get(stat);
+    }
 
-            combinedModifier.addModifier(cell.value().getStatModifier());
+    private void updateCombinedStats() {
+        combinedStats.clear();
+        GridCursor<Fuselage> cells = cells();
+        while (cells.nextNonEmpty()) {
+            combinedStats.addModifier(cells.value().getStatModifier());
         }
-
-        return combinedModifier;
     }
 
     /**
@@ -145,27 +271,21 @@ public class ShipStructure implements ViewableShipStructure {
      *         of mass.
      */
     public MassProperties getMassProperties(IGrid<Fuselage> shipGrid) {
+        GridCursor<Fuselage> cells = shipGrid == grid ? cells() : shipGrid.cursor();
         float prevMass;
         float newMass = 0;
-        FloatPair centerOfMass = new FloatPair(0f, 0f);
+        float cmX = 0f;
+        float cmY = 0f;
 
-        for (GridCell<Fuselage> cell : shipGrid) {
+        while (cells.nextNonEmpty()) {
             prevMass = newMass;
-            if (cell.value() == null) {
-                continue;
-            }
-            CellPosition pos = cell.pos();
-
-            float currentMass = cell.value().getMass();
+            float currentMass = cells.value().getMass();
             newMass = prevMass + currentMass;
 
-            float cmX = (prevMass * centerOfMass.x() + currentMass * pos.col()) / newMass;
-            float cmY = (prevMass * centerOfMass.y() + currentMass * pos.row()) / newMass;
-
-            centerOfMass = new FloatPair(cmX, cmY);
-
+            cmX = (prevMass * cmX + currentMass * cells.col()) / newMass;
+            cmY = (prevMass * cmY + currentMass * cells.row()) / newMass;
         }
-        return new MassProperties(newMass, centerOfMass);
+        return new MassProperties(newMass, new FloatPair(cmX, cmY));
     }
 
     /**
@@ -195,6 +315,7 @@ public class ShipStructure implements ViewableShipStructure {
 
         Fuselage base = grid.get(pos);
         if (base.setUpgrade(upgrade)) {
+            combinedStats.addModifier(upgrade.getStatModifier());
             updateMassAndCenterOfMass();
             return true;
         }
@@ -204,12 +325,40 @@ public class ShipStructure implements ViewableShipStructure {
     public boolean setFuselage(CellPosition pos, Fuselage fuselage) {
         if (canBuildAt(pos)) {
             grid.set(pos, fuselage);
+            combinedStats.addModifier(fuselage.getStatModifier());
             updateMassAndCenterOfMass();
             return true;
         }
         return false;
     }
 
+    /**
+     * Upgrades the stage of the <code>Fuselage</code> at the given position, or of
+     * the upgrade it holds, and adds the gained stats to the ship's total.
+     *
+     * @param pos             the <code>CellPosition</code> of the
+     *                        <code>Fuselage</code>.
+     * @param upgradeFuselage whether it's the <code>Fuselage</code> or its held
+     *                        upgrade that should be upgraded.
+     * @return <code>true</code> if the component was upgraded, <code>false</code>
+     *         otherwise (including when there is no such component).
+     */
+    public boolean upgradeStage(CellPosition pos, boolean upgradeFuselage) {
+        Fuselage fuselage = getFuselage(pos);
+        if (fuselage == null) {
+            return false;
+        }
+
+        ShipUpgrade component = upgradeFuselage ? fuselage : fuselage.getUpgrade();
+        if (component == null || !component.upgrade()) {
+            return false;
+        }
+
+        combinedStats.addModifier(component.getUpgradeStatModifier());
+        updateMassAndCenterOfMass();
+        return true;
+    }
+
     public boolean setFuselage(CellPosition pos) {
         return setFuselage(pos, new Fuselage());
     }
@@ -232,7 +381,8 @@ public class ShipStructure implements ViewableShipStructure {
      *                  bottom-right.
      */
     public void expandGrid(int addedRows, int addedCols, boolean center) {
-        grid = getExpandedGrid(grid, addedRows, addedCols, center);
+        setGrid(expandedGrid(grid, addedRows, addedCols, center));
+        structureVersion++;
     }
 
     /**
@@ -257,27 +407,24 @@ public class ShipStructure implements ViewableShipStructure {
      */
     protected IGrid<Fuselage> getExpandedGrid(IGrid<Fuselage> grid, int addedRows,
             int addedCols, boolean center) {
+        if (grid instanceof ArrayGrid<Fuselage> arrayGrid) {
+            return expandedGrid(arrayGrid, addedRows, addedCols, center);
+        }
         if (addedRows < 0 || addedCols < 0 || (addedRows == 0 && addedCols == 0)) {
             return grid;
         }
+        return expandedGrid(ArrayGrid.copyOf(grid), addedRows, addedCols, center);
+    }
 
-        IGrid<Fuselage> extGrid = new Grid<>(grid.rows() + addedRows, grid.cols() + addedCols);
-
-        for (GridCell<Fuselage> cell : grid) {
-            if (cell.value() == null) {
-                continue;
-            }
-
-            CellPosition cp;
-            if (center) {
-                cp = new CellPosition(cell.pos().row() + (addedRows - addedRows / 2),
-                        cell.pos().col() + (addedCols - addedCols / 2));
-            } else {
-                cp = new CellPosition(cell.pos().row() + addedRows, cell.pos().col() + addedCols);
-            }
-            extGrid.set(cp, cell.value());
+    private static ArrayGrid<Fuselage> expandedGrid(ArrayGrid<Fuselage> grid, int addedRows,
+            int addedCols, boolean center) {
+        if (addedRows < 0 || addedCols < 0 || (addedRows == 0 && addedCols == 0)) {
+            return grid;
         }
-        return extGrid;
+
+        int rowOffset = center ? addedRows - addedRows / 2 : addedRows;
+        int colOffset = center ? addedCols - addedCols / 2 : addedCols;
+        return grid.resized(grid.rows() + addedRows, grid.cols() + addedCols, rowOffset, colOffset);
     }
 
     @Override
@@ -285,16 +432,18 @@ public class ShipStructure implements ViewableShipStructure {
         return this.grid.iterator();
     }
 
-    public int getNumFuselage() {
-        int numFuselage = 0;
-
-        for (GridCell<Fuselage> cell : this) {
-            if (cell.value() != null) {
-                numFuselage++;
-            }
-        }
+    /**
+     * Calls the visitor for every <code>Fuselage</code> in <code>this</code>, with
+     * its row and column, without creating any <code>GridCell</code>.
+     *
+     * @param visitor the visitor to call.
+     */
+    public void forEachFuselage(CellVisitor<? super Fuselage> visitor) {
+        grid.forEachNonEmpty(visitor);
+    }
 
-        return numFuselage;
+    public int getNumFuselage() {
+        return grid.occupancy().count();
     }
 
     /**
@@ -305,13 +454,10 @@ public class ShipStructure implements ViewableShipStructure {
      */
     public List<CellPosition> getUpgradeTypePositions(UpgradeType type) {
         List<CellPosition> upgradeTypePositions = new ArrayList<>();
-        for (GridCell<Fuselage> cell : grid) {
-            if (cell.value() == null) {
-                continue;
-            }
-
-            if (cell.value().hasUpgrade() && cell.value().getUpgrade().getType() == type) {
-                upgradeTypePositions.add(cell.pos());
+        GridCursor<Fuselage> cells = cells();
+        while (cells.nextNonEmpty()) {
+            if (cells.value().hasUpgrade() && cells.value().getUpgrade().getType() == type) {
+                upgradeTypePositions.add(new CellPosition(cells.row(), cells.col()));
             }
         }
         return upgradeTypePositions;
@@ -319,12 +465,9 @@ public class ShipStructure implements ViewableShipStructure {
 
     public List<Turret> getTurrets() {
         List<Turret> turrets = new ArrayList<>();
-        for (GridCell<Fuselage> cell : grid) {
-            if (cell.value() == null) {
-                continue;
-            }
-
-            if (cell.value().hasUpgrade() && cell.value().getUpgrade() instanceof Turret turret) {
+        GridCursor<Fuselage> cells = cells();
+        while (cells.nextNonEmpty()) {
+            if (cells.value().hasUpgrade() && cells.value().getUpgrade() instanceof Turret turret) {
                 turrets.add(turret);
             }
         }
@@ -503,25 +646,31 @@ public class ShipStructure implements ViewableShipStructure {
             return false;
         }
 
-        return grid.isEmpty() || isValidFuselagePosition(grid, pos);
+        OccupancyMap occupancy = grid.occupancy();
+        return occupancy.isEmpty() || occupancy.hasOccupiedNeighbour(pos.row(), pos.col());
     }
 
     protected void shrinkToFit() {
-        grid = Grid.shrinkGridToFit(grid);
+        fitGridToShip();
         updateFields();
     }
 
     /**
-     * The resources to loot from this {@code ShipStructure}
+     * The resources to loot from this {@code ShipStructure}. The sum over the
+     * grid is cached until the structure version changes, so like
+     * {@link #getCombinedStat}, stage upgrades only count if they are made
+     * through {@link #upgradeStage}.
      *
      * @return the amount of resources to loot.
      */
     public int getResourceValue() {
-        int resourceValue = 0;
-        for (GridCell<Fuselage> gridCells : grid) {
-            if (gridCells.value() != null) {
-                resourceValue += gridCells.value().getResourceValue();
+        if (resourceValueVersion != structureVersion) {
+            resourceValue = 0;
+            GridCursor<Fuselage> cells = cells();
+            while (cells.nextNonEmpty()) {
+                resourceValue += cells.value().getResourceValue();
             }
+            resourceValueVersion = structureVersion;
         }
         return resourceValue;
     }
@@ -555,6 +704,19 @@ public class ShipStructure implements ViewableShipStructure {
         MassProperties mp = getMassProperties();
         mass = mp.mass();
         centerOfMass = mp.centerOfMass();
+        structureVersion++;
+    }
+
+    /**
+     * The structure version is incremented every time fuselage or upgrades are
+     * added, or the grid is resized. Caches derived from the structure can
+     * compare it with the version they were computed for to know when they are
+     * stale.
+     *
+     * @return the current structure version of <code>this</code>.
+     */
+    public int getStructureVersion() {
+        return structureVersion;
     }
 
     /**
@@ -563,13 +725,11 @@ public class ShipStructure implements ViewableShipStructure {
      */
     public List<GridCell<Turret>> getTurretGridCells() {
         List<GridCell<Turret>> turretGridCells = new ArrayList<>();
-        for (GridCell<Fuselage> gridCell : grid) {
-            if (gridCell.value() == null) {
-                continue;
-            }
-
-            if (gridCell.value().hasUpgrade() && gridCell.value().getUpgrade().getType() == UpgradeType.TURRET) {
-                turretGridCells.add(new GridCell<Turret>(gridCell.pos(), (Turret) gridCell.value().getUpgrade()));
+        GridCursor<Fuselage> cells = cells();
+        while (cells.nextNonEmpty()) {
+            if (cells.value().hasUpgrade() && cells.value().getUpgrade().getType() == UpgradeType.TURRET) {
+                turretGridCells.add(new GridCell<Turret>(new CellPosition(cells.row(), cells.col()),
+                        (Turret) cells.value().getUpgrade()));
             }
         }
         return turretGridCells;
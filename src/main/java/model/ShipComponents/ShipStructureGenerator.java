@@ -0,0 +1,183 @@
+package model.ShipComponents;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Generates random enemy ship structures ahead of time on a pool of worker
+ * threads, so that spawning an enemy doesn't have to wait for
+ * {@link ShipFactory#generateShipStructure(int, int, Random)}.
+ * <p>
+ * Structures are queued per number of fuselage. Every structure has its own
+ * seed, derived from the generator's seed, its number of fuselage and its place
+ * in the queue, so the n-th structure taken of a given size is always the same
+ * no matter how the workers were scheduled. If a structure isn't finished when
+ * it is taken, it is generated from the same seed on the calling thread
+ * instead, unless a worker has already started on it, in which case the
+ * calling thread waits for the worker rather than doing the same work twice.
+ * <p>
+ * The sizes asked for are expected to only grow, so taking a structure drops
+ * the structures queued for smaller sizes, and stops the workers from
+ * generating more of them.
+ * <p>
+ * The queues are only touched by the thread taking structures. Finished
+ * structures are handed over through <code>CompletableFuture</code>, so the
+ * taking thread never waits for a lock.
+ * <p>
+ * Structures that are no longer needed can be given back with
+ * {@link #recycle}, and are then generated into again instead of allocating
+ * new ones.
+ */
+public class ShipStructureGenerator {
+
+    private static final ForkJoinPool workers = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+    private final long seed;
+    private final int lookahead;
+    private final HashMap<Integer, ArrayDeque<Job>> queues = new HashMap<>();
+    private final HashMap<Integer, Integer> queuedCounts = new HashMap<>();
+    // structures given back, for the workers to generate into
+    private final ConcurrentLinkedQueue<ShipStructure> spent = new ConcurrentLinkedQueue<>();
+
+    /**
+     * A structure being generated. Whichever thread claims the job first, the
+     * worker or a thread taking it before it is finished, generates it.
+     */
+    private record Job(int numFuselage, long seed, AtomicBoolean claimed,
+            CompletableFuture<ShipStructure> structure) {
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * @param seed      the seed to derive the seed of every structure from.
+     * @param lookahead the number of structures to keep queued for each size
+     *                  that has been asked for.
+     * @throws IllegalArgumentException if <code>lookahead</code> is less than 1.
+     */
+    public ShipStructureGenerator(long seed, int lookahead) {
+        if (lookahead < 1) {
+            throw new IllegalArgumentException("lookahead must be at least 1");
+        }
+        this.seed = seed;
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Makes sure structures of the given size are being generated, so they are
+     * ready when they are taken.
+     *
+     * @param numFuselage the number of fuselage of the structures.
+     * @throws IllegalArgumentException if <code>numFuselage</code> is less than 2.
+     */
+    public void prepare(int numFuselage) {
+        if (numFuselage < 2) {
+            throw new IllegalArgumentException("numFuselage must be 2 or greater");
+        }
+
+        ArrayDeque<Job> queue = queues.computeIfAbsent(numFuselage, size -> new ArrayDeque<>());
+        while (queue.size() < lookahead) {
+            int index = queuedCounts.merge(numFuselage, 1, Integer::sum) - 1;
+            long jobSeed = jobSeed(numFuselage, index);
+            AtomicBoolean claimed = new AtomicBoolean(false);
+            queue.add(new Job(numFuselage, jobSeed, claimed, CompletableFuture.supplyAsync(
+                    () -> claimed.compareAndSet(false, true) ? generate(numFuselage, jobSeed) : null, workers)));
+        }
+    }
+
+    /**
+     * Takes the next structure of the given size, and queues up more structures
+     * of that size and of the next size up. The structures queued for smaller
+     * sizes are dropped.
+     *
+     * @param numFuselage the number of fuselage of the structure.
+     * @return a valid structure with <code>numFuselage</code> fuselage, between 2
+     *         and <code>numFuselage</code> of them holding an upgrade.
+     * @throws IllegalArgumentException if <code>numFuselage</code> is less than 2.
+     */
+    public ShipStructure take(int numFuselage) {
+        prepare(numFuselage);
+        Job job = queues.get(numFuselage).poll();
+        dropSmallerThan(numFuselage);
+        prepare(numFuselage);
+        prepare(numFuselage + 1);
+
+        CompletableFuture<ShipStructure> structure = job.structure();
+        if (job.claim()) {
+            // no worker has started on it, so don't wait for one
+            structure.cancel(false);
+            return generate(job.numFuselage(), job.seed());
+        }
+        return structure.join();
+    }
+
+    /**
+     * Drops the queues of sizes smaller than the given one. Jobs no worker has
+     * started on are cancelled, and the structures of the others are recycled
+     * once they are finished.
+     */
+    private void dropSmallerThan(int numFuselage) {
+        Iterator<Map.Entry<Integer, ArrayDeque<Job>>> entries = queues.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Integer, ArrayDeque<Job>> entry = entries.next();
+            if (entry.getKey() >= numFuselage) {
+                continue;
+            }
+            for (Job job : entry.getValue()) {
+                if (job.claim()) {
+                    job.structure().cancel(false);
+                } else {
+                    job.structure().thenAccept(this::recycle);
+                }
+            }
+            entries.remove();
+        }
+    }
+
+    /**
+     * @return the number of structures queued, finished or not, over all sizes.
+     */
+    int getQueuedCount() {
+        int queued = 0;
+        for (ArrayDeque<Job> queue : queues.values()) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    private long jobSeed(int numFuselage, int index) {
+        return seed ^ (numFuselage * 0x9E3779B97F4A7C15L) ^ ((index + 1) * 0xBF58476D1CE4E5B9L);
+    }
+
+    /**
+     * Gives back a structure taken earlier, to be generated into again. Nothing
+     * else may use the structure afterwards, though its fuselage may still be
+     * used by a structure reset from it.
+     *
+     * @param structure the structure that is no longer needed.
+     */
+    public void recycle(ShipStructure structure) {
+        spent.add(structure);
+    }
+
+    private ShipStructure generate(int numFuselage, long seed) {
+        Random rng = new Random(seed);
+        int numUpgrades = rng.nextInt(Math.max(2, numFuselage / 2), numFuselage + 1);
+        ShipStructure structure = spent.poll();
+        if (structure == null) {
+            return ShipFactory.generateShipStructure(numFuselage, numUpgrades, rng);
+        }
+        structure.reset(ShipFactory.generateShipGrid(numFuselage, numUpgrades, rng));
+        return structure;
+    }
+}
@@ -1,21 +1,14 @@
 package model.ShipComponents;
 
-import static model.utils.SpaceCalculator.orthogonallyAdjacent;
-
 import com.badlogic.gdx.utils.JsonValue;
+import grid.ArrayGrid;
 import grid.CellPosition;
-
-import grid.GridCell;
 import grid.IGrid;
 import model.ShipComponents.Components.Fuselage;
 import model.ShipComponents.ShipConfig.ShipComponent;
 import model.utils.ArgumentChecker;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
-import java.util.Set;
 
 public final class ShipValidator {
 
@@ -41,51 +34,33 @@ public final class ShipValidator {
     }
 
     public static boolean isValid(IGrid<Fuselage> shipGrid) {
-        List<CellPosition> cellPositions = extractCellPositions(shipGrid);
-        if (cellPositions.isEmpty()) {
+        ArgumentChecker.requireNonNull(shipGrid, "ShipGrid can't be null");
+        if (shipGrid instanceof ArrayGrid<Fuselage> arrayGrid && arrayGrid.occupancy().count() <= 1) {
             return true;
         }
-        return isShipConnected(cellPositions);
-    }
-
-
-    public static boolean isShipConnected(List<CellPosition> componentPositions) {
-        if (componentPositions.isEmpty()) {
-            return false;
-        }
-
-        Set<CellPosition> visited = new HashSet<>();
-        Queue<CellPosition> toSearch = new LinkedList<>();
-
-        CellPosition startPos = componentPositions.get(0);
-        toSearch.add(startPos);
-        toSearch.addAll(getAdjacent(componentPositions, startPos));
-        visited.add(startPos);
 
-        while (!toSearch.isEmpty()) {
-            CellPosition current = toSearch.poll();
-            if (visited.contains(current)) {
-                continue;
-            }
-            visited.add(current);
-
-            for (CellPosition adjPos : getAdjacent(componentPositions, current)) {
-                if (!visited.contains(adjPos)) {
-                    toSearch.add(adjPos);
-                }
-            }
-        }
-        return componentPositions.size() == visited.size();
+        ShipConnectivity connectivity = new ShipConnectivity();
+        shipGrid.forEachNonEmpty((row, col, fuselage) -> connectivity.add(new CellPosition(row, col)));
+        return connectivity.size() == 0 || connectivity.isConnected();
     }
 
-    private static List<CellPosition> getAdjacent(List<CellPosition> components, CellPosition cp) {
-        List<CellPosition> adjacent = new ArrayList<>();
-        for (CellPosition adjPos : components) {
-            if (orthogonallyAdjacent(adjPos, cp)) {
-                adjacent.add(adjPos);
+    /**
+     * Checks that the component positions form one connected ship, where
+     * components are connected through orthogonal neighbours. A position listed
+     * twice makes the ship invalid.
+     *
+     * @param componentPositions the positions of the ship's components.
+     * @return true if there is at least one position, and all positions are
+     *         connected.
+     */
+    public static boolean isShipConnected(List<CellPosition> componentPositions) {
+        ShipConnectivity connectivity = new ShipConnectivity();
+        for (CellPosition pos : componentPositions) {
+            if (!connectivity.add(pos)) {
+                return false;
             }
         }
-        return adjacent;
+        return connectivity.isConnected();
     }
 
     private static List<CellPosition> extractCellPositions(ShipConfig shipConfig) {
@@ -113,15 +88,4 @@ public final class ShipValidator {
         return componentPositions;
     }
 
-    private static List<CellPosition> extractCellPositions(IGrid<Fuselage> shipGrid) {
-        ArgumentChecker.requireNonNull(shipGrid, "ShipGrid can't be null");
-        List<CellPosition> componentPositions = new ArrayList<>();
-        for (GridCell<Fuselage> cp : shipGrid) {
-            if (cp.value() != null) {
-                componentPositions.add(cp.pos());
-            }
-        }
-        return componentPositions;
-    }
-
 }
@@ -86,10 +86,10 @@ public class UpgradeHandler {
     public boolean upgradeStage(CellPosition cpGrid, boolean upgradeFuselage) {
         Fuselage fuselage = structure.getFuselage(cpGrid);
         if (upgradeFuselage) {
-            return fuselage.upgrade();
+            return structure.upgradeStage(cpGrid, true);
         } else {
             if (upgradeStageIncreaseIsAllowed(fuselage)) {
-                return fuselage.getUpgrade().upgrade();
+                return structure.upgradeStage(cpGrid, false);
             }
             return false;
         }
@@ -0,0 +1,22 @@
+package model;
+
+import model.SpaceCharacters.Ships.SpaceShip;
+
+public interface ShipLifecycleCallback {
+
+    /**
+     * Called when a ship enters the game, after its structure is complete.
+     *
+     * @param ship the ship that entered the game.
+     */
+    void shipSpawned(SpaceShip ship);
+
+    /**
+     * Called when a ship leaves the game, because it was destroyed or is too far
+     * from the player. The ship may be reused by a later spawn, so it should not
+     * be kept after this call.
+     *
+     * @param ship the ship that left the game.
+     */
+    void shipDespawned(SpaceShip ship);
+}
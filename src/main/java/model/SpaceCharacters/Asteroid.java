@@ -27,6 +27,6 @@ public class Asteroid extends Projectile {
     @Override
     public int getResourceValue() {
         int resourceValueMultiplier = 30;
-        return (int) (mass * radius * resourceValueMultiplier);
+        return (int) (mass * getRadius() * resourceValueMultiplier);
     }
 }
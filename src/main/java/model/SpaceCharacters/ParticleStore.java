@@ -0,0 +1,201 @@
+package model.SpaceCharacters;
+
+import java.util.Arrays;
+
+import model.utils.Rotation;
+
+/**
+ * Holds the physical state of many {@link Projectile} objects in parallel
+ * primitive arrays.
+ * <p>
+ * A projectile added to the store becomes a view over its slot: its position,
+ * velocity, angle, rotation speed and radius are read from and written to the
+ * arrays of the store, until it is removed again. {@link #integrate} then moves
+ * every projectile in the store in one loop over the arrays, rather than
+ * following a reference to each projectile and its vectors.
+ * <p>
+ * Removing a projectile moves the last projectile into its slot, so the slots
+ * stay dense.
+ */
+public class ParticleStore {
+
+    float[] x;
+    float[] y;
+    float[] vx;
+    float[] vy;
+    float[] angle;
+    float[] rotationSpeed;
+    float[] radius;
+    float[] previousX;
+    float[] previousY;
+    float[] previousAngle;
+    private Projectile[] owners;
+    private int size;
+
+    public ParticleStore() {
+        this(64);
+    }
+
+    /**
+     * @param capacity the number of projectiles to make room for initially.
+     */
+    public ParticleStore(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can't be negative");
+        }
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        angle = new float[capacity];
+        rotationSpeed = new float[capacity];
+        radius = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousAngle = new float[capacity];
+        owners = new Projectile[capacity];
+    }
+
+    /**
+     * Adds a projectile to the store, copying its current state into a new slot.
+     *
+     * @param projectile the projectile to add.
+     * @throws IllegalArgumentException if the projectile already belongs to a
+     *                                  store.
+     */
+    public void add(Projectile projectile) {
+        if (projectile.isInParticleStore()) {
+            throw new IllegalArgumentException("Projectile is already in a particle store");
+        }
+        ensureCapacity(size + 1);
+
+        int slot = size++;
+        x[slot] = projectile.getX();
+        y[slot] = projectile.getY();
+        vx[slot] = projectile.getVelocityX();
+        vy[slot] = projectile.getVelocityY();
+        angle[slot] = projectile.getRotationAngle();
+        rotationSpeed[slot] = projectile.getRotationSpeed();
+        radius[slot] = projectile.getRadius();
+        owners[slot] = projectile;
+        storePreviousState(slot);
+        projectile.attach(this, slot);
+    }
+
+    /**
+     * Removes a projectile from the store. The projectile keeps its current state,
+     * and can be used on its own or added to a store again.
+     *
+     * @param projectile the projectile to remove.
+     * @return true if the projectile was in <code>this</code>, false otherwise.
+     */
+    public boolean remove(Projectile projectile) {
+        if (!projectile.isInParticleStore(this)) {
+            return false;
+        }
+        int slot = projectile.getParticleSlot();
+        projectile.detach(x[slot], y[slot], vx[slot], vy[slot], angle[slot], rotationSpeed[slot],
+                radius[slot]);
+
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            vx[slot] = vx[last];
+            vy[slot] = vy[last];
+            angle[slot] = angle[last];
+            rotationSpeed[slot] = rotationSpeed[last];
+            radius[slot] = radius[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            previousAngle[slot] = previousAngle[last];
+            owners[slot] = owners[last];
+            owners[slot].attach(this, slot);
+        }
+        owners[last] = null;
+        return true;
+    }
+
+    /**
+     * Stores the current position and angle of every projectile as the state at
+     * the start of a simulation tick.
+     *
+     * @see SpaceBody#storePreviousState()
+     */
+    public void storePreviousState() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+        System.arraycopy(angle, 0, previousAngle, 0, size);
+    }
+
+    void storePreviousState(int slot) {
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        previousAngle[slot] = angle[slot];
+    }
+
+    /**
+     * Moves and rotates every projectile in the store.
+     *
+     * @param deltaTime the time step (in seconds).
+     */
+    public void integrate(float deltaTime) {
+        for (int i = 0; i < size; i++) {
+            x[i] += vx[i] * deltaTime;
+            y[i] += vy[i] * deltaTime;
+        }
+        for (int i = 0; i < size; i++) {
+            if (rotationSpeed[i] != 0f) {
+                angle[i] = Rotation.normalizeAngle(angle[i] + rotationSpeed[i] * deltaTime);
+            }
+        }
+    }
+
+    /**
+     * Moves and rotates the projectile in a single slot.
+     *
+     * @param slot      the slot of the projectile.
+     * @param deltaTime the time step (in seconds).
+     */
+    void integrate(int slot, float deltaTime) {
+        x[slot] += vx[slot] * deltaTime;
+        y[slot] += vy[slot] * deltaTime;
+        angle[slot] = Rotation.normalizeAngle(angle[slot] + rotationSpeed[slot] * deltaTime);
+    }
+
+    /**
+     * @return the number of projectiles in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param slot the slot, between 0 and <code>size() - 1</code>.
+     * @return the projectile in the given slot.
+     */
+    public Projectile get(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of bounds for size " + size);
+        }
+        return owners[slot];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (x.length >= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, 2 * x.length);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        vx = Arrays.copyOf(vx, newCapacity);
+        vy = Arrays.copyOf(vy, newCapacity);
+        angle = Arrays.copyOf(angle, newCapacity);
+        rotationSpeed = Arrays.copyOf(rotationSpeed, newCapacity);
+        radius = Arrays.copyOf(radius, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        previousAngle = Arrays.copyOf(previousAngle, newCapacity);
+        owners = Arrays.copyOf(owners, newCapacity);
+    }
+}
@@ -5,14 +5,24 @@ import com.badlogic.gdx.utils.Pool.Poolable;
 
 import model.Globals.DamageDealer;
 import model.Globals.Damageable;
+import model.utils.ArgumentChecker;
+import model.utils.Rotation;
 import model.utils.SpaceCalculator;
 
+/**
+ * A projectile keeps its physical state in its own fields, until it is added to
+ * a {@link ParticleStore}. While in a store, the state is read from and written
+ * to the arrays of the store instead.
+ */
 public abstract class Projectile extends SpaceBody implements Damageable, DamageDealer, Poolable {
 
     private int hitPoints;
     private int maxHitPoints;
     private String sourceID;
 
+    private ParticleStore store;
+    private int slot = -1;
+
     public Projectile(String name, String description, CharacterType characterType, float x,
             float y, float speed, int hitPoints, float mass, float angle, float radius) {
         super(name, description, characterType, x, y, angle, radius);
@@ -67,11 +77,12 @@ public abstract class Projectile extends SpaceBody implements Damageable, Damage
 
     @Override
     public void reset() {
-        this.position.set(0f, 0f);
-        this.velocity.set(0f, 0f);
-        this.rotation.setAngle(0f);
-        this.rotation.setRotationSpeed(0f);
-        this.radius = 0;
+        setX(0f);
+        setY(0f);
+        setVelocity(0f, 0f);
+        setRotation(0f);
+        setRotationSpeed(0f);
+        setRadius(0f);
         this.hitPoints = 0;
         this.maxHitPoints = 1;
         this.sourceID = "";
@@ -107,4 +118,170 @@ public abstract class Projectile extends SpaceBody implements Damageable, Damage
     public String getSourceID() {
         return sourceID;
     }
+
+    void attach(ParticleStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    void detach(float x, float y, float vX, float vY, float angle, float rotationSpeed, float radius) {
+        store = null;
+        slot = -1;
+        super.setX(x);
+        super.setY(y);
+        super.setVelocity(vX, vY);
+        super.setRotation(angle);
+        super.setRotationSpeed(rotationSpeed);
+        super.setRadius(radius);
+        storePreviousState();
+    }
+
+    int getParticleSlot() {
+        return slot;
+    }
+
+    /**
+     * @return true if <code>this</code> is in a <code>ParticleStore</code>, false
+     *         otherwise.
+     */
+    public boolean isInParticleStore() {
+        return store != null;
+    }
+
+    boolean isInParticleStore(ParticleStore store) {
+        return this.store == store && store != null;
+    }
+
+    @Override
+    public float getX() {
+        return store == null ? super.getX() : store.x[slot];
+    }
+
+    @Override
+    public void setX(float x) {
+        if (store == null) {
+            super.setX(x);
+        } else {
+            store.x[slot] = x;
+        }
+    }
+
+    @Override
+    public float getY() {
+        return store == null ? super.getY() : store.y[slot];
+    }
+
+    @Override
+    public void setY(float y) {
+        if (store == null) {
+            super.setY(y);
+        } else {
+            store.y[slot] = y;
+        }
+    }
+
+    @Override
+    public float getVelocityX() {
+        return store == null ? super.getVelocityX() : store.vx[slot];
+    }
+
+    @Override
+    public float getVelocityY() {
+        return store == null ? super.getVelocityY() : store.vy[slot];
+    }
+
+    @Override
+    public void setVelocity(float x, float y) {
+        if (store == null) {
+            super.setVelocity(x, y);
+        } else {
+            store.vx[slot] = x;
+            store.vy[slot] = y;
+        }
+    }
+
+    @Override
+    public float getRotationAngle() {
+        return store == null ? super.getRotationAngle() : store.angle[slot];
+    }
+
+    @Override
+    public void setRotation(float angle) {
+        if (store == null) {
+            super.setRotation(angle);
+        } else {
+            store.angle[slot] = Rotation.normalizeAngle(angle);
+        }
+    }
+
+    @Override
+    public float getRotationSpeed() {
+        return store == null ? super.getRotationSpeed() : store.rotationSpeed[slot];
+    }
+
+    @Override
+    public void setRotationSpeed(float rotationSpeed) {
+        if (store == null) {
+            super.setRotationSpeed(rotationSpeed);
+        } else {
+            store.rotationSpeed[slot] = rotationSpeed;
+        }
+    }
+
+    @Override
+    public float getRadius() {
+        return store == null ? super.getRadius() : store.radius[slot];
+    }
+
+    @Override
+    public void setRadius(float radius) {
+        if (store == null) {
+            super.setRadius(radius);
+        } else {
+            ArgumentChecker.greaterOrEqualToZero(radius, "Radius can't be negative.");
+            store.radius[slot] = radius;
+        }
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (store == null) {
+            super.update(deltaTime);
+        } else {
+            store.integrate(slot, deltaTime);
+        }
+    }
+
+    @Override
+    public void storePreviousState() {
+        if (store == null) {
+            super.storePreviousState();
+        } else {
+            store.storePreviousState(slot);
+        }
+    }
+
+    @Override
+    public float getInterpolatedX(float alpha) {
+        if (store == null || alpha >= 1f) {
+            return super.getInterpolatedX(alpha);
+        }
+        return store.previousX[slot] + (store.x[slot] - store.previousX[slot]) * alpha;
+    }
+
+    @Override
+    public float getInterpolatedY(float alpha) {
+        if (store == null || alpha >= 1f) {
+            return super.getInterpolatedY(alpha);
+        }
+        return store.previousY[slot] + (store.y[slot] - store.previousY[slot]) * alpha;
+    }
+
+    @Override
+    public float getInterpolatedRotationAngle(float alpha) {
+        if (store == null || alpha >= 1f) {
+            return super.getInterpolatedRotationAngle(alpha);
+        }
+        return Rotation.interpolate(store.previousAngle[slot], store.angle[slot], alpha);
+    }
 }
@@ -1,11 +1,12 @@
 package model.SpaceCharacters.Ships;
 
+import com.badlogic.gdx.utils.Pool.Poolable;
 import model.ShipComponents.ShipStructure;
 import model.SpaceCharacters.CharacterType;
 import model.ai.Brain;
 import model.ai.NullBrain;
 
-public class EnemyShip extends SpaceShip {
+public class EnemyShip extends SpaceShip implements Poolable {
 
     protected Brain brain = new NullBrain();
 
@@ -14,6 +15,12 @@ public class EnemyShip extends SpaceShip {
         super(shipStructure, name, description, CharacterType.ENEMY_SHIP, x, y, angle);
     }
 
+    @Override
+    public void reset() {
+        setToShoot(false);
+        brain.reset();
+    }
+
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
@@ -0,0 +1,312 @@
+package model.SpaceCharacters.Ships;
+
+import java.util.Arrays;
+
+import grid.GridCell;
+import model.ShipComponents.ShipStructure;
+import model.ShipComponents.UpgradeType;
+import model.ShipComponents.Components.Fuselage;
+import model.ShipComponents.Components.Thruster;
+import model.ShipComponents.Components.Turret;
+import model.collision.BoundingCircleTree;
+import model.constants.PhysicsParameters;
+import model.utils.FloatPair;
+
+/**
+ * Caches the world positions of the cells of a {@link SpaceShip}.
+ * <p>
+ * Hit detection, shooting and rendering all need the rotated and translated
+ * position of every fuselage, turret barrel and thruster flame of a ship.
+ * This computes them once into primitive arrays, and only recomputes them
+ * when the ship has moved or rotated, or its {@link ShipStructure} has
+ * changed.
+ * <p>
+ * Positions are rotated about the ship's center of mass, in the same way as
+ * <code>SpaceCalculator.rotatePoint</code>. The fuselage cells are also kept in
+ * a {@link BoundingCircleTree} for hit detection.
+ */
+public class ShipTransformCache {
+
+    private final SpaceShip ship;
+
+    // state the cached positions were computed for
+    private boolean valid = false;
+    private float cachedX;
+    private float cachedY;
+    private float cachedAngle;
+    private int cachedVersion;
+
+    // cell layout relative to the ship grid, rebuilt when the structure changes
+    private float[] localFuselageX = new float[0];
+    private float[] localFuselageY = new float[0];
+    private float[] localTurretX = new float[0];
+    private float[] localTurretY = new float[0];
+    private float[] localThrusterX = new float[0];
+    private float[] localThrusterY = new float[0];
+    private Turret[] turrets = new Turret[0];
+    private int fuselageCount;
+    private int turretCount;
+    private int thrusterCount;
+    private float relativeCenterX;
+    private float relativeCenterY;
+    private final BoundingCircleTree fuselageTree = new BoundingCircleTree();
+
+    // world positions
+    private float[] fuselageX = new float[0];
+    private float[] fuselageY = new float[0];
+    private float[] turretX = new float[0];
+    private float[] turretY = new float[0];
+    private float[] thrusterX = new float[0];
+    private float[] thrusterY = new float[0];
+    private float centerX;
+    private float centerY;
+
+    public ShipTransformCache(SpaceShip ship) {
+        this.ship = ship;
+    }
+
+    /**
+     * Recomputes the cached positions if the ship has moved, rotated or changed
+     * its structure since they were last computed.
+     */
+    public void update() {
+        ShipStructure structure = ship.getShipStructure();
+        int version = structure.getStructureVersion();
+        float x = ship.getX();
+        float y = ship.getY();
+        float angle = ship.getRotationAngle();
+
+        if (valid && version == cachedVersion && x == cachedX && y == cachedY && angle == cachedAngle) {
+            return;
+        }
+
+        if (!valid || version != cachedVersion) {
+            rebuildLayout(structure);
+        }
+
+        cachedX = x;
+        cachedY = y;
+        cachedAngle = angle;
+        cachedVersion = version;
+        valid = true;
+
+        centerX = x + relativeCenterX;
+        centerY = y + relativeCenterY;
+        float radians = (float) Math.toRadians(angle);
+        float cos = (float) Math.cos(radians);
+        float sin = (float) Math.sin(radians);
+
+        transform(localFuselageX, localFuselageY, fuselageX, fuselageY, fuselageCount, cos, sin);
+        transform(localTurretX, localTurretY, turretX, turretY, turretCount, cos, sin);
+        transform(localThrusterX, localThrusterY, thrusterX, thrusterY, thrusterCount, cos, sin);
+        fuselageTree.transform(relativeCenterX, relativeCenterY, centerX, centerY, cos, sin);
+    }
+
+    /**
+     * Marks the cached positions as stale, forcing a full recompute on the next
+     * {@link #update()}.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    private void transform(float[] localX, float[] localY, float[] worldX, float[] worldY, int count,
+            float cos, float sin) {
+        for (int i = 0; i < count; i++) {
+            float dx = localX[i] - relativeCenterX;
+            float dy = localY[i] - relativeCenterY;
+            worldX[i] = centerX + cos * dx - sin * dy;
+            worldY[i] = centerY + sin * dx + cos * dy;
+        }
+    }
+
+    private void rebuildLayout(ShipStructure structure) {
+        FloatPair centerOfMass = structure.getCenterOfMass();
+        relativeCenterX = centerOfMass.x();
+        relativeCenterY = centerOfMass.y();
+
+        FloatPair barrel = Turret.turretBarrelLocation();
+        FloatPair flame = Thruster.thrusterFlameLocation();
+
+        fuselageCount = 0;
+        turretCount = 0;
+        thrusterCount = 0;
+        for (GridCell<Fuselage> cell : structure) {
+            Fuselage fuselage = cell.value();
+            if (fuselage == null) {
+                continue;
+            }
+            float col = cell.pos().col();
+            float row = cell.pos().row();
+
+            ensureFuselageCapacity(fuselageCount + 1);
+            localFuselageX[fuselageCount] = col;
+            localFuselageY[fuselageCount] = row;
+            fuselageCount++;
+
+            if (!fuselage.hasUpgrade()) {
+                continue;
+            }
+            if (fuselage.getUpgrade() instanceof Turret turret) {
+                ensureTurretCapacity(turretCount + 1);
+                localTurretX[turretCount] = col + barrel.x();
+                localTurretY[turretCount] = row + barrel.y();
+                turrets[turretCount] = turret;
+                turretCount++;
+            } else if (fuselage.getUpgrade().getType() == UpgradeType.THRUSTER) {
+                ensureThrusterCapacity(thrusterCount + 1);
+                localThrusterX[thrusterCount] = col + flame.x();
+                localThrusterY[thrusterCount] = row + flame.y();
+                thrusterCount++;
+            }
+        }
+        Arrays.fill(turrets, turretCount, turrets.length, null);
+        fuselageTree.build(localFuselageX, localFuselageY, fuselageCount, PhysicsParameters.fuselageRadius);
+    }
+
+    private void ensureFuselageCapacity(int count) {
+        if (localFuselageX.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, 2 * localFuselageX.length);
+        localFuselageX = Arrays.copyOf(localFuselageX, capacity);
+        localFuselageY = Arrays.copyOf(localFuselageY, capacity);
+        fuselageX = new float[capacity];
+        fuselageY = new float[capacity];
+    }
+
+    private void ensureTurretCapacity(int count) {
+        if (localTurretX.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, 2 * localTurretX.length);
+        localTurretX = Arrays.copyOf(localTurretX, capacity);
+        localTurretY = Arrays.copyOf(localTurretY, capacity);
+        turrets = Arrays.copyOf(turrets, capacity);
+        turretX = new float[capacity];
+        turretY = new float[capacity];
+    }
+
+    private void ensureThrusterCapacity(int count) {
+        if (localThrusterX.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, 2 * localThrusterX.length);
+        localThrusterX = Arrays.copyOf(localThrusterX, capacity);
+        localThrusterY = Arrays.copyOf(localThrusterY, capacity);
+        thrusterX = new float[capacity];
+        thrusterY = new float[capacity];
+    }
+
+    /**
+     * @return the number of fuselage cells in the ship.
+     */
+    public int getFuselageCount() {
+        return fuselageCount;
+    }
+
+    /**
+     * @return the world x coordinate of the center of fuselage cell <code>i</code>.
+     */
+    public float getFuselageX(int i) {
+        return fuselageX[i];
+    }
+
+    /**
+     * @return the world y coordinate of the center of fuselage cell <code>i</code>.
+     */
+    public float getFuselageY(int i) {
+        return fuselageY[i];
+    }
+
+    /**
+     * The bounding circle tree over the fuselage cells, in world space. It is
+     * only rebuilt when the ship structure changes.
+     *
+     * @return the fuselage tree of the ship.
+     */
+    public BoundingCircleTree getFuselageTree() {
+        return fuselageTree;
+    }
+
+    /**
+     * @return the number of turrets in the ship.
+     */
+    public int getTurretCount() {
+        return turretCount;
+    }
+
+    /**
+     * @return turret <code>i</code>, in grid iteration order.
+     */
+    public Turret getTurret(int i) {
+        return turrets[i];
+    }
+
+    /**
+     * @return the world x coordinate of the barrel tip of turret <code>i</code>.
+     */
+    public float getTurretX(int i) {
+        return turretX[i];
+    }
+
+    /**
+     * @return the world y coordinate of the barrel tip of turret <code>i</code>.
+     */
+    public float getTurretY(int i) {
+        return turretY[i];
+    }
+
+    /**
+     * @return the number of thrusters in the ship.
+     */
+    public int getThrusterCount() {
+        return thrusterCount;
+    }
+
+    /**
+     * @return the world x coordinate of the flame of thruster <code>i</code>, in
+     *         grid iteration order.
+     */
+    public float getThrusterX(int i) {
+        return thrusterX[i];
+    }
+
+    /**
+     * @return the world y coordinate of the flame of thruster <code>i</code>, in
+     *         grid iteration order.
+     */
+    public float getThrusterY(int i) {
+        return thrusterY[i];
+    }
+
+    /**
+     * @return the x coordinate of the ship's center of mass, relative to the
+     *         ship's position.
+     */
+    public float getRelativeCenterOfMassX() {
+        return relativeCenterX;
+    }
+
+    /**
+     * @return the y coordinate of the ship's center of mass, relative to the
+     *         ship's position.
+     */
+    public float getRelativeCenterOfMassY() {
+        return relativeCenterY;
+    }
+
+    /**
+     * @return the world x coordinate of the ship's center of mass.
+     */
+    public float getCenterOfMassX() {
+        return centerX;
+    }
+
+    /**
+     * @return the world y coordinate of the ship's center of mass.
+     */
+    public float getCenterOfMassY() {
+        return centerY;
+    }
+}
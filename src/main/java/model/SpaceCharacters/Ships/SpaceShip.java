@@ -24,12 +24,13 @@ import java.util.UUID;
 
 public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damageable, Repairable, ViewableSpaceShip {
 
-    private final String id;
+    private String id;
     private int damageTaken = 0;
 
     private ShipHealthBar healthBar;
 
-    protected final ShipStructure shipStructure;
+    protected ShipStructure shipStructure;
+    private final ShipTransformCache transformCache;
 
     // health regeneration logic
     private float healthRegeneration = 0f;
@@ -45,10 +46,40 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
         radius = this.shipStructure.getRadius();
 
         id = UUID.randomUUID().toString();
+        transformCache = new ShipTransformCache(this);
 
         makeHealthBar();
     }
 
+    /**
+     * Gives <code>this</code> the fuselage of another structure and places it as
+     * if it was newly created, keeping its transform cache and health bar. Used to
+     * reuse ships instead of creating new ones.
+     * <p>
+     * The ship keeps its own structure, which is reset to hold the fuselage of
+     * <code>shipStructure</code>, reusing the capacity of its grid. The fuselage
+     * are shared rather than copied, so <code>shipStructure</code> must not be
+     * changed afterwards, other than by being reset itself.
+     * <p>
+     * The ship gets a new ID, so lasers fired before it was reused no longer count
+     * as its own.
+     *
+     * @param shipStructure the structure to take the fuselage of.
+     * @param x             the x-coordinate of the ship.
+     * @param y             the y-coordinate of the ship.
+     * @param angle         the angle of rotation of the ship, in degrees.
+     */
+    public void init(ShipStructure shipStructure, float x, float y, float angle) {
+        this.shipStructure.reset(shipStructure);
+        this.shipStructure.normalize();
+
+        init(x, y, 0f, 0f, 0f, angle, this.shipStructure.getRadius(), 0f);
+        damageTaken = 0;
+        healthRegeneration = 0f;
+        id = UUID.randomUUID().toString();
+        transformCache.invalidate();
+    }
+
     private void makeHealthBar() {
         healthBar = new ShipHealthBar(this, new FloatPair(0, 0.4f));
         healthBar.setScale(0.9f, 0.13f);
@@ -72,6 +103,19 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
         return shipStructure;
     }
 
+    /**
+     * The world positions of the ship's fuselage, turret barrels and thruster
+     * flames. These are only recomputed when the ship has moved, rotated or
+     * changed its structure since the last call, so callers within the same
+     * tick share the same computation.
+     *
+     * @return the up to date <code>ShipTransformCache</code> of <code>this</code>.
+     */
+    public ShipTransformCache getTransformCache() {
+        transformCache.update();
+        return transformCache;
+    }
+
     public boolean isPlayerShip() {
         return false;
     }
@@ -85,8 +129,9 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
     }
 
     public void setToShoot(boolean setToShoot) {
-        for (Turret turret : shipStructure.getTurrets()) {
-            turret.setToShoot(setToShoot);
+        ShipTransformCache cells = getTransformCache();
+        for (int i = 0; i < cells.getTurretCount(); i++) {
+            cells.getTurret(i).setToShoot(setToShoot);
         }
     }
 
@@ -97,14 +142,14 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
     }
 
     private void updateTurrets(float deltaTime) {
-        for (Turret turret : shipStructure.getTurrets()) {
-            turret.update(deltaTime);
+        ShipTransformCache cells = getTransformCache();
+        for (int i = 0; i < cells.getTurretCount(); i++) {
+            cells.getTurret(i).update(deltaTime);
         }
     }
 
     private void updateHealth(float deltaTime) {
-        healthRegeneration += deltaTime * shipStructure.getCombinedStatModifier().getModifiers()
-                .get(Stat.HEALTH_REGENERATION_RATE).floatValue();
+        healthRegeneration += deltaTime * getHealthRegenerationRate();
 
         int healthToRestore = (int) Math.floor(healthRegeneration);
         healthRegeneration -= healthToRestore;
@@ -112,7 +157,14 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
     }
 
     protected float force() {
-        return shipStructure.getCombinedStatModifier().getModifiers().get(Stat.ACCELERATION_FORCE).floatValue();
+        return shipStructure.getCombinedStat(Stat.ACCELERATION_FORCE);
+    }
+
+    /**
+     * @return the health points restored per second.
+     */
+    public float getHealthRegenerationRate() {
+        return shipStructure.getCombinedStat(Stat.HEALTH_REGENERATION_RATE);
     }
 
     protected float torque() {
@@ -121,12 +173,11 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
     }
 
     public float maxSpeed() {
-        if (shipStructure.getCombinedStatModifier().getModifiers().get(Stat.MAX_SPEED).floatValue() == 0f) {
+        float maxSpeed = shipStructure.getCombinedStat(Stat.MAX_SPEED);
+        if (maxSpeed == 0f) {
             System.out.println("max speed is 0");
         }
-        return Math.min(
-                shipStructure.getCombinedStatModifier().getModifiers().get(Stat.MAX_SPEED).floatValue(),
-                PhysicsParameters.maxVelocityLongitudonal);
+        return Math.min(maxSpeed, PhysicsParameters.maxVelocityLongitudonal);
     }
 
     public float maxRotationalVelocity() {
@@ -146,8 +197,23 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
 
     @Override
     public FloatPair getAbsoluteCenterOfMass() {
-        return new FloatPair(getX() + shipStructure.getCenterOfMass().x(),
-                getY() + shipStructure.getCenterOfMass().y());
+        return new FloatPair(getAbsoluteCenterOfMassX(), getAbsoluteCenterOfMassY());
+    }
+
+    /**
+     * @return the x-coordinate of the ship's center of mass, without allocating a
+     *         <code>FloatPair</code>.
+     */
+    public float getAbsoluteCenterOfMassX() {
+        return getX() + shipStructure.getCenterOfMass().x();
+    }
+
+    /**
+     * @return the y-coordinate of the ship's center of mass, without allocating a
+     *         <code>FloatPair</code>.
+     */
+    public float getAbsoluteCenterOfMassY() {
+        return getY() + shipStructure.getCenterOfMass().y();
     }
 
     @Override
@@ -157,7 +223,7 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
 
     @Override
     public int getMaxHitPoints() {
-        return shipStructure.getCombinedStatModifier().getModifiers().get(Stat.HEALTH_VALUE).intValue();
+        return (int) shipStructure.getCombinedStat(Stat.HEALTH_VALUE);
     }
 
     @Override
@@ -236,7 +302,8 @@ public abstract class SpaceShip extends SpaceBody implements DamageDealer, Damag
      * @return a proximity radius of the circle centred at the ship's center of mass
      */
     public float getProximityRadius() {
-        return SpaceCalculator.distance(getRelativeCenter(), getRelativeCenterOfMass()) + getRadius()
-                + PhysicsParameters.fuselageRadius / 2f;
+        FloatPair centerOfMass = shipStructure.getCenterOfMass();
+        return SpaceCalculator.distance(shipStructure.getWidth() / 2f, shipStructure.getHeight() / 2f,
+                centerOfMass.x(), centerOfMass.y()) + getRadius() + PhysicsParameters.fuselageRadius / 2f;
     }
 }
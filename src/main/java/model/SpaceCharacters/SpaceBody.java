@@ -23,6 +23,11 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
     protected float mass;
     protected float radius;
 
+    // state at the start of the last simulation tick, used for interpolation
+    private float previousX;
+    private float previousY;
+    private float previousAngle;
+
     /**
      * Constructs a SpaceBody with the specified attributes.
      *
@@ -54,6 +59,7 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
         this.mass = mass;
         this.radius = radius;
         rotation = new Rotation(angle, rotationSpeed);
+        storePreviousState();
     }
 
     /**
@@ -91,12 +97,14 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
     }
 
     public void init(float x, float y, float vX, float vY, float mass, float angle, float radius, float rotationSpeed) {
-        position.set(x, y);
-        velocity.set(vX, vY);
+        setX(x);
+        setY(y);
+        setVelocity(vX, vY);
         this.mass = mass;
-        rotation.setAngle(angle);
-        rotation.setRotationSpeed(rotationSpeed);
-        this.radius = radius;
+        setRotation(angle);
+        setRotationSpeed(rotationSpeed);
+        setRadius(radius);
+        storePreviousState();
     }
 
     @Override
@@ -159,8 +167,18 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
 
     @Override
     public void translate(FloatPair translation) {
-        setX(getX() + translation.x());
-        setY(getY() + translation.y());
+        translate(translation.x(), translation.y());
+    }
+
+    /**
+     * Moves <code>this</code> by the given amounts.
+     *
+     * @param dx the distance to move along the x-axis.
+     * @param dy the distance to move along the y-axis.
+     */
+    public void translate(float dx, float dy) {
+        setX(getX() + dx);
+        setY(getY() + dy);
     }
 
     @Override
@@ -176,7 +194,7 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
 
     @Override
     public float getSpeed() {
-        return velocity.len();
+        return Vector2.len(getVelocityX(), getVelocityY());
     }
 
     @Override
@@ -202,7 +220,7 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
 
     @Override
     public void rotate(float deltaAngle) {
-        this.rotation.rotate(deltaAngle);
+        setRotation(getRotationAngle() + deltaAngle);
     }
 
     @Override
@@ -217,35 +235,46 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
 
     @Override
     public void scaleRotationSpeed(float scale) {
-        rotation.setRotationSpeed(scale * getRotationSpeed());
+        setRotationSpeed(scale * getRotationSpeed());
     }
 
     @Override
     public void addRotationSpeed(float deltaRotationSpeed) {
-        rotation.setRotationSpeed(rotation.getRotationSpeed() + deltaRotationSpeed);
+        setRotationSpeed(getRotationSpeed() + deltaRotationSpeed);
+    }
+
+    /**
+     * @return the horizontal velocity of the SpaceBody.
+     */
+    public float getVelocityX() {
+        return velocity.x;
+    }
+
+    /**
+     * @return the vertical velocity of the SpaceBody.
+     */
+    public float getVelocityY() {
+        return velocity.y;
     }
 
     @Override
     public void setVelocityX(float x) {
-        velocity.x = x;
-
+        setVelocity(x, getVelocityY());
     }
 
     @Override
     public void setVelocityY(float y) {
-        velocity.y = y;
-
+        setVelocity(getVelocityX(), y);
     }
 
     @Override
     public void addVelocityX(float deltaX) {
-        velocity.x += deltaX;
-
+        setVelocity(getVelocityX() + deltaX, getVelocityY());
     }
 
     @Override
     public void addVelocityY(float deltaY) {
-        velocity.y += deltaY;
+        setVelocity(getVelocityX(), getVelocityY() + deltaY);
     }
 
     @Override
@@ -260,12 +289,12 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
 
     @Override
     public void scaleVelocity(float scale) {
-        this.velocity.scl(scale);
+        setVelocity(getVelocityX() * scale, getVelocityY() * scale);
     }
 
     @Override
     public Vector2 getVelocity() {
-        return velocity.cpy();
+        return new Vector2(getVelocityX(), getVelocityY());
     }
 
     @Override
@@ -282,4 +311,52 @@ public abstract class SpaceBody implements SpaceThing, Rotatable, Collidable, Vi
         position.add(velocity.x * deltaTime, velocity.y * deltaTime);
         rotation.update(deltaTime);
     }
+
+    /**
+     * Stores the current position and angle as the state at the start of a
+     * simulation tick. Rendering can then interpolate between the stored state
+     * and the current state.
+     */
+    public void storePreviousState() {
+        previousX = getX();
+        previousY = getY();
+        previousAngle = getRotationAngle();
+    }
+
+    /**
+     * @param alpha how far the render time is into the current simulation tick,
+     *              between 0 and 1.
+     * @return the x-coordinate between the previous and the current state.
+     */
+    public float getInterpolatedX(float alpha) {
+        if (alpha >= 1f) {
+            return getX();
+        }
+        return previousX + (getX() - previousX) * alpha;
+    }
+
+    /**
+     * @param alpha how far the render time is into the current simulation tick,
+     *              between 0 and 1.
+     * @return the y-coordinate between the previous and the current state.
+     */
+    public float getInterpolatedY(float alpha) {
+        if (alpha >= 1f) {
+            return getY();
+        }
+        return previousY + (getY() - previousY) * alpha;
+    }
+
+    /**
+     * @param alpha how far the render time is into the current simulation tick,
+     *              between 0 and 1.
+     * @return the angle between the previous and the current state, turning the
+     *         shortest way around.
+     */
+    public float getInterpolatedRotationAngle(float alpha) {
+        if (alpha >= 1f) {
+            return getRotationAngle();
+        }
+        return Rotation.interpolate(previousAngle, getRotationAngle(), alpha);
+    }
 }
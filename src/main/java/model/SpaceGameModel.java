@@ -1,21 +1,13 @@
 package model;
 
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
-import com.badlogic.gdx.math.Matrix3;
-import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Pool;
 
 import controller.ControllableSpaceGameModel;
-import controller.audio.AudioCallback;
 import controller.audio.SoundEffect;
-import grid.GridCell;
-import model.Animation.AnimationCallback;
-import model.Animation.AnimationStateImpl;
 import model.Animation.AnimationType;
 import model.Globals.Collectable;
 import model.Globals.Collidable;
@@ -25,36 +17,52 @@ import model.Score.GameStats;
 import model.Score.ScoreBoard;
 import model.Score.SystemUserNameProvider;
 import model.ShipComponents.ShipFactory;
-import model.ShipComponents.Components.Turret;
+import model.ShipComponents.ShipStructure;
+import model.ShipComponents.ShipStructureGenerator;
 import model.SpaceCharacters.Asteroid;
 import model.SpaceCharacters.Bullet;
 import model.SpaceCharacters.Diamond;
+import model.SpaceCharacters.ParticleStore;
 import model.SpaceCharacters.Ships.EnemyShip;
 import model.SpaceCharacters.Ships.Player;
 import model.SpaceCharacters.SpaceBody;
+import model.SpaceCharacters.Ships.ShipTransformCache;
 import model.SpaceCharacters.Ships.SpaceShip;
 import model.ai.EnhancedLerpBrain;
 import model.constants.PhysicsParameters;
+import model.constants.SimulationPhase;
+import model.events.GameEventListener;
+import model.events.GameEventQueue;
+import model.utils.EntityStore;
 import model.utils.FloatPair;
+import model.utils.PhaseTimer;
 import model.utils.SpaceCalculator;
 import view.ViewableSpaceGameModel;
 
 public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpaceGameModel {
 
     private Player player;
-    private final LinkedList<SpaceShip> spaceShips;
+    private final EntityStore<SpaceShip> spaceShips;
     private final HitDetection hitDetection;
-    private final LinkedList<Asteroid> asteroids;
-    private final LinkedList<Bullet> lasers;
-    private final LinkedList<Collectable> collectables;
+    private final EntityStore<Asteroid> asteroids;
+    private final EntityStore<Bullet> lasers;
+    private final EntityStore<Collectable> collectables;
+    private final ParticleStore asteroidBodies;
+    private final ParticleStore laserBodies;
     private Pool<Bullet> laserPool;
 
-    private final Matrix3 rotationMatrix;
-    private final Matrix4 transformMatrix;
-
-    private AnimationCallback animationCallback;
     private ScreenBoundsProvider screenBoundsProvider;
-    private AudioCallback audioCallback;
+    // the screen bounds, fetched from the provider once per tick
+    private final Rectangle screenBounds = new Rectangle();
+
+    // what happened in the ticks since the view last drained them
+    private final GameEventQueue events = new GameEventQueue();
+    private int lastScore = 0;
+    // the score inputs the last score was computed from
+    private int lastSecondsSurvived = 0;
+    private int lastObjectsDestroyed = 0;
+    private int lastShipValue = -1;
+    private int lastResourceCount = 0;
 
     private final ScoreBoard scoreBoard;
     private boolean scoreSubmitted;
@@ -66,22 +74,54 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
 
     private float enemySpawnTimer = 0f;
     private int spawnedShipCounter = 0;
+    private static final int pregeneratedShips = 4;
+    private final ShipStructureGenerator shipStructureGenerator;
+    private EnemyShipFactory enemyShipFactory;
+
+    // fixed timestep. a timestep of 0 means one tick per update
+    private static final int maxTicksPerUpdate = 5;
+    private float fixedTimestep = 0f;
+    private float accumulator = 0f;
+    private float interpolationAlpha = 1f;
 
     private boolean gameOver = false;
     private float timeSinceGameOver = 0f;
 
-    private final Random rng = new Random();
+    private final Random rng;
     private DiamondFactory diamondFactory;
 
+    // timing of the phases of a tick, off unless profiling
+    private final PhaseTimer<SimulationPhase> phaseTimer = new PhaseTimer<>(SimulationPhase.class);
+
     public SpaceGameModel() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a model where every random choice, such as where asteroids and enemy
+     * ships spawn and how enemy ships are built, is drawn from a generator with the
+     * given seed. Two models with the same seed, given the same input, play out the
+     * same way.
+     *
+     * @param seed the seed of the random number generator.
+     */
+    public SpaceGameModel(long seed) {
+        this(new Random(seed));
+    }
 
+    private SpaceGameModel(Random rng) {
+        this.rng = rng;
+        this.shipStructureGenerator = new ShipStructureGenerator(rng.nextLong(), pregeneratedShips);
+        shipStructureGenerator.prepare(numFuselageToSpawn());
         setupPlayer();
-        this.spaceShips = new LinkedList<>();
+        this.spaceShips = new EntityStore<>();
         this.spaceShips.add(player);
 
-        this.asteroids = new LinkedList<>();
-        this.lasers = new LinkedList<>();
-        this.collectables = new LinkedList<>();
+        this.asteroids = new EntityStore<>();
+        this.lasers = new EntityStore<>();
+        this.collectables = new EntityStore<>();
+        this.asteroidBodies = new ParticleStore();
+        this.laserBodies = new ParticleStore();
 
         this.hitDetection = new HitDetection(this);
         scoreBoard = new ScoreBoard(new BasicScoreFormula());
@@ -90,27 +130,27 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
         scoreSubmitted = false;
 
         createDiamondFactory();
+        enemyShipFactory = new EnemyShipFactory(player);
+        events.setShipReleaser(this::releaseShip);
         createAsteroidFactory();
         createLaserPool();
 
         registerColliders();
 
-        this.rotationMatrix = new Matrix3();
-        this.transformMatrix = new Matrix4();
     }
 
     private void createDiamondFactory() {
         int diamondPreFill = 20;
-        diamondFactory = new DiamondFactory();
+        diamondFactory = new DiamondFactory(rng);
         diamondFactory.fill(diamondPreFill);
     }
 
     private void createAsteroidFactory() {
         int asteroidPreFill = 30;
-        randomAsteroidFactory = new RandomAsteroidFactory();
+        randomAsteroidFactory = new RandomAsteroidFactory(rng);
         randomAsteroidFactory.setShip(player);
         randomAsteroidFactory.fill(asteroidPreFill);
-        directionalAsteroidFactory = new DirectionalAsteroidFactory();
+        directionalAsteroidFactory = new DirectionalAsteroidFactory(rng);
         directionalAsteroidFactory.setShip(player);
         directionalAsteroidFactory.fill(asteroidPreFill);
 
@@ -135,75 +175,154 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
     }
 
     protected void createAsteroids() {
-        randomAsteroidFactory.setSpawnPerimeter(screenBoundsProvider.getBounds());
-        directionalAsteroidFactory.setSpawnPerimeter(screenBoundsProvider.getBounds());
+        Rectangle spawnPerimeter = fetchScreenBounds();
+        randomAsteroidFactory.setSpawnPerimeter(spawnPerimeter);
+        directionalAsteroidFactory.setSpawnPerimeter(spawnPerimeter);
 
         if (player.getSpeed() > 0.75 * PhysicsParameters.maxVelocityLongitudonal) {
             for (Asteroid asteroid : directionalAsteroidFactory.getAsteroidShower()) {
-                asteroids.add(asteroid);
-                hitDetection.addCollider(asteroid);
+                addAsteroid(asteroid);
             }
         } else {
             for (Asteroid asteroid : randomAsteroidFactory.getAsteroidShower()) {
-                asteroids.add(asteroid);
-                hitDetection.addCollider(asteroid);
+                addAsteroid(asteroid);
             }
         }
     }
 
+    protected void addAsteroid(Asteroid asteroid) {
+        asteroids.add(asteroid);
+        asteroidBodies.add(asteroid);
+        hitDetection.addCollider(asteroid);
+    }
+
+    private void freeAsteroid(Asteroid asteroid) {
+        asteroidBodies.remove(asteroid);
+        randomAsteroidFactory.free(asteroid);
+        directionalAsteroidFactory.free(asteroid);
+    }
+
+    private void freeLaser(Bullet laser) {
+        laserBodies.remove(laser);
+        laserPool.free(laser);
+    }
+
     private void registerColliders() {
-        hitDetection.addColliders(spaceShips);
-        hitDetection.addColliders(asteroids);
+        hitDetection.addColliders(spaceShips.view());
+        hitDetection.addColliders(asteroids.view());
     }
 
     private Bullet addLaser(float x, float y, float speed, float angle, float radius,
             boolean isPlayerLaser) {
         Bullet laser = laserPool.obtain();
         laser.init(x, y, speed, angle, radius, isPlayerLaser);
-        lasers.addLast(laser);
+        lasers.add(laser);
+        laserBodies.add(laser);
         hitDetection.addCollider(laser);
         return laser;
     }
 
+    /**
+     * Runs the simulation at a fixed tick rate. Each call to {@link #update}
+     * then adds its delta time to an accumulator, and runs as many ticks of
+     * <code>1 / ticksPerSecond</code> seconds as fit in it. What is left over is
+     * used to interpolate the rendered state between the last two ticks.
+     *
+     * @param ticksPerSecond the number of simulation ticks per second.
+     */
+    public void setTickRate(float ticksPerSecond) {
+        if (!(ticksPerSecond > 0f) || Float.isInfinite(ticksPerSecond)) {
+            throw new IllegalArgumentException("Tick rate must be positive and finite");
+        }
+        fixedTimestep = 1f / ticksPerSecond;
+        accumulator = 0f;
+        interpolationAlpha = 0f;
+    }
+
+    /**
+     * Runs one simulation tick per call to {@link #update}, using its delta time
+     * as the time step. This is the default.
+     */
+    public void useVariableTimestep() {
+        fixedTimestep = 0f;
+        accumulator = 0f;
+        interpolationAlpha = 1f;
+    }
+
+    /**
+     * @return true if the simulation runs at a fixed tick rate, false otherwise.
+     */
+    public boolean hasFixedTimestep() {
+        return fixedTimestep > 0f;
+    }
+
     @Override
     public void update(float delta) {
+        if (!hasFixedTimestep()) {
+            tick(delta);
+            return;
+        }
+
+        accumulator += delta;
+        int ticks = 0;
+        while (accumulator >= fixedTimestep && ticks < maxTicksPerUpdate) {
+            tick(fixedTimestep);
+            accumulator -= fixedTimestep;
+            ticks++;
+        }
+        if (accumulator >= fixedTimestep) {
+            // too far behind to catch up, so let the simulation slow down instead
+            accumulator %= fixedTimestep;
+        }
+        interpolationAlpha = accumulator / fixedTimestep;
+    }
+
+    /**
+     * Advances the simulation by one tick. Every body is integrated exactly once.
+     *
+     * @param delta the length of the tick, in seconds.
+     */
+    private void tick(float delta) {
         if (gameOver) {
             timeSinceGameOver += delta;
             return;
         }
 
+        storePreviousStates();
+
         timeSurvived += delta;
         if (player.isDestroyed() && !scoreSubmitted) {
             submitScore();
         }
 
-        for (Asteroid asteroid : asteroids) {
-            asteroid.update(delta);
-        }
+        phaseTimer.begin(SimulationPhase.INTEGRATION);
+        asteroidBodies.integrate(delta);
+        laserBodies.integrate(delta);
+        phaseTimer.end(SimulationPhase.INTEGRATION);
 
-        Iterator<Bullet> laserIterator = lasers.iterator();
-        while (laserIterator.hasNext()) {
-            Bullet laser = laserIterator.next();
-            laser.update(delta);
+        phaseTimer.begin(SimulationPhase.CULLING);
+        fetchScreenBounds();
+        // iterate backwards, so that removing only swaps in already visited bodies
+        for (int i = lasers.size() - 1; i >= 0; i--) {
+            Bullet laser = lasers.get(i);
             if (cullSpaceBody(laser, 3f)) {// Remove if too distant to player
                 hitDetection.removeCollider(laser);
-                laserPool.free(laser);
-                laserIterator.remove();
+                freeLaser(laser);
+                lasers.removeAt(i);
             }
         }
 
-        Iterator<Asteroid> asteroidIterator = asteroids.iterator();
-        while (asteroidIterator.hasNext()) {
-            Asteroid iter = asteroidIterator.next();
-            iter.update(delta);
+        for (int i = asteroids.size() - 1; i >= 0; i--) {
+            Asteroid iter = asteroids.get(i);
             if (cullSpaceBody(iter, 5f)) {// Remove if too distant to player
                 hitDetection.removeCollider(iter);
-                randomAsteroidFactory.free(iter);
-                directionalAsteroidFactory.free(iter);
-                asteroidIterator.remove();
+                freeAsteroid(iter);
+                asteroids.removeAt(i);
             }
         }
+        phaseTimer.end(SimulationPhase.CULLING);
 
+        phaseTimer.begin(SimulationPhase.SPAWNING);
         asteroidTimer += delta;
         if (asteroidTimer > asteroidSpawnTimer()) {
             createAsteroids();
@@ -216,26 +335,65 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
             spawnedShipCounter++;
             enemySpawnTimer = 0f;
         }
+        phaseTimer.end(SimulationPhase.SPAWNING);
 
-        for (SpaceShip spaceShip : spaceShips) {
+        phaseTimer.begin(SimulationPhase.SHIPS);
+        for (int i = 0; i < spaceShips.size(); i++) {
+            SpaceShip spaceShip = spaceShips.get(i);
             spaceShip.update(delta);
             handleShootingLogic(spaceShip);
         }
 
-        // cull distant enemies
-        Iterator<SpaceShip> shipIterator = spaceShips.iterator();
-        if (shipIterator.hasNext()) {
-            shipIterator.next(); // skip player ship
-            while (shipIterator.hasNext()) {
-                SpaceShip iter = shipIterator.next();
-                if (cullSpaceBody(iter, iter.getProximityRadius())) {// Remove if too distant to player
-                    hitDetection.removeCollider(iter);
-                    shipIterator.remove();
-                }
+        // cull distant enemies. the player ship is always first, and is skipped
+        for (int i = spaceShips.size() - 1; i >= 1; i--) {
+            SpaceShip iter = spaceShips.get(i);
+            if (cullSpaceBody(iter, iter.getProximityRadius())) {// Remove if too distant to player
+                hitDetection.removeCollider(iter);
+                spaceShips.removeAt(i);
+                shipDespawned(iter);
             }
         }
+        phaseTimer.end(SimulationPhase.SHIPS);
 
+        phaseTimer.begin(SimulationPhase.COLLISIONS);
         hitDetection.checkCollisions();
+        phaseTimer.end(SimulationPhase.COLLISIONS);
+
+        updateScore();
+    }
+
+    /**
+     * Computes the score again if any of its inputs changed since the last tick,
+     * and tells the view if the score did. Time survived only counts in whole
+     * seconds, so most ticks neither build a <code>GameStats</code> nor sum up
+     * the player's ship.
+     */
+    private void updateScore() {
+        int secondsSurvived = (int) timeSurvived;
+        int shipValue = player.getResourceValue();
+        int resourceCount = player.getInventory().getResourceCount();
+        if (secondsSurvived == lastSecondsSurvived && objectsDestroyed == lastObjectsDestroyed
+                && shipValue == lastShipValue && resourceCount == lastResourceCount) {
+            return;
+        }
+        lastSecondsSurvived = secondsSurvived;
+        lastObjectsDestroyed = objectsDestroyed;
+        lastShipValue = shipValue;
+        lastResourceCount = resourceCount;
+
+        int score = getScore();
+        if (score != lastScore) {
+            lastScore = score;
+            events.pushScoreChanged(score);
+        }
+    }
+
+    private void storePreviousStates() {
+        asteroidBodies.storePreviousState();
+        laserBodies.storePreviousState();
+        for (int i = 0; i < spaceShips.size(); i++) {
+            spaceShips.get(i).storePreviousState();
+        }
     }
 
     private float asteroidSpawnTimer() {
@@ -247,14 +405,15 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
     }
 
     /**
-     * Remove an object if it moves out of range.
+     * Remove an object if it moves out of range of the screen bounds fetched this
+     * tick.
      *
      * @param body   the <code>SpaceBody</code> object to potentially remove.
      * @param offset an additional distance the object needs to exceed before
      *               deletion
      */
     private boolean cullSpaceBody(SpaceBody body, float offset) {
-        Rectangle bounds = this.screenBoundsProvider.getBounds();
+        Rectangle bounds = this.screenBounds;
 
         return (body.getX() + body.getRadius() + offset < bounds.x
                 || body.getY() + body.getRadius() + offset < bounds.y
@@ -350,13 +509,8 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
                     if (drawExplosion) {
                         addAnimationState(c, AnimationType.EXPLOSION);
                     }
-                    for (Asteroid asteroid : asteroids) {
-                        if (asteroid == c) {
-                            asteroids.remove(asteroid);
-                            randomAsteroidFactory.free(asteroid);
-                            directionalAsteroidFactory.free(asteroid);
-                            break;
-                        }
+                    if (asteroids.remove(c)) {
+                        freeAsteroid((Asteroid) c);
                     }
                     playAudio(SoundEffect.SHIP_EXPLOSION_SMALL);
                     break;
@@ -365,47 +519,36 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
                     if (drawExplosion) {
                         addAnimationState(c, AnimationType.EXPLOSION);
                     }
-                    for (Bullet laser : lasers) {
-                        if (laser == c) {
-                            lasers.remove(laser);
-                            laserPool.free(laser);
-                            break;
-                        }
+                    if (lasers.remove(c)) {
+                        freeLaser((Bullet) c);
                     }
+                    break;
 
                 case DIAMOND:
-                    for (Collectable collectable : this.collectables) {
-                        if (collectable == c) {
-                            collectables.remove(c);
-                            if (c instanceof Diamond d) {
-                                diamondFactory.free(d);
-                            }
-                            break;
-                        }
+                    if (collectables.remove(c) && c instanceof Diamond d) {
+                        diamondFactory.free(d);
                     }
+                    break;
 
                 case ENEMY_SHIP:
-                    for (SpaceShip ship : this.spaceShips) {
-                        if (ship == c) {
-                            if (drawExplosion) {
-                                addAnimationState(ship.getAbsoluteCenterOfMass().x(),
-                                        ship.getAbsoluteCenterOfMass().y(),
-                                        ship.getRadius(), AnimationType.EXPLOSION);
-                            }
-                            if (ship.getMass() > 10f) {
-                                playAudio(SoundEffect.SHIP_EXPLOSION_BIG);
-                            } else {
-                                playAudio(SoundEffect.SHIP_EXPLOSION_SMALL);
-                            }
-                            spaceShips.remove(c);
-                            break;
+                    if (c instanceof SpaceShip ship && spaceShips.remove(ship)) {
+                        shipDespawned(ship);
+                        if (drawExplosion) {
+                            addAnimationState(ship.getAbsoluteCenterOfMassX(),
+                                    ship.getAbsoluteCenterOfMassY(),
+                                    ship.getRadius(), AnimationType.EXPLOSION);
+                        }
+                        if (ship.getMass() > 10f) {
+                            playAudio(SoundEffect.SHIP_EXPLOSION_BIG);
+                        } else {
+                            playAudio(SoundEffect.SHIP_EXPLOSION_SMALL);
                         }
                     }
                     break;
 
                 case PLAYER:
                     if (drawExplosion) {
-                        addAnimationState(getPlayerCenterOfMass().x(), getPlayerCenterOfMass().y(), player.getRadius(),
+                        addAnimationState(player.getAbsoluteCenterOfMassX(), player.getAbsoluteCenterOfMassY(), player.getRadius(),
                                 AnimationType.EXPLOSION);
                     }
                     if (player.getMass() > 10f) {
@@ -423,18 +566,38 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
         }
     }
 
+    /**
+     * Reports that a ship left the game. An enemy ship is only returned to the
+     * pool by {@link #releaseShip} once the view has seen it leave.
+     */
+    private void shipDespawned(SpaceShip ship) {
+        events.pushShipDespawned(ship);
+    }
+
+    /**
+     * Returns an enemy ship that left the game to the pool, to be reused by a
+     * later spawn. Called by the event queue holding its despawn event, once the
+     * event has been passed on to the view, so the view never sees a despawned
+     * ship come back as another ship before it has seen it leave.
+     *
+     * @param ship the ship that left the game.
+     */
+    public void releaseShip(SpaceShip ship) {
+        if (ship instanceof EnemyShip enemyShip) {
+            enemyShipFactory.free(enemyShip);
+        }
+    }
+
     private void addAnimationState(Collidable c, AnimationType type) {
-        animationCallback.addAnimationState(new AnimationStateImpl(c, type));
+        events.pushAnimation(c.getX(), c.getY(), c.getRadius(), type);
     }
 
     private void addAnimationState(float x, float y, float radius, AnimationType type) {
-        animationCallback.addAnimationState(new AnimationStateImpl(x, y, radius, type));
+        events.pushAnimation(x, y, radius, type);
     }
 
     private void playAudio(SoundEffect soundEffect) {
-        if (audioCallback != null) {
-            audioCallback.play(soundEffect);
-        }
+        events.pushSound(soundEffect);
     }
 
     private void submitScore() {
@@ -447,6 +610,7 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
                 player.getInventory().getResourceCount());
     }
 
+    @Override
     public void playerShoot() {
         setShipToShoot(player);
     }
@@ -464,19 +628,15 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
     }
 
     protected void handleShootingLogic(SpaceShip ship) {
-        for (GridCell<Turret> turretCell : ship.getTurretGridCells()) {
+        ShipTransformCache cells = ship.getTransformCache();
+        for (int i = 0; i < cells.getTurretCount(); i++) {
 
-            if (!turretCell.value().shoot()) {
+            if (!cells.getTurret(i).shoot()) {
                 continue;
             }
 
-            float x = (float) turretCell.pos().col() + Turret.turretBarrelLocation().x();
-            float y = (float) turretCell.pos().row() + Turret.turretBarrelLocation().y();
-            FloatPair point = SpaceCalculator.rotatePoint(x, y, ship.getRelativeCenterOfMass(),
-                    ship.getAbsoluteCenterOfMass(), ship.getRotationAngle());
-
-            addLaser(point.x(), point.y(), PhysicsParameters.laserVelocity, ship.getRotationAngle() + 90f,
-                    0.125f, ship.isPlayerShip()).setSourceID(ship.getID());
+            addLaser(cells.getTurretX(i), cells.getTurretY(i), PhysicsParameters.laserVelocity,
+                    ship.getRotationAngle() + 90f, 0.125f, ship.isPlayerShip()).setSourceID(ship.getID());
 
             int effect = rng.nextInt(3);
             if (effect == 0) {
@@ -490,48 +650,39 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
     }
 
     /**
-     * Gets the transformed position of a ship based on its rotation
+     * Gets the center of mass coordinates for the player
      *
-     * @param ship the ship to calculate position for
-     * @return the matrix transformation for this ship
+     * @return the x,y coordinates of the player's center of mass
      */
-    public Matrix4 getShipTransformMatrix(SpaceShip ship) {
-        float angle = ship.getRotationAngle();
-
-        // reset the transform matrix
-        transformMatrix.idt();
-
-        // translate the transformation matrix to the ship's center of rotation
-        FloatPair cm = ship.getShipStructure().getCenterOfMass();
-        float x = ship.getX() + cm.x();
-        float y = ship.getY() + cm.y();
-
-        transformMatrix.translate(x, y, 0f);
-
-        // apply rotation
-        rotationMatrix.setToRotation(angle);
-        transformMatrix.mul(new Matrix4().set(rotationMatrix));
-
-        // undo the translation
-        transformMatrix.translate(-x, -y, 0f);
-        return new Matrix4(transformMatrix);
+    public FloatPair getPlayerCenterOfMass() {
+        return player.getAbsoluteCenterOfMass();
     }
 
     /**
-     * Gets the center of mass coordinates for the player
+     * Copies the provider's current screen bounds into the model's own
+     * <code>Rectangle</code>, so the bounds are fetched once rather than once
+     * per body.
      *
-     * @return the x,y coordinates of the player's center of mass
+     * @return the screen bounds, owned by the model.
      */
-    public FloatPair getPlayerCenterOfMass() {
-        return player.getAbsoluteCenterOfMass();
+    private Rectangle fetchScreenBounds() {
+        return screenBoundsProvider.getBounds(screenBounds);
+    }
+
+    private int numFuselageToSpawn() {
+        return 2 + spawnedShipCounter / 2;
     }
 
+    /**
+     * Spawns an enemy ship just outside the screen. Its structure is taken from
+     * the structures pre-generated in the background, so spawning doesn't have
+     * to wait for a structure to be generated.
+     */
     public void spawnRandomShip() {
-        int numFuselage = 2 + spawnedShipCounter / 2;
-        int numUpgrades = rng.nextInt(Math.max(2, numFuselage / 2), numFuselage + 1);
+        int numFuselage = numFuselageToSpawn();
         int stageUpgradeBudget = getScore() / 500;
 
-        Rectangle spawnPerimeter = screenBoundsProvider.getBounds();
+        Rectangle spawnPerimeter = fetchScreenBounds();
 
         float x, y;
         int side = rng.nextInt(4);
@@ -556,20 +707,17 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
                     spawnPerimeter.y + spawnPerimeter.height + numFuselage * PhysicsParameters.fuselageRadius);
         }
 
-        float angle = SpaceCalculator.angleBetweenPoints(player.getAbsoluteCenterOfMass(), new FloatPair(x, y));
-        EnemyShip enemyShip = new EnemyShip(
-                ShipFactory.generateShipStructure(numFuselage, numUpgrades),
-                "enemy",
-                "an enemy ship",
-                x,
-                y,
-                angle);
-
-        enemyShip.setBrain(new EnhancedLerpBrain(enemyShip, player));
-        ShipFactory.upgradeStages(enemyShip, stageUpgradeBudget);
+        float angle = SpaceCalculator.angleBetweenPoints(player.getAbsoluteCenterOfMassX(),
+                player.getAbsoluteCenterOfMassY(), x, y);
+        ShipStructure structure = shipStructureGenerator.take(numFuselage);
+        EnemyShip enemyShip = enemyShipFactory.spawn(structure, x, y, angle);
+        // the ship has its own structure, so this one can be generated into again
+        shipStructureGenerator.recycle(structure);
+        ShipFactory.upgradeStages(enemyShip, stageUpgradeBudget, rng);
 
-        spaceShips.addLast(enemyShip);
+        spaceShips.add(enemyShip);
         hitDetection.addCollider(enemyShip);
+        events.pushShipSpawned(enemyShip);
     }
 
     @Override
@@ -597,9 +745,29 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
         return scoreBoard.getScore(getGameStats());
     }
 
+    /**
+     * @return the timer of the phases of a simulation tick. It is off until it is
+     *         enabled.
+     */
+    public PhaseTimer<SimulationPhase> getPhaseTimer() {
+        return phaseTimer;
+    }
+
+    /**
+     * @return the number of objects registered for collision detection.
+     */
+    public int getColliderCount() {
+        return hitDetection.getColliderCount();
+    }
+
+    @Override
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
     @Override
     public List<SpaceShip> getSpaceShips() {
-        return this.spaceShips;
+        return this.spaceShips.view();
     }
 
     @Override
@@ -609,22 +777,17 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
 
     @Override
     public List<Asteroid> getAsteroids() {
-        return this.asteroids;
+        return this.asteroids.view();
     }
 
     @Override
     public List<Bullet> getLasers() {
-        return this.lasers;
+        return this.lasers.view();
     }
 
     @Override
     public List<Collectable> getCollectables() {
-        return this.collectables;
-    }
-
-    @Override
-    public void setAnimationCallback(AnimationCallback animationCallback) {
-        this.animationCallback = animationCallback;
+        return this.collectables.view();
     }
 
     @Override
@@ -632,8 +795,16 @@ public class SpaceGameModel implements ViewableSpaceGameModel, ControllableSpace
         this.screenBoundsProvider = screenBoundsProvider;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Despawned enemy ships are returned to the pool once they have been passed
+     * to the listener, so the listener must not keep them. If the listener is a
+     * <code>GameEventQueue</code>, the queue returns them instead, through
+     * {@link #releaseShip}, once it has passed them on itself.
+     */
     @Override
-    public void setAudioCallback(AudioCallback audioCallback) {
-        this.audioCallback = audioCallback;
+    public void drainEvents(GameEventListener listener) {
+        events.drain(listener);
     }
 }
@@ -14,4 +14,11 @@ public abstract class Brain {
     }
 
     public abstract void update(float delta);
+
+    /**
+     * Forgets any state kept between updates, so the brain can be reused when its
+     * ship is.
+     */
+    public void reset() {
+    }
 }
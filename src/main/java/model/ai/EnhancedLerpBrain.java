@@ -1,15 +1,17 @@
 package model.ai;
 
+import com.badlogic.gdx.math.Vector2;
+
 import model.SpaceCharacters.Ships.EnemyShip;
 import model.SpaceCharacters.Ships.Player;
 import model.SpaceCharacters.Ships.SpaceShip;
-import model.utils.FloatPair;
 import model.utils.SpaceCalculator;
 
 public class EnhancedLerpBrain extends LerpBrain {
 
     private boolean nearCollision = false;
-    private FloatPair nearCollisionPos = null;
+    private float nearCollisionX = 0f;
+    private float nearCollisionY = 0f;
     private float nearCollisionProximity = 0f;
     private final float nearCollisionScalar = 4f;
 
@@ -22,8 +24,8 @@ public class EnhancedLerpBrain extends LerpBrain {
         // lerp the rotation angle towards the player,
         // and apply rotational velocity limit if necessary
         float angle = SpaceCalculator.angleBetweenPoints(
-                ship.getAbsoluteCenterOfMass(),
-                player.getAbsoluteCenterOfMass());
+                ship.getAbsoluteCenterOfMassX(), ship.getAbsoluteCenterOfMassY(),
+                player.getAbsoluteCenterOfMassX(), player.getAbsoluteCenterOfMassY());
 
         float maxDeltaAngle = ship.maxRotationalVelocity() * deltaTime;
 
@@ -48,47 +50,48 @@ public class EnhancedLerpBrain extends LerpBrain {
     }
 
     @Override
-    protected FloatPair newPositionDelta(float delta) {
-        FloatPair deltaPos = avoidNearCollision(delta);
+    protected Vector2 newPositionDelta(float delta, Vector2 out) {
+        avoidNearCollision(delta, out);
         float maxDistance = ship.maxSpeed() * delta;
-        float distance = SpaceCalculator.distance(deltaPos.x(), deltaPos.y());
+        float distance = out.len();
 
         if (distance <= maxDistance) {
-            return deltaPos;
+            return out;
         }
 
         // need to limit distance according to max speed
-        float distanceFactor = maxDistance / distance;
-        return new FloatPair(deltaPos.x() * distanceFactor, deltaPos.y() * distanceFactor);
+        return out.scl(maxDistance / distance);
     }
 
-    private FloatPair avoidNearCollision(float delta) {
-        FloatPair deltaPos = super.newPositionDelta(delta);
+    private Vector2 avoidNearCollision(float delta, Vector2 out) {
+        super.newPositionDelta(delta, out);
         if (!nearCollision) {
-            return deltaPos;
+            return out;
         }
         nearCollision = false;
 
         // direction from brain's ship to a nearby ship
-        FloatPair direction = new FloatPair(ship.getAbsoluteCenterOfMass().x() - nearCollisionPos.x(),
-                ship.getAbsoluteCenterOfMass().y() - nearCollisionPos.y());
+        float directionX = ship.getAbsoluteCenterOfMassX() - nearCollisionX;
+        float directionY = ship.getAbsoluteCenterOfMassY() - nearCollisionY;
 
-        float norm = SpaceCalculator.distance(direction.x(), direction.y());
-        float distanceToOtherShip = SpaceCalculator.distance(ship.getAbsoluteCenterOfMass(), nearCollisionPos);
+        float norm = SpaceCalculator.distance(directionX, directionY);
+        float distanceToOtherShip = norm;
 
         // amount of repulsion from other ship
         float scaleFactor = nearCollisionScalar * delta
                 / ((float) Math.pow(distanceToOtherShip - nearCollisionProximity, 2f) * norm);
 
-        // wanted escape delta
-        FloatPair target = new FloatPair(scaleFactor * direction.x(),
-                scaleFactor * direction.y());
-
         // lerp the deltaPos towards the target escape delta
-        FloatPair collisionAvoidance = SpaceCalculator.lerp2D(deltaPos,
-                new FloatPair(deltaPos.x() + target.x(), deltaPos.y() + target.y()), delta);
+        return SpaceCalculator.lerp2D(out.x, out.y, out.x + scaleFactor * directionX,
+                out.y + scaleFactor * directionY, delta, out);
+    }
 
-        return collisionAvoidance;
+    @Override
+    public void reset() {
+        nearCollision = false;
+        nearCollisionX = 0f;
+        nearCollisionY = 0f;
+        nearCollisionProximity = 0f;
     }
 
     // if too close to a ship, try to avoid collision
@@ -101,7 +104,8 @@ public class EnhancedLerpBrain extends LerpBrain {
         }
 
         nearCollision = true;
-        nearCollisionPos = otherShip.getAbsoluteCenterOfMass();
+        nearCollisionX = otherShip.getAbsoluteCenterOfMassX();
+        nearCollisionY = otherShip.getAbsoluteCenterOfMassY();
         nearCollisionProximity = newProximity;
     }
 }
@@ -1,12 +1,17 @@
 package model.ai;
 
+import com.badlogic.gdx.math.Vector2;
+
 import model.SpaceCharacters.Ships.EnemyShip;
 import model.SpaceCharacters.Ships.Player;
-import model.utils.FloatPair;
 import model.utils.SpaceCalculator;
 
 public class LerpBrain extends Brain implements ShooterBrain {
 
+    // scratch vectors, so that an update doesn't allocate
+    protected final Vector2 deltaPos = new Vector2();
+    protected final Vector2 scratch = new Vector2();
+
     public LerpBrain(EnemyShip ship, Player player) {
         super(ship, player);
     }
@@ -14,15 +19,16 @@ public class LerpBrain extends Brain implements ShooterBrain {
     @Override
     public void update(float delta) {
         ship.setRotation(newAngle(delta));
-        ship.translate(newPositionDelta(delta));
+        newPositionDelta(delta, deltaPos);
+        ship.translate(deltaPos.x, deltaPos.y);
         shoot(inFiringRange());
     }
 
     protected float newAngle(float delta) {
         // lerp the rotation angle towards the player
         float angle = SpaceCalculator.angleBetweenPoints(
-                ship.getAbsoluteCenterOfMass(),
-                player.getAbsoluteCenterOfMass());
+                ship.getAbsoluteCenterOfMassX(), ship.getAbsoluteCenterOfMassY(),
+                player.getAbsoluteCenterOfMassX(), player.getAbsoluteCenterOfMassY());
 
         float newAngle;
         float lerpAlpha = 1.75f * delta;
@@ -34,17 +40,22 @@ public class LerpBrain extends Brain implements ShooterBrain {
         return newAngle;
     }
 
-    protected FloatPair newPositionDelta(float delta) {
+    /**
+     * Computes how far the ship should move this update.
+     *
+     * @param delta the time since the last update.
+     * @param out   the <code>Vector2</code> to store the movement in.
+     * @return <code>out</code>, holding the movement.
+     */
+    protected Vector2 newPositionDelta(float delta, Vector2 out) {
         // lerp the position towards the player, at a "safe" hover-distance
-        FloatPair target = SpaceCalculator.getPointAtDistance(ship.getAbsoluteCenterOfMass(),
-                player.getAbsoluteCenterOfMass(), hoverDistance());
-
-        FloatPair newPos = SpaceCalculator.lerp2D(ship.getAbsoluteCenterOfMass(), target, 3f * delta);
-
-        FloatPair deltaPos = new FloatPair(newPos.x() - ship.getAbsoluteCenterOfMass().x(),
-                newPos.y() - ship.getAbsoluteCenterOfMass().y());
+        float shipX = ship.getAbsoluteCenterOfMassX();
+        float shipY = ship.getAbsoluteCenterOfMassY();
+        Vector2 target = SpaceCalculator.getPointAtDistance(shipX, shipY,
+                player.getAbsoluteCenterOfMassX(), player.getAbsoluteCenterOfMassY(), hoverDistance(), scratch);
 
-        return deltaPos;
+        SpaceCalculator.lerp2D(shipX, shipY, target.x, target.y, 3f * delta, out);
+        return out.sub(shipX, shipY);
     }
 
     protected float hoverDistance() {
@@ -58,7 +69,8 @@ public class LerpBrain extends Brain implements ShooterBrain {
 
     @Override
     public boolean inFiringRange() {
-        float distance = SpaceCalculator.distance(ship.getAbsoluteCenterOfMass(), player.getAbsoluteCenterOfMass());
+        float distance = SpaceCalculator.distance(ship.getAbsoluteCenterOfMassX(), ship.getAbsoluteCenterOfMassY(),
+                player.getAbsoluteCenterOfMassX(), player.getAbsoluteCenterOfMassY());
         return distance < 1.35f * hoverDistance();
     }
 }
@@ -0,0 +1,24 @@
+package model.collision;
+
+/**
+ * A broad phase that reports every pair of bodies. This is the plain
+ * O(n<sup>2</sup>) scan, useful as a reference for the other broad phases.
+ */
+public class AllPairsBroadPhase implements BroadPhase {
+
+    private int count;
+
+    @Override
+    public void update(int[] ids, float[] x, float[] y, float[] radius, int count) {
+        this.count = count;
+    }
+
+    @Override
+    public int queryPartners(int index, int[] partners) {
+        int found = 0;
+        for (int j = index + 1; j < count; j++) {
+            partners[found++] = j;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,305 @@
+package model.collision;
+
+import java.util.Arrays;
+
+/**
+ * A quadtree of bounding circles over a set of equally sized circles, such as
+ * the fuselage cells of a ship.
+ * <p>
+ * The tree is built once from the local positions of the circles, and then
+ * moved rigidly with {@link #transform}, which only moves the node centers as
+ * rigid motion does not change any radius. Overlap tests descend the tree and
+ * discard every subtree whose bounding circle is out of reach, so two ships
+ * far enough apart that only a few of their cells are close only compare those
+ * cells.
+ */
+public class BoundingCircleTree {
+
+    private static final int none = -1;
+
+    // nodes, with the root at index 0. children of node n are the nodes
+    // childStart[n] to childStart[n] + childCount[n] - 1
+    private float[] localX = new float[0];
+    private float[] localY = new float[0];
+    private float[] worldX = new float[0];
+    private float[] worldY = new float[0];
+    private float[] radius = new float[0];
+    private int[] childStart = new int[0];
+    private int[] childCount = new int[0];
+    private int[] leafIndex = new int[0];
+    private int nodeCount;
+
+    // scratch space for building and searching
+    private int[] order = new int[0];
+    private int[] stack = new int[0];
+
+    /**
+     * Rebuilds the tree.
+     *
+     * @param x          the local x coordinates of the circles.
+     * @param y          the local y coordinates of the circles.
+     * @param count      the number of circles.
+     * @param cellRadius the radius of each circle.
+     */
+    public void build(float[] x, float[] y, int count, float cellRadius) {
+        nodeCount = 0;
+        if (count == 0) {
+            return;
+        }
+
+        ensureNodeCapacity(2 * count);
+        if (order.length < count) {
+            order = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+
+        int root = allocateNode();
+        buildNode(root, x, y, 0, count, cellRadius);
+        System.arraycopy(localX, 0, worldX, 0, nodeCount);
+        System.arraycopy(localY, 0, worldY, 0, nodeCount);
+    }
+
+    private void buildNode(int node, float[] x, float[] y, int from, int to, float cellRadius) {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int k = from; k < to; k++) {
+            int i = order[k];
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+
+        float cx = (minX + maxX) / 2f;
+        float cy = (minY + maxY) / 2f;
+        float maxDistanceSquared = 0f;
+        for (int k = from; k < to; k++) {
+            int i = order[k];
+            float dx = x[i] - cx;
+            float dy = y[i] - cy;
+            maxDistanceSquared = Math.max(maxDistanceSquared, dx * dx + dy * dy);
+        }
+        localX[node] = cx;
+        localY[node] = cy;
+        radius[node] = (float) Math.sqrt(maxDistanceSquared) + cellRadius;
+
+        if (to - from == 1) {
+            leafIndex[node] = order[from];
+            childStart[node] = none;
+            childCount[node] = 0;
+            return;
+        }
+        if (minX == maxX && minY == maxY) {
+            // several circles at the same position can't be split into quadrants
+            addCoincidentLeaves(node, from, to, cx, cy, cellRadius);
+            return;
+        }
+
+        // partition into the four quadrants around the center
+        int splitY = partition(from, to, y, cy);
+        int splitLeft = partition(from, splitY, x, cx);
+        int splitRight = partition(splitY, to, x, cx);
+        int[] bounds = { from, splitLeft, splitY, splitRight, to };
+
+        int children = 0;
+        for (int q = 0; q < 4; q++) {
+            if (bounds[q + 1] > bounds[q]) {
+                children++;
+            }
+        }
+        leafIndex[node] = none;
+        childStart[node] = nodeCount;
+        childCount[node] = children;
+        int child = nodeCount;
+        for (int q = 0; q < children; q++) {
+            allocateNode();
+        }
+        for (int q = 0; q < 4; q++) {
+            if (bounds[q + 1] > bounds[q]) {
+                buildNode(child++, x, y, bounds[q], bounds[q + 1], cellRadius);
+            }
+        }
+    }
+
+    private void addCoincidentLeaves(int node, int from, int to, float cx, float cy, float cellRadius) {
+        leafIndex[node] = none;
+        childStart[node] = nodeCount;
+        childCount[node] = to - from;
+        for (int q = from; q < to; q++) {
+            allocateNode();
+        }
+        int leaf = childStart[node];
+        for (int k = from; k < to; k++, leaf++) {
+            localX[leaf] = cx;
+            localY[leaf] = cy;
+            radius[leaf] = cellRadius;
+            leafIndex[leaf] = order[k];
+            childStart[leaf] = none;
+            childCount[leaf] = 0;
+        }
+    }
+
+    /**
+     * Moves the circles with <code>value &lt; pivot</code> before the others.
+     *
+     * @return the index of the first circle with <code>value &gt;= pivot</code>.
+     */
+    private int partition(int from, int to, float[] value, float pivot) {
+        int split = from;
+        for (int k = from; k < to; k++) {
+            if (value[order[k]] < pivot) {
+                int swap = order[split];
+                order[split] = order[k];
+                order[k] = swap;
+                split++;
+            }
+        }
+        return split;
+    }
+
+    private int allocateNode() {
+        ensureNodeCapacity(nodeCount + 1);
+        return nodeCount++;
+    }
+
+    private void ensureNodeCapacity(int nodes) {
+        if (localX.length >= nodes) {
+            return;
+        }
+        int capacity = Math.max(nodes, 2 * localX.length);
+        localX = Arrays.copyOf(localX, capacity);
+        localY = Arrays.copyOf(localY, capacity);
+        worldX = Arrays.copyOf(worldX, capacity);
+        worldY = Arrays.copyOf(worldY, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        childStart = Arrays.copyOf(childStart, capacity);
+        childCount = Arrays.copyOf(childCount, capacity);
+        leafIndex = Arrays.copyOf(leafIndex, capacity);
+    }
+
+    /**
+     * Moves the tree to world space, by rotating each node center about the
+     * local pivot, and then moving the pivot to its world position.
+     *
+     * @param pivotX      the local x coordinate of the pivot.
+     * @param pivotY      the local y coordinate of the pivot.
+     * @param worldPivotX the world x coordinate of the pivot.
+     * @param worldPivotY the world y coordinate of the pivot.
+     * @param cos         the cosine of the rotation angle.
+     * @param sin         the sine of the rotation angle.
+     */
+    public void transform(float pivotX, float pivotY, float worldPivotX, float worldPivotY, float cos,
+            float sin) {
+        for (int n = 0; n < nodeCount; n++) {
+            float dx = localX[n] - pivotX;
+            float dy = localY[n] - pivotY;
+            worldX[n] = worldPivotX + cos * dx - sin * dy;
+            worldY[n] = worldPivotY + sin * dx + cos * dy;
+        }
+    }
+
+    /**
+     * @return true if any circle of the tree overlaps the given circle, false
+     *         otherwise.
+     */
+    public boolean overlapsCircle(float x, float y, float r) {
+        if (nodeCount == 0) {
+            return false;
+        }
+        ensureStackCapacity(nodeCount);
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!overlaps(worldX[node], worldY[node], radius[node], x, y, r)) {
+                continue;
+            }
+            if (leafIndex[node] != none) {
+                return true;
+            }
+            for (int c = 0; c < childCount[node]; c++) {
+                stack[top++] = childStart[node] + c;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Descends both trees at the same time, always splitting the larger of two
+     * overlapping nodes, until two overlapping leaves are found.
+     *
+     * @return true if any circle of <code>this</code> overlaps any circle of
+     *         <code>other</code>, false otherwise.
+     */
+    public boolean overlapsTree(BoundingCircleTree other) {
+        if (nodeCount == 0 || other.nodeCount == 0) {
+            return false;
+        }
+        // each step pops one pair and pushes at most four
+        ensureStackCapacity(2 * (3 * (nodeCount + other.nodeCount) + 1));
+
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int nodeB = stack[--top];
+            int nodeA = stack[--top];
+            if (!overlaps(worldX[nodeA], worldY[nodeA], radius[nodeA], other.worldX[nodeB],
+                    other.worldY[nodeB], other.radius[nodeB])) {
+                continue;
+            }
+
+            boolean leafA = leafIndex[nodeA] != none;
+            boolean leafB = other.leafIndex[nodeB] != none;
+            if (leafA && leafB) {
+                return true;
+            }
+
+            if (leafB || (!leafA && radius[nodeA] >= other.radius[nodeB])) {
+                for (int c = 0; c < childCount[nodeA]; c++) {
+                    stack[top++] = childStart[nodeA] + c;
+                    stack[top++] = nodeB;
+                }
+            } else {
+                for (int c = 0; c < other.childCount[nodeB]; c++) {
+                    stack[top++] = nodeA;
+                    stack[top++] = other.childStart[nodeB] + c;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(float xA, float yA, float rA, float xB, float yB, float rB) {
+        float dx = xA - xB;
+        float dy = yA - yB;
+        float reach = rA + rB;
+        return dx * dx + dy * dy < reach * reach;
+    }
+
+    private void ensureStackCapacity(int size) {
+        if (stack.length < size) {
+            stack = new int[Math.max(size, 2 * stack.length)];
+        }
+    }
+
+    /**
+     * @return the number of nodes in the tree.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the radius of the bounding circle of the whole tree, or 0 if the
+     *         tree is empty.
+     */
+    public float getRootRadius() {
+        return nodeCount == 0 ? 0f : radius[0];
+    }
+}
@@ -0,0 +1,38 @@
+package model.collision;
+
+/**
+ * A broad phase finds the pairs of bodies that might be colliding, so that the
+ * more expensive narrow phase only has to run on those pairs.
+ * <p>
+ * Bodies are given as parallel arrays of bounding circles. A broad phase may
+ * report pairs that don't overlap, but must never leave out a pair whose
+ * bounding circles do.
+ */
+public interface BroadPhase {
+
+    /**
+     * Updates the broad phase with the current bounding circles of
+     * <code>count</code> bodies.
+     *
+     * @param ids    a stable, non-negative identifier for each body. A body keeps
+     *               its id for as long as it is registered, even if its index
+     *               changes. Implementations keeping state between updates use
+     *               this to track bodies across frames.
+     * @param x      the x coordinates of the bodies.
+     * @param y      the y coordinates of the bodies.
+     * @param radius the radii of the bodies.
+     * @param count  the number of bodies.
+     */
+    void update(int[] ids, float[] x, float[] y, float[] radius, int count);
+
+    /**
+     * Finds the candidate partners of a body among the bodies with a greater
+     * index. Partners are reported once each, in ascending order.
+     *
+     * @param index    the index of the body, as given in the last update.
+     * @param partners the array to write partner indices into. Must be able to
+     *                 hold as many values as there are bodies.
+     * @return the number of partners written to <code>partners</code>.
+     */
+    int queryPartners(int index, int[] partners);
+}
@@ -0,0 +1,217 @@
+package model.collision;
+
+import java.util.Arrays;
+
+/**
+ * A uniform spatial hash used as a broad phase for hit detection.
+ * <p>
+ * Every body is described by a bounding circle, and is inserted into each
+ * square cell its bounding box overlaps. Two bodies can only be within
+ * proximity of each other if they share at least one cell, so only those
+ * pairs need to be handed to the narrow phase.
+ * <p>
+ * All storage is kept in primitive arrays that grow on demand and are reused
+ * between rebuilds, so a steady-state rebuild does not allocate.
+ */
+public class SpatialHashGrid implements BroadPhase {
+
+    public static final float defaultCellSize = 4f;
+
+    private static final int emptySlot = -1;
+
+    private final float cellSize;
+
+    // bounds of the bodies, in cell coordinates
+    private int[] minCellX = new int[0];
+    private int[] minCellY = new int[0];
+    private int[] maxCellX = new int[0];
+    private int[] maxCellY = new int[0];
+    private int bodyCount;
+
+    // open addressing hash table from a cell key to the first entry in that cell
+    private long[] tableKeys = new long[0];
+    private int[] tableHeads = new int[0];
+    private int tableMask;
+
+    // entries form singly linked lists of the bodies in each cell
+    private int[] entryBody = new int[0];
+    private int[] entryNext = new int[0];
+    private int entryCount;
+
+    // the last body that reported a given body as candidate, used for de-duplication
+    private int[] lastSeenBy = new int[0];
+
+    public SpatialHashGrid() {
+        this(defaultCellSize);
+    }
+
+    /**
+     * @param cellSize the side length of each cell, in world units.
+     * @throws IllegalArgumentException if <code>cellSize</code> is not positive.
+     */
+    public SpatialHashGrid(float cellSize) {
+        if (!(cellSize > 0f)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public void update(int[] ids, float[] x, float[] y, float[] radius, int count) {
+        rebuild(x, y, radius, count);
+    }
+
+    /**
+     * Rebuilds the grid from the bounding circles of <code>count</code> bodies.
+     * Body <code>i</code> is centered at <code>(x[i], y[i])</code> with radius
+     * <code>radius[i]</code>.
+     *
+     * @param x      the x coordinates of the bodies.
+     * @param y      the y coordinates of the bodies.
+     * @param radius the radii of the bodies.
+     * @param count  the number of bodies to insert.
+     */
+    public void rebuild(float[] x, float[] y, float[] radius, int count) {
+        ensureBodyCapacity(count);
+        bodyCount = count;
+        entryCount = 0;
+
+        int cellsNeeded = 0;
+        for (int i = 0; i < count; i++) {
+            minCellX[i] = toCell(x[i] - radius[i]);
+            minCellY[i] = toCell(y[i] - radius[i]);
+            maxCellX[i] = toCell(x[i] + radius[i]);
+            maxCellY[i] = toCell(y[i] + radius[i]);
+            cellsNeeded += (maxCellX[i] - minCellX[i] + 1) * (maxCellY[i] - minCellY[i] + 1);
+        }
+
+        ensureEntryCapacity(cellsNeeded);
+        ensureTableCapacity(cellsNeeded);
+        Arrays.fill(tableHeads, emptySlot);
+
+        for (int i = 0; i < count; i++) {
+            for (int cx = minCellX[i]; cx <= maxCellX[i]; cx++) {
+                for (int cy = minCellY[i]; cy <= maxCellY[i]; cy++) {
+                    insert(cx, cy, i);
+                }
+            }
+            lastSeenBy[i] = emptySlot;
+        }
+    }
+
+    /**
+     * Finds every body with an index greater than <code>index</code> sharing at
+     * least one cell with it. Each partner is reported once, in ascending order,
+     * which preserves the iteration order of an all-pairs scan.
+     *
+     * @param index    the body to find partners for.
+     * @param partners the array to write partner indices into. Must be able to
+     *                 hold {@link #bodyCount()} values.
+     * @return the number of partners written to <code>partners</code>.
+     */
+    @Override
+    public int queryPartners(int index, int[] partners) {
+        int found = 0;
+        for (int cx = minCellX[index]; cx <= maxCellX[index]; cx++) {
+            for (int cy = minCellY[index]; cy <= maxCellY[index]; cy++) {
+                int entry = head(cx, cy);
+                while (entry != emptySlot) {
+                    int other = entryBody[entry];
+                    if (other > index && lastSeenBy[other] != index) {
+                        lastSeenBy[other] = index;
+                        partners[found++] = other;
+                    }
+                    entry = entryNext[entry];
+                }
+            }
+        }
+        Arrays.sort(partners, 0, found);
+        return found;
+    }
+
+    /**
+     * @return the number of bodies inserted by the last rebuild.
+     */
+    public int bodyCount() {
+        return bodyCount;
+    }
+
+    private int toCell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slot(int cx, int cy) {
+        long key = key(cx, cy);
+        int slot = hash(key) & tableMask;
+        while (tableHeads[slot] != emptySlot && tableKeys[slot] != key) {
+            slot = (slot + 1) & tableMask;
+        }
+        tableKeys[slot] = key;
+        return slot;
+    }
+
+    private int head(int cx, int cy) {
+        long key = key(cx, cy);
+        int slot = hash(key) & tableMask;
+        while (tableHeads[slot] != emptySlot) {
+            if (tableKeys[slot] == key) {
+                return tableHeads[slot];
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return emptySlot;
+    }
+
+    private void insert(int cx, int cy, int body) {
+        int slot = slot(cx, cy);
+        int entry = entryCount++;
+        entryBody[entry] = body;
+        entryNext[entry] = tableHeads[slot];
+        tableHeads[slot] = entry;
+    }
+
+    private void ensureBodyCapacity(int count) {
+        if (minCellX.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, 2 * minCellX.length);
+        minCellX = new int[capacity];
+        minCellY = new int[capacity];
+        maxCellX = new int[capacity];
+        maxCellY = new int[capacity];
+        lastSeenBy = new int[capacity];
+    }
+
+    private void ensureEntryCapacity(int count) {
+        if (entryBody.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, 2 * entryBody.length);
+        entryBody = new int[capacity];
+        entryNext = new int[capacity];
+    }
+
+    private void ensureTableCapacity(int cells) {
+        // keep the load factor at or below one half
+        int capacity = Integer.highestOneBit(Math.max(16, 2 * cells) - 1) << 1;
+        if (tableHeads.length >= capacity) {
+            return;
+        }
+        tableKeys = new long[capacity];
+        tableHeads = new int[capacity];
+        tableMask = capacity - 1;
+    }
+}
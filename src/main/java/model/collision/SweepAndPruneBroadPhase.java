@@ -0,0 +1,203 @@
+package model.collision;
+
+import java.util.Arrays;
+
+/**
+ * A sort-and-sweep broad phase along the x axis.
+ * <p>
+ * The bodies are kept sorted by the lower x endpoint of their bounding boxes.
+ * The sorted order and the endpoint arrays are kept between updates, and are
+ * re-sorted with insertion sort. Bodies only move a little each tick, so the
+ * order is nearly sorted already and the re-sort is close to linear.
+ * <p>
+ * A sweep over the sorted bodies then finds every pair whose x intervals
+ * overlap, and keeps the ones whose y intervals overlap as well.
+ */
+public class SweepAndPruneBroadPhase implements BroadPhase {
+
+    private static final int absent = -1;
+
+    // endpoints of the bounding boxes, indexed by body id
+    private float[] minX = new float[0];
+    private float[] maxX = new float[0];
+    private float[] minY = new float[0];
+    private float[] maxY = new float[0];
+
+    // current index of each body id, or absent
+    private int[] indexOfId = new int[0];
+    private boolean[] isSorted = new boolean[0];
+
+    // body ids, sorted by minX
+    private int[] order = new int[0];
+    private int orderCount;
+
+    // overlapping pairs from the last sweep, as (lower index, higher index)
+    private int[] pairLow = new int[0];
+    private int[] pairHigh = new int[0];
+    private int pairCount;
+
+    // pairs grouped by lower index: partners of index i are in
+    // partnerData[partnerStart[i], partnerStart[i + 1])
+    private int[] partnerStart = new int[1];
+    private int[] partnerData = new int[0];
+    private int bodyCount;
+
+    @Override
+    public void update(int[] ids, float[] x, float[] y, float[] radius, int count) {
+        bodyCount = count;
+        ensureIdCapacity(maxId(ids, count) + 1);
+
+        for (int k = 0; k < orderCount; k++) {
+            indexOfId[order[k]] = absent;
+        }
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            indexOfId[id] = i;
+            minX[id] = x[i] - radius[i];
+            maxX[id] = x[i] + radius[i];
+            minY[id] = y[i] - radius[i];
+            maxY[id] = y[i] + radius[i];
+        }
+
+        removeAbsentBodies();
+        appendNewBodies(ids, count);
+        insertionSort();
+        sweep();
+        groupPairs();
+    }
+
+    @Override
+    public int queryPartners(int index, int[] partners) {
+        int start = partnerStart[index];
+        int found = partnerStart[index + 1] - start;
+        System.arraycopy(partnerData, start, partners, 0, found);
+        return found;
+    }
+
+    /**
+     * @return the number of overlapping pairs found in the last update.
+     */
+    public int pairCount() {
+        return pairCount;
+    }
+
+    private void removeAbsentBodies() {
+        int kept = 0;
+        for (int k = 0; k < orderCount; k++) {
+            int id = order[k];
+            if (indexOfId[id] == absent) {
+                isSorted[id] = false;
+            } else {
+                order[kept++] = id;
+            }
+        }
+        orderCount = kept;
+    }
+
+    private void appendNewBodies(int[] ids, int count) {
+        if (order.length < count) {
+            order = Arrays.copyOf(order, Math.max(count, 2 * order.length));
+        }
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            if (!isSorted[id]) {
+                isSorted[id] = true;
+                order[orderCount++] = id;
+            }
+        }
+    }
+
+    private void insertionSort() {
+        for (int k = 1; k < orderCount; k++) {
+            int id = order[k];
+            float key = minX[id];
+            int j = k - 1;
+            while (j >= 0 && minX[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = id;
+        }
+    }
+
+    private void sweep() {
+        pairCount = 0;
+        for (int a = 0; a < orderCount; a++) {
+            int idA = order[a];
+            float maxXA = maxX[idA];
+            for (int b = a + 1; b < orderCount; b++) {
+                int idB = order[b];
+                if (minX[idB] > maxXA) {
+                    break;
+                }
+                if (minY[idB] > maxY[idA] || minY[idA] > maxY[idB]) {
+                    continue;
+                }
+                addPair(indexOfId[idA], indexOfId[idB]);
+            }
+        }
+    }
+
+    private void addPair(int indexA, int indexB) {
+        if (pairCount == pairLow.length) {
+            int capacity = Math.max(16, 2 * pairLow.length);
+            pairLow = Arrays.copyOf(pairLow, capacity);
+            pairHigh = Arrays.copyOf(pairHigh, capacity);
+        }
+        pairLow[pairCount] = Math.min(indexA, indexB);
+        pairHigh[pairCount] = Math.max(indexA, indexB);
+        pairCount++;
+    }
+
+    private void groupPairs() {
+        if (partnerStart.length < bodyCount + 2) {
+            partnerStart = new int[Math.max(bodyCount + 2, 2 * partnerStart.length)];
+        }
+        if (partnerData.length < pairCount) {
+            partnerData = new int[Math.max(pairCount, 2 * partnerData.length)];
+        }
+
+        // counting sort of the pairs by their lower index
+        Arrays.fill(partnerStart, 0, bodyCount + 2, 0);
+        for (int p = 0; p < pairCount; p++) {
+            partnerStart[pairLow[p] + 2]++;
+        }
+        for (int i = 2; i < bodyCount + 2; i++) {
+            partnerStart[i] += partnerStart[i - 1];
+        }
+        for (int p = 0; p < pairCount; p++) {
+            partnerData[partnerStart[pairLow[p] + 1]++] = pairHigh[p];
+        }
+
+        for (int i = 0; i < bodyCount; i++) {
+            Arrays.sort(partnerData, partnerStart[i], partnerStart[i + 1]);
+        }
+    }
+
+    private static int maxId(int[] ids, int count) {
+        int max = -1;
+        for (int i = 0; i < count; i++) {
+            if (ids[i] < 0) {
+                throw new IllegalArgumentException("Body ids can't be negative");
+            }
+            max = Math.max(max, ids[i]);
+        }
+        return max;
+    }
+
+    private void ensureIdCapacity(int ids) {
+        if (minX.length >= ids) {
+            return;
+        }
+        int capacity = Math.max(ids, 2 * minX.length);
+        minX = Arrays.copyOf(minX, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        isSorted = Arrays.copyOf(isSorted, capacity);
+
+        int oldCapacity = indexOfId.length;
+        indexOfId = Arrays.copyOf(indexOfId, capacity);
+        Arrays.fill(indexOfId, oldCapacity, capacity, absent);
+    }
+}
@@ -17,4 +17,6 @@ public final class PhysicsParameters {
     public static final float accelerationLimitLongitudonal = 12f;
 
     public static final float accelerationLimitRotational = 360f;
+
+    public static final float simulationTickRate = 60f;
 }
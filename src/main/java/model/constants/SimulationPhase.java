@@ -0,0 +1,14 @@
+package model.constants;
+
+/**
+ * The phases of a simulation tick, as timed by the model. Culling covers
+ * asteroids and lasers, while distant enemy ships are culled as part of
+ * updating the ships.
+ */
+public enum SimulationPhase {
+    INTEGRATION,
+    CULLING,
+    SPAWNING,
+    SHIPS,
+    COLLISIONS,
+}
@@ -0,0 +1,40 @@
+package model.events;
+
+import controller.audio.AudioCallback;
+import controller.audio.SoundEffect;
+import model.ShipLifecycleCallback;
+import model.Animation.AnimationCallback;
+import model.Animation.AnimationType;
+import model.SpaceCharacters.Ships.SpaceShip;
+
+/**
+ * Receives the events drained from a {@link GameEventQueue}, one method per
+ * {@link GameEventType}. Every method does nothing by default, so a listener
+ * only overrides the events it cares about.
+ */
+public interface GameEventListener extends AnimationCallback, AudioCallback, ShipLifecycleCallback {
+
+    @Override
+    default void addAnimationState(float x, float y, float radius, AnimationType type) {
+    }
+
+    @Override
+    default void play(SoundEffect soundEffect) {
+    }
+
+    @Override
+    default void shipSpawned(SpaceShip ship) {
+    }
+
+    @Override
+    default void shipDespawned(SpaceShip ship) {
+    }
+
+    /**
+     * Called when the score has changed since the last tick.
+     *
+     * @param score the new score.
+     */
+    default void scoreChanged(int score) {
+    }
+}
@@ -0,0 +1,359 @@
+package model.events;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import controller.audio.SoundEffect;
+import model.Animation.AnimationType;
+import model.SpaceCharacters.Ships.SpaceShip;
+
+/**
+ * The events the model has reported since the view last drained them, in the
+ * order they happened.
+ * <p>
+ * Events are kept in preallocated parallel arrays rather than as objects, so
+ * reporting one doesn't allocate. The arrays only grow, by doubling, if more
+ * events than the capacity are reported between two drains. Events aren't
+ * dropped, since the view relies on seeing every spawn and despawn.
+ * <p>
+ * A sound that is already queued isn't queued again until the next drain, so
+ * that a volley of lasers or a chain of explosions plays each sound once per
+ * frame.
+ * <p>
+ * Each event is stamped with the simulation tick set by {@link #setTick}, so
+ * that a queue can be used as a log that is read from more than once. The
+ * queue is also a {@link GameEventListener}, so that draining one queue into
+ * another appends the events to it.
+ * <p>
+ * A ship that left the game may still be referred to by its despawn event, so
+ * it is only released, by the releaser set with {@link #setShipReleaser}, once
+ * its despawn event leaves the queue for good: when it has been drained to a
+ * listener, discarded or cleared. Draining into another queue moves the events
+ * without releasing their ships, and the other queue releases them instead.
+ */
+public class GameEventQueue implements GameEventListener {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final GameEventType[] TYPES = GameEventType.values();
+    private static final SoundEffect[] SOUNDS = SoundEffect.values();
+    private static final AnimationType[] ANIMATIONS = AnimationType.values();
+
+    private byte[] types;
+    private float[] x;
+    private float[] y;
+    private float[] radius;
+    // the animation type, sound effect or score of the event
+    private int[] values;
+    private SpaceShip[] ships;
+    private long[] ticks;
+    private int size = 0;
+    private long tick = 0;
+
+    private final boolean[] soundQueued = new boolean[SOUNDS.length];
+    private int coalescedSounds = 0;
+
+    private Consumer<SpaceShip> shipReleaser;
+
+    /**
+     * @param capacity the number of events to make room for up front.
+     * @throws IllegalArgumentException if <code>capacity</code> is less than 1.
+     */
+    public GameEventQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        types = new byte[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        radius = new float[capacity];
+        values = new int[capacity];
+        ships = new SpaceShip[capacity];
+        ticks = new long[capacity];
+    }
+
+    public GameEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param shipReleaser called with the ship of every despawn event that leaves
+     *                     the queue for good, once nothing here refers to the
+     *                     ship anymore. May be null, in which case ships aren't
+     *                     released.
+     */
+    public void setShipReleaser(Consumer<SpaceShip> shipReleaser) {
+        this.shipReleaser = shipReleaser;
+    }
+
+    /**
+     * @param tick the simulation tick to stamp the events reported from now on
+     *             with. Ticks must not decrease.
+     */
+    public void setTick(long tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Reports an explosion or other animation.
+     *
+     * @param x      the x coordinate of the center of the animation.
+     * @param y      the y coordinate of the center of the animation.
+     * @param radius the radius of the animation.
+     * @param type   the type of animation.
+     */
+    public void pushAnimation(float x, float y, float radius, AnimationType type) {
+        int i = push(GameEventType.EXPLOSION);
+        this.x[i] = x;
+        this.y[i] = y;
+        this.radius[i] = radius;
+        values[i] = type.ordinal();
+    }
+
+    /**
+     * Reports a sound, unless the same sound is already queued.
+     *
+     * @param soundEffect the sound to play.
+     */
+    public void pushSound(SoundEffect soundEffect) {
+        if (soundQueued[soundEffect.ordinal()]) {
+            coalescedSounds++;
+            return;
+        }
+        soundQueued[soundEffect.ordinal()] = true;
+        int i = push(GameEventType.SOUND);
+        values[i] = soundEffect.ordinal();
+    }
+
+    /**
+     * @param ship the ship that entered the game.
+     */
+    public void pushShipSpawned(SpaceShip ship) {
+        int i = push(GameEventType.SHIP_SPAWNED);
+        ships[i] = ship;
+    }
+
+    /**
+     * @param ship the ship that left the game.
+     */
+    public void pushShipDespawned(SpaceShip ship) {
+        int i = push(GameEventType.SHIP_DESPAWNED);
+        ships[i] = ship;
+    }
+
+    /**
+     * @param score the new score.
+     */
+    public void pushScoreChanged(int score) {
+        int i = push(GameEventType.SCORE_CHANGED);
+        values[i] = score;
+    }
+
+    /**
+     * Queues an event of the given type, growing the arrays if needed. The index
+     * must be taken before writing to the arrays, as they may be replaced.
+     *
+     * @return the index of the new event.
+     */
+    private int push(GameEventType type) {
+        if (size == types.length) {
+            ensureCapacity(2 * size);
+        }
+        types[size] = (byte) type.ordinal();
+        ticks[size] = tick;
+        return size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        types = Arrays.copyOf(types, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        values = Arrays.copyOf(values, capacity);
+        ships = Arrays.copyOf(ships, capacity);
+        ticks = Arrays.copyOf(ticks, capacity);
+    }
+
+    /**
+     * Passes every queued event to the listener, oldest first, and empties the
+     * queue. The ships of despawn events are released afterwards, unless the
+     * listener is another queue, which then releases them instead.
+     *
+     * @param listener the listener to pass the events to.
+     */
+    public void drain(GameEventListener listener) {
+        for (int i = 0; i < size; i++) {
+            dispatch(i, listener);
+        }
+        if (listener instanceof GameEventQueue) {
+            // the events have moved, along with the release of their ships
+            Arrays.fill(ships, 0, size, null);
+            Arrays.fill(soundQueued, false);
+            size = 0;
+            return;
+        }
+        clear();
+    }
+
+    /**
+     * Passes the queued events stamped with a later tick than the given one to
+     * the listener, oldest first, and keeps them queued.
+     *
+     * @param tick     the last tick whose events have already been passed on.
+     * @param listener the listener to pass the events to.
+     */
+    public void dispatchAfter(long tick, GameEventListener listener) {
+        for (int i = 0; i < size; i++) {
+            if (ticks[i] > tick) {
+                dispatch(i, listener);
+            }
+        }
+    }
+
+    private void dispatch(int i, GameEventListener listener) {
+        switch (TYPES[types[i]]) {
+            case EXPLOSION:
+                listener.addAnimationState(x[i], y[i], radius[i], ANIMATIONS[values[i]]);
+                break;
+            case SOUND:
+                listener.play(SOUNDS[values[i]]);
+                break;
+            case SHIP_SPAWNED:
+                listener.shipSpawned(ships[i]);
+                break;
+            case SHIP_DESPAWNED:
+                listener.shipDespawned(ships[i]);
+                break;
+            case SCORE_CHANGED:
+                listener.scoreChanged(values[i]);
+                break;
+        }
+    }
+
+    /**
+     * Removes the events stamped with the given tick or an earlier one, and
+     * releases the ships of the despawn events among them. A sound that is no
+     * longer queued may be queued again.
+     *
+     * @param tick the last tick whose events to remove.
+     */
+    public void discardThrough(long tick) {
+        int discarded = 0;
+        while (discarded < size && ticks[discarded] <= tick) {
+            discarded++;
+        }
+        if (discarded == 0) {
+            return;
+        }
+        releaseShips(discarded);
+
+        int kept = size - discarded;
+        System.arraycopy(types, discarded, types, 0, kept);
+        System.arraycopy(x, discarded, x, 0, kept);
+        System.arraycopy(y, discarded, y, 0, kept);
+        System.arraycopy(radius, discarded, radius, 0, kept);
+        System.arraycopy(values, discarded, values, 0, kept);
+        System.arraycopy(ships, discarded, ships, 0, kept);
+        System.arraycopy(ticks, discarded, ticks, 0, kept);
+        Arrays.fill(ships, kept, size, null);
+        size = kept;
+
+        Arrays.fill(soundQueued, false);
+        for (int i = 0; i < size; i++) {
+            if (TYPES[types[i]] == GameEventType.SOUND) {
+                soundQueued[values[i]] = true;
+            }
+        }
+    }
+
+    /**
+     * Replaces the events of the target with copies of the events queued here,
+     * ticks included. This queue is left as it is.
+     *
+     * @param target the queue to copy the events to.
+     */
+    public void copyTo(GameEventQueue target) {
+        target.clear();
+        target.ensureCapacity(size);
+        System.arraycopy(types, 0, target.types, 0, size);
+        System.arraycopy(x, 0, target.x, 0, size);
+        System.arraycopy(y, 0, target.y, 0, size);
+        System.arraycopy(radius, 0, target.radius, 0, size);
+        System.arraycopy(values, 0, target.values, 0, size);
+        System.arraycopy(ships, 0, target.ships, 0, size);
+        System.arraycopy(ticks, 0, target.ticks, 0, size);
+        System.arraycopy(soundQueued, 0, target.soundQueued, 0, soundQueued.length);
+        target.size = size;
+    }
+
+    /**
+     * Removes every queued event, without passing them on, and releases the ships
+     * of the despawn events among them.
+     */
+    public void clear() {
+        releaseShips(size);
+        // don't keep despawned ships from being collected
+        Arrays.fill(ships, 0, size, null);
+        Arrays.fill(soundQueued, false);
+        size = 0;
+    }
+
+    /**
+     * Releases the ships of the despawn events among the first events.
+     *
+     * @param count the number of events, from the oldest, to look at.
+     */
+    private void releaseShips(int count) {
+        if (shipReleaser == null) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (TYPES[types[i]] == GameEventType.SHIP_DESPAWNED) {
+                shipReleaser.accept(ships[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the number of queued events.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addAnimationState(float x, float y, float radius, AnimationType type) {
+        pushAnimation(x, y, radius, type);
+    }
+
+    @Override
+    public void play(SoundEffect soundEffect) {
+        pushSound(soundEffect);
+    }
+
+    @Override
+    public void shipSpawned(SpaceShip ship) {
+        pushShipSpawned(ship);
+    }
+
+    @Override
+    public void shipDespawned(SpaceShip ship) {
+        pushShipDespawned(ship);
+    }
+
+    @Override
+    public void scoreChanged(int score) {
+        pushScoreChanged(score);
+    }
+
+    /**
+     * @return the number of sounds that were dropped because the same sound was
+     *         already queued, since the queue was made.
+     */
+    public int getCoalescedSoundCount() {
+        return coalescedSounds;
+    }
+}
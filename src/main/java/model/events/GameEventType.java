@@ -0,0 +1,13 @@
+package model.events;
+
+/**
+ * The kinds of events the model reports to the view through a
+ * {@link GameEventQueue}.
+ */
+public enum GameEventType {
+    EXPLOSION,
+    SOUND,
+    SHIP_SPAWNED,
+    SHIP_DESPAWNED,
+    SCORE_CHANGED
+}
@@ -0,0 +1,153 @@
+package model.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import controller.PlayerControls;
+
+/**
+ * Passes the player's input from the thread handling input to the thread
+ * running the simulation, without locks.
+ * <p>
+ * The writer calls the {@link PlayerControls} methods, and the reader applies
+ * the input to the model with {@link #drainTo} before each tick. Held controls
+ * (the four accelerate methods) are kept as the latest pressed or released
+ * state in atomic flags, so a release is never lost, and the reader only
+ * applies the controls that changed since the last drain. Shots are
+ * edge-triggered, so they are queued in a ring with one writer and one reader.
+ * Commands are encoded as ints, so queuing one doesn't allocate.
+ * <p>
+ * If the reader has fallen so far behind that the ring is full, new shots are
+ * dropped and counted, rather than making the writer wait.
+ */
+public class PlayerCommandQueue implements PlayerControls {
+
+    // bits of the held controls
+    private static final int FORWARD = 1;
+    private static final int BACKWARD = 1 << 1;
+    private static final int COUNTER_CLOCKWISE = 1 << 2;
+    private static final int CLOCKWISE = 1 << 3;
+
+    private static final int SHOOT = 0;
+
+    // the latest state of the held controls, written by the writer
+    private final AtomicInteger held = new AtomicInteger();
+    // the state of the held controls last applied, only used by the reader
+    private int applied = 0;
+
+    private final int[] commands;
+    private final int mask;
+    // the next command to read, written by the reader
+    private final AtomicLong head = new AtomicLong();
+    // the next command to write, written by the writer
+    private final AtomicLong tail = new AtomicLong();
+    private volatile int dropped = 0;
+
+    /**
+     * @param capacity the number of shots the ring holds, which must be a
+     *                 power of two.
+     * @throws IllegalArgumentException if <code>capacity</code> is not a positive
+     *                                  power of two.
+     */
+    public PlayerCommandQueue(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a positive power of two");
+        }
+        this.commands = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private void hold(int control, boolean accelerate) {
+        held.updateAndGet(state -> accelerate ? state | control : state & ~control);
+    }
+
+    private void offer(int command) {
+        long t = tail.get();
+        if (t - head.get() == commands.length) {
+            dropped++;
+            return;
+        }
+        commands[(int) t & mask] = command;
+        // publishes the command along with the new tail
+        tail.lazySet(t + 1);
+    }
+
+    @Override
+    public void setAccelerateForward(boolean accelerate) {
+        hold(FORWARD, accelerate);
+    }
+
+    @Override
+    public void setAccelerateBackward(boolean accelerate) {
+        hold(BACKWARD, accelerate);
+    }
+
+    @Override
+    public void setAccelerateCounterClockwise(boolean accelerate) {
+        hold(COUNTER_CLOCKWISE, accelerate);
+    }
+
+    @Override
+    public void setAccelerateClockwise(boolean accelerate) {
+        hold(CLOCKWISE, accelerate);
+    }
+
+    @Override
+    public void playerShoot() {
+        offer(SHOOT);
+    }
+
+    /**
+     * Applies the latest state of every held control that changed since the last
+     * drain, then every queued shot, to the target. Only the reader may call
+     * this.
+     *
+     * @param target the controls to apply the input to.
+     * @return the number of calls made on the target.
+     */
+    public int drainTo(PlayerControls target) {
+        int state = held.get();
+        int changed = state ^ applied;
+        applied = state;
+        if ((changed & FORWARD) != 0) {
+            target.setAccelerateForward((state & FORWARD) != 0);
+        }
+        if ((changed & BACKWARD) != 0) {
+            target.setAccelerateBackward((state & BACKWARD) != 0);
+        }
+        if ((changed & COUNTER_CLOCKWISE) != 0) {
+            target.setAccelerateCounterClockwise((state & COUNTER_CLOCKWISE) != 0);
+        }
+        if ((changed & CLOCKWISE) != 0) {
+            target.setAccelerateClockwise((state & CLOCKWISE) != 0);
+        }
+
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int command = commands[(int) i & mask];
+            switch (command) {
+                case SHOOT -> target.playerShoot();
+                default -> throw new IllegalStateException("Unknown command " + command);
+            }
+        }
+        // frees the slots for the writer
+        head.lazySet(t);
+        return Integer.bitCount(changed) + (int) (t - h);
+    }
+
+    /**
+     * @return the number of queued shots.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * @return the number of shots dropped because the ring was full, since
+     *         the queue was made.
+     */
+    public int getDroppedCount() {
+        return dropped;
+    }
+}
@@ -0,0 +1,272 @@
+package model.simulation;
+
+import java.util.concurrent.locks.LockSupport;
+
+import controller.PlayerControls;
+import model.SpaceGameModel;
+import model.constants.SimulationPhase;
+import model.events.GameEventListener;
+import model.events.GameEventQueue;
+import model.utils.PhaseTimer;
+import model.utils.ThreadAllocations;
+import model.utils.TripleBuffer;
+
+/**
+ * Runs a {@link SpaceGameModel} on a thread of its own, at a fixed tick rate,
+ * so that the simulation and the drawing of frames overlap.
+ * <p>
+ * After each tick, the simulation takes a {@link WorldSnapshot} of the model
+ * and publishes it through a {@link TripleBuffer}. The view reads the latest
+ * snapshot with {@link #acquire}, and never the model, so neither thread
+ * waits for the other. The player's input reaches the model through a
+ * {@link PlayerCommandQueue}, and is applied before the next tick.
+ * <p>
+ * The model's events are kept in a log, stamped with their tick, and copied
+ * into every snapshot until the view has seen them. The view may skip
+ * snapshots when the simulation runs faster than it draws, without missing
+ * any events.
+ * <p>
+ * Profiling is switched through {@link #setProfiling}, and applied by the
+ * simulation before the next tick. While it is on, the timing of the model's
+ * phases and the bytes its updates allocate are published in the snapshots.
+ * <p>
+ * While the thread runs, only it may touch the model. Stop it before reading
+ * or changing the model from anywhere else.
+ */
+public class SimulationThread {
+
+    // how far behind the simulation may fall before it stops catching up
+    private static final int MAX_TICKS_BEHIND = 5;
+
+    private final SpaceGameModel model;
+    private final float tickLength;
+    private final long tickNanos;
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new);
+    private final PlayerCommandQueue commands = new PlayerCommandQueue(256);
+
+    // written by the simulation
+    private final GameEventQueue eventLog = new GameEventQueue();
+    private long tick = 0;
+    private long updateBytes = 0;
+
+    // written by the view
+    private volatile long consumedTick = -1;
+    private volatile boolean profiling = false;
+    private long dispatchedTick = -1;
+
+    private volatile boolean running = false;
+    private volatile Throwable failure;
+    private Thread thread;
+
+    /**
+     * Takes the first snapshot of the model, so that there is one to read before
+     * the thread starts.
+     *
+     * @param model          the model to run. It should run at a fixed tick rate
+     *                       of <code>ticksPerSecond</code>.
+     * @param ticksPerSecond the number of ticks to run per second.
+     * @throws IllegalArgumentException if <code>ticksPerSecond</code> is not
+     *                                  positive and finite.
+     */
+    public SimulationThread(SpaceGameModel model, float ticksPerSecond) {
+        if (!(ticksPerSecond > 0f) || Float.isInfinite(ticksPerSecond)) {
+            throw new IllegalArgumentException("Tick rate must be positive and finite");
+        }
+        this.model = model;
+        this.tickLength = 1f / ticksPerSecond;
+        this.tickNanos = (long) (1e9 / ticksPerSecond);
+        // despawned ships go back to the pool once the view has seen them leave
+        eventLog.setShipReleaser(model::releaseShip);
+        publishSnapshot();
+    }
+
+    /**
+     * Starts ticking the model on a new thread, if it isn't already running.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops ticking the model, and waits for the current tick to finish. The
+     * model may be read from the calling thread afterwards.
+     * <p>
+     * The events the view hasn't been passed yet are dropped, and the ships of
+     * despawn events among them are released.
+     */
+    public void stop() {
+        stop(null);
+    }
+
+    /**
+     * Stops ticking the model, and waits for the current tick to finish. The
+     * model may be read from the calling thread afterwards.
+     * <p>
+     * The events that haven't been passed on yet are passed to the listener, so
+     * that a view that is replaced after the simulation stops has seen every
+     * event. The ships of despawn events are released afterwards. Only the view
+     * may call this.
+     *
+     * @param listener the listener to pass the remaining events to, or null to
+     *                 drop them.
+     */
+    public void stop(GameEventListener listener) {
+        if (running) {
+            running = false;
+            LockSupport.unpark(thread);
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+
+        // the thread has stopped, so the log may be read from here
+        if (listener != null) {
+            eventLog.dispatchAfter(dispatchedTick, listener);
+        }
+        eventLog.clear();
+        dispatchedTick = tick;
+        consumedTick = tick;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        try {
+            while (running) {
+                step();
+
+                nextTick += tickNanos;
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(this, wait);
+                } else if (-wait > MAX_TICKS_BEHIND * tickNanos) {
+                    // too far behind to catch up, so let the simulation slow down instead
+                    nextTick = System.nanoTime();
+                }
+            }
+        } catch (Throwable t) {
+            failure = t;
+            running = false;
+        }
+    }
+
+    /**
+     * Applies the queued input, runs one tick of the model and publishes a
+     * snapshot of it. Only the simulation may call this, or the caller while the
+     * thread isn't running.
+     */
+    void step() {
+        commands.drainTo(model);
+
+        boolean profile = profiling;
+        PhaseTimer<SimulationPhase> timer = model.getPhaseTimer();
+        if (timer.isEnabled() != profile) {
+            timer.setEnabled(profile);
+        }
+
+        long bytesBefore = profile ? ThreadAllocations.currentThreadBytes() : 0;
+        model.update(tickLength);
+        if (profile) {
+            updateBytes += ThreadAllocations.currentThreadBytes() - bytesBefore;
+        }
+        tick++;
+        publishSnapshot();
+    }
+
+    private void publishSnapshot() {
+        eventLog.setTick(tick);
+        model.drainEvents(eventLog);
+        // forget the events the view has seen
+        eventLog.discardThrough(consumedTick);
+
+        WorldSnapshot snapshot = snapshots.getBack();
+        snapshot.capture(model);
+        snapshot.setTick(tick, System.nanoTime());
+        snapshot.setUpdateAllocatedBytes(updateBytes);
+        eventLog.copyTo(snapshot.getEvents());
+        snapshots.publish();
+    }
+
+    /**
+     * Takes the latest snapshot, and passes the events in it that haven't been
+     * passed on before to the listener. Only the view may call this, once per
+     * frame.
+     *
+     * @param listener the listener to pass the new events to.
+     * @return the latest snapshot, which stays unchanged until the next call.
+     * @throws IllegalStateException if the simulation failed with an exception.
+     */
+    public WorldSnapshot acquire(GameEventListener listener) {
+        Throwable t = failure;
+        if (t != null) {
+            throw new IllegalStateException("The simulation failed", t);
+        }
+
+        snapshots.update();
+        WorldSnapshot snapshot = snapshots.getFront();
+        snapshot.getEvents().dispatchAfter(dispatchedTick, listener);
+        dispatchedTick = Math.max(dispatchedTick, snapshot.getTick());
+        consumedTick = dispatchedTick;
+        return snapshot;
+    }
+
+    /**
+     * How far the current time is past the latest snapshot, as a fraction of the
+     * tick length. The snapshot's bodies should be drawn interpolated by this
+     * value, which puts the drawn state up to one tick behind the simulation.
+     *
+     * @param snapshot the latest snapshot.
+     * @return the interpolation factor, between 0 and 1.
+     */
+    public float getInterpolationAlpha(WorldSnapshot snapshot) {
+        float alpha = (float) (System.nanoTime() - snapshot.getPublishedNanos()) / tickNanos;
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+
+    /**
+     * Turns the timing of the model's phases, and the counting of the bytes its
+     * updates allocate, on or off from the next tick. The model's phase timer
+     * must not be touched from elsewhere while the thread runs.
+     *
+     * @param profiling true to start profiling the model.
+     */
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    /**
+     * @return the controls that pass the player's input to the simulation. They
+     *         must only be used from one thread.
+     */
+    public PlayerControls getControls() {
+        return commands;
+    }
+
+    /**
+     * Only the simulation may call this, or the caller while the thread isn't
+     * running.
+     *
+     * @return the number of ticks run since the simulation was made.
+     */
+    public long getTick() {
+        return tick;
+    }
+}
@@ -0,0 +1,687 @@
+package model.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import grid.CellVisitor;
+import model.SpaceGameModel;
+import model.Globals.Collectable;
+import model.ShipComponents.Components.Fuselage;
+import model.SpaceCharacters.Asteroid;
+import model.SpaceCharacters.Bullet;
+import model.SpaceCharacters.Diamond;
+import model.SpaceCharacters.Ships.Player;
+import model.SpaceCharacters.Ships.ShipTransformCache;
+import model.SpaceCharacters.Ships.SpaceShip;
+import model.constants.SimulationPhase;
+import model.events.GameEventQueue;
+import model.utils.PhaseTimer;
+import model.utils.Rotation;
+
+/**
+ * A copy of everything the view draws, taken from a {@link SpaceGameModel}
+ * after a simulation tick.
+ * <p>
+ * The view draws from a snapshot rather than from the model, so that the model
+ * can tick on another thread while the view draws. Every body is copied with
+ * its state before and after the tick, so that it can be drawn between the two
+ * without reading the model.
+ * <p>
+ * The state is kept in primitive arrays, indexed by body, which only grow.
+ * Taking a snapshot into one that has been used before doesn't allocate once
+ * the arrays are large enough. The ships are also kept as references, but
+ * only to tell them apart and to reach the view's objects they hold, such as
+ * their health bars. Their simulated state must not be read by the snapshot's
+ * reader.
+ */
+public class WorldSnapshot {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final SimulationPhase[] PHASES = SimulationPhase.values();
+    private static final String[] PHASE_NAMES = new String[PHASES.length];
+
+    static {
+        for (SimulationPhase phase : PHASES) {
+            PHASE_NAMES[phase.ordinal()] = phase.name().toLowerCase();
+        }
+    }
+
+    private long tick = 0;
+    private long publishedNanos = 0;
+    private final GameEventQueue events = new GameEventQueue();
+
+    // profiling, copied so that the view never reads the model's timer
+    private boolean phasesTimed;
+    private final long[] phaseMedians = new long[PHASES.length];
+    private final long[] phaseP99s = new long[PHASES.length];
+    private long updateAllocatedBytes = 0;
+
+    // the player
+    private boolean gameOver;
+    private float playerVelocityX;
+    private float playerVelocityY;
+    private float playerSpeed;
+    private float playerCenterX;
+    private float playerCenterY;
+    private int playerResources;
+
+    // asteroids
+    private int asteroidCount;
+    private float[] asteroidPrevious = new float[3 * INITIAL_CAPACITY];
+    private float[] asteroidCurrent = new float[3 * INITIAL_CAPACITY];
+    private float[] asteroidRadius = new float[INITIAL_CAPACITY];
+    private boolean[] asteroidLarge = new boolean[INITIAL_CAPACITY];
+
+    // lasers
+    private int laserCount;
+    private float[] laserPrevious = new float[3 * INITIAL_CAPACITY];
+    private float[] laserCurrent = new float[3 * INITIAL_CAPACITY];
+
+    // diamonds
+    private int diamondCount;
+    private float[] diamondX = new float[INITIAL_CAPACITY];
+    private float[] diamondY = new float[INITIAL_CAPACITY];
+
+    // ships
+    private int shipCount;
+    private SpaceShip[] ships = new SpaceShip[INITIAL_CAPACITY];
+    private float[] shipPrevious = new float[3 * INITIAL_CAPACITY];
+    private float[] shipCurrent = new float[3 * INITIAL_CAPACITY];
+    private float[] shipRelativeCenterX = new float[INITIAL_CAPACITY];
+    private float[] shipRelativeCenterY = new float[INITIAL_CAPACITY];
+    private float[] shipCenterX = new float[INITIAL_CAPACITY];
+    private float[] shipCenterY = new float[INITIAL_CAPACITY];
+    private float[] shipProximityRadius = new float[INITIAL_CAPACITY];
+    private int[] shipHitPoints = new int[INITIAL_CAPACITY];
+    private int[] shipMaxHitPoints = new int[INITIAL_CAPACITY];
+    private boolean[] shipPlayer = new boolean[INITIAL_CAPACITY];
+    private boolean[] shipAccelerating = new boolean[INITIAL_CAPACITY];
+    private int[] shipFirstCell = new int[INITIAL_CAPACITY];
+    private int[] shipCellCount = new int[INITIAL_CAPACITY];
+    private int[] shipFirstThruster = new int[INITIAL_CAPACITY];
+    private int[] shipThrusterCount = new int[INITIAL_CAPACITY];
+
+    // the fuselage of every ship, in grid iteration order
+    private int cellCount;
+    private int[] cellRow = new int[4 * INITIAL_CAPACITY];
+    private int[] cellCol = new int[4 * INITIAL_CAPACITY];
+    private byte[] cellFuselageType = new byte[4 * INITIAL_CAPACITY];
+    private byte[] cellFuselageStage = new byte[4 * INITIAL_CAPACITY];
+    // -1 if the fuselage holds no upgrade
+    private byte[] cellUpgradeType = new byte[4 * INITIAL_CAPACITY];
+    private byte[] cellUpgradeStage = new byte[4 * INITIAL_CAPACITY];
+    private final CellVisitor<Fuselage> cellWriter = this::addCell;
+
+    // the thruster flames of every ship, in the order of the ships' transform
+    // caches
+    private int thrusterCount;
+    private float[] thrusterX = new float[INITIAL_CAPACITY];
+    private float[] thrusterY = new float[INITIAL_CAPACITY];
+
+    /**
+     * Replaces the snapshot with the current state of the model, and the timing
+     * of its phases if they are being timed. The tick, the events and the bytes
+     * allocated by the model are left as they are.
+     *
+     * @param model the model to copy.
+     */
+    public void capture(SpaceGameModel model) {
+        clear();
+
+        Player player = model.getPlayer();
+        gameOver = model.isGameOver();
+        playerVelocityX = player.getVelocityX();
+        playerVelocityY = player.getVelocityY();
+        playerSpeed = player.getSpeed();
+        playerCenterX = player.getAbsoluteCenterOfMassX();
+        playerCenterY = player.getAbsoluteCenterOfMassY();
+        playerResources = player.getInventory().getResourceCount();
+        capturePhases(model.getPhaseTimer());
+
+        List<Asteroid> asteroids = model.getAsteroids();
+        for (int i = 0; i < asteroids.size(); i++) {
+            addAsteroid(asteroids.get(i));
+        }
+        List<Bullet> lasers = model.getLasers();
+        for (int i = 0; i < lasers.size(); i++) {
+            addLaser(lasers.get(i));
+        }
+        List<Collectable> collectables = model.getCollectables();
+        for (int i = 0; i < collectables.size(); i++) {
+            if (collectables.get(i) instanceof Diamond diamond) {
+                addDiamond(diamond);
+            }
+        }
+        List<SpaceShip> spaceShips = model.getSpaceShips();
+        for (int i = 0; i < spaceShips.size(); i++) {
+            addShip(spaceShips.get(i));
+        }
+    }
+
+    private void capturePhases(PhaseTimer<SimulationPhase> timer) {
+        phasesTimed = timer.isEnabled();
+        if (!phasesTimed) {
+            return;
+        }
+        for (SimulationPhase phase : PHASES) {
+            phaseMedians[phase.ordinal()] = timer.getMedian(phase);
+            phaseP99s[phase.ordinal()] = timer.getPercentile(phase, 0.99);
+        }
+    }
+
+    /**
+     * Removes every body from the snapshot, keeping its arrays.
+     */
+    public void clear() {
+        asteroidCount = 0;
+        laserCount = 0;
+        diamondCount = 0;
+        Arrays.fill(ships, 0, shipCount, null);
+        shipCount = 0;
+        cellCount = 0;
+        thrusterCount = 0;
+    }
+
+    private void addAsteroid(Asteroid asteroid) {
+        if (asteroidCount == asteroidRadius.length) {
+            int capacity = 2 * asteroidCount;
+            asteroidPrevious = Arrays.copyOf(asteroidPrevious, 3 * capacity);
+            asteroidCurrent = Arrays.copyOf(asteroidCurrent, 3 * capacity);
+            asteroidRadius = Arrays.copyOf(asteroidRadius, capacity);
+            asteroidLarge = Arrays.copyOf(asteroidLarge, capacity);
+        }
+        int i = asteroidCount++;
+        asteroidRadius[i] = asteroid.getRadius();
+        asteroidLarge[i] = asteroid.isLarge();
+        asteroidPrevious[3 * i] = asteroid.getInterpolatedX(0f);
+        asteroidPrevious[3 * i + 1] = asteroid.getInterpolatedY(0f);
+        asteroidPrevious[3 * i + 2] = asteroid.getInterpolatedRotationAngle(0f);
+        asteroidCurrent[3 * i] = asteroid.getX();
+        asteroidCurrent[3 * i + 1] = asteroid.getY();
+        asteroidCurrent[3 * i + 2] = asteroid.getRotationAngle();
+    }
+
+    private void addLaser(Bullet laser) {
+        if (3 * laserCount == laserCurrent.length) {
+            laserPrevious = Arrays.copyOf(laserPrevious, 2 * laserPrevious.length);
+            laserCurrent = Arrays.copyOf(laserCurrent, 2 * laserCurrent.length);
+        }
+        int i = laserCount++;
+        laserPrevious[3 * i] = laser.getInterpolatedX(0f);
+        laserPrevious[3 * i + 1] = laser.getInterpolatedY(0f);
+        laserPrevious[3 * i + 2] = laser.getInterpolatedRotationAngle(0f);
+        laserCurrent[3 * i] = laser.getX();
+        laserCurrent[3 * i + 1] = laser.getY();
+        laserCurrent[3 * i + 2] = laser.getRotationAngle();
+    }
+
+    private void addDiamond(Diamond diamond) {
+        if (diamondCount == diamondX.length) {
+            diamondX = Arrays.copyOf(diamondX, 2 * diamondCount);
+            diamondY = Arrays.copyOf(diamondY, 2 * diamondCount);
+        }
+        diamondX[diamondCount] = diamond.getX();
+        diamondY[diamondCount] = diamond.getY();
+        diamondCount++;
+    }
+
+    /**
+     * Adds a ship, with its cells and thrusters, to the snapshot. Taking a
+     * snapshot of a model adds every ship of it. This lets a snapshot be made
+     * of ships that aren't in a model.
+     *
+     * @param ship the ship to add.
+     */
+    public void addShip(SpaceShip ship) {
+        if (shipCount == ships.length) {
+            growShips(2 * shipCount);
+        }
+        int i = shipCount++;
+        ships[i] = ship;
+        shipPrevious[3 * i] = ship.getInterpolatedX(0f);
+        shipPrevious[3 * i + 1] = ship.getInterpolatedY(0f);
+        shipPrevious[3 * i + 2] = ship.getInterpolatedRotationAngle(0f);
+        shipCurrent[3 * i] = ship.getX();
+        shipCurrent[3 * i + 1] = ship.getY();
+        shipCurrent[3 * i + 2] = ship.getRotationAngle();
+        shipCenterX[i] = ship.getAbsoluteCenterOfMassX();
+        shipCenterY[i] = ship.getAbsoluteCenterOfMassY();
+        shipProximityRadius[i] = ship.getProximityRadius();
+        shipHitPoints[i] = ship.getHitPoints();
+        shipMaxHitPoints[i] = ship.getMaxHitPoints();
+        shipPlayer[i] = ship.isPlayerShip();
+        shipAccelerating[i] = ship.isAccelerating();
+
+        ShipTransformCache transform = ship.getTransformCache();
+        shipRelativeCenterX[i] = transform.getRelativeCenterOfMassX();
+        shipRelativeCenterY[i] = transform.getRelativeCenterOfMassY();
+
+        shipFirstThruster[i] = thrusterCount;
+        shipThrusterCount[i] = transform.getThrusterCount();
+        for (int t = 0; t < transform.getThrusterCount(); t++) {
+            addThruster(transform.getThrusterX(t), transform.getThrusterY(t));
+        }
+
+        shipFirstCell[i] = cellCount;
+        ship.getShipStructure().forEachFuselage(cellWriter);
+        shipCellCount[i] = cellCount - shipFirstCell[i];
+    }
+
+    private void growShips(int capacity) {
+        ships = Arrays.copyOf(ships, capacity);
+        shipPrevious = Arrays.copyOf(shipPrevious, 3 * capacity);
+        shipCurrent = Arrays.copyOf(shipCurrent, 3 * capacity);
+        shipRelativeCenterX = Arrays.copyOf(shipRelativeCenterX, capacity);
+        shipRelativeCenterY = Arrays.copyOf(shipRelativeCenterY, capacity);
+        shipCenterX = Arrays.copyOf(shipCenterX, capacity);
+        shipCenterY = Arrays.copyOf(shipCenterY, capacity);
+        shipProximityRadius = Arrays.copyOf(shipProximityRadius, capacity);
+        shipHitPoints = Arrays.copyOf(shipHitPoints, capacity);
+        shipMaxHitPoints = Arrays.copyOf(shipMaxHitPoints, capacity);
+        shipPlayer = Arrays.copyOf(shipPlayer, capacity);
+        shipAccelerating = Arrays.copyOf(shipAccelerating, capacity);
+        shipFirstCell = Arrays.copyOf(shipFirstCell, capacity);
+        shipCellCount = Arrays.copyOf(shipCellCount, capacity);
+        shipFirstThruster = Arrays.copyOf(shipFirstThruster, capacity);
+        shipThrusterCount = Arrays.copyOf(shipThrusterCount, capacity);
+    }
+
+    private void addThruster(float x, float y) {
+        if (thrusterCount == thrusterX.length) {
+            thrusterX = Arrays.copyOf(thrusterX, 2 * thrusterCount);
+            thrusterY = Arrays.copyOf(thrusterY, 2 * thrusterCount);
+        }
+        thrusterX[thrusterCount] = x;
+        thrusterY[thrusterCount] = y;
+        thrusterCount++;
+    }
+
+    private void addCell(int row, int col, Fuselage fuselage) {
+        if (cellCount == cellRow.length) {
+            int capacity = 2 * cellCount;
+            cellRow = Arrays.copyOf(cellRow, capacity);
+            cellCol = Arrays.copyOf(cellCol, capacity);
+            cellFuselageType = Arrays.copyOf(cellFuselageType, capacity);
+            cellFuselageStage = Arrays.copyOf(cellFuselageStage, capacity);
+            cellUpgradeType = Arrays.copyOf(cellUpgradeType, capacity);
+            cellUpgradeStage = Arrays.copyOf(cellUpgradeStage, capacity);
+        }
+        int i = cellCount++;
+        cellRow[i] = row;
+        cellCol[i] = col;
+        cellFuselageType[i] = (byte) fuselage.getType().ordinal();
+        cellFuselageStage[i] = (byte) fuselage.getStage().ordinal();
+        if (fuselage.hasUpgrade()) {
+            cellUpgradeType[i] = (byte) fuselage.getUpgrade().getType().ordinal();
+            cellUpgradeStage[i] = (byte) fuselage.getUpgrade().getStage().ordinal();
+        } else {
+            cellUpgradeType[i] = -1;
+            cellUpgradeStage[i] = -1;
+        }
+    }
+
+    /**
+     * @param tick           the simulation tick the snapshot was taken after.
+     * @param publishedNanos the time the snapshot was taken, from
+     *                       <code>System.nanoTime()</code>.
+     */
+    public void setTick(long tick, long publishedNanos) {
+        this.tick = tick;
+        this.publishedNanos = publishedNanos;
+    }
+
+    /**
+     * @return the simulation tick the snapshot was taken after.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return the time the snapshot was taken, from <code>System.nanoTime()</code>.
+     */
+    public long getPublishedNanos() {
+        return publishedNanos;
+    }
+
+    /**
+     * @return the events that happened up to the snapshot's tick and that the
+     *         reader might not have seen yet, stamped with their ticks.
+     */
+    public GameEventQueue getEvents() {
+        return events;
+    }
+
+    /**
+     * @param bytes the total number of bytes the model's updates have allocated
+     *              on the thread that runs them, while they were being counted.
+     */
+    public void setUpdateAllocatedBytes(long bytes) {
+        this.updateAllocatedBytes = bytes;
+    }
+
+    /**
+     * @return the total number of bytes the model's updates have allocated on the
+     *         thread that runs them, while they were being counted.
+     */
+    public long getUpdateAllocatedBytes() {
+        return updateAllocatedBytes;
+    }
+
+    /**
+     * @return true if the model's phases were being timed when the snapshot was
+     *         taken.
+     */
+    public boolean isPhasesTimed() {
+        return phasesTimed;
+    }
+
+    /**
+     * @param phase the phase of a simulation tick.
+     * @return the median duration of the phase, in nanoseconds, when the
+     *         snapshot was taken.
+     */
+    public long getPhaseMedian(SimulationPhase phase) {
+        return phaseMedians[phase.ordinal()];
+    }
+
+    /**
+     * @param phase the phase of a simulation tick.
+     * @return the 99th percentile of the duration of the phase, in nanoseconds,
+     *         when the snapshot was taken.
+     */
+    public long getPhaseP99(SimulationPhase phase) {
+        return phaseP99s[phase.ordinal()];
+    }
+
+    /**
+     * Appends the timing of the model's phases in the format of
+     * {@link PhaseTimer#appendReport}, if they were being timed.
+     *
+     * @param out the builder to append to.
+     * @return <code>out</code>.
+     */
+    public StringBuilder appendPhaseReport(StringBuilder out) {
+        if (phasesTimed) {
+            for (SimulationPhase phase : PHASES) {
+                PhaseTimer.appendReportLine(out, PHASE_NAMES[phase.ordinal()], phaseMedians[phase.ordinal()],
+                        phaseP99s[phase.ordinal()]);
+            }
+        }
+        return out;
+    }
+
+    private static float lerp(float[] previous, float[] current, int index, float alpha) {
+        return previous[index] + (current[index] - previous[index]) * alpha;
+    }
+
+    private static float lerpAngle(float[] previous, float[] current, int index, float alpha) {
+        return Rotation.interpolate(previous[index], current[index], alpha);
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public float getPlayerVelocityX() {
+        return playerVelocityX;
+    }
+
+    public float getPlayerVelocityY() {
+        return playerVelocityY;
+    }
+
+    public float getPlayerSpeed() {
+        return playerSpeed;
+    }
+
+    public float getPlayerCenterOfMassX() {
+        return playerCenterX;
+    }
+
+    public float getPlayerCenterOfMassY() {
+        return playerCenterY;
+    }
+
+    /**
+     * @return the number of resources in the player's inventory.
+     */
+    public int getPlayerResources() {
+        return playerResources;
+    }
+
+    public int getAsteroidCount() {
+        return asteroidCount;
+    }
+
+    /**
+     * @param i     the index of the asteroid.
+     * @param alpha how far to interpolate between the asteroid's previous and
+     *              current states.
+     * @return the interpolated x coordinate of the asteroid.
+     */
+    public float getAsteroidX(int i, float alpha) {
+        return lerp(asteroidPrevious, asteroidCurrent, 3 * i, alpha);
+    }
+
+    public float getAsteroidY(int i, float alpha) {
+        return lerp(asteroidPrevious, asteroidCurrent, 3 * i + 1, alpha);
+    }
+
+    public float getAsteroidRotationAngle(int i, float alpha) {
+        return lerpAngle(asteroidPrevious, asteroidCurrent, 3 * i + 2, alpha);
+    }
+
+    public float getAsteroidRadius(int i) {
+        return asteroidRadius[i];
+    }
+
+    public boolean isAsteroidLarge(int i) {
+        return asteroidLarge[i];
+    }
+
+    public int getLaserCount() {
+        return laserCount;
+    }
+
+    public float getLaserX(int i, float alpha) {
+        return lerp(laserPrevious, laserCurrent, 3 * i, alpha);
+    }
+
+    public float getLaserY(int i, float alpha) {
+        return lerp(laserPrevious, laserCurrent, 3 * i + 1, alpha);
+    }
+
+    public float getLaserRotationAngle(int i, float alpha) {
+        return lerpAngle(laserPrevious, laserCurrent, 3 * i + 2, alpha);
+    }
+
+    public int getDiamondCount() {
+        return diamondCount;
+    }
+
+    public float getDiamondX(int i) {
+        return diamondX[i];
+    }
+
+    public float getDiamondY(int i) {
+        return diamondY[i];
+    }
+
+    /**
+     * The player's ship is always the first ship, unless the snapshot was made
+     * from ships outside a model.
+     *
+     * @return the number of ships.
+     */
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    /**
+     * @param i the index of the ship.
+     * @return the ship, to tell it apart from other ships. Its simulated state
+     *         must not be read by the snapshot's reader.
+     */
+    public SpaceShip getShip(int i) {
+        return ships[i];
+    }
+
+    public float getShipX(int i, float alpha) {
+        return lerp(shipPrevious, shipCurrent, 3 * i, alpha);
+    }
+
+    public float getShipY(int i, float alpha) {
+        return lerp(shipPrevious, shipCurrent, 3 * i + 1, alpha);
+    }
+
+    public float getShipRotationAngle(int i, float alpha) {
+        return lerpAngle(shipPrevious, shipCurrent, 3 * i + 2, alpha);
+    }
+
+    /**
+     * @return the ship's current rotation angle, which its thruster positions
+     *         were computed for.
+     */
+    public float getShipRotationAngle(int i) {
+        return shipCurrent[3 * i + 2];
+    }
+
+    /**
+     * @return the x coordinate of the ship's center of mass, relative to the
+     *         ship's position.
+     */
+    public float getShipRelativeCenterOfMassX(int i) {
+        return shipRelativeCenterX[i];
+    }
+
+    /**
+     * @return the y coordinate of the ship's center of mass, relative to the
+     *         ship's position.
+     */
+    public float getShipRelativeCenterOfMassY(int i) {
+        return shipRelativeCenterY[i];
+    }
+
+    /**
+     * @return the ship's current world x coordinate of its center of mass.
+     */
+    public float getShipCenterOfMassX(int i) {
+        return shipCenterX[i];
+    }
+
+    /**
+     * @return the ship's current world y coordinate of its center of mass.
+     */
+    public float getShipCenterOfMassY(int i) {
+        return shipCenterY[i];
+    }
+
+    public float getShipProximityRadius(int i) {
+        return shipProximityRadius[i];
+    }
+
+    public int getShipHitPoints(int i) {
+        return shipHitPoints[i];
+    }
+
+    public int getShipMaxHitPoints(int i) {
+        return shipMaxHitPoints[i];
+    }
+
+    public boolean isPlayerShip(int i) {
+        return shipPlayer[i];
+    }
+
+    public boolean isShipAccelerating(int i) {
+        return shipAccelerating[i];
+    }
+
+    /**
+     * @return the number of thrusters of the ship.
+     */
+    public int getShipThrusterCount(int i) {
+        return shipThrusterCount[i];
+    }
+
+    /**
+     * @param i        the index of the ship.
+     * @param thruster the thruster slot of the ship, in the order of its
+     *                 <code>ShipTransformCache</code>.
+     * @return the current world x coordinate of the thruster's flame.
+     */
+    public float getThrusterX(int i, int thruster) {
+        return thrusterX[shipFirstThruster[i] + thruster];
+    }
+
+    /**
+     * @param i        the index of the ship.
+     * @param thruster the thruster slot of the ship, in the order of its
+     *                 <code>ShipTransformCache</code>.
+     * @return the current world y coordinate of the thruster's flame.
+     */
+    public float getThrusterY(int i, int thruster) {
+        return thrusterY[shipFirstThruster[i] + thruster];
+    }
+
+    /**
+     * @return the index of the first cell of the ship. Its cells follow it, in
+     *         grid iteration order.
+     */
+    public int getShipFirstCell(int i) {
+        return shipFirstCell[i];
+    }
+
+    /**
+     * @return the number of fuselage cells of the ship.
+     */
+    public int getShipCellCount(int i) {
+        return shipCellCount[i];
+    }
+
+    /**
+     * @param cell the index of the cell, among the cells of every ship.
+     * @return the row of the cell in its ship's grid.
+     */
+    public int getCellRow(int cell) {
+        return cellRow[cell];
+    }
+
+    /**
+     * @param cell the index of the cell, among the cells of every ship.
+     * @return the column of the cell in its ship's grid.
+     */
+    public int getCellCol(int cell) {
+        return cellCol[cell];
+    }
+
+    /**
+     * @return the ordinal of the fuselage's <code>UpgradeType</code>.
+     */
+    public int getFuselageType(int cell) {
+        return cellFuselageType[cell];
+    }
+
+    /**
+     * @return the ordinal of the fuselage's <code>UpgradeStage</code>.
+     */
+    public int getFuselageStage(int cell) {
+        return cellFuselageStage[cell];
+    }
+
+    /**
+     * @return the ordinal of the <code>UpgradeType</code> of the upgrade in the
+     *         fuselage, or -1 if it holds none.
+     */
+    public int getUpgradeType(int cell) {
+        return cellUpgradeType[cell];
+    }
+
+    /**
+     * @return the ordinal of the <code>UpgradeStage</code> of the upgrade in the
+     *         fuselage, or -1 if it holds none.
+     */
+    public int getUpgradeStage(int cell) {
+        return cellUpgradeStage[cell];
+    }
+}
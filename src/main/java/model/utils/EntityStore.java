@@ -0,0 +1,249 @@
+package model.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * An unordered collection of entities kept in a dense array.
+ * <p>
+ * Every entity is given a handle when it is added. The handle stays the same
+ * for as long as the entity is in the store, even when other entities are
+ * removed, and is reused after the entity is removed. Handles are small
+ * non-negative integers, so they can be used as indices into arrays.
+ * <p>
+ * Removing an entity moves the last entity into its place, so adding, removing
+ * and looking up an entity are all constant time. This also means that the
+ * order of the entities only is preserved as long as no entity is removed,
+ * except that removing the last entity never moves any other entity.
+ * <p>
+ * Entities are looked up by <code>equals</code> and <code>hashCode</code>,
+ * which is identity for the game objects, as they don't override them.
+ *
+ * @param <T> the type of entity held by the store.
+ */
+public class EntityStore<T> {
+
+    private static final int absent = -1;
+
+    private Object[] entities;
+    private int[] handleAt;
+    private int[] indexOfHandle;
+    private int size;
+
+    private final ObjectIntMap<Object> handles = new ObjectIntMap<>();
+    private final IntArray freeHandles = new IntArray();
+    private int nextHandle = 0;
+
+    private final List<T> view = new View();
+
+    public EntityStore() {
+        this(16);
+    }
+
+    /**
+     * @param capacity the number of entities to make room for initially.
+     */
+    public EntityStore(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can't be negative");
+        }
+        entities = new Object[capacity];
+        handleAt = new int[capacity];
+        indexOfHandle = new int[capacity];
+        Arrays.fill(indexOfHandle, absent);
+    }
+
+    /**
+     * Adds an entity to the end of the store. Adding an entity that is already
+     * in the store does nothing.
+     *
+     * @param entity the entity to add.
+     * @return the handle of the entity.
+     */
+    public int add(T entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Entity can't be null");
+        }
+        int existing = handles.get(entity, absent);
+        if (existing != absent) {
+            return existing;
+        }
+
+        int handle = freeHandles.isEmpty() ? nextHandle++ : freeHandles.pop();
+        ensureCapacity(Math.max(size + 1, handle + 1));
+
+        entities[size] = entity;
+        handleAt[size] = handle;
+        indexOfHandle[handle] = size;
+        handles.put(entity, handle);
+        size++;
+        return handle;
+    }
+
+    /**
+     * Removes an entity from the store, moving the last entity into its place.
+     *
+     * @param entity the entity to remove.
+     * @return true if the entity was in the store, false otherwise.
+     */
+    public boolean remove(Object entity) {
+        int handle = handles.get(entity, absent);
+        if (handle == absent) {
+            return false;
+        }
+        removeAt(indexOfHandle[handle]);
+        return true;
+    }
+
+    /**
+     * Removes the entity at the given index, moving the last entity into its
+     * place.
+     *
+     * @param index the index of the entity to remove.
+     * @return the removed entity.
+     */
+    public T removeAt(int index) {
+        checkIndex(index);
+        T removed = get(index);
+        int handle = handleAt[index];
+
+        int last = size - 1;
+        entities[index] = entities[last];
+        handleAt[index] = handleAt[last];
+        indexOfHandle[handleAt[index]] = index;
+        entities[last] = null;
+        size--;
+
+        handles.remove(removed, absent);
+        indexOfHandle[handle] = absent;
+        freeHandles.add(handle);
+        return removed;
+    }
+
+    /**
+     * @param index the index of the entity, between 0 and <code>size() - 1</code>.
+     * @return the entity at the given index.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) entities[index];
+    }
+
+    /**
+     * @param handle the handle of an entity in the store.
+     * @return the entity with the given handle, or <code>null</code> if there is
+     *         no entity with that handle.
+     */
+    @SuppressWarnings("unchecked")
+    public T getByHandle(int handle) {
+        if (handle < 0 || handle >= nextHandle || indexOfHandle[handle] == absent) {
+            return null;
+        }
+        return (T) entities[indexOfHandle[handle]];
+    }
+
+    /**
+     * @param entity the entity to look for.
+     * @return the handle of the entity, or <code>-1</code> if it isn't in the
+     *         store.
+     */
+    public int handleOf(Object entity) {
+        return handles.get(entity, absent);
+    }
+
+    /**
+     * @param index the index of the entity, between 0 and <code>size() - 1</code>.
+     * @return the handle of the entity at the given index.
+     */
+    public int handleAt(int index) {
+        checkIndex(index);
+        return handleAt[index];
+    }
+
+    /**
+     * @param entity the entity to look for.
+     * @return true if the entity is in the store, false otherwise.
+     */
+    public boolean contains(Object entity) {
+        return handles.containsKey(entity);
+    }
+
+    /**
+     * @return the number of entities in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the store holds no entities, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a read-only <code>List</code> view of the store. The view is
+     * created once and reflects later changes to the store, so getting it
+     * doesn't allocate.
+     *
+     * @return a read-only view of the entities in the store.
+     */
+    public List<T> view() {
+        return view;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (entities.length < capacity) {
+            int newCapacity = Math.max(capacity, 2 * entities.length);
+            entities = Arrays.copyOf(entities, newCapacity);
+            handleAt = Arrays.copyOf(handleAt, newCapacity);
+        }
+        if (indexOfHandle.length < capacity) {
+            int oldCapacity = indexOfHandle.length;
+            indexOfHandle = Arrays.copyOf(indexOfHandle, Math.max(capacity, 2 * oldCapacity));
+            Arrays.fill(indexOfHandle, oldCapacity, indexOfHandle.length, absent);
+        }
+    }
+
+    private class View extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            return EntityStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return EntityStore.this.contains(o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            int handle = handleOf(o);
+            return handle == absent ? -1 : indexOfHandle[handle];
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+}
@@ -20,6 +20,8 @@ public class GameControls {
         SPACE_SCREEN_CONTROLS.put("P", "Pause");
         SPACE_SCREEN_CONTROLS.put("ESC", "Return to main menu");
         SPACE_SCREEN_CONTROLS.put("U", "Open upgrade screen");
+        SPACE_SCREEN_CONTROLS.put("F3", "Toggle profiler overlay");
+        SPACE_SCREEN_CONTROLS.put("F4", "Save profile as CSV");
 
         MENU_CONTROLS.put("UP/DOWN", "Navigate menu options");
         MENU_CONTROLS.put("ENTER/SPACE", "Select options");
@@ -0,0 +1,206 @@
+package model.utils;
+
+import java.util.Arrays;
+
+/**
+ * Times the phases of a frame or a simulation tick. Each phase keeps the
+ * durations of its last spans in a preallocated ring buffer, from which the
+ * median and other percentiles can be read.
+ * <p>
+ * A disabled timer only checks a flag in {@link #begin(Enum)} and
+ * {@link #end(Enum)}, and an enabled timer only reads
+ * <code>System.nanoTime()</code> and writes to an array, so the calls can stay
+ * in hot paths. Phases are timed one at a time per phase, but spans of
+ * different phases may nest.
+ *
+ * @param <P> the enum of phases to time.
+ */
+public class PhaseTimer<P extends Enum<P>> {
+
+    public static final int DEFAULT_CAPACITY = 600;
+
+    private final P[] phases;
+    private final String[] names;
+    private final long[][] durations;
+    private final int[] heads;
+    private final int[] counts;
+    private final long[] starts;
+    private final boolean[] running;
+    private final long[] sorted;
+    private boolean enabled = false;
+
+    /**
+     * @param phaseType the enum of phases to time.
+     * @param capacity  the number of spans to keep for each phase.
+     * @throws IllegalArgumentException if <code>capacity</code> is less than 1.
+     */
+    public PhaseTimer(Class<P> phaseType, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.phases = phaseType.getEnumConstants();
+        this.names = new String[phases.length];
+        for (P phase : phases) {
+            names[phase.ordinal()] = phase.name().toLowerCase();
+        }
+        this.durations = new long[phases.length][capacity];
+        this.heads = new int[phases.length];
+        this.counts = new int[phases.length];
+        this.starts = new long[phases.length];
+        this.running = new boolean[phases.length];
+        this.sorted = new long[capacity];
+    }
+
+    public PhaseTimer(Class<P> phaseType) {
+        this(phaseType, DEFAULT_CAPACITY);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the timer on or off. Spans already recorded are kept, and a span that
+     * was begun before the timer was turned on is not recorded.
+     *
+     * @param enabled true to start timing phases.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        Arrays.fill(running, false);
+    }
+
+    /**
+     * Starts a span of the given phase.
+     *
+     * @param phase the phase that starts.
+     */
+    public void begin(P phase) {
+        if (enabled) {
+            running[phase.ordinal()] = true;
+            starts[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Ends the span of the given phase begun last, and records its duration.
+     *
+     * @param phase the phase that ends.
+     */
+    public void end(P phase) {
+        if (!enabled) {
+            return;
+        }
+        int index = phase.ordinal();
+        if (!running[index]) {
+            return;
+        }
+        record(index, System.nanoTime() - starts[index]);
+        running[index] = false;
+    }
+
+    /**
+     * Records a span of the given phase with a known duration.
+     *
+     * @param phase the phase.
+     * @param nanos the duration of the span, in nanoseconds.
+     */
+    public void record(P phase, long nanos) {
+        record(phase.ordinal(), nanos);
+    }
+
+    private void record(int index, long nanos) {
+        long[] ring = durations[index];
+        ring[heads[index]] = nanos;
+        heads[index] = (heads[index] + 1) % ring.length;
+        counts[index] = Math.min(counts[index] + 1, ring.length);
+    }
+
+    /**
+     * @param phase the phase.
+     * @return the number of spans of the phase that are kept.
+     */
+    public int getCount(P phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * Finds a percentile of the durations of the spans of a phase that are kept,
+     * using the nearest rank.
+     *
+     * @param phase      the phase.
+     * @param percentile the percentile, from 0 to 1.
+     * @return the percentile in nanoseconds, or 0 if no spans are kept.
+     * @throws IllegalArgumentException if <code>percentile</code> is not between 0
+     *                                  and 1.
+     */
+    public long getPercentile(P phase, double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        int index = phase.ordinal();
+        int count = counts[index];
+        if (count == 0) {
+            return 0;
+        }
+
+        System.arraycopy(durations[index], 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int) Math.max(1, Math.ceil(percentile * count));
+        return sorted[rank - 1];
+    }
+
+    /**
+     * @param phase the phase.
+     * @return the median duration of the phase, in nanoseconds.
+     */
+    public long getMedian(P phase) {
+        return getPercentile(phase, 0.5);
+    }
+
+    /**
+     * @return the phases this timer times, in order.
+     */
+    public P[] getPhases() {
+        return phases.clone();
+    }
+
+    /**
+     * Removes all recorded spans.
+     */
+    public void clear() {
+        Arrays.fill(heads, 0);
+        Arrays.fill(counts, 0);
+        Arrays.fill(running, false);
+    }
+
+    /**
+     * Appends one line per phase with its median and 99th percentile, in
+     * microseconds.
+     *
+     * @param out the builder to append to.
+     * @return <code>out</code>.
+     */
+    public StringBuilder appendReport(StringBuilder out) {
+        for (P phase : phases) {
+            appendReportLine(out, names[phase.ordinal()], getMedian(phase), getPercentile(phase, 0.99));
+        }
+        return out;
+    }
+
+    /**
+     * Appends one line of a report, as written by {@link #appendReport}, for
+     * percentiles read from a timer elsewhere.
+     *
+     * @param out         the builder to append to.
+     * @param name        the name of the phase.
+     * @param medianNanos the median duration of the phase, in nanoseconds.
+     * @param p99Nanos    the 99th percentile of the duration, in nanoseconds.
+     * @return <code>out</code>.
+     */
+    public static StringBuilder appendReportLine(StringBuilder out, String name, long medianNanos, long p99Nanos) {
+        return out.append(name).append(": p50 ")
+                .append(medianNanos / 1000).append(" us, p99 ")
+                .append(p99Nanos / 1000).append(" us\n");
+    }
+}
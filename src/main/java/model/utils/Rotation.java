@@ -78,7 +78,7 @@ public class Rotation {
      * @param angle the angle to normalize.
      * @return the normalized angle.
      */
-    private float normalizeAngle(float angle) {
+    public static float normalizeAngle(float angle) {
         angle = angle % 360;
         if (angle < 0) {
             angle += 360;
@@ -86,6 +86,22 @@ public class Rotation {
         return Math.abs(angle);
     }
 
+    /**
+     * Interpolates between two angles, turning the shortest way around.
+     *
+     * @param from  the angle at <code>alpha = 0</code>, in degrees.
+     * @param to    the angle at <code>alpha = 1</code>, in degrees.
+     * @param alpha the interpolation factor.
+     * @return the interpolated angle, in the range [0, 360) degrees.
+     */
+    public static float interpolate(float from, float to, float alpha) {
+        float difference = normalizeAngle(to - from);
+        if (difference > 180f) {
+            difference -= 360f;
+        }
+        return normalizeAngle(from + difference * alpha);
+    }
+
     public void update(float deltaTime) {
         angle = normalizeAngle(angle + rotationSpeed * deltaTime);
     }
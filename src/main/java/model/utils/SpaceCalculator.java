@@ -66,7 +66,14 @@ public final class SpaceCalculator {
     }
 
     public static float distance(float x, float y) {
-        return (float) Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2));
+        return (float) Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * @return the distance between the points (x1, y1) and (x2, y2).
+     */
+    public static float distance(float x1, float y1, float x2, float y2) {
+        return distance(x1 - x2, y1 - y2);
     }
 
     public static float distance(FloatPair posA, FloatPair posB) {
@@ -151,19 +158,37 @@ public final class SpaceCalculator {
      */
     public static FloatPair rotatePoint(float x, float y, FloatPair centerOfRotation, FloatPair translation,
             float angle) {
+        Vector2 rotated = rotatePoint(x, y, centerOfRotation.x(), centerOfRotation.y(), translation.x(),
+                translation.y(), angle, new Vector2());
+        return new FloatPair(rotated.x, rotated.y);
+    }
+
+    /**
+     * Rotates a point around a center of rotation by a given angle, writing the
+     * result into <code>out</code> instead of allocating.
+     *
+     * @param x                the x coordinate of the point to be rotated
+     * @param y                the y coordinate of the point to be rotated
+     * @param centerX          the x coordinate of the relative center of rotation.
+     * @param centerY          the y coordinate of the relative center of rotation.
+     * @param translationX     the x coordinate of the absolute center of rotation.
+     * @param translationY     the y coordinate of the absolute center of rotation.
+     * @param angle            the angle in degrees to rotate the point by.
+     * @param out              the <code>Vector2</code> to store the result in.
+     * @return <code>out</code>, holding the rotated and translated point.
+     */
+    public static Vector2 rotatePoint(float x, float y, float centerX, float centerY, float translationX,
+            float translationY, float angle, Vector2 out) {
 
-        float r = distance(x, y, centerOfRotation);
+        float r = distance(x, y, centerX, centerY);
 
-        float offsetAngle = angleBetweenPoints(x, y, centerOfRotation);
+        float offsetAngle = angleBetweenPoints(x, y, centerX, centerY);
 
         float x0 = r * (float) Math.cos(Math.toRadians(angle + offsetAngle));
 
         float y0 = r * (float) Math.sin(Math.toRadians(angle + offsetAngle));
 
-        float x1 = translation.x() + x0;
-        float y1 = translation.y() + y0;
-
-        return new FloatPair(x1, y1);
+        return out.set(translationX + x0, translationY + y0);
     }
 
     /**
@@ -201,6 +226,23 @@ public final class SpaceCalculator {
         return new FloatPair(x, y);
     }
 
+    /**
+     * Performs two-dimensional linear interpolation, writing the result into
+     * <code>out</code> instead of allocating.
+     *
+     * @param sourceX the x value of the source or start point
+     * @param sourceY the y value of the source or start point
+     * @param targetX the x value of the target point
+     * @param targetY the y value of the target point
+     * @param alpha   the interpolation factor, should be between 0f and 1f.
+     * @param out     the <code>Vector2</code> to store the result in.
+     * @return <code>out</code>, holding the interpolated point.
+     */
+    public static Vector2 lerp2D(float sourceX, float sourceY, float targetX, float targetY, float alpha,
+            Vector2 out) {
+        return out.set(lerp1D(sourceX, targetX, alpha), lerp1D(sourceY, targetY, alpha));
+    }
+
     /**
      * Performs two-dimensional linear interpolation.
      *
@@ -214,8 +256,7 @@ public final class SpaceCalculator {
      * @return the interpolated <code>FloatPair</code>.
      */
     public static FloatPair lerp2D(Vector2 source, FloatPair target, float alpha) {
-        FloatPair sourceFloatPair = new FloatPair(source.x, source.y);
-        return lerp2D(sourceFloatPair, target, alpha);
+        return new FloatPair(lerp1D(source.x, target.x(), alpha), lerp1D(source.y, target.y(), alpha));
     }
 
     /**
@@ -233,8 +274,7 @@ public final class SpaceCalculator {
      * @return the interpolated <code>FloatPair</code>.
      */
     public static FloatPair lerp2D(Vector3 source, FloatPair target, float alpha) {
-        FloatPair sourceFloatPair = new FloatPair(source.x, source.y);
-        return lerp2D(sourceFloatPair, target, alpha);
+        return new FloatPair(lerp1D(source.x, target.x(), alpha), lerp1D(source.y, target.y(), alpha));
     }
 
     /**
@@ -253,12 +293,31 @@ public final class SpaceCalculator {
      *         <code>posB</code>.
      */
     public static FloatPair getPointAtDistance(FloatPair posA, FloatPair posB, float distance) {
-        float dx = posA.x() - posB.x();
-        float dy = posA.y() - posB.y();
+        Vector2 point = getPointAtDistance(posA.x(), posA.y(), posB.x(), posB.y(), distance, new Vector2());
+        return new FloatPair(point.x, point.y);
+    }
+
+    /**
+     * Calculates a point at a certain distance from another point, writing the
+     * result into <code>out</code> instead of allocating.
+     *
+     * @param ax       the x coordinate of the point defining the direction.
+     * @param ay       the y coordinate of the point defining the direction.
+     * @param bx       the x coordinate of the point to measure the distance from.
+     * @param by       the y coordinate of the point to measure the distance from.
+     * @param distance the distance from (bx, by) of the result.
+     * @param out      the <code>Vector2</code> to store the result in.
+     * @return <code>out</code>, holding the point at the given distance from (bx,
+     *         by) on the straight line between (ax, ay) and (bx, by).
+     * @see #getPointAtDistance(FloatPair, FloatPair, float)
+     */
+    public static Vector2 getPointAtDistance(float ax, float ay, float bx, float by, float distance,
+            Vector2 out) {
+        float dx = ax - bx;
+        float dy = ay - by;
         float directionVectorLength = distance(dx, dy);
 
-        return new FloatPair(posB.x() + distance * dx / directionVectorLength,
-                posB.y() + distance * dy / directionVectorLength);
+        return out.set(bx + distance * dx / directionVectorLength, by + distance * dy / directionVectorLength);
     }
 
     /**
@@ -0,0 +1,39 @@
+package model.utils;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes allocated by the calling thread, on JVMs that can count
+ * them. Reading the count doesn't allocate.
+ */
+public final class ThreadAllocations {
+
+    private static final com.sun.management.ThreadMXBean threads = findThreadBean();
+
+    private ThreadAllocations() {
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+            return threadBean;
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the JVM can count the bytes allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return threads != null;
+    }
+
+    /**
+     * @return the total number of bytes allocated by the calling thread, or 0 if
+     *         the JVM can't count them.
+     */
+    public static long currentThreadBytes() {
+        return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+}
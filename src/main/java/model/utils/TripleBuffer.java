@@ -0,0 +1,87 @@
+package model.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands the latest of a stream of values from one writer thread to one reader
+ * thread, without locks and without either thread waiting for the other.
+ * <p>
+ * There are three buffers. The writer fills its back buffer and publishes it,
+ * swapping it with the middle one. The reader takes the middle buffer as its
+ * front buffer when it has been published since the reader last looked. The
+ * writer never touches the reader's front buffer, so the reader can read it
+ * for as long as it likes, and the writer never waits for the reader to finish.
+ * If the writer publishes more often than the reader looks, the reader only
+ * sees the latest value.
+ * <p>
+ * The buffers are made up front and reused, so exchanging values doesn't
+ * allocate. The swaps are atomic, so everything the writer wrote to a buffer
+ * before publishing it is visible to the reader once it has taken it.
+ *
+ * @param <T> the type of the buffers.
+ */
+public class TripleBuffer<T> {
+
+    // set in the middle index when the middle buffer hasn't been taken yet
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(2);
+    private int back = 0;
+    private int front = 1;
+
+    /**
+     * @param factory makes each of the three buffers.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Only the writer may call this.
+     *
+     * @return the buffer to write the next value to.
+     */
+    @SuppressWarnings("unchecked")
+    public T getBack() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Makes the back buffer the latest value, and gives the writer a new back
+     * buffer. A value the reader hasn't taken yet is replaced. Only the writer may
+     * call this.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * Takes the latest value as the front buffer, if one has been published since
+     * the last call. Only the reader may call this.
+     *
+     * @return true if the front buffer changed, false otherwise.
+     */
+    public boolean update() {
+        if ((middle.get() & FRESH) == 0) {
+            return false;
+        }
+        front = middle.getAndSet(front) & INDEX;
+        return true;
+    }
+
+    /**
+     * Only the reader may call this. It stays the same until the next
+     * {@link #update()}.
+     *
+     * @return the latest value taken by the reader.
+     */
+    @SuppressWarnings("unchecked")
+    public T getFront() {
+        return (T) buffers[front];
+    }
+}
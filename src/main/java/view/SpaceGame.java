@@ -75,4 +75,10 @@ public interface SpaceGame {
      * @return the application's <code>SoundManager</code>.
      */
     SoundManager getSoundManager();
+
+    /**
+     * @return true if the space game's simulation runs on a thread of its own,
+     *         false if it runs on the rendering thread.
+     */
+    boolean isSimulationThreaded();
 }
@@ -8,7 +8,14 @@ import model.SpaceCharacters.Asteroid;
 import model.SpaceCharacters.Bullet;
 import model.SpaceCharacters.Ships.SpaceShip;
 import model.SpaceCharacters.Ships.ViewablePlayer;
+import model.events.GameEventListener;
 
+/**
+ * The lists returned by this interface are read-only views of the model. They
+ * are not copies, so they change as the model updates, and getting them does
+ * not allocate. The order of the objects in them may change when objects are
+ * removed.
+ */
 public interface ViewableSpaceGameModel {
 
     /**
@@ -19,8 +26,10 @@ public interface ViewableSpaceGameModel {
     int getScore();
 
     /**
-     * @return a <code>List</code> containing all <code>SpaceShip</code> objects in
-     *         the model.
+     * The player's ship is always the first ship in the list.
+     *
+     * @return a read-only <code>List</code> containing all <code>SpaceShip</code>
+     *         objects in the model.
      */
     List<SpaceShip> getSpaceShips();
 
@@ -29,25 +38,46 @@ public interface ViewableSpaceGameModel {
      */
     ViewablePlayer getPlayer() throws InvalidClassException;
 
+    /**
+     * How far the current time is into the next simulation tick, as a fraction of
+     * the tick length. Bodies should be drawn at their interpolated state for
+     * this value, such as <code>SpaceBody.getInterpolatedX(alpha)</code>. It is
+     * always 1 when the model isn't running at a fixed tick rate.
+     *
+     * @return the interpolation factor, between 0 and 1.
+     */
+    float getInterpolationAlpha();
+
     /**
      * Returns all <code>Asteroid</code> in the model
      *
-     * @return a List of all Asteroid objects.
+     * @return a read-only List of all Asteroid objects.
      */
     List<Asteroid> getAsteroids();
 
     /**
      * Return all <code>Bullet</code> objects in the model.
      *
-     * @return a <code>List</code> of <code>Bullet</code> objects
+     * @return a read-only <code>List</code> of <code>Bullet</code> objects
      */
     List<Bullet> getLasers();
 
     /**
      * Return all <code>Collectable</code> objects in the model.
      *
-     * @return a <code>List</code> of <code>Collectable</code> objects
+     * @return a read-only <code>List</code> of <code>Collectable</code> objects
      */
     List<Collectable> getCollectables();
 
+    /**
+     * Passes the explosions, sounds, ship spawns and despawns and score changes
+     * that happened since the last call to the listener, in order, and forgets
+     * them. The view should call this once per frame, after updating the model.
+     * <p>
+     * Ships that were in the game before the first call are not reported, and
+     * should be read from {@link #getSpaceShips()}.
+     *
+     * @param listener the listener to pass the events to.
+     */
+    void drainEvents(GameEventListener listener);
 }
@@ -28,9 +28,24 @@ public class ShipHealthBar extends PercentageBar {
 
     @Override
     public void draw(ShapeRenderer renderer) {
-        setMaxValue(ship.getMaxHitPoints());
-        setCurrentValue(ship.getHitPoints());
-        this.setCenter(ship.getAbsoluteCenterOfMass());
+        draw(renderer, ship.getHitPoints(), ship.getMaxHitPoints(),
+                ship.getAbsoluteCenterOfMassX(), ship.getAbsoluteCenterOfMassY());
+    }
+
+    /**
+     * Draws the bar for the given state of the ship, rather than reading it from
+     * the ship, so that it can be drawn from a snapshot of the ship.
+     *
+     * @param renderer     the ShapeRenderer to draw with.
+     * @param hitPoints    the ship's hit points.
+     * @param maxHitPoints the ship's maximum hit points.
+     * @param centerX      the x coordinate of the ship's center of mass.
+     * @param centerY      the y coordinate of the ship's center of mass.
+     */
+    public void draw(ShapeRenderer renderer, float hitPoints, float maxHitPoints, float centerX, float centerY) {
+        setMaxValue(maxHitPoints);
+        setCurrentValue(hitPoints);
+        this.setCenter(centerX, centerY);
         super.draw(renderer);
     }
 }
@@ -14,7 +14,6 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Rectangle;
 
-import model.ShipComponents.UpgradeStage;
 import model.ShipComponents.UpgradeType;
 import model.ShipComponents.Components.Fuselage;
 import model.ShipComponents.Components.ShipUpgrade;
@@ -22,11 +21,12 @@ import model.ShipComponents.Components.stats.Stat;
 import model.ShipComponents.Components.stats.StatModifier;
 import model.utils.FloatPair;
 import view.Palette;
+import view.rendering.UpgradeSprites;
 
 public class UpgradeStageDisplay {
 
     private Fuselage fuselage;
-    private final Map<UpgradeType, Map<UpgradeStage, Sprite>> upgradeSprites;
+    private final UpgradeSprites upgradeSprites;
     private FloatPair position;
     private FloatPair diffBarScales;
     private final float padding = 0.05f;
@@ -54,7 +54,7 @@ public class UpgradeStageDisplay {
     private final Color displayColor = Palette.MUTED_GREEN_LIGHT;
     private final BitmapFont font;
 
-    public UpgradeStageDisplay(StatModifier max, Map<UpgradeType, Map<UpgradeStage, Sprite>> upgradeSprites,
+    public UpgradeStageDisplay(StatModifier max, UpgradeSprites upgradeSprites,
             BitmapFont font, float spriteRadius) {
 
         this.upgradeSprites = upgradeSprites;
@@ -68,7 +68,7 @@ public class UpgradeStageDisplay {
         for (Stat stat : Stat.values()) {
             DiffBar statBar = new DiffBar();
             statBar.setScale(diffBarScales.x(), diffBarScales.y());
-            statBar.setMaxValue(max.getModifiers().get(stat).floatValue());
+            statBar.setMaxValue(max.get(stat));
             bars.put(stat, statBar);
 
             GlyphLayout glyphLayout = new GlyphLayout();
@@ -145,13 +145,13 @@ public class UpgradeStageDisplay {
 
     public void setCurrentStats(StatModifier current) {
         for (Stat stat : Stat.values()) {
-            bars.get(stat).setCurrentValue(current.getModifiers().get(stat).floatValue());
+            bars.get(stat).setCurrentValue(current.get(stat));
         }
     }
 
     public void setMaxStats(StatModifier max) {
         for (Stat stat : Stat.values()) {
-            bars.get(stat).setMaxValue(max.getModifiers().get(stat).floatValue());
+            bars.get(stat).setMaxValue(max.get(stat));
         }
     }
 
@@ -164,7 +164,7 @@ public class UpgradeStageDisplay {
         }
 
         for (Stat stat : Stat.values()) {
-            bars.get(stat).updateDiff(diff.getModifiers().get(stat).floatValue(), stat.positiveIsBeneficial);
+            bars.get(stat).updateDiff(diff.get(stat), stat.positiveIsBeneficial);
         }
     }
 
@@ -292,12 +292,12 @@ public class UpgradeStageDisplay {
         float fuselageOffsetX = fuselageNextStageOffsetX;
         float fuselageOffsetY = height - fuselageNextStageOffsetY;
 
-        Sprite fuselageSprite = upgradeSprites.get(UpgradeType.FUSELAGE).get(fuselage.getStage());
+        Sprite fuselageSprite = upgradeSprites.get(UpgradeType.FUSELAGE, fuselage.getStage());
         fuselageSprite.setCenterX(x + fuselageOffsetX);
         fuselageSprite.setCenterY(y + fuselageOffsetY);
         fuselageSprite.draw(batch);
 
-        Sprite fuselageNextStageSprite = upgradeSprites.get(UpgradeType.FUSELAGE).get(fuselage.getStage().nextStage());
+        Sprite fuselageNextStageSprite = upgradeSprites.get(UpgradeType.FUSELAGE, fuselage.getStage().nextStage());
         fuselageNextStageSprite.setCenterX(x + fuselageNextStageOffsetX);
         fuselageNextStageSprite.setCenterY(y + fuselageNextStageOffsetY);
         fuselageNextStageSprite.draw(batch);
@@ -310,14 +310,14 @@ public class UpgradeStageDisplay {
             float upgradeOffsetX = upgradeNextStageOffsetX;
             float upgradeOffsetY = fuselageOffsetY;
 
-            Sprite upgradeSprite = upgradeSprites.get(fuselage.getUpgrade().getType())
-                    .get(fuselage.getUpgrade().getStage());
+            Sprite upgradeSprite = upgradeSprites.get(fuselage.getUpgrade().getType(),
+                    fuselage.getUpgrade().getStage());
             upgradeSprite.setCenterX(x + upgradeOffsetX);
             upgradeSprite.setCenterY(y + upgradeOffsetY);
             upgradeSprite.draw(batch);
 
-            Sprite upgradeNextStageSprite = upgradeSprites.get(fuselage.getUpgrade().getType())
-                    .get(fuselage.getUpgrade().getStage().nextStage());
+            Sprite upgradeNextStageSprite = upgradeSprites.get(fuselage.getUpgrade().getType(),
+                    fuselage.getUpgrade().getStage().nextStage());
             upgradeNextStageSprite.setCenterX(x + upgradeNextStageOffsetX);
             upgradeNextStageSprite.setCenterY(y + upgradeNextStageOffsetY);
             upgradeNextStageSprite.draw(batch);
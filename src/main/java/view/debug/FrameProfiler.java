@@ -0,0 +1,285 @@
+package view.debug;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import model.utils.ThreadAllocations;
+
+/**
+ * Measures how much each frame allocates, split into the model update and the
+ * rest of the frame, along with how often the garbage collector ran and for
+ * how long. The measurements of the last frames are kept in
+ * {@link RollingHistogram}s, and can be written out as CSV.
+ * <p>
+ * Allocations are counted for the calling thread only, so every method must be
+ * called from the thread that renders. When the model updates on a thread of
+ * its own, that thread counts its allocations, and passes them on through
+ * {@link #addUpdateBytesTotal}. The profiler does nothing while it is disabled,
+ * and doesn't allocate while it is enabled.
+ */
+public class FrameProfiler {
+
+    public static final int DEFAULT_CAPACITY = 600;
+    public static final String CSV_HEADER = "frame,update_bytes,render_bytes,gc_count,gc_pause_ms,draw_calls";
+
+    private final GarbageCollectorMXBean[] collectors;
+
+    private final RollingHistogram updateBytes;
+    private final RollingHistogram renderBytes;
+    private final RollingHistogram gcCounts;
+    private final RollingHistogram gcPauseMillis;
+    private final RollingHistogram drawCalls;
+
+    private boolean enabled = false;
+    private boolean inFrame = false;
+    private boolean gcBaselineValid = false;
+    private boolean updateTotalValid = false;
+    private long frames = 0;
+
+    private long frameStartBytes;
+    private long updateStartBytes;
+    private long frameUpdateBytes;
+    private long frameOtherThreadUpdateBytes;
+    private long lastUpdateTotal;
+    private long frameDrawCalls;
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    public FrameProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of frames to keep measurements for.
+     * @throws IllegalArgumentException if <code>capacity</code> is less than 1.
+     */
+    public FrameProfiler(int capacity) {
+        updateBytes = new RollingHistogram(capacity);
+        renderBytes = new RollingHistogram(capacity);
+        gcCounts = new RollingHistogram(capacity);
+        gcPauseMillis = new RollingHistogram(capacity);
+        drawCalls = new RollingHistogram(capacity);
+
+        List<GarbageCollectorMXBean> collectorBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        collectors = collectorBeans.toArray(new GarbageCollectorMXBean[0]);
+    }
+
+    /**
+     * @return true if the JVM can count the bytes allocated by a thread. If it
+     *         can't, all allocations are reported as 0 bytes.
+     */
+    public boolean isAllocationCountingSupported() {
+        return ThreadAllocations.isSupported();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the profiler on or off. Measurements already made are kept.
+     *
+     * @param enabled true to start measuring frames.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        inFrame = false;
+        gcBaselineValid = false;
+        updateTotalValid = false;
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    /**
+     * Marks the start of a frame.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        if (!gcBaselineValid) {
+            // collections made while the profiler was off don't belong to this frame
+            lastGcCount = totalGcCount();
+            lastGcMillis = totalGcMillis();
+            gcBaselineValid = true;
+        }
+        inFrame = true;
+        frameUpdateBytes = 0;
+        frameOtherThreadUpdateBytes = 0;
+        frameDrawCalls = 0;
+        frameStartBytes = allocatedBytes();
+    }
+
+    /**
+     * Marks the start of the model update within the current frame.
+     */
+    public void beginUpdate() {
+        if (inFrame) {
+            updateStartBytes = allocatedBytes();
+        }
+    }
+
+    /**
+     * Marks the end of the model update within the current frame.
+     */
+    public void endUpdate() {
+        if (inFrame) {
+            frameUpdateBytes += allocatedBytes() - updateStartBytes;
+        }
+    }
+
+    /**
+     * Counts the bytes allocated by model updates that ran on another thread
+     * towards the current frame's model update.
+     *
+     * @param totalBytes the total number of bytes the model updates on the other
+     *                   thread have allocated. Only the growth since the last
+     *                   call while the profiler was enabled is counted.
+     */
+    public void addUpdateBytesTotal(long totalBytes) {
+        if (!inFrame) {
+            return;
+        }
+        if (updateTotalValid) {
+            frameOtherThreadUpdateBytes += totalBytes - lastUpdateTotal;
+        }
+        lastUpdateTotal = totalBytes;
+        updateTotalValid = true;
+    }
+
+    /**
+     * Adds to the number of draw calls made in the current frame. The profiler
+     * can't count them itself, since they are counted by each batch.
+     *
+     * @param calls the number of draw calls.
+     */
+    public void addDrawCalls(int calls) {
+        if (inFrame) {
+            frameDrawCalls += calls;
+        }
+    }
+
+    /**
+     * Marks the end of the current frame, and records its measurements.
+     */
+    public void endFrame() {
+        if (!inFrame) {
+            return;
+        }
+
+        long frameBytes = allocatedBytes() - frameStartBytes;
+        updateBytes.add(frameUpdateBytes + frameOtherThreadUpdateBytes);
+        renderBytes.add(frameBytes - frameUpdateBytes);
+
+        long gcCount = totalGcCount();
+        long gcMillis = totalGcMillis();
+        gcCounts.add(gcCount - lastGcCount);
+        gcPauseMillis.add(gcMillis - lastGcMillis);
+        drawCalls.add(frameDrawCalls);
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        frames++;
+        inFrame = false;
+    }
+
+    /**
+     * @return the number of frames measured since the profiler was made.
+     */
+    public long getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * @return the bytes allocated by the model update in each of the last frames.
+     */
+    public RollingHistogram getUpdateBytes() {
+        return updateBytes;
+    }
+
+    /**
+     * @return the bytes allocated outside of the model update in each of the last
+     *         frames.
+     */
+    public RollingHistogram getRenderBytes() {
+        return renderBytes;
+    }
+
+    /**
+     * @return the number of garbage collections during each of the last frames.
+     */
+    public RollingHistogram getGcCounts() {
+        return gcCounts;
+    }
+
+    /**
+     * @return the milliseconds spent collecting garbage during each of the last
+     *         frames.
+     */
+    public RollingHistogram getGcPauseMillis() {
+        return gcPauseMillis;
+    }
+
+    /**
+     * @return the number of draw calls made in each of the last frames.
+     */
+    public RollingHistogram getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Removes all measurements.
+     */
+    public void clear() {
+        updateBytes.clear();
+        renderBytes.clear();
+        gcCounts.clear();
+        gcPauseMillis.clear();
+        drawCalls.clear();
+    }
+
+    /**
+     * Writes the measurements of the frames kept as CSV, one line per frame,
+     * starting with {@link #CSV_HEADER}.
+     *
+     * @param out where to write the CSV.
+     * @throws IOException if writing to <code>out</code> fails.
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append(CSV_HEADER).append('\n');
+        int count = updateBytes.getCount();
+        long firstFrame = frames - count;
+        for (int i = 0; i < count; i++) {
+            out.append(Long.toString(firstFrame + i)).append(',')
+                    .append(Long.toString(updateBytes.get(i))).append(',')
+                    .append(Long.toString(renderBytes.get(i))).append(',')
+                    .append(Long.toString(gcCounts.get(i))).append(',')
+                    .append(Long.toString(gcPauseMillis.get(i))).append(',')
+                    .append(Long.toString(drawCalls.get(i))).append('\n');
+        }
+    }
+
+    private long allocatedBytes() {
+        return ThreadAllocations.currentThreadBytes();
+    }
+
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
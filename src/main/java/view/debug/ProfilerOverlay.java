@@ -0,0 +1,130 @@
+package view.debug;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import model.simulation.WorldSnapshot;
+import model.utils.PhaseTimer;
+import view.Palette;
+
+/**
+ * Draws the measurements of a {@link FrameProfiler}: a bar graph of the bytes
+ * allocated in each of the last frames, split into the model update and the
+ * rest of the frame, with frames that had a garbage collection marked, and a
+ * summary of the allocation rates, garbage collections and the timing of each
+ * phase of the simulation and of the frame. The simulation's phases are read
+ * from the snapshot drawn, so that the overlay never reads the model's timer
+ * while the model ticks on another thread.
+ * <p>
+ * The summary is built in a reused <code>StringBuilder</code>, so drawing the
+ * overlay doesn't add much garbage of its own to the frames it measures.
+ */
+public class ProfilerOverlay {
+
+    private static final Color UPDATE_COLOR = Palette.MUTED_GREEN_LIGHT;
+    private static final Color RENDER_COLOR = Palette.ORANGE;
+    private static final Color GC_COLOR = Palette.FONT_RED;
+
+    private final FrameProfiler profiler;
+    private final PhaseTimer<?>[] timers;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * @param profiler the profiler whose allocations and garbage collections to
+     *                 show.
+     * @param timers   timers of the view whose phases to show the median and 99th
+     *                 percentile of, in order, after those of the simulation.
+     */
+    public ProfilerOverlay(FrameProfiler profiler, PhaseTimer<?>... timers) {
+        this.profiler = profiler;
+        this.timers = timers;
+    }
+
+    /**
+     * Draws the bar graph, with the oldest frame to the left. The bars are scaled
+     * so that the frame that allocated the most fills the height of the graph.
+     * The shape renderer must have begun drawing filled shapes.
+     *
+     * @param shape  the shape renderer to draw with.
+     * @param x      the left edge of the graph.
+     * @param y      the bottom edge of the graph.
+     * @param width  the width of the graph.
+     * @param height the height of the graph.
+     */
+    public void drawGraph(ShapeRenderer shape, float x, float y, float width, float height) {
+        RollingHistogram updateBytes = profiler.getUpdateBytes();
+        RollingHistogram renderBytes = profiler.getRenderBytes();
+        RollingHistogram gcCounts = profiler.getGcCounts();
+
+        int count = updateBytes.getCount();
+        long largest = 1;
+        for (int i = 0; i < count; i++) {
+            largest = Math.max(largest, updateBytes.get(i) + renderBytes.get(i));
+        }
+
+        float barWidth = width / updateBytes.getCapacity();
+        float scale = height / largest;
+        for (int i = 0; i < count; i++) {
+            float barX = x + i * barWidth;
+            float updateHeight = updateBytes.get(i) * scale;
+            float renderHeight = renderBytes.get(i) * scale;
+
+            shape.setColor(UPDATE_COLOR);
+            shape.rect(barX, y, barWidth, updateHeight);
+            shape.setColor(RENDER_COLOR);
+            shape.rect(barX, y + updateHeight, barWidth, renderHeight);
+
+            if (gcCounts.get(i) > 0) {
+                shape.setColor(GC_COLOR);
+                shape.rect(barX, y + height, barWidth, 0.05f * height);
+            }
+        }
+    }
+
+    /**
+     * Draws the summary, one line per measurement, above the given bottom-left
+     * corner.
+     *
+     * @param batch    the batch to draw with, which must have begun drawing.
+     * @param font     the font to draw with.
+     * @param snapshot the snapshot drawn this frame, with the timing of the
+     *                 simulation's phases.
+     * @param x        the left edge of the text.
+     * @param y        the bottom edge of the text.
+     */
+    public void drawText(Batch batch, BitmapFont font, WorldSnapshot snapshot, float x, float y) {
+        text.setLength(0);
+        if (!profiler.isAllocationCountingSupported()) {
+            text.append("allocations: not supported by this JVM\n");
+        } else {
+            appendBytes("update", profiler.getUpdateBytes());
+            appendBytes("render", profiler.getRenderBytes());
+        }
+
+        text.append("gc: ").append(profiler.getGcCounts().getSum())
+                .append(" runs, ").append(profiler.getGcPauseMillis().getSum())
+                .append(" ms in ").append(profiler.getUpdateBytes().getCount()).append(" frames\n");
+        text.append("draw calls: ").append(profiler.getDrawCalls().getLatest()).append(" this frame, ")
+                .append(profiler.getDrawCalls().getMax()).append(" max\n");
+        snapshot.appendPhaseReport(text);
+        for (PhaseTimer<?> timer : timers) {
+            timer.appendReport(text);
+        }
+
+        int lines = 1;
+        for (int i = 0; i < text.length() - 1; i++) {
+            if (text.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        font.draw(batch, text, x, y + lines * font.getLineHeight());
+    }
+
+    private void appendBytes(String label, RollingHistogram bytes) {
+        text.append(label).append(": ")
+                .append(Math.round(bytes.getMean())).append(" B/frame avg, ")
+                .append(bytes.getPercentile(0.99)).append(" B p99, ")
+                .append(bytes.getMax()).append(" B max\n");
+    }
+}
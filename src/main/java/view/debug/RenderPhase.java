@@ -0,0 +1,10 @@
+package view.debug;
+
+/**
+ * The phases of drawing a frame of the space screen, as timed by the view.
+ */
+public enum RenderPhase {
+    SPRITES,
+    LIGHTING,
+    HUD,
+}
@@ -0,0 +1,167 @@
+package view.debug;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the last <code>capacity</code> samples of a non-negative measurement,
+ * along with a histogram of them in power-of-two buckets. Bucket 0 holds the
+ * samples that are 0, and bucket <code>i</code> holds the samples from
+ * <code>2^(i-1)</code> to <code>2^i - 1</code>.
+ * <p>
+ * The histogram is updated as samples are added and evicted, so adding a
+ * sample takes constant time and doesn't allocate.
+ */
+public class RollingHistogram {
+
+    public static final int BUCKETS = 64;
+
+    private final long[] samples;
+    private final int[] buckets = new int[BUCKETS];
+    private int head = 0;
+    private int count = 0;
+    private long sum = 0;
+
+    /**
+     * @param capacity the number of samples to keep.
+     * @throws IllegalArgumentException if <code>capacity</code> is less than 1.
+     */
+    public RollingHistogram(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * Adds a sample, evicting the oldest one if the histogram is full. Negative
+     * samples are counted as 0.
+     *
+     * @param sample the sample to add.
+     */
+    public void add(long sample) {
+        sample = Math.max(0, sample);
+        if (count == samples.length) {
+            long evicted = samples[head];
+            buckets[bucketOf(evicted)]--;
+            sum -= evicted;
+        } else {
+            count++;
+        }
+
+        samples[head] = sample;
+        buckets[bucketOf(sample)]++;
+        sum += sample;
+        head = (head + 1) % samples.length;
+    }
+
+    /**
+     * @param index the index of the sample, where 0 is the oldest sample kept.
+     * @return the sample at the given index.
+     * @throws IndexOutOfBoundsException if <code>index</code> is negative or not
+     *                                   less than {@link #getCount()}.
+     */
+    public long get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for " + count + " samples");
+        }
+        return samples[(head - count + index + samples.length) % samples.length];
+    }
+
+    /**
+     * @return the most recent sample, or 0 if there are no samples.
+     */
+    public long getLatest() {
+        return count == 0 ? 0 : get(count - 1);
+    }
+
+    /**
+     * @return the number of samples kept.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return samples.length;
+    }
+
+    /**
+     * @return the sum of the samples kept.
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the mean of the samples kept, or 0 if there are no samples.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @return the largest sample kept, or 0 if there are no samples.
+     */
+    public long getMax() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    /**
+     * @param bucket the bucket, from 0 to {@link #BUCKETS} - 1.
+     * @return the number of samples in the bucket.
+     */
+    public int getBucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Finds an upper bound for a percentile of the samples kept. The bound is the
+     * upper edge of the bucket the percentile falls in, so it is at most twice the
+     * exact percentile.
+     *
+     * @param percentile the percentile, from 0 to 1.
+     * @return an upper bound for the percentile, or 0 if there are no samples.
+     * @throws IllegalArgumentException if <code>percentile</code> is not between 0
+     *                                  and 1.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBound(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        head = 0;
+        count = 0;
+        sum = 0;
+        Arrays.fill(buckets, 0);
+    }
+
+    static int bucketOf(long sample) {
+        return 64 - Long.numberOfLeadingZeros(sample);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,380 @@
+package view.lighting;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import java.util.Arrays;
+
+/**
+ * Decides which lights are worth their cost in a frame. Every light in
+ * box2dlights casts all of its rays each frame, so the cost of lighting grows
+ * with the number of lights times their rays.
+ * <p>
+ * Each frame, the thrusters and lasers that could be lit are added as
+ * candidates, and {@link #plan()} then:
+ * <ol>
+ * <li>merges lasers that are close to each other into one cluster light,</li>
+ * <li>culls lights that can't reach into the camera's view,</li>
+ * <li>keeps at most {@link #getMaxLights()} lights, preferring the player's
+ * thrusters and then the lights closest to the player,</li>
+ * <li>and gives laser lights far from the player fewer rays.</li>
+ * </ol>
+ * The budget only plans, and doesn't touch any box2dlights object, so it can be
+ * used without a graphics context. It doesn't allocate once its arrays have
+ * grown to the largest number of candidates seen.
+ */
+public class LightBudget {
+
+    /**
+     * The ray count of a light that is close to the player.
+     */
+    public static final int NEAR_RAYS = 12;
+
+    /**
+     * The ray count of a light that is far from the player.
+     */
+    public static final int FAR_RAYS = 5;
+
+    private static final int PLAYER_THRUSTER = 0;
+    private static final int THRUSTER = 1;
+    private static final int CLUSTER = 2;
+
+    private final int maxLights;
+    private final float clusterRadius;
+    private final float nearDistance;
+
+    // view and player position of the frame being planned
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+    private float playerX;
+    private float playerY;
+
+    private float[] thrusterX = new float[16];
+    private float[] thrusterY = new float[16];
+    private boolean[] playerThruster = new boolean[16];
+    private boolean[] thrusterLit = new boolean[16];
+    private int thrusterCount;
+
+    private float[] laserX = new float[16];
+    private float[] laserY = new float[16];
+    private int laserCount;
+
+    private final IntIntMap clusterCells = new IntIntMap();
+    private float[] clusterX = new float[16];
+    private float[] clusterY = new float[16];
+    private int[] clusterSize = new int[16];
+    private boolean[] clusterLit = new boolean[16];
+    private int clusterCount;
+
+    // candidates that survived culling: their kind, index and priority
+    private int[] candidateKind = new int[32];
+    private int[] candidateIndex = new int[32];
+    private float[] candidatePriority = new float[32];
+    private int candidateCount;
+    private int litCount;
+
+    /**
+     * @param maxLights     the largest number of lights to keep lit.
+     * @param clusterRadius the size of the cells that lasers are clustered in.
+     *                      Lasers in the same cell share one light.
+     * @param nearDistance  the distance from the player within which lights get
+     *                      {@link #NEAR_RAYS} rays.
+     * @throws IllegalArgumentException if <code>maxLights</code> is negative, or
+     *                                  <code>clusterRadius</code> isn't positive.
+     */
+    public LightBudget(int maxLights, float clusterRadius, float nearDistance) {
+        if (maxLights < 0) {
+            throw new IllegalArgumentException("maxLights can't be negative");
+        }
+        if (clusterRadius <= 0f) {
+            throw new IllegalArgumentException("clusterRadius must be positive");
+        }
+        this.maxLights = maxLights;
+        this.clusterRadius = clusterRadius;
+        this.nearDistance = nearDistance;
+    }
+
+    /**
+     * Starts planning a frame, removing the candidates of the last frame.
+     *
+     * @param minX    the left edge of the camera's view.
+     * @param minY    the bottom edge of the camera's view.
+     * @param maxX    the right edge of the camera's view.
+     * @param maxY    the top edge of the camera's view.
+     * @param playerX the x coordinate of the player.
+     * @param playerY the y coordinate of the player.
+     */
+    public void begin(float minX, float minY, float maxX, float maxY, float playerX, float playerY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        thrusterCount = 0;
+        laserCount = 0;
+        clusterCount = 0;
+        candidateCount = 0;
+        litCount = 0;
+    }
+
+    /**
+     * Adds a thruster flame that could be lit.
+     *
+     * @param x      the x coordinate of the flame.
+     * @param y      the y coordinate of the flame.
+     * @param player true if the thruster belongs to the player's ship.
+     * @return the index of the thruster, for {@link #isThrusterLit(int)}.
+     */
+    public int addThruster(float x, float y, boolean player) {
+        if (thrusterCount == thrusterX.length) {
+            int capacity = 2 * thrusterCount;
+            thrusterX = Arrays.copyOf(thrusterX, capacity);
+            thrusterY = Arrays.copyOf(thrusterY, capacity);
+            playerThruster = Arrays.copyOf(playerThruster, capacity);
+            thrusterLit = Arrays.copyOf(thrusterLit, capacity);
+        }
+        thrusterX[thrusterCount] = x;
+        thrusterY[thrusterCount] = y;
+        playerThruster[thrusterCount] = player;
+        thrusterLit[thrusterCount] = false;
+        return thrusterCount++;
+    }
+
+    /**
+     * Adds a laser that could be lit.
+     *
+     * @param x the x coordinate of the laser.
+     * @param y the y coordinate of the laser.
+     */
+    public void addLaser(float x, float y) {
+        if (laserCount == laserX.length) {
+            laserX = Arrays.copyOf(laserX, 2 * laserCount);
+            laserY = Arrays.copyOf(laserY, 2 * laserCount);
+        }
+        laserX[laserCount] = x;
+        laserY[laserCount] = y;
+        laserCount++;
+    }
+
+    /**
+     * Plans the frame from the candidates added since {@link #begin}.
+     *
+     * @param thrusterReach how far a thruster light reaches.
+     * @param laserReach    how far the light of a single laser reaches.
+     */
+    public void plan(float thrusterReach, float laserReach) {
+        clusterLasers();
+
+        for (int i = 0; i < thrusterCount; i++) {
+            if (isVisible(thrusterX[i], thrusterY[i], thrusterReach)) {
+                float priority = playerThruster[i] ? -1f : distanceToPlayer2(thrusterX[i], thrusterY[i]);
+                addCandidate(playerThruster[i] ? PLAYER_THRUSTER : THRUSTER, i, priority);
+            }
+        }
+        for (int i = 0; i < clusterCount; i++) {
+            if (isVisible(clusterX[i], clusterY[i], getClusterReach(i, laserReach))) {
+                addCandidate(CLUSTER, i, distanceToPlayer2(clusterX[i], clusterY[i]));
+            }
+        }
+
+        // only the closest lights need to be found, not sorted
+        litCount = Math.min(maxLights, candidateCount);
+        if (litCount < candidateCount) {
+            select(litCount);
+        }
+        for (int i = 0; i < litCount; i++) {
+            if (candidateKind[i] == CLUSTER) {
+                clusterLit[candidateIndex[i]] = true;
+            } else {
+                thrusterLit[candidateIndex[i]] = true;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #plan(float, float)}, with the default reach of
+     * {@link ThrusterLight} and {@link LaserLight}.
+     */
+    public void plan() {
+        plan(ThrusterLight.defaultDistance, LaserLight.defaultDistance);
+    }
+
+    private void clusterLasers() {
+        clusterCells.clear();
+        for (int i = 0; i < laserCount; i++) {
+            int cell = cellKey(laserX[i], laserY[i]);
+            int cluster = clusterCells.get(cell, -1);
+            if (cluster < 0) {
+                cluster = newCluster();
+                clusterCells.put(cell, cluster);
+            }
+            clusterX[cluster] += laserX[i];
+            clusterY[cluster] += laserY[i];
+            clusterSize[cluster]++;
+        }
+        for (int i = 0; i < clusterCount; i++) {
+            clusterX[i] /= clusterSize[i];
+            clusterY[i] /= clusterSize[i];
+        }
+    }
+
+    private int newCluster() {
+        if (clusterCount == clusterX.length) {
+            int capacity = 2 * clusterCount;
+            clusterX = Arrays.copyOf(clusterX, capacity);
+            clusterY = Arrays.copyOf(clusterY, capacity);
+            clusterSize = Arrays.copyOf(clusterSize, capacity);
+            clusterLit = Arrays.copyOf(clusterLit, capacity);
+        }
+        clusterX[clusterCount] = 0f;
+        clusterY[clusterCount] = 0f;
+        clusterSize[clusterCount] = 0;
+        clusterLit[clusterCount] = false;
+        return clusterCount++;
+    }
+
+    private int cellKey(float x, float y) {
+        int col = (int) Math.floor(x / clusterRadius);
+        int row = (int) Math.floor(y / clusterRadius);
+        return (col << 16) ^ (row & 0xFFFF);
+    }
+
+    private boolean isVisible(float x, float y, float reach) {
+        return x + reach >= minX && x - reach <= maxX && y + reach >= minY && y - reach <= maxY;
+    }
+
+    private float distanceToPlayer2(float x, float y) {
+        float dx = x - playerX;
+        float dy = y - playerY;
+        return dx * dx + dy * dy;
+    }
+
+    private void addCandidate(int kind, int index, float priority) {
+        if (candidateCount == candidateKind.length) {
+            int capacity = 2 * candidateCount;
+            candidateKind = Arrays.copyOf(candidateKind, capacity);
+            candidateIndex = Arrays.copyOf(candidateIndex, capacity);
+            candidatePriority = Arrays.copyOf(candidatePriority, capacity);
+        }
+        candidateKind[candidateCount] = kind;
+        candidateIndex[candidateCount] = index;
+        candidatePriority[candidateCount] = priority;
+        candidateCount++;
+    }
+
+    /**
+     * Moves the <code>k</code> candidates with the lowest priority values to the
+     * front, in no particular order, by quickselect.
+     */
+    private void select(int k) {
+        int left = 0;
+        int right = candidateCount - 1;
+        while (left < right) {
+            int pivot = partition(left, right, (left + right) >>> 1);
+            if (pivot == k) {
+                return;
+            } else if (pivot < k) {
+                left = pivot + 1;
+            } else {
+                right = pivot - 1;
+            }
+        }
+    }
+
+    private int partition(int left, int right, int pivotIndex) {
+        float pivot = candidatePriority[pivotIndex];
+        swap(pivotIndex, right);
+        int store = left;
+        for (int i = left; i < right; i++) {
+            if (candidatePriority[i] < pivot) {
+                swap(i, store);
+                store++;
+            }
+        }
+        swap(store, right);
+        return store;
+    }
+
+    private void swap(int a, int b) {
+        int kind = candidateKind[a];
+        candidateKind[a] = candidateKind[b];
+        candidateKind[b] = kind;
+        int index = candidateIndex[a];
+        candidateIndex[a] = candidateIndex[b];
+        candidateIndex[b] = index;
+        float priority = candidatePriority[a];
+        candidatePriority[a] = candidatePriority[b];
+        candidatePriority[b] = priority;
+    }
+
+    public int getMaxLights() {
+        return maxLights;
+    }
+
+    /**
+     * @return the number of lights that are lit in the planned frame.
+     */
+    public int getLitCount() {
+        return litCount;
+    }
+
+    /**
+     * @param thruster the index returned by {@link #addThruster}.
+     * @return true if the thruster is lit in the planned frame.
+     */
+    public boolean isThrusterLit(int thruster) {
+        return thrusterLit[thruster];
+    }
+
+    /**
+     * @return the number of laser clusters, lit or not.
+     */
+    public int getClusterCount() {
+        return clusterCount;
+    }
+
+    public boolean isClusterLit(int cluster) {
+        return clusterLit[cluster];
+    }
+
+    public float getClusterX(int cluster) {
+        return clusterX[cluster];
+    }
+
+    public float getClusterY(int cluster) {
+        return clusterY[cluster];
+    }
+
+    /**
+     * @param cluster the cluster.
+     * @return the number of lasers in the cluster.
+     */
+    public int getClusterSize(int cluster) {
+        return clusterSize[cluster];
+    }
+
+    /**
+     * A cluster reaches further the more lasers it holds, up to twice the reach
+     * of a single laser.
+     *
+     * @param cluster    the cluster.
+     * @param laserReach how far the light of a single laser reaches.
+     * @return how far the cluster's light reaches.
+     */
+    public float getClusterReach(int cluster, float laserReach) {
+        return laserReach * Math.min(2f, (float) Math.sqrt(clusterSize[cluster]));
+    }
+
+    /**
+     * @param cluster the cluster.
+     * @return the ray count the cluster's light should have.
+     */
+    public int getClusterRays(int cluster) {
+        return rays(clusterX[cluster], clusterY[cluster]);
+    }
+
+    private int rays(float x, float y) {
+        return distanceToPlayer2(x, y) <= nearDistance * nearDistance ? NEAR_RAYS : FAR_RAYS;
+    }
+}
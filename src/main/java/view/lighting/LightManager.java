@@ -0,0 +1,162 @@
+package view.lighting;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import model.simulation.WorldSnapshot;
+import view.screens.SpaceScreen;
+
+/**
+ * Lights thrusters and lasers within a {@link LightBudget}. Each frame, it
+ * plans which lights to keep, turns off the thruster lights of ships that lost
+ * out, and lights each kept cluster of lasers with one {@link LaserLight}.
+ * <p>
+ * box2dlights can't change the ray count of a light once it's made, so laser
+ * lights come from two pools, one with {@link LightBudget#NEAR_RAYS} rays and
+ * one with {@link LightBudget#FAR_RAYS}.
+ */
+public class LightManager {
+
+    private final LightBudget budget;
+    private final Pool<LaserLight> nearLights = new LaserLightPool(LightBudget.NEAR_RAYS);
+    private final Pool<LaserLight> farLights = new LaserLightPool(LightBudget.FAR_RAYS);
+    private final Array<LaserLight> litNear = new Array<>(false, 32);
+    private final Array<LaserLight> litFar = new Array<>(false, 32);
+
+    private static class LaserLightPool extends Pool<LaserLight> {
+
+        private final int rays;
+
+        LaserLightPool(int rays) {
+            this.rays = rays;
+        }
+
+        @Override
+        protected LaserLight newObject() {
+            return new LaserLight(SpaceScreen.rayHandler, rays, LaserLight.defaultColor,
+                    LaserLight.defaultDistance, 0f, 0f);
+        }
+    }
+
+    /**
+     * @param budget the budget to plan the lights of each frame with.
+     */
+    public LightManager(LightBudget budget) {
+        this.budget = budget;
+        nearLights.fill(budget.getMaxLights());
+        farLights.fill(budget.getMaxLights());
+    }
+
+    /**
+     * Positions and turns on or off every thruster and laser light for a frame.
+     *
+     * @param snapshot       the ships and lasers to light.
+     * @param thrusterLights the thruster lights of the ships.
+     * @param alpha          how far the frame is between the last two
+     *                       simulation ticks.
+     * @param minX           the left edge of the camera's view.
+     * @param minY           the bottom edge of the camera's view.
+     * @param maxX           the right edge of the camera's view.
+     * @param maxY           the top edge of the camera's view.
+     * @param lightPlayer    false to turn off the lights of the player's ship.
+     */
+    public void update(WorldSnapshot snapshot, ShipThrusterLightMap thrusterLights,
+            float alpha, float minX, float minY, float maxX, float maxY, boolean lightPlayer) {
+        float playerX = (minX + maxX) / 2f;
+        float playerY = (minY + maxY) / 2f;
+        for (int s = 0; s < snapshot.getShipCount(); s++) {
+            if (snapshot.isPlayerShip(s)) {
+                playerX = snapshot.getShipCenterOfMassX(s);
+                playerY = snapshot.getShipCenterOfMassY(s);
+            }
+        }
+        budget.begin(minX, minY, maxX, maxY, playerX, playerY);
+
+        for (int s = 0; s < snapshot.getShipCount(); s++) {
+            if (isThrusting(snapshot, s, lightPlayer)) {
+                for (int i = 0; i < snapshot.getShipThrusterCount(s); i++) {
+                    budget.addThruster(snapshot.getThrusterX(s, i), snapshot.getThrusterY(s, i),
+                            snapshot.isPlayerShip(s));
+                }
+            }
+        }
+        for (int i = 0; i < snapshot.getLaserCount(); i++) {
+            budget.addLaser(snapshot.getLaserX(i, alpha), snapshot.getLaserY(i, alpha));
+        }
+
+        budget.plan();
+        applyThrusters(snapshot, thrusterLights, lightPlayer);
+        applyLasers();
+    }
+
+    private static boolean isThrusting(WorldSnapshot snapshot, int ship, boolean lightPlayer) {
+        return !snapshot.isPlayerShip(ship) || (lightPlayer && snapshot.isShipAccelerating(ship));
+    }
+
+    private void applyThrusters(WorldSnapshot snapshot, ShipThrusterLightMap thrusterLights, boolean lightPlayer) {
+        // the thrusters were added in this order, so their indices follow it
+        int thruster = 0;
+        for (int s = 0; s < snapshot.getShipCount(); s++) {
+            int thrusterCount = snapshot.getShipThrusterCount(s);
+            ThrusterLight[] lights = thrusterLights.obtain(snapshot.getShip(s), thrusterCount);
+            boolean thrusting = isThrusting(snapshot, s, lightPlayer);
+
+            // the lights are indexed by the ship's thruster slots
+            for (int i = 0; i < thrusterCount; i++) {
+                boolean lit = thrusting && budget.isThrusterLit(thruster + i);
+                ThrusterLight light = lights[i];
+                if (lit) {
+                    light.setPosition(snapshot.getThrusterX(s, i), snapshot.getThrusterY(s, i));
+                    light.setDirection(snapshot.getShipRotationAngle(s) - 90f);
+                }
+                if (light.isActive() != lit) {
+                    light.setActive(lit);
+                }
+            }
+            if (thrusting) {
+                thruster += thrusterCount;
+            }
+        }
+    }
+
+    private void applyLasers() {
+        freeAll(litNear, nearLights);
+        freeAll(litFar, farLights);
+
+        for (int i = 0; i < budget.getClusterCount(); i++) {
+            if (!budget.isClusterLit(i)) {
+                continue;
+            }
+            boolean near = budget.getClusterRays(i) == LightBudget.NEAR_RAYS;
+            LaserLight light = near ? nearLights.obtain() : farLights.obtain();
+            (near ? litNear : litFar).add(light);
+
+            light.setPosition(budget.getClusterX(i), budget.getClusterY(i));
+            light.setDistance(budget.getClusterReach(i, LaserLight.defaultDistance));
+            light.setActive(true);
+        }
+    }
+
+    private static void freeAll(Array<LaserLight> lit, Pool<LaserLight> pool) {
+        for (int i = 0; i < lit.size; i++) {
+            pool.free(lit.get(i));
+        }
+        lit.clear();
+    }
+
+    /**
+     * @return the number of thruster and laser lights lit in the last frame.
+     */
+    public int getLitCount() {
+        return budget.getLitCount();
+    }
+
+    /**
+     * Turns off every laser light. Thruster lights belong to the
+     * {@link ShipThrusterLightMap} and are turned off there.
+     */
+    public void deactivateAll() {
+        freeAll(litNear, nearLights);
+        freeAll(litFar, farLights);
+    }
+}
@@ -1,61 +1,138 @@
 package view.lighting;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.function.Supplier;
 
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Pool;
 
-import grid.CellPosition;
-import model.ShipComponents.UpgradeType;
+import model.ShipLifecycleCallback;
 import model.SpaceCharacters.Ships.SpaceShip;
 
+/**
+ * Keeps one {@link ThrusterLight} per thruster of every ship in the game.
+ * <p>
+ * A ship is given its lights the first time they are asked for, sized to the
+ * number of thrusters it has then, so that the map never has to read the
+ * ship itself. The model's despawn events free them again, so the map's cost
+ * follows the number of ships that come and go rather than the number of
+ * ships in the game. Each ship's lights are kept in an array indexed by the
+ * ship's thruster slots, in the same order as its
+ * <code>ShipTransformCache</code>. When a ship despawns, its array is turned
+ * off and kept for the next ship with as many thrusters, so that lights are
+ * reused rather than made anew.
+ */
+public class ShipThrusterLightMap implements ShipLifecycleCallback {
 
-public class ShipThrusterLightMap {
+    private static final ThrusterLight[] NO_LIGHTS = new ThrusterLight[0];
 
-    Pool<ThrusterLight> thrusterLightPool = new Pool<ThrusterLight>() {
-        @Override
-        protected ThrusterLight newObject() {
-            return new ThrusterLight();
-        }
-    };
+    private final Pool<ThrusterLight> thrusterLightPool;
+    private final IdentityHashMap<SpaceShip, ThrusterLight[]> thrusterLights = new IdentityHashMap<>();
+    // arrays of despawned ships, by length
+    private final IntMap<Array<ThrusterLight[]>> freeArrays = new IntMap<>();
 
-    public final HashMap<SpaceShip, List<ThrusterLight>> thrusterLightMap = new HashMap<>();
+    /**
+     * @param lightFactory makes a new light, the first time it is needed.
+     * @param lightPreFill the number of lights to make up front.
+     */
+    public ShipThrusterLightMap(Supplier<ThrusterLight> lightFactory, int lightPreFill) {
+        this.thrusterLightPool = new Pool<>() {
+            @Override
+            protected ThrusterLight newObject() {
+                ThrusterLight light = lightFactory.get();
+                light.init();
+                light.setActive(false);
+                return light;
+            }
+        };
+        thrusterLightPool.fill(lightPreFill);
+    }
 
     public ShipThrusterLightMap(int lightPreFill) {
-        thrusterLightPool.fill(lightPreFill);
+        this(ThrusterLight::new, lightPreFill);
     }
 
-    public void update(List<SpaceShip> spaceShips) {
-        // Remove destroyed ships from map
-        Iterator<SpaceShip> shipIterator = thrusterLightMap.keySet().iterator();
-        while (shipIterator.hasNext()) {
-            SpaceShip ship = shipIterator.next();
-            if (!spaceShips.contains(ship)) {
-                for (ThrusterLight thrusterLight : thrusterLightMap.get(ship)) {
-                    thrusterLightPool.free(thrusterLight);
-                }
-                shipIterator.remove();
-            }
+    /**
+     * A pooled ship may spawn again without having despawned, so any lights it
+     * still has are freed, to be sized anew when they are next asked for.
+     */
+    @Override
+    public void shipSpawned(SpaceShip ship) {
+        shipDespawned(ship);
+    }
+
+    /**
+     * @param ship          a ship in the game.
+     * @param thrusterCount the number of thrusters the ship has.
+     * @return the lights of the ship's thrusters, indexed by thruster slot. A
+     *         ship that has no lights yet, or whose number of thrusters has
+     *         changed, is given new ones.
+     */
+    public ThrusterLight[] obtain(SpaceShip ship, int thrusterCount) {
+        ThrusterLight[] lights = thrusterLights.get(ship);
+        if (lights != null && lights.length == thrusterCount) {
+            return lights;
         }
+        shipDespawned(ship);
 
-        // Add new ships to map
-        for (SpaceShip ship : spaceShips) {
-            if (!this.thrusterLightMap.containsKey(ship)) {
-                List<CellPosition> thrusters = ship.getUpgradeTypePositions(UpgradeType.THRUSTER);
-                List<ThrusterLight> thrusterLights = new LinkedList<ThrusterLight>();
-                for (int i = 0; i < thrusters.size(); i++) {
-                    ThrusterLight thrusterLight = thrusterLightPool.obtain();
-                    thrusterLight.init();
-                    thrusterLights.add(thrusterLight);
-                }
-                this.thrusterLightMap.put(ship, thrusterLights);
+        Array<ThrusterLight[]> free = freeArrays.get(thrusterCount);
+        if (thrusterCount == 0) {
+            lights = NO_LIGHTS;
+        } else if (free != null && free.notEmpty()) {
+            lights = free.pop();
+        } else {
+            lights = new ThrusterLight[thrusterCount];
+            for (int i = 0; i < thrusterCount; i++) {
+                lights[i] = thrusterLightPool.obtain();
             }
         }
+        thrusterLights.put(ship, lights);
+        return lights;
+    }
+
+    @Override
+    public void shipDespawned(SpaceShip ship) {
+        ThrusterLight[] lights = thrusterLights.remove(ship);
+        if (lights == null || lights.length == 0) {
+            return;
+        }
+        for (ThrusterLight light : lights) {
+            light.setActive(false);
+        }
+
+        Array<ThrusterLight[]> free = freeArrays.get(lights.length);
+        if (free == null) {
+            free = new Array<>(false, 4, ThrusterLight[].class);
+            freeArrays.put(lights.length, free);
+        }
+        free.add(lights);
+    }
+
+    /**
+     * @param ship a ship in the game.
+     * @return the lights of the ship's thrusters, indexed by thruster slot, or
+     *         null if the ship has none.
+     */
+    public ThrusterLight[] get(SpaceShip ship) {
+        return thrusterLights.get(ship);
+    }
+
+    /**
+     * @return the number of ships that have lights.
+     */
+    public int size() {
+        return thrusterLights.size();
     }
 
-    public List<ThrusterLight> get(SpaceShip ship) {
-        return thrusterLightMap.get(ship);
+    /**
+     * Turns off the lights of every ship, without despawning them.
+     */
+    public void deactivateAll() {
+        for (ThrusterLight[] lights : thrusterLights.values()) {
+            for (ThrusterLight light : lights) {
+                light.setActive(false);
+            }
+        }
     }
 }
@@ -0,0 +1,143 @@
+package view.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import model.ShipComponents.UpgradeStage;
+import model.ShipComponents.UpgradeType;
+import model.simulation.WorldSnapshot;
+
+/**
+ * Draws the fuselage and upgrades of space ships without changing the batch's
+ * transform matrix.
+ * <p>
+ * Setting a transform matrix flushes the batch, so drawing every ship with its
+ * own matrix costs at least one draw call per ship. Instead, the corners of
+ * every cell are rotated and translated here, from a sine and cosine computed
+ * once per ship, and handed to the batch as finished vertices. All ships then
+ * share the batch's draw calls, which are only flushed when the texture
+ * changes.
+ * <p>
+ * The ships are read from a {@link WorldSnapshot}, so that they can be drawn
+ * while the simulation runs on another thread.
+ */
+public class ShipRenderer {
+
+    private static final int VERTICES_PER_SPRITE = 20;
+    private static final UpgradeType[] TYPES = UpgradeType.values();
+    private static final UpgradeStage[] STAGES = UpgradeStage.values();
+
+    private final UpgradeSprites sprites;
+    private final float[] vertices = new float[VERTICES_PER_SPRITE];
+
+    // the ship being drawn
+    private Batch batch;
+    private float centerX;
+    private float centerY;
+    private float relativeCenterX;
+    private float relativeCenterY;
+    private float cos;
+    private float sin;
+    private float color;
+    private int cellsDrawn;
+
+    /**
+     * @param sprites the sprites of the upgrades and fuselage. If they are made
+     *                from one atlas page, all ships draw without a flush.
+     */
+    public ShipRenderer(UpgradeSprites sprites) {
+        this.sprites = sprites;
+    }
+
+    /**
+     * Draws the ships of a snapshot between their last two simulation ticks.
+     *
+     * @param batch      the batch to draw with, which must have begun drawing.
+     * @param snapshot   the ships to draw.
+     * @param alpha      how far to interpolate between the ships' previous and
+     *                   current states.
+     * @param drawPlayer false to leave out the player's ship.
+     * @return the number of sprites drawn.
+     */
+    public int draw(Batch batch, WorldSnapshot snapshot, float alpha, boolean drawPlayer) {
+        this.batch = batch;
+        this.color = batch.getPackedColor();
+        this.cellsDrawn = 0;
+
+        for (int i = 0; i < snapshot.getShipCount(); i++) {
+            if (snapshot.isPlayerShip(i) && !drawPlayer) {
+                continue;
+            }
+            draw(snapshot, i, alpha);
+        }
+
+        this.batch = null;
+        return cellsDrawn;
+    }
+
+    private void draw(WorldSnapshot snapshot, int ship, float alpha) {
+        boolean playerShip = snapshot.isPlayerShip(ship);
+        relativeCenterX = snapshot.getShipRelativeCenterOfMassX(ship);
+        relativeCenterY = snapshot.getShipRelativeCenterOfMassY(ship);
+        centerX = snapshot.getShipX(ship, alpha) + relativeCenterX;
+        centerY = snapshot.getShipY(ship, alpha) + relativeCenterY;
+
+        float radians = (float) Math.toRadians(snapshot.getShipRotationAngle(ship, alpha));
+        cos = (float) Math.cos(radians);
+        sin = (float) Math.sin(radians);
+
+        int first = snapshot.getShipFirstCell(ship);
+        for (int cell = first; cell < first + snapshot.getShipCellCount(ship); cell++) {
+            // the cell's center, rotated about the ship's center of mass
+            float dx = snapshot.getCellCol(cell) - relativeCenterX;
+            float dy = snapshot.getCellRow(cell) - relativeCenterY;
+            float x = centerX + cos * dx - sin * dy;
+            float y = centerY + sin * dx + cos * dy;
+
+            UpgradeStage fuselageStage = STAGES[snapshot.getFuselageStage(cell)];
+            Sprite fuselageSprite = playerShip
+                    ? sprites.get(TYPES[snapshot.getFuselageType(cell)], fuselageStage)
+                    : sprites.getEnemyFuselage(fuselageStage);
+            drawRotated(fuselageSprite, x, y);
+
+            if (snapshot.getUpgradeType(cell) >= 0) {
+                drawRotated(sprites.get(TYPES[snapshot.getUpgradeType(cell)],
+                        STAGES[snapshot.getUpgradeStage(cell)]), x, y);
+            }
+        }
+    }
+
+    private void drawRotated(Sprite sprite, float x, float y) {
+        // half of the sprite's sides, rotated with the ship
+        float halfWidth = sprite.getWidth() / 2f;
+        float halfHeight = sprite.getHeight() / 2f;
+        float ax = cos * halfWidth;
+        float ay = sin * halfWidth;
+        float bx = -sin * halfHeight;
+        float by = cos * halfHeight;
+
+        TextureRegion region = sprite;
+        float u = region.getU();
+        float v = region.getV();
+        float u2 = region.getU2();
+        float v2 = region.getV2();
+
+        // bottom left, top left, top right and bottom right, as SpriteBatch expects
+        put(0, x - ax - bx, y - ay - by, u, v2);
+        put(5, x - ax + bx, y - ay + by, u, v);
+        put(10, x + ax + bx, y + ay + by, u2, v);
+        put(15, x + ax - bx, y + ay - by, u2, v2);
+
+        batch.draw(region.getTexture(), vertices, 0, VERTICES_PER_SPRITE);
+        cellsDrawn++;
+    }
+
+    private void put(int offset, float x, float y, float u, float v) {
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = color;
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+    }
+}
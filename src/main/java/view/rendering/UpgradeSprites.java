@@ -0,0 +1,120 @@
+package view.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import model.ShipComponents.UpgradeStage;
+import model.ShipComponents.UpgradeType;
+
+/**
+ * The sprites of every upgrade and fuselage, by type and stage, kept in arrays
+ * indexed by the enums' ordinals rather than in nested maps.
+ * <p>
+ * The sprites are made from regions of the gameplay sprite atlas,
+ * {@link #ATLAS}, so that they share one texture and can be drawn without
+ * rebinding it.
+ */
+public class UpgradeSprites {
+
+    /**
+     * The atlas holding every gameplay sprite, packed by
+     * <code>tools.SpriteAtlasPacker</code>.
+     */
+    public static final String ATLAS = "images/sprites.atlas";
+
+    /**
+     * The atlas region of the fuselage of enemy ships, indexed by stage.
+     */
+    public static final String ENEMY_FUSELAGE_REGION = "fuselage_enemy_stage";
+
+    /**
+     * Makes a sprite from a region of an atlas, like
+     * {@link TextureAtlas#createSprite(String, int)}.
+     */
+    @FunctionalInterface
+    public interface SpriteSource {
+
+        /**
+         * @param name  the name of the region.
+         * @param index the index of the region.
+         * @return a new sprite of the region, or null if there is no such region.
+         */
+        Sprite createSprite(String name, int index);
+    }
+
+    private final Sprite[][] upgrades;
+    private final Sprite[] enemyFuselage;
+
+    /**
+     * Makes the sprites from the given atlas.
+     *
+     * @param atlas  the atlas, normally the one loaded from {@link #ATLAS}.
+     * @param width  the width of every sprite.
+     * @param height the height of every sprite.
+     * @throws IllegalArgumentException if the atlas lacks a region.
+     */
+    public UpgradeSprites(TextureAtlas atlas, float width, float height) {
+        this(atlas::createSprite, width, height);
+    }
+
+    /**
+     * @param source where to make the sprites from.
+     * @param width  the width of every sprite.
+     * @param height the height of every sprite.
+     * @throws IllegalArgumentException if <code>source</code> lacks a region.
+     */
+    public UpgradeSprites(SpriteSource source, float width, float height) {
+        UpgradeType[] types = UpgradeType.values();
+        UpgradeStage[] stages = UpgradeStage.values();
+
+        upgrades = new Sprite[types.length][stages.length];
+        for (UpgradeType type : types) {
+            for (UpgradeStage stage : stages) {
+                upgrades[type.ordinal()][stage.ordinal()] = createSprite(source, regionName(type), stage, width,
+                        height);
+            }
+        }
+
+        enemyFuselage = new Sprite[stages.length];
+        for (UpgradeStage stage : stages) {
+            enemyFuselage[stage.ordinal()] = createSprite(source, ENEMY_FUSELAGE_REGION, stage, width, height);
+        }
+    }
+
+    /**
+     * @param type the type of upgrade.
+     * @return the name of the atlas region of the upgrade, indexed by stage.
+     */
+    public static String regionName(UpgradeType type) {
+        return type.name().toLowerCase() + "_stage";
+    }
+
+    /**
+     * @param type  the type of the upgrade, or {@link UpgradeType#FUSELAGE} for
+     *              the player's fuselage.
+     * @param stage the stage of the upgrade.
+     * @return the sprite of the upgrade.
+     */
+    public Sprite get(UpgradeType type, UpgradeStage stage) {
+        return upgrades[type.ordinal()][stage.ordinal()];
+    }
+
+    /**
+     * @param stage the stage of the fuselage.
+     * @return the sprite of the fuselage of enemy ships.
+     */
+    public Sprite getEnemyFuselage(UpgradeStage stage) {
+        return enemyFuselage[stage.ordinal()];
+    }
+
+    private static Sprite createSprite(SpriteSource source, String name, UpgradeStage stage, float width,
+            float height) {
+        Sprite sprite = source.createSprite(name, stage.ordinal());
+        if (sprite == null) {
+            throw new IllegalArgumentException("No sprite " + name + " for stage " + stage.ordinal());
+        }
+        sprite.setSize(width, height);
+        sprite.setOrigin(width / 2, height / 2);
+        return sprite;
+    }
+}
@@ -25,6 +25,7 @@ import model.GameStateModel;
 import view.Palette;
 import view.SpaceGame;
 import view.bars.PercentageBar;
+import view.rendering.UpgradeSprites;
 
 public class LoadingScreen implements Screen {
 
@@ -71,48 +72,8 @@ public class LoadingScreen implements Screen {
         queueTexture("images/space/background/bkgd_6.png");
         queueTexture("images/space/background/bkgd_7.png");
 
-        // space objects
-        queueTexture("images/space/asteroid_0.png");
-        queueTexture("images/space/asteroid_1.png");
-        queueTexture("images/space/laser_shot_0.png");
-        queueTexture("images/space/diamond.png");
-        queueTexture("images/space/star.png");
-
-        // upgrade screen
-        queueTexture("images/upgrade_grid_tile_green.png");
-        queueTexture("images/upgrade_grid_tile_red.png");
-        queueTexture("images/upgrade_grid_tile_gray.png");
-
-        // ship parts
-        queueTexture("images/upgrades/turret_stage_0.png");
-        queueTexture("images/upgrades/turret_stage_1.png");
-        queueTexture("images/upgrades/turret_stage_2.png");
-        queueTexture("images/upgrades/turret_stage_3.png");
-        queueTexture("images/upgrades/turret_stage_4.png");
-
-        queueTexture("images/upgrades/fuselage_stage_0.png");
-        queueTexture("images/upgrades/fuselage_stage_1.png");
-        queueTexture("images/upgrades/fuselage_stage_2.png");
-        queueTexture("images/upgrades/fuselage_stage_3.png");
-        queueTexture("images/upgrades/fuselage_stage_4.png");
-
-        queueTexture("images/upgrades/thruster_stage_0.png");
-        queueTexture("images/upgrades/thruster_stage_1.png");
-        queueTexture("images/upgrades/thruster_stage_2.png");
-        queueTexture("images/upgrades/thruster_stage_3.png");
-        queueTexture("images/upgrades/thruster_stage_4.png");
-
-        queueTexture("images/upgrades/shield_stage_0.png");
-        queueTexture("images/upgrades/shield_stage_1.png");
-        queueTexture("images/upgrades/shield_stage_2.png");
-        queueTexture("images/upgrades/shield_stage_3.png");
-        queueTexture("images/upgrades/shield_stage_4.png");
-
-        queueTexture("images/upgrades/fuselage_enemy_stage_0.png");
-        queueTexture("images/upgrades/fuselage_enemy_stage_1.png");
-        queueTexture("images/upgrades/fuselage_enemy_stage_2.png");
-        queueTexture("images/upgrades/fuselage_enemy_stage_3.png");
-        queueTexture("images/upgrades/fuselage_enemy_stage_4.png");
+        // space objects, upgrade screen tiles and ship parts, packed into one atlas
+        queueTextureAtlas(UpgradeSprites.ATLAS);
 
         // ui
         queueTexture("images/ui/Mouse_Left_Key_Light.png");
@@ -3,6 +3,7 @@ package view.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -17,47 +18,46 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
-import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 import box2dLight.RayHandler;
 import controller.SpaceScreenController;
-import grid.GridCell;
-import model.Globals.Collectable;
-import model.ShipComponents.Components.Fuselage;
-import model.ShipComponents.Components.Thruster;
-import model.ShipComponents.UpgradeStage;
-import model.ShipComponents.UpgradeType;
-import model.SpaceCharacters.Asteroid;
-import model.SpaceCharacters.Bullet;
-import model.SpaceCharacters.Diamond;
+import controller.audio.SoundEffect;
 import model.SpaceCharacters.Ships.SpaceShip;
 import model.constants.PhysicsParameters;
 import model.GameStateModel;
 import model.ScreenBoundsProvider;
 import model.SpaceGameModel;
-import model.Animation.AnimationCallback;
+import model.Animation.AnimationRingBuffer;
+import model.Animation.AnimationRingBuffer.OverflowPolicy;
 import model.Animation.AnimationState;
 import model.Animation.AnimationType;
-import model.utils.FloatPair;
+import model.events.GameEventListener;
+import model.simulation.SimulationThread;
+import model.simulation.WorldSnapshot;
+import model.utils.PhaseTimer;
 import model.utils.SpaceCalculator;
+import model.utils.TripleBuffer;
 import view.Palette;
 import view.SpaceGame;
-import view.lighting.LaserLight;
+import view.debug.FrameProfiler;
+import view.debug.ProfilerOverlay;
+import view.debug.RenderPhase;
+import view.lighting.LightBudget;
+import view.lighting.LightManager;
+import view.rendering.ShipRenderer;
+import view.rendering.UpgradeSprites;
 import view.lighting.ShipThrusterLightMap;
-import view.lighting.ThrusterLight;
 
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
-public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvider {
+public class SpaceScreen implements Screen, ScreenBoundsProvider, GameEventListener {
 
     final SpaceGame game;
     final SpaceGameModel model;
@@ -82,8 +82,8 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
     private Sprite diamond;
     private Sprite star;
 
-    private final Map<UpgradeStage, Sprite> enemyShipSprites = new HashMap<>();
-    private final Map<UpgradeType, Map<UpgradeStage, Sprite>> shipSprites = new HashMap<>();
+    private UpgradeSprites shipSprites;
+    private ShipRenderer shipRenderer;
 
     // Background
     private TextureRegion[] background;
@@ -91,14 +91,30 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
     private float[] backgroundDrift;
 
     // Animations
-    private LinkedList<AnimationState> animationStates;
+    private AnimationRingBuffer animationStates;
     private Map<AnimationType, Animation<TextureRegion>> animationMap;
 
     // Lighting
     public static final RayHandler rayHandler = new RayHandler(null);
-    private LinkedList<LaserLight> laserLights;
-    private Pool<LaserLight> laserLightPool;
+    private LightManager lightManager;
     private ShipThrusterLightMap shipThrusterLightMap;
+    private final Vector2 cameraTarget = new Vector2();
+
+    // Simulation. The model is drawn from a snapshot of it, taken after every
+    // update when it runs on this thread, or published by the simulation thread
+    // after every tick otherwise
+    private final SimulationThread simulation;
+    private final WorldSnapshot localSnapshot;
+    private WorldSnapshot snapshot;
+    // the camera's view, read by the model from the thread it runs on
+    private final TripleBuffer<Rectangle> viewBounds = new TripleBuffer<>(Rectangle::new);
+    private final Rectangle bounds = new Rectangle();
+
+    // the score and resources as text, made when they change rather than every
+    // frame
+    private String scoreText;
+    private int shownResources = -1;
+    private String resourcesText;
 
     // Game over text layout
     private GlyphLayout gameOverLayout;
@@ -106,6 +122,11 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
     // Hitboxes (for testing/debugging)
     private final boolean showHitboxes = false;
 
+    // Allocation and garbage collection profiling (for testing/debugging)
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final PhaseTimer<RenderPhase> renderTimer = new PhaseTimer<>(RenderPhase.class);
+    private final ProfilerOverlay profilerOverlay;
+
     public SpaceScreen(final SpaceGame game, final GameStateModel gameStateModel) {
         this.game = game;
         this.batch = this.game.getSpriteBatch();
@@ -119,13 +140,26 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
         viewportUI.setUnitsPerPixel(viewport.getUnitsPerPixel());
 
         this.model = gameStateModel.getSpaceGameModel();
+        this.scoreText = String.valueOf(model.getScore());
         this.controller = new SpaceScreenController(this, gameStateModel, game);
+        this.profilerOverlay = new ProfilerOverlay(profiler, renderTimer);
 
         setupBackground();
         setupSprites();
         setupAnimationHashMap();
         setupLighting();
         setupFonts();
+
+        if (game.isSimulationThreaded()) {
+            this.simulation = new SimulationThread(model, PhysicsParameters.simulationTickRate);
+            this.localSnapshot = null;
+            controller.setControls(simulation.getControls());
+        } else {
+            this.simulation = null;
+            this.localSnapshot = new WorldSnapshot();
+        }
+        this.snapshot = nextSnapshot();
+        publishViewBounds();
     }
 
     private void setupBackground() {
@@ -161,40 +195,22 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
     }
 
     private void setupSprites() {
-        asteroidLarge = createSprite("images/space/asteroid_0.png", 2f, 2f);
-        asteroidSmall = createSprite("images/space/asteroid_1.png", 1f, 1f);
-        laser = createSprite("images/space/laser_shot_0.png", 0.25f, 0.25f);
-
-        // setup upgrades and player fuselage
-        for (UpgradeType type : UpgradeType.values()) {
-            Map<UpgradeStage, Sprite> stageSprites = new HashMap<>();
-            String basePath = "images/upgrades/" + type.name().toLowerCase() + "_stage_";
-            for (UpgradeStage stage : UpgradeStage.values()) {
-                String path = basePath + stage.ordinal() + ".png";
-
-                Sprite sprite = createSprite(path, 1f, 1f);
-
-                stageSprites.put(stage, sprite);
-            }
-            shipSprites.put(type, stageSprites);
-        }
-
-        // setup enemy fuselage
-        String basePath = "images/upgrades/fuselage_enemy_stage_";
-        for (UpgradeStage stage : UpgradeStage.values()) {
-            String path = basePath + stage.ordinal() + ".png";
-
-            Sprite sprite = createSprite(path, 1f, 1f);
-
-            enemyShipSprites.put(stage, sprite);
-        }
-
-        diamond = createSprite("images/space/diamond.png", 1f, 1f);
-        star = createSprite("images/space/star.png", .6f, .6f);
+        // every gameplay sprite shares one atlas page, so drawing them doesn't
+        // switch textures
+        TextureAtlas atlas = manager.get(UpgradeSprites.ATLAS, TextureAtlas.class);
+        asteroidLarge = createSprite(atlas, "asteroid", 0, 2f, 2f);
+        asteroidSmall = createSprite(atlas, "asteroid", 1, 1f, 1f);
+        laser = createSprite(atlas, "laser_shot", 0, 0.25f, 0.25f);
+
+        // upgrades, and player and enemy fuselage
+        shipSprites = new UpgradeSprites(atlas, 1f, 1f);
+        shipRenderer = new ShipRenderer(shipSprites);
+
+        diamond = createSprite(atlas, "diamond", -1, 1f, 1f);
+        star = createSprite(atlas, "star", -1, .6f, .6f);
     }
 
     private void setupAnimationHashMap() {
-        animationStates = new LinkedList<>();
         animationMap = new HashMap<>();
 
         TextureAtlas atlas = manager.get("images/animations/explosion_A.atlas",
@@ -204,34 +220,29 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
                 atlas.findRegions("explosion"), PlayMode.NORMAL);
 
         animationMap.put(AnimationType.EXPLOSION, explosionAnimation);
+
+        // room for a screen full of explosions. beyond that, overlapping
+        // explosions are drawn as one
+        animationStates = new AnimationRingBuffer(64, OverflowPolicy.MERGE_NEARBY);
+        animationStates.setDuration(AnimationType.EXPLOSION, explosionAnimation.getAnimationDuration());
     }
 
     private void setupLighting() {
         rayHandler.setAmbientLight(Palette.AMBIENT_LIGHT);
 
-        this.laserLights = new LinkedList<>();
-        this.laserLightPool = new Pool<>() {
-            @Override
-            protected LaserLight newObject() {
-                return new LaserLight();
-            }
-        };
-        laserLightPool.fill(300);
-
+        // at most 48 lights, with lasers within 1 meter of each other sharing one,
+        // and lights more than 12 meters from the player casting fewer rays
+        this.lightManager = new LightManager(new LightBudget(48, 1f, 12f));
         this.shipThrusterLightMap = new ShipThrusterLightMap(50);
     }
 
-    private Sprite createSprite(String path, float width, float height) {
-        Sprite sprite = new Sprite(loadTexture(path));
+    private Sprite createSprite(TextureAtlas atlas, String region, int index, float width, float height) {
+        Sprite sprite = atlas.createSprite(region, index);
         sprite.setSize(width, height);
         sprite.setOrigin(width / 2, height / 2);
         return sprite;
     }
 
-    private Texture loadTexture(String path) {
-        return manager.get(path, Texture.class);
-    }
-
     private void setupFonts() {
         fontRegular = manager.get("fonts/PixelOperatorMonoHB.ttf", BitmapFont.class);
 
@@ -251,13 +262,46 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
         gameOverLayout.setText(fontBold, "GAME OVER");
     }
 
+    /**
+     * Takes the latest state of the model, and passes the events that happened
+     * since the last frame to this screen.
+     */
+    private WorldSnapshot nextSnapshot() {
+        if (simulation != null) {
+            return simulation.acquire(this);
+        }
+        model.drainEvents(this);
+        localSnapshot.capture(model);
+        return localSnapshot;
+    }
+
+    private float interpolationAlpha() {
+        if (simulation != null) {
+            return simulation.getInterpolationAlpha(snapshot);
+        }
+        return model.getInterpolationAlpha();
+    }
+
     @Override
     public void render(float delta) {
-        controller.update(delta);
+        profiler.beginFrame();
+        int renderCallsBefore = batch.totalRenderCalls;
+        if (simulation == null) {
+            profiler.beginUpdate();
+            controller.update(delta);
+            profiler.endUpdate();
+        }
+        snapshot = nextSnapshot();
+        if (simulation != null) {
+            // the simulation counts what it allocates on its own thread
+            profiler.addUpdateBytesTotal(snapshot.getUpdateAllocatedBytes());
+        }
+        controller.updateGameState(snapshot.isGameOver());
         updateCamera(delta);
-        updateLightCounts();
+        publishViewBounds();
 
         ScreenUtils.clear(Color.BLACK);
+        renderTimer.begin(RenderPhase.SPRITES);
 
         // draw background
         this.bgViewport.apply();
@@ -267,8 +311,8 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
             float parallax = backgroundParallax[i];
             float drift = backgroundDrift[i];
             background[i].scroll(
-                    delta * (drift + parallax * model.getPlayer().getVelocity().x),
-                    -delta * (drift + parallax * model.getPlayer().getVelocity().y));
+                    delta * (drift + parallax * snapshot.getPlayerVelocityX()),
+                    -delta * (drift + parallax * snapshot.getPlayerVelocityY()));
 
             batch.draw(background[i], 0, 0, bgViewport.getWorldWidth(), bgViewport.getWorldHeight());
         }
@@ -279,134 +323,74 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
 
         batch.begin();
 
+        // draw bodies between their last two simulation ticks
+        float alpha = interpolationAlpha();
+
         // draw asteroids
-        for (Asteroid asteroid : model.getAsteroids()) {
-            Sprite asteroidSprite = asteroid.isLarge() ? asteroidLarge : asteroidSmall;
-            asteroidSprite.setRotation(asteroid.getRotationAngle());
-            asteroidSprite.setCenterX(asteroid.getX());
-            asteroidSprite.setCenterY(asteroid.getY());
+        for (int i = 0; i < snapshot.getAsteroidCount(); i++) {
+            Sprite asteroidSprite = snapshot.isAsteroidLarge(i) ? asteroidLarge : asteroidSmall;
+            asteroidSprite.setRotation(snapshot.getAsteroidRotationAngle(i, alpha));
+            asteroidSprite.setCenterX(snapshot.getAsteroidX(i, alpha));
+            asteroidSprite.setCenterY(snapshot.getAsteroidY(i, alpha));
 
             asteroidSprite.draw(batch);
         }
 
-        // draw ships
-        for (SpaceShip ship : model.getSpaceShips()) {
-            // Get transformation matrix from model
-            Matrix4 transformMatrix = model.getShipTransformMatrix(ship);
-            batch.setTransformMatrix(transformMatrix);
-
-            Iterator<ThrusterLight> shipThrusterLightsIterator = shipThrusterLightMap.get(ship).iterator();
-            for (GridCell<Fuselage> cell : ship.getShipStructure()) {
-                if (cell.value() == null) {
-                    continue;
-                }
-
-                float shipX = ship.getX() + cell.pos().col();
-                float shipY = ship.getY() + cell.pos().row();
-                if (ship.isPlayerShip()) {
-                    if (model.isGameOver()) {
-                        continue;
-                    }
-                    Sprite fuselagePlayer = shipSprites.get(cell.value().getType()).get(cell.value().getStage());
-                    fuselagePlayer.setCenterX(shipX);
-                    fuselagePlayer.setCenterY(shipY);
-                    fuselagePlayer.draw(batch);
-                } else {
-                    Sprite fuselageEnemy = enemyShipSprites.get(cell.value().getStage());
-                    fuselageEnemy.setCenterX(shipX);
-                    fuselageEnemy.setCenterY(shipY);
-                    fuselageEnemy.draw(batch);
-                }
-
-                if (cell.value().getUpgrade() != null) {
-                    Sprite upgradeSprite = shipSprites.get(cell.value().getUpgrade().getType())
-                            .get(cell.value().getUpgrade().getStage());
-                    upgradeSprite.setCenterX(shipX);
-                    upgradeSprite.setCenterY(shipY);
-                    upgradeSprite.draw(batch);
-
-                    if (cell.value().getUpgrade().getType() == UpgradeType.THRUSTER) {
-
-                        FloatPair point = SpaceCalculator.rotatePoint(
-                                cell.pos().col() + Thruster.thrusterFlameLocation().x(),
-                                cell.pos().row() + Thruster.thrusterFlameLocation().y(),
-                                ship.getRelativeCenterOfMass(),
-                                ship.getAbsoluteCenterOfMass(),
-                                ship.getRotationAngle());
-
-                        ThrusterLight light = shipThrusterLightsIterator.next();
-
-                        light.setPosition(point.x(), point.y());
-                        light.setDirection(ship.getRotationAngle() - 90f);
-                        if (ship.isPlayerShip()) {
-                            if (light.isActive() != ship.isAccelerating()) {
-                                light.setActive(ship.isAccelerating());
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        // Reset the transform matrix to the identity matrix
-        batch.setTransformMatrix(new Matrix4().idt());
+        // draw ships, transformed on the CPU so that they share draw calls
+        shipRenderer.draw(batch, snapshot, alpha, !snapshot.isGameOver());
 
         // draw lasers
-        Iterator<Bullet> laserIterator = model.getLasers().iterator();
-        Iterator<LaserLight> lightsIterator = this.laserLights.iterator();
-        while (laserIterator.hasNext() && lightsIterator.hasNext()) {
-            Bullet laser = laserIterator.next();
-            this.laser.setRotation(laser.getRotationAngle() - 90f);
-            this.laser.setCenterX(laser.getX());
-            this.laser.setCenterY(laser.getY());
+        for (int i = 0; i < snapshot.getLaserCount(); i++) {
+            this.laser.setRotation(snapshot.getLaserRotationAngle(i, alpha) - 90f);
+            this.laser.setCenterX(snapshot.getLaserX(i, alpha));
+            this.laser.setCenterY(snapshot.getLaserY(i, alpha));
             this.laser.draw(batch);
-
-            LaserLight light = lightsIterator.next();
-            light.setPosition(laser.getX(), laser.getY());
         }
 
         // Draw explosion animations:
-        Iterator<AnimationState> animationStatesIterator = animationStates.iterator();
-        while (animationStatesIterator.hasNext()) {
-            AnimationState state = animationStatesIterator.next();
-            state.update(delta);
-
+        animationStates.update(delta);
+        for (int i = 0; i < animationStates.size(); i++) {
+            AnimationState state = animationStates.get(i);
             Animation<TextureRegion> animation = animationMap.get(state.getAnimationType());
 
-            if (animation.isAnimationFinished(state.getStateTime())) {
-                animationStatesIterator.remove();
-            } else {
-                TextureRegion currentFrame = animation.getKeyFrame(state.getStateTime());
-                batch.draw(currentFrame, state.getX() - state.getRadius(),
-                        state.getY() - state.getRadius(),
-                        2f * state.getRadius(), 2f * state.getRadius());
-            }
+            TextureRegion currentFrame = animation.getKeyFrame(state.getStateTime());
+            batch.draw(currentFrame, state.getX() - state.getRadius(),
+                    state.getY() - state.getRadius(),
+                    2f * state.getRadius(), 2f * state.getRadius());
         }
 
         // Draw diamonds
-        for (Collectable collectable : model.getCollectables()) {
-
-            if (collectable instanceof Diamond) {
-                this.diamond.setCenterX(collectable.getX());
-                this.diamond.setCenterY(collectable.getY());
-                this.diamond.draw(batch);
-            }
+        for (int i = 0; i < snapshot.getDiamondCount(); i++) {
+            this.diamond.setCenterX(snapshot.getDiamondX(i));
+            this.diamond.setCenterY(snapshot.getDiamondY(i));
+            this.diamond.draw(batch);
         }
 
         batch.end();
-
-        // Lighting
+        renderTimer.end(RenderPhase.SPRITES);
+
+        // Lighting, within the budget of lights and culled to the camera's view
+        renderTimer.begin(RenderPhase.LIGHTING);
+        float viewWidth = viewport.getWorldWidth() * camera.zoom;
+        float viewHeight = viewport.getWorldHeight() * camera.zoom;
+        lightManager.update(snapshot, shipThrusterLightMap, alpha,
+                camera.position.x - viewWidth / 2f, camera.position.y - viewHeight / 2f,
+                camera.position.x + viewWidth / 2f, camera.position.y + viewHeight / 2f, !snapshot.isGameOver());
         rayHandler.setCombinedMatrix(camera);
         rayHandler.updateAndRender();
+        renderTimer.end(RenderPhase.LIGHTING);
 
         // Health bars
+        renderTimer.begin(RenderPhase.HUD);
         shape.setProjectionMatrix(camera.combined);
         shape.begin(ShapeType.Filled);
-        for (SpaceShip ship : model.getSpaceShips()) {
-            if (ship.isPlayerShip() && model.isGameOver()) {
+        for (int i = 0; i < snapshot.getShipCount(); i++) {
+            if (snapshot.isPlayerShip(i) && snapshot.isGameOver()) {
                 continue;
             }
-            ship.getHealthBar().draw(shape);
+            snapshot.getShip(i).getHealthBar().draw(shape, snapshot.getShipHitPoints(i),
+                    snapshot.getShipMaxHitPoints(i), snapshot.getShipCenterOfMassX(i),
+                    snapshot.getShipCenterOfMassY(i));
         }
         shape.end();
 
@@ -415,14 +399,14 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
             shape.setProjectionMatrix(camera.combined);
             shape.begin(ShapeType.Line);
             shape.setColor(Color.CYAN);
-            for (Asteroid asteroid : model.getAsteroids()) {
-                shape.circle(asteroid.getX(), asteroid.getY(), asteroid.getRadius(), 100);
+            for (int i = 0; i < snapshot.getAsteroidCount(); i++) {
+                shape.circle(snapshot.getAsteroidX(i, 1f), snapshot.getAsteroidY(i, 1f),
+                        snapshot.getAsteroidRadius(i), 100);
             }
             shape.setColor(Color.MAGENTA);
-            for (SpaceShip ship : model.getSpaceShips()) {
-                shape.circle(
-                        ship.getAbsoluteCenterOfMass().x(), ship.getAbsoluteCenterOfMass().y(),
-                        ship.getProximityRadius(), 100);
+            for (int i = 0; i < snapshot.getShipCount(); i++) {
+                shape.circle(snapshot.getShipCenterOfMassX(i), snapshot.getShipCenterOfMassY(i),
+                        snapshot.getShipProximityRadius(i), 100);
             }
             shape.end();
         }
@@ -447,46 +431,83 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
 
         float resourceTextY = diamondIconY + 0.42f * (diamond.getHeight() + fontRegular.getLineHeight());
         float resourceTextX = diamondIconX + diamond.getWidth();
-        int resources = model.getPlayer().getInventory().getResourceCount();
+        int resources = snapshot.getPlayerResources();
+        if (resources != shownResources) {
+            shownResources = resources;
+            resourcesText = String.valueOf(resources);
+        }
 
         float textX = Math.max(scoreTextX, resourceTextX);
-        fontRegular.draw(batch, String.valueOf(model.getScore()), textX, scoreTextY);
-        fontRegular.draw(batch, String.valueOf(resources), textX, resourceTextY);
+        fontRegular.draw(batch, scoreText, textX, scoreTextY);
+        fontRegular.draw(batch, resourcesText, textX, resourceTextY);
 
-        if (model.isGameOver()) {
+        if (snapshot.isGameOver()) {
             float gameOverX = viewportUI.getWorldWidth() / 2f - gameOverLayout.width / 2f;
             float gameOverY = 3f * viewportUI.getWorldHeight() / 4f - gameOverLayout.height / 2f;
             fontBold.draw(batch, "Game Over", gameOverX, gameOverY);
         }
 
         batch.end();
+        renderTimer.end(RenderPhase.HUD);
 
+        // the overlay isn't part of the frame it measures
+        profiler.addDrawCalls(batch.totalRenderCalls - renderCallsBefore);
+        profiler.endFrame();
+        if (profiler.isEnabled()) {
+            drawProfilerOverlay();
+        }
     }
 
-    private void updateLightCounts() {
-        updateLaserLightsCount();
-        shipThrusterLightMap.update(model.getSpaceShips());
+    private void drawProfilerOverlay() {
+        float width = 0.4f * viewportUI.getWorldWidth();
+        float height = 0.15f * viewportUI.getWorldHeight();
+        float x = viewportUI.getWorldWidth() - width - 0.5f;
+        float y = 0.5f;
+
+        shape.setProjectionMatrix(viewportUI.getCamera().combined);
+        shape.begin(ShapeType.Filled);
+        profilerOverlay.drawGraph(shape, x, y, width, height);
+        shape.end();
+
+        batch.begin();
+        profilerOverlay.drawText(batch, fontRegular, snapshot, x, y + 1.1f * height);
+        batch.end();
     }
 
-    private void updateLaserLightsCount() {
-        // add lights if necessary
-        int lightDiff = model.getLasers().size() - this.laserLights.size();
-        for (int i = 0; i < lightDiff; i++) {
-            LaserLight light = laserLightPool.obtain();
-            light.setActive(true);
-            this.laserLights.addFirst(light);
+    /**
+     * Turns the allocation and garbage collection profiler, the timing of the
+     * phases of the simulation and of drawing, and the overlay showing them, on or
+     * off.
+     */
+    public void toggleProfiler() {
+        profiler.toggle();
+        renderTimer.setEnabled(profiler.isEnabled());
+        if (simulation != null) {
+            // the model's timer may only be touched by the simulation thread
+            simulation.setProfiling(profiler.isEnabled());
+        } else {
+            model.getPhaseTimer().setEnabled(profiler.isEnabled());
         }
+    }
 
-        // remove lights if necessary
-        if (lightDiff < 0) {
-            Iterator<LaserLight> lightsIterator = this.laserLights.iterator();
-            while (lightDiff < 0) {
-                LaserLight light = lightsIterator.next();
-                laserLightPool.free(light);
-                lightsIterator.remove();
-                lightDiff++;
-            }
+    /**
+     * Writes the profiler's measurements of the last frames to a CSV file in the
+     * local storage directory.
+     *
+     * @return the path of the file written.
+     */
+    public String dumpProfile() {
+        StringBuilder csv = new StringBuilder();
+        try {
+            profiler.writeCsv(csv);
+        } catch (IOException e) {
+            // a StringBuilder doesn't throw
+            throw new IllegalStateException(e);
         }
+
+        FileHandle file = Gdx.files.local("profiles/frames-" + System.currentTimeMillis() + ".csv");
+        file.writeString(csv.toString(), false);
+        return file.path();
     }
 
     private void updateCamera(float delta) {
@@ -495,17 +516,17 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
     }
 
     private void cameraLerpToPlayer(float delta) {
-        FloatPair newPosition = SpaceCalculator.lerp2D(camera.position, model.getPlayerCenterOfMass(),
-                6f * delta);
-        setCameraPosition(newPosition);
+        SpaceCalculator.lerp2D(camera.position.x, camera.position.y, snapshot.getPlayerCenterOfMassX(),
+                snapshot.getPlayerCenterOfMassY(), 6f * delta, cameraTarget);
+        camera.position.set(cameraTarget.x, cameraTarget.y, 0f);
     }
 
-    private void setCameraPosition(FloatPair pos) {
-        camera.position.set(pos.x(), pos.y(), 0f);
+    private void setCameraPosition(float x, float y) {
+        camera.position.set(x, y, 0f);
     }
 
     private float getZoomLevel() {
-        float velocityRatio = model.getPlayer().getSpeed() / PhysicsParameters.maxVelocityLongitudonal;
+        float velocityRatio = snapshot.getPlayerSpeed() / PhysicsParameters.maxVelocityLongitudonal;
         float zoomRange = zoomMax - zoomMin;
         return zoomMin + velocityRatio * zoomRange;
     }
@@ -514,26 +535,42 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
         camera.zoom = SpaceCalculator.lerp1D(camera.zoom, getZoomLevel(), 1.2f * delta);
     }
 
+    /**
+     * Stops the simulation thread, if the model runs on one, and waits for its
+     * tick to finish, so that the model may be read from this thread. The events
+     * of the ticks this screen hasn't drawn yet are passed to it, so that the
+     * ships they despawn go back to the pool even if the screen is replaced. It
+     * starts again when the screen is shown or resumed.
+     */
+    public void stopSimulation() {
+        if (simulation != null) {
+            simulation.stop(this);
+        }
+    }
+
+    private void startSimulation() {
+        if (simulation != null) {
+            simulation.start();
+        }
+    }
+
     @Override
     public void dispose() {
+        stopSimulation();
     }
 
     @Override
     public void hide() {
+        stopSimulation();
         Gdx.input.setInputProcessor(null);
-        for (LaserLight light : this.laserLights) {
-            light.setActive(false);
-        }
+        lightManager.deactivateAll();
 
-        for (List<ThrusterLight> lightList : shipThrusterLightMap.thrusterLightMap.values()) {
-            for (ThrusterLight light : lightList) {
-                light.setActive(false);
-            }
-        }
+        shipThrusterLightMap.deactivateAll();
     }
 
     @Override
     public void pause() {
+        stopSimulation();
     }
 
     @Override
@@ -541,31 +578,77 @@ public class SpaceScreen implements Screen, AnimationCallback, ScreenBoundsProvi
         viewport.update(width, height, false);
         bgViewport.update(width, height, true);
         viewportUI.update(width, height, true);
-        setCameraPosition(model.getPlayerCenterOfMass());
+        setCameraPosition(snapshot.getPlayerCenterOfMassX(), snapshot.getPlayerCenterOfMassY());
+        publishViewBounds();
     }
 
     @Override
     public void resume() {
+        startSimulation();
     }
 
     @Override
     public void show() {
         Gdx.input.setInputProcessor(controller);
         controller.reset();
+        startSimulation();
     }
 
     @Override
-    public void addAnimationState(AnimationState state) {
-        this.animationStates.addFirst(state);
+    public void addAnimationState(float x, float y, float radius, AnimationType type) {
+        this.animationStates.addAnimationState(x, y, radius, type);
     }
 
     @Override
-    public Rectangle getBounds() {
+    public void play(SoundEffect soundEffect) {
+        controller.play(soundEffect);
+    }
+
+    @Override
+    public void scoreChanged(int score) {
+        scoreText = String.valueOf(score);
+    }
+
+    @Override
+    public void shipSpawned(SpaceShip ship) {
+        shipThrusterLightMap.shipSpawned(ship);
+    }
+
+    @Override
+    public void shipDespawned(SpaceShip ship) {
+        shipThrusterLightMap.shipDespawned(ship);
+    }
 
+    /**
+     * Publishes the bounds of the camera's view at its widest zoom, for the
+     * model to read from the thread it runs on.
+     */
+    private void publishViewBounds() {
         float maxWidth = viewport.getWorldWidth() * zoomMax;
         float maxHeight = viewport.getWorldHeight() * zoomMax;
 
-        return new Rectangle(-maxWidth / 2f + camera.position.x,
+        viewBounds.getBack().set(-maxWidth / 2f + camera.position.x,
                 -maxHeight / 2f + camera.position.y, maxWidth, maxHeight);
+        viewBounds.publish();
+    }
+
+    /**
+     * May be called from the simulation thread. The bounds are those of the
+     * camera's view in the latest frame. The same <code>Rectangle</code> is
+     * returned by every call, so it must be copied to be kept, and only the
+     * thread the model runs on may call this.
+     */
+    @Override
+    public Rectangle getBounds() {
+        return getBounds(bounds);
+    }
+
+    /**
+     * May be called from the simulation thread, and copies without allocating.
+     */
+    @Override
+    public Rectangle getBounds(Rectangle bounds) {
+        viewBounds.update();
+        return bounds.set(viewBounds.getFront());
     }
 }
@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Rectangle;
@@ -22,7 +23,6 @@ import controller.UpgradeScreenController;
 import grid.CellPosition;
 import grid.GridCell;
 import grid.IGrid;
-import java.util.HashMap;
 import java.util.List;
 import model.ShipComponents.ShipStructure;
 import model.ShipComponents.UpgradeStage;
@@ -31,6 +31,7 @@ import model.utils.FloatPair;
 import view.Palette;
 import view.SpaceGame;
 import view.bars.UpgradeStageDisplay;
+import view.rendering.UpgradeSprites;
 import model.GameStateModel;
 import model.UpgradeScreenModel;
 import model.ShipComponents.UpgradeType;
@@ -38,7 +39,6 @@ import model.ShipComponents.Components.Fuselage;
 import model.ShipComponents.Components.stats.Stat;
 import model.ShipComponents.Components.stats.StatModifier;
 
-import java.util.Map;
 
 /**
  * Screen for managing ship upgrades in game. Handles rendering of upgrade grid,
@@ -74,7 +74,7 @@ public class UpgradeScreen extends InputAdapter implements Screen {
 
     private final float upgradeIconZoom = 0.8f;
 
-    private final Map<UpgradeType, Map<UpgradeStage, Sprite>> upgradeSprites = new HashMap<>();
+    private UpgradeSprites upgradeSprites;
     private final List<StoreItem<UpgradeType>> storeShelf;
 
     private final int cursorDimentions = 64;
@@ -109,25 +109,14 @@ public class UpgradeScreen extends InputAdapter implements Screen {
     }
 
     private void loadSprites() {
-        squareRed = createSprite("images/upgrade_grid_tile_red.png", 1, 1);
-        squareGreen = createSprite("images/upgrade_grid_tile_green.png", 1, 1);
-        squareGray = createSprite("images/upgrade_grid_tile_gray.png", 1, 1);
+        TextureAtlas atlas = manager.get(UpgradeSprites.ATLAS, TextureAtlas.class);
+        squareRed = createSprite(atlas, "upgrade_grid_tile_red", 1, 1);
+        squareGreen = createSprite(atlas, "upgrade_grid_tile_green", 1, 1);
+        squareGray = createSprite(atlas, "upgrade_grid_tile_gray", 1, 1);
 
-        for (UpgradeType type : UpgradeType.values()) {
-            Map<UpgradeStage, Sprite> stageSprites = new HashMap<>();
-            String basePath = "images/upgrades/" + type.name().toLowerCase() + "_stage_";
-            for (UpgradeStage stage : UpgradeStage.values()) {
+        upgradeSprites = new UpgradeSprites(atlas, upgradeIconZoom, upgradeIconZoom);
 
-                String path = basePath + stage.ordinal() + ".png";
-
-                Sprite sprite = createSprite(path, upgradeIconZoom, upgradeIconZoom);
-
-                stageSprites.put(stage, sprite);
-            }
-            upgradeSprites.put(type, stageSprites);
-        }
-
-        diamond = createSprite("images/space/diamond.png", 1f, 1f);
+        diamond = createSprite(atlas, "diamond", 1f, 1f);
         float uiIconZoom = fontRegular.getData().lineHeight;
 
         msLeft = createSprite("images/ui/Mouse_Left_Key_Light.png", uiIconZoom, uiIconZoom);
@@ -165,6 +154,12 @@ public class UpgradeScreen extends InputAdapter implements Screen {
         return sprite;
     }
 
+    private Sprite createSprite(TextureAtlas atlas, String region, float width, float height) {
+        Sprite sprite = atlas.createSprite(region);
+        sprite.setSize(width, height);
+        return sprite;
+    }
+
     private void setupFonts() {
         BitmapFont fontBold = manager.get("fonts/PixelOperatorMono-Bold.ttf", BitmapFont.class);
         fontRegular = manager.get("fonts/PixelOperatorMonoHB.ttf", BitmapFont.class);
@@ -468,7 +463,7 @@ public class UpgradeScreen extends InputAdapter implements Screen {
     }
 
     private void drawUpgrade(CellPosition cp, UpgradeType type, UpgradeStage stage) {
-        Sprite upgrade = upgradeSprites.get(type).get(stage);
+        Sprite upgrade = upgradeSprites.get(type, stage);
         upgrade.setX(model.getGridOffsetX() + cp.col() + 0.5f * (1f - upgradeIconZoom));
         upgrade.setY(model.getGridOffsetY() + cp.row() + 0.5f * (1f - upgradeIconZoom));
         upgrade.draw(batch);
@@ -496,7 +491,7 @@ public class UpgradeScreen extends InputAdapter implements Screen {
     }
 
     public Sprite getSpriteFromIndex(int index) {
-        return upgradeSprites.get(getUpgradeTypeFromIndex(index)).get(UpgradeStage.ZERO);
+        return upgradeSprites.get(getUpgradeTypeFromIndex(index), UpgradeStage.ZERO);
     }
 
     private boolean canPlaceItem(CellPosition cp) {
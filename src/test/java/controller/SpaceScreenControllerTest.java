@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +14,7 @@ import controller.audio.SoundEffect;
 import controller.audio.SoundManager;
 import model.GameStateModel;
 import model.SpaceGameModel;
+import model.constants.GameState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import view.SpaceGame;
@@ -20,13 +22,14 @@ import view.SpaceGame;
 class SpaceScreenControllerTest {
 
     private SpaceGameModel spaceGameModel;
+    private GameStateModel gameStateModel;
 
     private SpaceGame game;
     private SpaceScreenController controller;
 
     @BeforeEach
     void setUp() {
-        GameStateModel gameStateModel = mock(GameStateModel.class);
+        gameStateModel = mock(GameStateModel.class);
         MusicManager musicManager = mock(MusicManager.class);
         SoundManager soundManager = mock(SoundManager.class);
         spaceGameModel = mock(SpaceGameModel.class);
@@ -168,4 +171,25 @@ class SpaceScreenControllerTest {
         controller.update(1);
         verify(spaceGameModel).update(1);
     }
+
+    @Test
+    void testUpdateGameState() {
+        controller.updateGameState(false);
+        verify(gameStateModel, never()).changeState(GameState.GAME_OVER);
+        controller.updateGameState(true);
+        verify(gameStateModel).changeState(GameState.GAME_OVER);
+    }
+
+    @Test
+    void testSetControls() {
+        PlayerControls controls = mock(PlayerControls.class);
+        controller.setControls(controls);
+
+        assertTrue(controller.handleKeyDown(Input.Keys.W));
+        assertTrue(controller.handleKeyDown(Input.Keys.SPACE));
+        verify(controls).setAccelerateForward(true);
+        verify(controls).playerShoot();
+        verify(spaceGameModel, never()).setAccelerateForward(true);
+        verify(spaceGameModel, never()).playerShoot();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ArrayGridTest {
+
+    @Test
+    void constructorTest() {
+        IGrid<Integer> grid = new ArrayGrid<>(3, 4);
+        assertEquals(3, grid.rows());
+        assertEquals(4, grid.cols());
+        assertTrue(grid.isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> new ArrayGrid<>(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayGrid<>(2, -1));
+    }
+
+    @Test
+    void setAndGetTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(2, 3);
+        grid.set(new CellPosition(1, 2), "a");
+        grid.set(0, 1, "b");
+
+        assertEquals("a", grid.get(new CellPosition(1, 2)));
+        assertEquals("a", grid.get(1, 2));
+        assertEquals("b", grid.get(new CellPosition(0, 1)));
+        assertNull(grid.get(0, 0));
+        assertFalse(grid.isEmptyAt(new CellPosition(1, 2)));
+        assertTrue(grid.isEmptyAt(new CellPosition(1, 1)));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.set(new CellPosition(-1, 0), "c"));
+    }
+
+    @Test
+    void iteratorTest() {
+        ArrayGrid<Integer> grid = new ArrayGrid<>(2, 2);
+        grid.set(0, 1, 1);
+        grid.set(1, 0, 2);
+
+        List<GridCell<Integer>> cells = new ArrayList<>();
+        for (GridCell<Integer> cell : grid) {
+            cells.add(cell);
+        }
+
+        assertEquals(4, cells.size());
+        assertEquals(new GridCell<>(new CellPosition(0, 0), null), cells.get(0));
+        assertEquals(new GridCell<>(new CellPosition(0, 1), 1), cells.get(1));
+        assertEquals(new GridCell<>(new CellPosition(1, 0), 2), cells.get(2));
+        assertEquals(new GridCell<>(new CellPosition(1, 1), null), cells.get(3));
+    }
+
+    @Test
+    void iteratorReusesUnchangedCellsTest() {
+        ArrayGrid<Integer> grid = new ArrayGrid<>(1, 2);
+        grid.set(0, 0, 1);
+
+        GridCell<Integer> first = grid.iterator().next();
+        assertSame(first, grid.iterator().next());
+
+        grid.set(0, 0, 2);
+        GridCell<Integer> changed = grid.iterator().next();
+        assertEquals(2, changed.value());
+        assertSame(changed, grid.iterator().next());
+    }
+
+    @Test
+    void forEachNonEmptyTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(3, 3);
+        grid.set(0, 2, "a");
+        grid.set(2, 0, "b");
+
+        List<String> visited = new ArrayList<>();
+        grid.forEachNonEmpty((row, col, value) -> visited.add(row + "," + col + "=" + value));
+
+        assertEquals(List.of("0,2=a", "2,0=b"), visited);
+    }
+
+    @Test
+    void cursorTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(2, 3);
+        grid.set(0, 0, "a");
+        grid.set(1, 2, "b");
+
+        GridCursor<String> cursor = grid.cursor();
+        int cells = 0;
+        while (cursor.next()) {
+            cells++;
+        }
+        assertEquals(6, cells);
+        assertFalse(cursor.next());
+
+        cursor.reset();
+        assertTrue(cursor.nextNonEmpty());
+        assertEquals(0, cursor.row());
+        assertEquals(0, cursor.col());
+        assertEquals("a", cursor.value());
+
+        assertTrue(cursor.nextNonEmpty());
+        assertEquals(1, cursor.row());
+        assertEquals(2, cursor.col());
+        assertEquals("b", cursor.value());
+
+        assertFalse(cursor.nextNonEmpty());
+    }
+
+    @Test
+    void cursorOnGridTest() {
+        IGrid<String> grid = new Grid<>(2, 2);
+        grid.set(new CellPosition(1, 1), "a");
+
+        GridCursor<String> cursor = grid.cursor();
+        assertTrue(cursor.nextNonEmpty());
+        assertEquals(1, cursor.row());
+        assertEquals(1, cursor.col());
+        assertFalse(cursor.nextNonEmpty());
+    }
+
+    @Test
+    void copyTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(2, 2);
+        grid.set(0, 1, "a");
+
+        IGrid<String> copy = grid.copy();
+        grid.set(0, 1, "b");
+        assertEquals("a", copy.get(new CellPosition(0, 1)));
+
+        IGrid<String> listGrid = new Grid<>(2, 3);
+        listGrid.set(new CellPosition(1, 2), "c");
+        ArrayGrid<String> converted = ArrayGrid.copyOf(listGrid);
+        assertEquals(2, converted.rows());
+        assertEquals(3, converted.cols());
+        assertEquals("c", converted.get(1, 2));
+    }
+
+    @Test
+    void shrinkToFitTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(4, 4);
+        grid.set(1, 1, "a");
+        grid.set(2, 3, "b");
+
+        IGrid<String> shrunk = Grid.shrinkGridToFit(grid);
+        assertEquals(2, shrunk.rows());
+        assertEquals(3, shrunk.cols());
+        assertEquals("a", shrunk.get(0, 0));
+        assertEquals("b", shrunk.get(1, 2));
+    }
+
+    @Test
+    void toStringTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(1, 2);
+        assertEquals("Grid is empty.", grid.toString());
+
+        grid.set(0, 1, "second");
+        assertEquals("[GridCell[pos=CellPosition[row=0, col=1], value=second]]", grid.toString());
+    }
+
+    @Test
+    void resetTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(3, 4);
+        grid.set(2, 3, "a");
+        grid.set(0, 0, "b");
+        grid.iterator().next();
+
+        // the same number of cells in another shape
+        assertTrue(grid.reset(6, 2));
+        assertEquals(6, grid.rows());
+        assertEquals(2, grid.cols());
+        assertTrue(grid.isEmpty());
+        int cells = 0;
+        for (GridCell<String> cell : grid) {
+            assertNull(cell.value());
+            cells++;
+        }
+        assertEquals(12, cells);
+
+        grid.set(5, 1, "c");
+        assertEquals("c", grid.get(new CellPosition(5, 1)));
+        assertEquals(5, grid.occupancy().maxRow());
+
+        // too many cells leaves the grid as it was
+        assertFalse(grid.reset(4, 4));
+        assertEquals(6, grid.rows());
+        assertEquals("c", grid.get(5, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> grid.reset(0, 1));
+    }
+}
@@ -0,0 +1,108 @@
+package grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class OccupancyMapTest {
+
+    @Test
+    void setAndCountTest() {
+        OccupancyMap occupancy = new OccupancyMap(3, 30);
+        assertTrue(occupancy.isEmpty());
+
+        occupancy.set(2, 29, true);
+        occupancy.set(2, 29, true);
+        occupancy.set(0, 0, true);
+        assertEquals(2, occupancy.count());
+        assertTrue(occupancy.isOccupied(2, 29));
+        assertFalse(occupancy.isOccupied(2, 28));
+        assertFalse(occupancy.isOccupied(-1, 0));
+
+        occupancy.set(0, 0, false);
+        assertEquals(1, occupancy.count());
+        assertFalse(occupancy.isOccupied(0, 0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> occupancy.set(3, 0, true));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyMap(0, 1));
+    }
+
+    @Test
+    void boundsTest() {
+        OccupancyMap occupancy = new OccupancyMap(5, 5);
+        occupancy.set(1, 3, true);
+        occupancy.set(3, 1, true);
+        occupancy.set(2, 2, true);
+
+        assertEquals(1, occupancy.minRow());
+        assertEquals(3, occupancy.maxRow());
+        assertEquals(1, occupancy.minCol());
+        assertEquals(3, occupancy.maxCol());
+
+        occupancy.set(3, 1, false);
+        assertEquals(1, occupancy.minRow());
+        assertEquals(2, occupancy.maxRow());
+        assertEquals(2, occupancy.minCol());
+        assertEquals(3, occupancy.maxCol());
+    }
+
+    @Test
+    void fitsGridTest() {
+        OccupancyMap single = new OccupancyMap(1, 1);
+        assertTrue(single.fitsGrid());
+
+        OccupancyMap occupancy = new OccupancyMap(2, 2);
+        assertFalse(occupancy.fitsGrid());
+        occupancy.set(0, 0, true);
+        assertFalse(occupancy.fitsGrid());
+        occupancy.set(1, 1, true);
+        assertTrue(occupancy.fitsGrid());
+    }
+
+    @Test
+    void neighbourTest() {
+        OccupancyMap occupancy = new OccupancyMap(2, 2);
+        occupancy.set(0, 0, true);
+
+        assertTrue(occupancy.hasOccupiedNeighbour(0, 1));
+        assertTrue(occupancy.hasOccupiedNeighbour(-1, 0));
+        assertFalse(occupancy.hasOccupiedNeighbour(1, 1));
+        assertFalse(occupancy.hasOccupiedNeighbour(0, 0));
+    }
+
+    @Test
+    void arrayGridKeepsOccupancyTest() {
+        ArrayGrid<String> grid = new ArrayGrid<>(3, 3);
+        grid.set(1, 1, "a");
+        grid.set(2, 2, "b");
+        grid.set(2, 2, null);
+
+        assertEquals(1, grid.occupancy().count());
+        assertEquals(1, grid.occupancy().maxRow());
+
+        ArrayGrid<String> resized = grid.resized(2, 2, -1, 0);
+        assertEquals("a", resized.get(0, 1));
+        assertEquals(1, resized.occupancy().count());
+    }
+
+    @Test
+    void resetTest() {
+        OccupancyMap occupancy = new OccupancyMap(8, 8);
+        occupancy.set(7, 7, true);
+        occupancy.set(0, 3, true);
+
+        assertTrue(occupancy.reset(2, 30));
+        assertTrue(occupancy.isEmpty());
+        assertFalse(occupancy.isOccupied(0, 3));
+        occupancy.set(1, 29, true);
+        assertEquals(1, occupancy.count());
+        assertEquals(29, occupancy.minCol());
+        assertFalse(occupancy.fitsGrid());
+
+        assertFalse(occupancy.reset(9, 9));
+        assertEquals(1, occupancy.count());
+    }
+}
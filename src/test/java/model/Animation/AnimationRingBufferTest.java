@@ -0,0 +1,130 @@
+package model.Animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import model.Animation.AnimationRingBuffer.OverflowPolicy;
+
+public class AnimationRingBufferTest {
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new AnimationRingBuffer(0, OverflowPolicy.DROP_OLDEST));
+
+        AnimationRingBuffer buffer = new AnimationRingBuffer(4, OverflowPolicy.DROP_OLDEST);
+        assertEquals(4, buffer.getCapacity());
+        assertEquals(0, buffer.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0));
+    }
+
+    @Test
+    void addTest() {
+        AnimationRingBuffer buffer = new AnimationRingBuffer(4, OverflowPolicy.DROP_OLDEST);
+        buffer.addAnimationState(1f, 2f, 3f, AnimationType.EXPLOSION);
+        buffer.addAnimationState(4f, 5f, 6f, AnimationType.EXPLOSION);
+
+        assertEquals(2, buffer.size());
+        AnimationState oldest = buffer.get(0);
+        assertEquals(1f, oldest.getX());
+        assertEquals(2f, oldest.getY());
+        assertEquals(3f, oldest.getRadius());
+        assertEquals(0f, oldest.getStateTime());
+        assertEquals(AnimationType.EXPLOSION, oldest.getAnimationType());
+        assertEquals(4f, buffer.get(1).getX());
+    }
+
+    @Test
+    void expireTest() {
+        AnimationRingBuffer buffer = new AnimationRingBuffer(4, OverflowPolicy.DROP_OLDEST);
+        buffer.setDuration(AnimationType.EXPLOSION, 1f);
+        buffer.addAnimationState(1f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.update(0.6f);
+        buffer.addAnimationState(2f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.update(0.6f);
+
+        assertEquals(1, buffer.size());
+        assertEquals(2f, buffer.get(0).getX());
+        assertEquals(0.6f, buffer.get(0).getStateTime(), 1e-6f);
+
+        buffer.update(0.6f);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void reuseTest() {
+        AnimationRingBuffer buffer = new AnimationRingBuffer(2, OverflowPolicy.DROP_OLDEST);
+        buffer.setDuration(AnimationType.EXPLOSION, 1f);
+        buffer.addAnimationState(1f, 0f, 1f, AnimationType.EXPLOSION);
+        AnimationState first = buffer.get(0);
+        buffer.update(2f);
+
+        // the finished animation's slot is reused, restarted
+        buffer.addAnimationState(2f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.addAnimationState(3f, 0f, 1f, AnimationType.EXPLOSION);
+        assertEquals(2, buffer.size());
+        assertEquals(0f, buffer.get(0).getStateTime());
+        assertEquals(2f, buffer.get(0).getX());
+        assertEquals(3f, buffer.get(1).getX());
+        assertSame(first, buffer.get(0));
+        assertEquals(0, buffer.getDroppedCount());
+    }
+
+    @Test
+    void dropOldestTest() {
+        AnimationRingBuffer buffer = new AnimationRingBuffer(2, OverflowPolicy.DROP_OLDEST);
+        buffer.addAnimationState(1f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.addAnimationState(2f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.addAnimationState(3f, 0f, 1f, AnimationType.EXPLOSION);
+
+        assertEquals(2, buffer.size());
+        assertEquals(2f, buffer.get(0).getX());
+        assertEquals(3f, buffer.get(1).getX());
+        assertEquals(1, buffer.getDroppedCount());
+    }
+
+    @Test
+    void mergeNearbyTest() {
+        AnimationRingBuffer buffer = new AnimationRingBuffer(2, OverflowPolicy.MERGE_NEARBY);
+        buffer.addAnimationState(0f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.addAnimationState(10f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.update(0.5f);
+
+        // overlaps the newest: it grows to cover both, without restarting
+        buffer.addAnimationState(11.5f, 0f, 1f, AnimationType.EXPLOSION);
+        assertEquals(2, buffer.size());
+        assertEquals(1, buffer.getMergedCount());
+        AnimationState merged = buffer.get(1);
+        assertEquals(10.75f, merged.getX(), 1e-6f);
+        assertEquals(0f, merged.getY(), 1e-6f);
+        assertEquals(1.75f, merged.getRadius(), 1e-6f);
+        assertEquals(0.5f, merged.getStateTime(), 1e-6f);
+
+        // inside an existing explosion: nothing changes
+        buffer.addAnimationState(0.2f, 0f, 0.5f, AnimationType.EXPLOSION);
+        assertEquals(2, buffer.getMergedCount());
+        assertEquals(0f, buffer.get(0).getX());
+        assertEquals(1f, buffer.get(0).getRadius());
+
+        // covers an existing explosion: it takes the new one's place and size
+        buffer.addAnimationState(0.5f, 0f, 3f, AnimationType.EXPLOSION);
+        assertEquals(0.5f, buffer.get(0).getX());
+        assertEquals(3f, buffer.get(0).getRadius());
+
+        // too far from both: the oldest is dropped
+        buffer.addAnimationState(-20f, 0f, 1f, AnimationType.EXPLOSION);
+        assertEquals(1, buffer.getDroppedCount());
+        assertEquals(10.75f, buffer.get(0).getX(), 1e-6f);
+        assertEquals(-20f, buffer.get(1).getX());
+    }
+
+    @Test
+    void clearTest() {
+        AnimationRingBuffer buffer = new AnimationRingBuffer(2, OverflowPolicy.DROP_OLDEST);
+        buffer.addAnimationState(1f, 0f, 1f, AnimationType.EXPLOSION);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+    }
+}
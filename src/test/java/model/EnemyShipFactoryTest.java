@@ -0,0 +1,76 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import grid.CellPosition;
+import model.ShipComponents.ShipFactory;
+import model.ShipComponents.ShipStructure;
+import model.SpaceCharacters.Ships.EnemyShip;
+import model.SpaceCharacters.Ships.Player;
+import model.ai.Brain;
+import model.ai.EnhancedLerpBrain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EnemyShipFactoryTest {
+
+    EnemyShipFactory enemyShipFactory;
+
+    @BeforeEach
+    void setup() {
+        Player player = new Player(ShipFactory.playerShip(), "player", "the player", 0f, 0f);
+        enemyShipFactory = new EnemyShipFactory(player);
+    }
+
+    @Test
+    void testSpawn() {
+        ShipStructure structure = ShipFactory.simpleShip();
+        EnemyShip enemyShip = enemyShipFactory.spawn(structure, 3f, -2f, 45f);
+
+        // the ship is made of the structure's fuselage, in its own structure
+        assertNotSame(structure, enemyShip.getShipStructure());
+        assertEquals(structure.getNumFuselage(), enemyShip.getShipStructure().getNumFuselage());
+        assertSame(structure.getFuselage(new CellPosition(0, 0)),
+                enemyShip.getShipStructure().getFuselage(new CellPosition(0, 0)));
+        assertEquals(3f, enemyShip.getX());
+        assertEquals(-2f, enemyShip.getY());
+        assertEquals(45f, enemyShip.getRotationAngle());
+        assertEquals(enemyShip.getMaxHitPoints(), enemyShip.getHitPoints());
+        assertInstanceOf(EnhancedLerpBrain.class, enemyShip.getBrain());
+        assertEquals(2, enemyShip.getTransformCache().getFuselageCount());
+    }
+
+    @Test
+    void testFreedShipIsReused() {
+        EnemyShip enemyShip = enemyShipFactory.spawn(ShipFactory.simpleShip(), 0f, 0f, 0f);
+        enemyShip.setVelocity(4f, 2f);
+        enemyShip.takeDamage(1);
+        String id = enemyShip.getID();
+        Brain brain = enemyShip.getBrain();
+        ShipStructure structure = enemyShip.getShipStructure();
+        assertEquals(2, enemyShip.getTransformCache().getFuselageCount());
+
+        enemyShipFactory.free(enemyShip);
+        assertEquals(1, enemyShipFactory.getFreeCount());
+
+        ShipStructure bigger = ShipFactory.generateShipStructure(6, 3);
+        EnemyShip reused = enemyShipFactory.spawn(bigger, 10f, 10f, 90f);
+
+        assertSame(enemyShip, reused);
+        assertSame(brain, reused.getBrain());
+        assertSame(structure, reused.getShipStructure());
+        assertEquals(6, structure.getNumFuselage());
+        assertEquals(bigger.getWidth(), structure.getWidth());
+        assertEquals(bigger.getHeight(), structure.getHeight());
+        assertNotEquals(id, reused.getID());
+        assertEquals(0f, reused.getVelocityX());
+        assertEquals(0f, reused.getVelocityY());
+        assertEquals(reused.getMaxHitPoints(), reused.getHitPoints());
+        assertEquals(6, reused.getTransformCache().getFuselageCount());
+        assertEquals(0, enemyShipFactory.getFreeCount());
+    }
+}
@@ -0,0 +1,238 @@
+package model;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.Rectangle;
+
+import controller.audio.SoundEffect;
+import model.Animation.AnimationType;
+import model.SpaceCharacters.Ships.Player;
+import model.SpaceCharacters.Ships.SpaceShip;
+import model.constants.PhysicsParameters;
+import model.events.GameEventListener;
+import model.utils.FloatPair;
+
+/**
+ * Runs a seeded {@link SpaceGameModel} without a window, through one of a few
+ * scripted scenarios. The view is replaced by stubs: the screen bounds follow
+ * the player, and the animations and sounds drained from the model's events
+ * after each tick are only counted.
+ * <p>
+ * The player is repaired every tick, so a scenario never ends in game over.
+ * Two simulations of the same scenario and seed play out the same way.
+ * <p>
+ * Used by the tests and the JMH benchmarks, and can be run on its own to print
+ * a quick report for every scenario.
+ */
+public class HeadlessSimulation {
+
+    public static final float tickLength = 1f / PhysicsParameters.simulationTickRate;
+
+    // roughly the area the game screen culls and spawns around
+    private static final float screenWidth = 48f;
+    private static final float screenHeight = 27f;
+
+    private static final int stormAsteroids = 150;
+    private static final int fleetShips = 50;
+    private static final int escortShips = 10;
+
+    public enum Scenario {
+        /** Asteroid showers keep at least 150 asteroids around an idle player. */
+        ASTEROID_STORM,
+        /** Fifty enemy ships keep closing in on an idle player. */
+        ENEMY_FLEET,
+        /** The player turns in place and fires, while ten enemy ships fire back. */
+        SUSTAINED_FIRE
+    }
+
+    private final Scenario scenario;
+    private final SpaceGameModel model;
+    private final Rectangle bounds = new Rectangle();
+    private int animations = 0;
+    private int sounds = 0;
+    private final GameEventListener events = new GameEventListener() {
+        @Override
+        public void addAnimationState(float x, float y, float radius, AnimationType type) {
+            animations++;
+        }
+
+        @Override
+        public void play(SoundEffect soundEffect) {
+            sounds++;
+        }
+    };
+
+    /**
+     * @param scenario the scenario to play.
+     * @param seed     the seed of the model's random number generator.
+     */
+    public HeadlessSimulation(Scenario scenario, long seed) {
+        startHeadlessApplication();
+        this.scenario = scenario;
+        this.model = new SpaceGameModel(seed);
+
+        model.setScreenBoundsProvider(() -> {
+            FloatPair center = model.getPlayerCenterOfMass();
+            return bounds.set(center.x() - screenWidth / 2f, center.y() - screenHeight / 2f,
+                    screenWidth, screenHeight);
+        });
+
+        if (scenario == Scenario.SUSTAINED_FIRE) {
+            model.setAccelerateClockwise(true);
+        }
+        script();
+    }
+
+    /**
+     * Makes sure <code>Gdx</code> is set up, as the model loads ship layouts from
+     * <code>Gdx.files</code>.
+     */
+    public static void startHeadlessApplication() {
+        if (Gdx.app == null) {
+            new HeadlessApplication(new ApplicationAdapter() {
+            }, new HeadlessApplicationConfiguration());
+        }
+    }
+
+    /**
+     * Advances the model by one tick of {@link #tickLength} seconds, after applying
+     * the scenario's input for the tick.
+     */
+    public void tick() {
+        script();
+        model.update(tickLength);
+        model.drainEvents(events);
+    }
+
+    /**
+     * @param ticks the number of ticks to advance the model by.
+     */
+    public void run(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    private void script() {
+        Player player = model.getPlayer();
+        player.repair(player.getMaxHitPoints());
+
+        switch (scenario) {
+            case ASTEROID_STORM:
+                while (model.getAsteroids().size() < stormAsteroids) {
+                    model.createAsteroids();
+                }
+                break;
+            case ENEMY_FLEET:
+                while (model.getSpaceShips().size() < fleetShips + 1) {
+                    model.spawnRandomShip();
+                }
+                break;
+            case SUSTAINED_FIRE:
+                while (model.getSpaceShips().size() < escortShips + 1) {
+                    model.spawnRandomShip();
+                }
+                List<SpaceShip> ships = model.getSpaceShips();
+                for (int i = 0; i < ships.size(); i++) {
+                    ships.get(i).setToShoot(true);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Runs the scenario and measures it. Allocations are counted for the current
+     * thread only, which is the thread running the model.
+     *
+     * @param warmupTicks the number of ticks to run before measuring.
+     * @param ticks       the number of ticks to measure.
+     * @return the measurements.
+     */
+    public Report measure(int warmupTicks, int ticks) {
+        run(warmupTicks);
+
+        long colliders = 0;
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            tick();
+            colliders += model.getColliderCount();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+
+        return new Report(scenario, ticks, (double) nanos / ticks, bytes < 0 ? -1 : (double) bytes / ticks,
+                (double) colliders / ticks);
+    }
+
+    /**
+     * @return the number of bytes allocated by the current thread, or a negative
+     *         number if the JVM doesn't support counting them.
+     */
+    public static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    public SpaceGameModel getModel() {
+        return model;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public int getAnimationCount() {
+        return animations;
+    }
+
+    public int getSoundCount() {
+        return sounds;
+    }
+
+    /**
+     * The result of {@link HeadlessSimulation#measure}.
+     *
+     * @param scenario         the measured scenario.
+     * @param ticks            the number of measured ticks.
+     * @param nanosPerTick     the average wall time of a tick, in nanoseconds.
+     * @param bytesPerTick     the average number of bytes allocated in a tick, or
+     *                         -1 if unknown.
+     * @param collidersPerTick the average number of colliders after a tick.
+     */
+    public record Report(Scenario scenario, int ticks, double nanosPerTick, double bytesPerTick,
+            double collidersPerTick) {
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %8d ticks %12.0f ns/tick %12.0f B/tick %8.1f colliders",
+                    scenario, ticks, nanosPerTick, bytesPerTick, collidersPerTick);
+        }
+    }
+
+    /**
+     * Prints a report for every scenario.
+     *
+     * @param args optionally the number of ticks to measure, and the seed.
+     */
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 3600;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+
+        for (Scenario scenario : Scenario.values()) {
+            HeadlessSimulation simulation = new HeadlessSimulation(scenario, seed);
+            simulation.getModel().getPhaseTimer().setEnabled(true);
+            System.out.println(simulation.measure(ticks / 4, ticks));
+            System.out.print(simulation.getModel().getPhaseTimer().appendReport(new StringBuilder()));
+        }
+        Gdx.app.exit();
+    }
+}
@@ -0,0 +1,74 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import model.HeadlessSimulation.Report;
+import model.HeadlessSimulation.Scenario;
+import model.SpaceCharacters.Asteroid;
+import model.SpaceCharacters.Ships.SpaceShip;
+
+public class HeadlessSimulationTest {
+
+    @ParameterizedTest
+    @EnumSource(Scenario.class)
+    void scenarioRunsTest(Scenario scenario) {
+        HeadlessSimulation simulation = new HeadlessSimulation(scenario, 7L);
+        Report report = simulation.measure(60, 120);
+
+        assertFalse(simulation.getModel().isGameOver());
+        assertEquals(scenario, report.scenario());
+        assertEquals(120, report.ticks());
+        assertTrue(report.nanosPerTick() > 0);
+        assertTrue(report.collidersPerTick() > 1);
+    }
+
+    @Test
+    void scenariosFillTheModelTest() {
+        HeadlessSimulation storm = new HeadlessSimulation(Scenario.ASTEROID_STORM, 7L);
+        assertTrue(storm.getModel().getAsteroids().size() >= 150);
+
+        HeadlessSimulation fleet = new HeadlessSimulation(Scenario.ENEMY_FLEET, 7L);
+        assertEquals(51, fleet.getModel().getSpaceShips().size());
+
+        HeadlessSimulation fire = new HeadlessSimulation(Scenario.SUSTAINED_FIRE, 7L);
+        fire.run(60);
+        assertTrue(fire.getModel().getLasers().size() > 0);
+    }
+
+    @Test
+    void sameSeedSameGameTest() {
+        HeadlessSimulation first = new HeadlessSimulation(Scenario.ASTEROID_STORM, 42L);
+        HeadlessSimulation second = new HeadlessSimulation(Scenario.ASTEROID_STORM, 42L);
+        first.run(300);
+        second.run(300);
+
+        List<Asteroid> firstAsteroids = first.getModel().getAsteroids();
+        List<Asteroid> secondAsteroids = second.getModel().getAsteroids();
+        assertEquals(firstAsteroids.size(), secondAsteroids.size());
+        for (int i = 0; i < firstAsteroids.size(); i++) {
+            assertEquals(firstAsteroids.get(i).getX(), secondAsteroids.get(i).getX());
+            assertEquals(firstAsteroids.get(i).getY(), secondAsteroids.get(i).getY());
+        }
+
+        HeadlessSimulation firstFleet = new HeadlessSimulation(Scenario.ENEMY_FLEET, 42L);
+        HeadlessSimulation secondFleet = new HeadlessSimulation(Scenario.ENEMY_FLEET, 42L);
+        firstFleet.run(300);
+        secondFleet.run(300);
+
+        List<SpaceShip> firstShips = firstFleet.getModel().getSpaceShips();
+        List<SpaceShip> secondShips = secondFleet.getModel().getSpaceShips();
+        assertEquals(firstShips.size(), secondShips.size());
+        for (int i = 0; i < firstShips.size(); i++) {
+            assertEquals(firstShips.get(i).getX(), secondShips.get(i).getX());
+            assertEquals(firstShips.get(i).getHitPoints(), secondShips.get(i).getHitPoints());
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -20,6 +22,10 @@ import model.SpaceCharacters.Asteroid;
 import model.SpaceCharacters.Bullet;
 import model.SpaceCharacters.Ships.EnemyShip;
 import model.SpaceCharacters.Ships.Player;
+import model.collision.AllPairsBroadPhase;
+import model.collision.BroadPhase;
+import model.collision.SpatialHashGrid;
+import model.collision.SweepAndPruneBroadPhase;
 import model.constants.PhysicsParameters;
 import model.utils.FloatPair;
 
@@ -167,6 +173,88 @@ public class HitDetectionTest {
         verify(model, times(3)).handleCollision(any(), any());
     }
 
+    @Test
+    public void broadPhasesFindSameCollisionsTest() {
+        List<BroadPhase> broadPhases = List.of(new AllPairsBroadPhase(), new SpatialHashGrid(),
+                new SweepAndPruneBroadPhase());
+
+        FloatPair pos = new FloatPair(1000f, 1000f);
+        player.setPosition(pos);
+        enemyShip.setPosition(new FloatPair(pos.x() + 1.99f * PhysicsParameters.fuselageRadius, pos.y()));
+        laser.setPosition(new FloatPair(pos.x(), pos.y() + 1f));
+
+        int expectedCollisions = 0;
+        for (BroadPhase broadPhase : broadPhases) {
+            hitDetection.setBroadPhase(broadPhase);
+            hitDetection.checkCollisions();
+
+            // player hits enemy, laser hits player
+            expectedCollisions += 2;
+            verify(model, times(expectedCollisions)).handleCollision(any(), any());
+        }
+    }
+
+    @Test
+    public void removedColliderIsSkippedTest() {
+        // remove the asteroid as soon as it collides with something
+        doAnswer(invocation -> {
+            hitDetection.removeCollider(asteroid);
+            return null;
+        }).when(model).handleCollision(any(), any());
+
+        FloatPair pos = new FloatPair(1000f, 1000f);
+        Bullet secondLaser = new Bullet("bullet", "a bullet", 0, 0, 0, 0, 0.25f, false);
+        hitDetection.addCollider(secondLaser);
+        asteroid.setPosition(pos);
+        asteroid.setRadius(1f);
+        laser.setPosition(new FloatPair(pos.x() - 0.6f, pos.y()));
+        secondLaser.setPosition(new FloatPair(pos.x() + 0.6f, pos.y()));
+
+        // both lasers overlap the asteroid, but only the first hit should count
+        hitDetection.checkCollisions();
+        verify(model, times(1)).handleCollision(any(), any());
+        assertFalse(hitDetection.colliders.contains(asteroid));
+    }
+
+    @Test
+    public void pairOrderTest() {
+        HitDetection detection = new HitDetection(model);
+        List<Collidable> pairs = new ArrayList<>();
+        doAnswer(invocation -> {
+            pairs.add(invocation.getArgument(0));
+            pairs.add(invocation.getArgument(1));
+            return null;
+        }).when(model).handleCollision(any(), any());
+
+        // overlapping asteroids, so every pair collides
+        List<Asteroid> asteroids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Asteroid overlapping = new Asteroid();
+            overlapping.setPosition(new FloatPair(1000f, 1000f));
+            overlapping.setRadius(1f);
+            asteroids.add(overlapping);
+        }
+        Asteroid a = asteroids.get(0);
+        Asteroid b = asteroids.get(1);
+        Asteroid c = asteroids.get(2);
+        Asteroid d = asteroids.get(3);
+        Asteroid e = asteroids.get(4);
+
+        // single colliders go in front, lists at the back
+        detection.addCollider(a);
+        detection.addCollider(b);
+        detection.addColliders(List.of(c, d));
+        detection.checkCollisions();
+        assertEquals(List.of(b, a, b, c, b, d, a, c, a, d, c, d), pairs);
+
+        // removing a collider leaves the others in order
+        pairs.clear();
+        detection.removeCollider(b);
+        detection.addCollider(e);
+        detection.checkCollisions();
+        assertEquals(List.of(e, a, e, c, e, d, a, c, a, d, c, d), pairs);
+    }
+
     @Test
     public void isFriendlyFireTest() {
         assertFalse(HitDetection.isFriendlyFire(player, asteroid));
@@ -47,7 +47,51 @@ public class StatModifierTest {
 
     @Test
     void getModifiersTest() {
-        assertEquals(modifier.modifiers, modifier.getModifiers());
+        modifier.setModifier(Stat.MASS, 2.5f);
+        modifier.setModifier(Stat.HEALTH_VALUE, 3);
+        for (Stat stat : Stat.values()) {
+            assertEquals(modifier.get(stat), modifier.getModifiers().get(stat).floatValue());
+        }
+        assertEquals(Integer.valueOf(3), modifier.getModifiers().get(Stat.HEALTH_VALUE));
+
+        // the map is a copy
+        modifier.getModifiers().put(Stat.MASS, 10f);
+        assertEquals(2.5f, modifier.get(Stat.MASS));
+    }
+
+    @Test
+    void intBasedStatsAreWholeNumbersTest() {
+        modifier.set(Stat.HEALTH_VALUE, 2.75f);
+        assertEquals(2f, modifier.get(Stat.HEALTH_VALUE));
+        assertEquals(2, modifier.getInt(Stat.HEALTH_VALUE));
+
+        modifier.set(Stat.MASS, 2.75f);
+        assertEquals(2.75f, modifier.get(Stat.MASS));
+    }
+
+    @Test
+    void scaleMaxAndClearTest() {
+        modifier.set(Stat.MASS, 1.5f);
+        modifier.set(Stat.HEALTH_VALUE, 3);
+        assertEquals(modifier, modifier.scale(2.5f));
+        assertEquals(3.75f, modifier.get(Stat.MASS));
+        assertEquals(7, modifier.getInt(Stat.HEALTH_VALUE));
+
+        StatModifier other = new StatModifier();
+        other.set(Stat.MASS, 5f);
+        other.set(Stat.HEALTH_VALUE, 1);
+        other.set(Stat.MAX_SPEED, -1f);
+        modifier.max(other);
+        assertEquals(5f, modifier.get(Stat.MASS));
+        assertEquals(7, modifier.getInt(Stat.HEALTH_VALUE));
+        assertEquals(0f, modifier.get(Stat.MAX_SPEED));
+
+        StatModifier copy = modifier.copy();
+        modifier.clear();
+        for (Stat stat : Stat.values()) {
+            assertEquals(0f, modifier.get(stat));
+        }
+        assertEquals(5f, copy.get(Stat.MASS));
     }
 
     @Test
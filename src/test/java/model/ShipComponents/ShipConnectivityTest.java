@@ -0,0 +1,73 @@
+package model.ShipComponents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import grid.CellPosition;
+import org.junit.jupiter.api.Test;
+
+class ShipConnectivityTest {
+
+    @Test
+    void emptyIsNotConnectedTest() {
+        ShipConnectivity connectivity = new ShipConnectivity();
+        assertFalse(connectivity.isConnected());
+        assertEquals(0, connectivity.size());
+        assertEquals(0, connectivity.getGroupCount());
+    }
+
+    @Test
+    void addJoinsNeighboursTest() {
+        ShipConnectivity connectivity = new ShipConnectivity();
+        CellPosition left = new CellPosition(0, 0);
+        CellPosition right = new CellPosition(0, 2);
+
+        assertTrue(connectivity.add(left));
+        assertTrue(connectivity.isConnected());
+
+        assertTrue(connectivity.add(right));
+        assertFalse(connectivity.isConnected());
+        assertFalse(connectivity.isConnected(left, right));
+        assertEquals(2, connectivity.getGroupCount());
+
+        // diagonal neighbours don't connect
+        assertTrue(connectivity.add(new CellPosition(1, 1)));
+        assertEquals(3, connectivity.getGroupCount());
+
+        assertTrue(connectivity.add(new CellPosition(0, 1)));
+        assertTrue(connectivity.isConnected());
+        assertTrue(connectivity.isConnected(left, right));
+        assertEquals(4, connectivity.size());
+    }
+
+    @Test
+    void addTwiceTest() {
+        ShipConnectivity connectivity = new ShipConnectivity();
+        assertTrue(connectivity.add(new CellPosition(3, 4)));
+        assertFalse(connectivity.add(new CellPosition(3, 4)));
+        assertTrue(connectivity.contains(new CellPosition(3, 4)));
+        assertFalse(connectivity.contains(new CellPosition(4, 3)));
+        assertEquals(1, connectivity.size());
+    }
+
+    @Test
+    void largeShipTest() {
+        ShipConnectivity connectivity = new ShipConnectivity();
+        int size = 200;
+        // a comb: a spine along the top row, with teeth hanging down from every
+        // other column, added bottom-up so groups keep merging
+        for (int row = size - 1; row > 0; row--) {
+            for (int col = 0; col < size; col += 2) {
+                connectivity.add(new CellPosition(row, col));
+            }
+        }
+        assertEquals(size / 2, connectivity.getGroupCount());
+
+        for (int col = 0; col < size; col++) {
+            connectivity.add(new CellPosition(0, col));
+        }
+        assertTrue(connectivity.isConnected());
+        assertTrue(connectivity.isConnected(new CellPosition(size - 1, 0), new CellPosition(size - 1, size - 2)));
+    }
+}
@@ -0,0 +1,90 @@
+package model.ShipComponents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import grid.GridCell;
+import java.util.ArrayList;
+import java.util.List;
+import model.ShipComponents.Components.Fuselage;
+import org.junit.jupiter.api.Test;
+
+class ShipStructureGeneratorTest {
+
+    private static List<String> layout(ShipStructure structure) {
+        List<String> layout = new ArrayList<>();
+        for (GridCell<Fuselage> cell : structure) {
+            if (cell.value() == null) {
+                layout.add("-");
+            } else if (cell.value().hasUpgrade()) {
+                layout.add(cell.value().getUpgrade().getType().toString());
+            } else {
+                layout.add("F");
+            }
+        }
+        layout.add(structure.getWidth() + "x" + structure.getHeight());
+        return layout;
+    }
+
+    @Test
+    void takeGivesRequestedSizeTest() {
+        ShipStructureGenerator generator = new ShipStructureGenerator(1L, 2);
+        for (int numFuselage = 2; numFuselage < 8; numFuselage++) {
+            ShipStructure structure = generator.take(numFuselage);
+            assertEquals(numFuselage, structure.getNumFuselage());
+            assertTrue(structure.getUpgradeTypePositions(UpgradeType.THRUSTER).size() >= 1);
+            assertTrue(structure.getUpgradeTypePositions(UpgradeType.TURRET).size() >= 1);
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameStructuresTest() {
+        ShipStructureGenerator ready = new ShipStructureGenerator(42L, 3);
+        ready.prepare(5);
+        ready.prepare(6);
+        // a generator taking right away generates at least some of them itself
+        ShipStructureGenerator eager = new ShipStructureGenerator(42L, 3);
+
+        for (int i = 0; i < 6; i++) {
+            int numFuselage = 5 + i % 2;
+            assertEquals(layout(ready.take(numFuselage)), layout(eager.take(numFuselage)));
+        }
+    }
+
+    @Test
+    void smallerSizesDroppedTest() {
+        ShipStructureGenerator generator = new ShipStructureGenerator(3L, 2);
+        for (int numFuselage = 2; numFuselage < 10; numFuselage++) {
+            generator.take(numFuselage);
+            generator.take(numFuselage);
+            // only the size taken and the next size up are kept queued
+            assertEquals(4, generator.getQueuedCount());
+        }
+    }
+
+    @Test
+    void recycleTest() {
+        ShipStructureGenerator recycling = new ShipStructureGenerator(7L, 1);
+        ShipStructureGenerator fresh = new ShipStructureGenerator(7L, 1);
+
+        // recycled structures are generated into again, into the same layouts
+        List<ShipStructure> recycled = new ArrayList<>();
+        boolean reused = false;
+        for (int i = 0; i < 20; i++) {
+            ShipStructure structure = recycling.take(4);
+            assertEquals(layout(fresh.take(4)), layout(structure));
+            reused |= recycled.contains(structure);
+            recycling.recycle(structure);
+            recycled.add(structure);
+        }
+        assertTrue(reused);
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ShipStructureGenerator(0L, 0));
+        ShipStructureGenerator generator = new ShipStructureGenerator(0L, 1);
+        assertThrows(IllegalArgumentException.class, () -> generator.take(1));
+    }
+}
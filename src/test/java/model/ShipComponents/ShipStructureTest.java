@@ -1,5 +1,6 @@
 package model.ShipComponents;
 
+import grid.ArrayGrid;
 import grid.CellPosition;
 import grid.Grid;
 import grid.GridCell;
@@ -9,6 +10,7 @@ import model.ShipComponents.Components.Shield;
 import model.ShipComponents.Components.Thruster;
 import model.ShipComponents.Components.Turret;
 import model.ShipComponents.Components.stats.Stat;
+import model.ShipComponents.Components.stats.StatModifier;
 import model.SpaceCharacters.Ships.Player;
 import model.SpaceCharacters.Ships.SpaceShip;
 import model.constants.PhysicsParameters;
@@ -26,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -381,6 +384,33 @@ class ShipStructureTest {
         assertEquals(2, structure.getHeight());
     }
 
+    @Test
+    void updateWithFuselageFitsGridTest() {
+        ShipStructure structure = new ShipStructure(1, 1);
+        assertTrue(structure.updateWithFuselage(new CellPosition(2, 0)));
+        assertEquals(1, structure.getNumFuselage());
+        assertEquals(1, structure.getWidth());
+        assertEquals(1, structure.getHeight());
+
+        // left of the fuselage, in the 2x2 expanded grid of the upgrade screen
+        assertTrue(structure.updateWithFuselage(new CellPosition(1, 0)));
+        assertEquals(2, structure.getWidth());
+        assertEquals(1, structure.getHeight());
+        assertTrue(structure.hasFuselage(new CellPosition(0, 0)));
+        assertTrue(structure.hasFuselage(new CellPosition(0, 1)));
+
+        // below the right fuselage
+        assertTrue(structure.updateWithFuselage(new CellPosition(2, 2)));
+        assertEquals(2, structure.getWidth());
+        assertEquals(2, structure.getHeight());
+        assertEquals(3, structure.getNumFuselage());
+
+        // diagonal to the ship, and outside the expanded grid
+        assertFalse(structure.updateWithFuselage(new CellPosition(0, 0)));
+        assertFalse(structure.updateWithFuselage(new CellPosition(5, 1)));
+        assertEquals(3, structure.getNumFuselage());
+    }
+
     @Test
     void expandShipBottomTest() {
         SpaceShip ship = new Player(new ShipStructure(1, 2), "name", "description", 0f, 0f);
@@ -619,4 +649,97 @@ class ShipStructureTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    private static void assertStatsMatchGrid(ShipStructure shipStructure) {
+        StatModifier expected = new StatModifier();
+        for (GridCell<Fuselage> cell : shipStructure) {
+            if (cell.value() != null) {
+                expected.addModifier(cell.value().getStatModifier());
+            }
+        }
+        for (Stat stat : Stat.values()) {
+            assertEquals(expected.getModifiers().get(stat).floatValue(), shipStructure.getCombinedStat(stat), 1e-4f,
+                    "issue with stat " + stat);
+        }
+    }
+
+    @Test
+    void combinedStatsFollowChangesTest() {
+        ShipStructure shipStructure = new ShipStructure(1, 2);
+        CellPosition bottom = new CellPosition(0, 0);
+        CellPosition top = new CellPosition(1, 0);
+        shipStructure.setFuselage(bottom, new Fuselage(new Thruster()));
+        assertStatsMatchGrid(shipStructure);
+
+        shipStructure.setFuselage(top);
+        assertTrue(shipStructure.addUpgrade(top, new Turret()));
+        assertStatsMatchGrid(shipStructure);
+
+        float health = shipStructure.getCombinedStat(Stat.HEALTH_VALUE);
+        assertTrue(shipStructure.upgradeStage(top, true));
+        assertTrue(shipStructure.getCombinedStat(Stat.HEALTH_VALUE) > health);
+        assertTrue(shipStructure.upgradeStage(top, false));
+        assertTrue(shipStructure.upgradeStage(bottom, false));
+        assertStatsMatchGrid(shipStructure);
+
+        assertFalse(shipStructure.upgradeStage(new CellPosition(5, 5), true));
+
+        // the returned modifier is a copy
+        shipStructure.getCombinedStatModifier().setModifier(Stat.MAX_SPEED, 1000f);
+        assertStatsMatchGrid(shipStructure);
+
+        shipStructure.normalize();
+        assertStatsMatchGrid(shipStructure);
+    }
+
+    @Test
+    void resetReusesGridTest() {
+        ShipStructure structure = ShipFactory.generateShipStructure(6, 3);
+        ShipStructure small = ShipFactory.simpleShip();
+        int version = structure.getStructureVersion();
+
+        // a smaller ship fits in the grid the structure already has
+        structure.reset(small);
+        assertTrue(structure.getStructureVersion() > version);
+        assertEquals(2, structure.getNumFuselage());
+        assertEquals(small.getWidth(), structure.getWidth());
+        assertEquals(small.getHeight(), structure.getHeight());
+        assertEquals(small.getMass(), structure.getMass());
+        assertEquals(small.getResourceValue(), structure.getResourceValue());
+        assertSame(small.getFuselage(new CellPosition(1, 0)), structure.getFuselage(new CellPosition(1, 0)));
+        assertStatsMatchGrid(structure);
+
+        // a layout is fitted to its fuselage
+        IGrid<Fuselage> layout = new ArrayGrid<>(4, 4);
+        layout.set(new CellPosition(2, 1), new Fuselage());
+        layout.set(new CellPosition(2, 2), new Fuselage(new Turret()));
+        small.reset(layout);
+        assertEquals(2, small.getWidth());
+        assertEquals(1, small.getHeight());
+        assertNotNull(small.getFuselage(new CellPosition(0, 1)).getUpgrade());
+
+        IGrid<Fuselage> disconnected = new ArrayGrid<>(3, 3);
+        disconnected.set(new CellPosition(0, 0), new Fuselage());
+        disconnected.set(new CellPosition(2, 2), new Fuselage());
+        assertThrows(IllegalArgumentException.class, () -> small.reset(disconnected));
+    }
+
+    @Test
+    void resourceValueFollowsChangesTest() {
+        ShipStructure shipStructure = new ShipStructure(1, 2);
+        CellPosition bottom = new CellPosition(0, 0);
+        CellPosition top = new CellPosition(1, 0);
+        shipStructure.setFuselage(bottom, new Fuselage(new Thruster()));
+        int value = shipStructure.getResourceValue();
+        assertEquals(shipStructure.getFuselage(bottom).getResourceValue(), value);
+
+        shipStructure.setFuselage(top);
+        assertTrue(shipStructure.getResourceValue() > value);
+        value = shipStructure.getResourceValue();
+
+        assertTrue(shipStructure.upgradeStage(bottom, false));
+        assertTrue(shipStructure.getResourceValue() > value);
+        assertEquals(shipStructure.getFuselage(bottom).getResourceValue()
+                + shipStructure.getFuselage(top).getResourceValue(), shipStructure.getResourceValue());
+    }
+}
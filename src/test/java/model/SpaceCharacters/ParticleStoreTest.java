@@ -0,0 +1,134 @@
+package model.SpaceCharacters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParticleStoreTest {
+
+    private static final float delta = 1e-4f;
+
+    private ParticleStore store;
+    private Asteroid asteroid;
+    private Bullet bullet;
+
+    @BeforeEach
+    void setup() {
+        store = new ParticleStore(1);
+        asteroid = new Asteroid();
+        asteroid.init(1f, 2f, 3f, -4f, 5, 6f, 350f, 0.5f, 20f, true);
+        bullet = new Bullet("bullet", "a bullet", -1f, -2f, 10f, 90f, 0.125f, false);
+    }
+
+    @Test
+    void addKeepsStateTest() {
+        store.add(asteroid);
+        store.add(bullet);
+
+        assertEquals(2, store.size());
+        assertTrue(asteroid.isInParticleStore());
+        assertSame(asteroid, store.get(0));
+        assertSame(bullet, store.get(1));
+
+        assertEquals(1f, asteroid.getX());
+        assertEquals(2f, asteroid.getY());
+        assertEquals(3f, asteroid.getVelocityX());
+        assertEquals(-4f, asteroid.getVelocityY());
+        assertEquals(350f, asteroid.getRotationAngle());
+        assertEquals(20f, asteroid.getRotationSpeed());
+        assertEquals(0.5f, asteroid.getRadius());
+        assertEquals(10f, bullet.getSpeed(), delta);
+
+        assertThrows(IllegalArgumentException.class, () -> store.add(asteroid));
+        assertThrows(IllegalArgumentException.class, () -> new ParticleStore().add(asteroid));
+    }
+
+    @Test
+    void integrateMatchesUpdateTest() {
+        Asteroid reference = new Asteroid();
+        reference.init(1f, 2f, 3f, -4f, 5, 6f, 350f, 0.5f, 20f, true);
+
+        store.add(asteroid);
+        for (int i = 0; i < 10; i++) {
+            store.integrate(0.1f);
+            reference.update(0.1f);
+        }
+        assertEquals(reference.getX(), asteroid.getX(), delta);
+        assertEquals(reference.getY(), asteroid.getY(), delta);
+        assertEquals(reference.getRotationAngle(), asteroid.getRotationAngle(), delta);
+
+        // updating a single projectile moves only that projectile
+        store.add(bullet);
+        bullet.update(0.5f);
+        reference.update(0f);
+        assertEquals(reference.getX(), asteroid.getX(), delta);
+        assertEquals(-1f, bullet.getX(), delta);
+        assertEquals(3f, bullet.getY(), delta);
+    }
+
+    @Test
+    void settersWriteToStoreTest() {
+        store.add(asteroid);
+        asteroid.setX(10f);
+        asteroid.setY(20f);
+        asteroid.setVelocity(1f, 0f);
+        asteroid.setRotation(-90f);
+        asteroid.setRotationSpeed(0f);
+        asteroid.setRadius(2f);
+
+        store.integrate(1f);
+        assertEquals(11f, asteroid.getX());
+        assertEquals(20f, asteroid.getY());
+        assertEquals(270f, asteroid.getRotationAngle());
+        assertEquals(2f, asteroid.getRadius());
+        assertThrows(IllegalArgumentException.class, () -> asteroid.setRadius(-1f));
+    }
+
+    @Test
+    void removeTest() {
+        store.add(asteroid);
+        store.add(bullet);
+        store.integrate(1f);
+
+        assertTrue(store.remove(asteroid));
+        assertFalse(store.remove(asteroid));
+        assertFalse(asteroid.isInParticleStore());
+
+        // the removed projectile keeps its state, and the last one is moved
+        assertEquals(4f, asteroid.getX(), delta);
+        assertEquals(-2f, asteroid.getY(), delta);
+        assertEquals(1, store.size());
+        assertSame(bullet, store.get(0));
+        assertEquals(8f, bullet.getY(), delta);
+
+        store.integrate(1f);
+        assertEquals(4f, asteroid.getX(), delta);
+        assertEquals(18f, bullet.getY(), delta);
+
+        asteroid.update(1f);
+        assertEquals(7f, asteroid.getX(), delta);
+    }
+
+    @Test
+    void interpolationTest() {
+        store.add(asteroid);
+        store.add(bullet);
+        store.storePreviousState();
+        store.integrate(1f);
+
+        assertEquals(2.5f, asteroid.getInterpolatedX(0.5f), delta);
+        assertEquals(0f, asteroid.getInterpolatedY(0.5f), delta);
+        assertEquals(0f, asteroid.getInterpolatedRotationAngle(0.5f), delta);
+        assertEquals(3f, bullet.getInterpolatedY(0.5f), delta);
+
+        // the previous state follows a projectile when it is moved or removed
+        store.remove(asteroid);
+        assertEquals(3f, bullet.getInterpolatedY(0.5f), delta);
+        assertEquals(asteroid.getX(), asteroid.getInterpolatedX(0.5f), delta);
+    }
+}
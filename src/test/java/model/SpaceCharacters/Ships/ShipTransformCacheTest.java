@@ -0,0 +1,111 @@
+package model.SpaceCharacters.Ships;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import grid.CellPosition;
+import grid.GridCell;
+import model.ShipComponents.ShipFactory;
+import model.ShipComponents.UpgradeType;
+import model.ShipComponents.Components.Thruster;
+import model.ShipComponents.Components.Turret;
+import model.utils.FloatPair;
+import model.utils.SpaceCalculator;
+
+public class ShipTransformCacheTest {
+
+    private static final float delta = 1e-4f;
+
+    private EnemyShip ship;
+
+    @BeforeEach
+    public void setup() {
+        ship = new EnemyShip(ShipFactory.simpleShip(), "enemy", "an enemy ship", 3f, -2f, 30f);
+    }
+
+    @Test
+    public void fuselageMatchesRotatePointTest() {
+        assertCellsMatchRotatePoint();
+
+        ship.setPosition(new FloatPair(-7.5f, 12f));
+        assertCellsMatchRotatePoint();
+
+        ship.rotate(137f);
+        assertCellsMatchRotatePoint();
+    }
+
+    @Test
+    public void turretsAndThrustersMatchRotatePointTest() {
+        ship.rotate(-65f);
+        ShipTransformCache cells = ship.getTransformCache();
+
+        List<GridCell<Turret>> turretCells = ship.getTurretGridCells();
+        assertEquals(turretCells.size(), cells.getTurretCount());
+        for (int i = 0; i < turretCells.size(); i++) {
+            CellPosition pos = turretCells.get(i).pos();
+            FloatPair expected = rotate(pos.col() + Turret.turretBarrelLocation().x(),
+                    pos.row() + Turret.turretBarrelLocation().y());
+            assertSame(turretCells.get(i).value(), cells.getTurret(i));
+            assertEquals(expected.x(), cells.getTurretX(i), delta);
+            assertEquals(expected.y(), cells.getTurretY(i), delta);
+        }
+
+        List<CellPosition> thrusters = ship.getUpgradeTypePositions(UpgradeType.THRUSTER);
+        assertEquals(thrusters.size(), cells.getThrusterCount());
+        for (int i = 0; i < thrusters.size(); i++) {
+            CellPosition pos = thrusters.get(i);
+            FloatPair expected = rotate(pos.col() + Thruster.thrusterFlameLocation().x(),
+                    pos.row() + Thruster.thrusterFlameLocation().y());
+            assertEquals(expected.x(), cells.getThrusterX(i), delta);
+            assertEquals(expected.y(), cells.getThrusterY(i), delta);
+        }
+    }
+
+    @Test
+    public void structureChangeInvalidatesCacheTest() {
+        ShipTransformCache cells = ship.getTransformCache();
+        assertEquals(2, cells.getFuselageCount());
+        assertEquals(1, cells.getTurretCount());
+
+        int version = ship.getShipStructure().getStructureVersion();
+        ship.getShipStructure().expandGrid(0, 1, false);
+        ship.getShipStructure().setFuselage(new CellPosition(1, 0));
+        ship.getShipStructure().addUpgrade(new CellPosition(1, 0), new Turret());
+        assertTrue(ship.getShipStructure().getStructureVersion() > version);
+
+        cells = ship.getTransformCache();
+        assertEquals(3, cells.getFuselageCount());
+        assertEquals(2, cells.getTurretCount());
+        assertCellsMatchRotatePoint();
+    }
+
+    private void assertCellsMatchRotatePoint() {
+        ShipTransformCache cells = ship.getTransformCache();
+        int i = 0;
+        for (GridCell<?> cell : ship.getShipStructure()) {
+            if (cell.value() == null) {
+                continue;
+            }
+            FloatPair expected = rotate(cell.pos().col(), cell.pos().row());
+            assertEquals(expected.x(), cells.getFuselageX(i), delta);
+            assertEquals(expected.y(), cells.getFuselageY(i), delta);
+            i++;
+        }
+        assertEquals(i, cells.getFuselageCount());
+
+        FloatPair centerOfMass = ship.getAbsoluteCenterOfMass();
+        assertEquals(centerOfMass.x(), cells.getCenterOfMassX(), delta);
+        assertEquals(centerOfMass.y(), cells.getCenterOfMassY(), delta);
+    }
+
+    private FloatPair rotate(float x, float y) {
+        return SpaceCalculator.rotatePoint(x, y, ship.getRelativeCenterOfMass(), ship.getAbsoluteCenterOfMass(),
+                ship.getRotationAngle());
+    }
+}
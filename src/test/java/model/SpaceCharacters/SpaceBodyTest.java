@@ -159,4 +159,24 @@ public class SpaceBodyTest {
 
         assertEquals(0, body.getResourceValue());
     }
+
+    @Test
+    void interpolationTest() {
+        SpaceBody body = new SpaceBody("name", "description", CharacterType.BULLET,
+                new Vector2(0f, 0f), new Vector2(4f, -2f), 1f, 350f, 40f, 1f) {
+        };
+
+        // nothing to interpolate from before the first tick
+        assertEquals(0f, body.getInterpolatedX(0.5f));
+        assertEquals(350f, body.getInterpolatedRotationAngle(0.5f));
+
+        body.storePreviousState();
+        body.update(0.5f);
+        assertEquals(0f, body.getInterpolatedX(0f));
+        assertEquals(1f, body.getInterpolatedX(0.5f), 1e-4f);
+        assertEquals(-0.5f, body.getInterpolatedY(0.5f), 1e-4f);
+        assertEquals(0f, body.getInterpolatedRotationAngle(0.5f), 1e-4f);
+        assertEquals(body.getX(), body.getInterpolatedX(1f));
+        assertEquals(10f, body.getInterpolatedRotationAngle(1f), 1e-4f);
+    }
 }
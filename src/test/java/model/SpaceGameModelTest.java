@@ -6,12 +6,19 @@ import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.math.Rectangle;
 
+import controller.audio.SoundEffect;
+import model.Animation.AnimationType;
 import model.ShipComponents.ShipFactory;
+import model.SpaceCharacters.Asteroid;
 import model.SpaceCharacters.Bullet;
 import model.SpaceCharacters.Ships.EnemyShip;
 import model.SpaceCharacters.Ships.SpaceShip;
+import model.events.GameEventListener;
 import model.utils.FloatPair;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +26,9 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SpaceGameModelTest {
@@ -45,12 +55,8 @@ class SpaceGameModelTest {
         initialPlayerX = gameModel.getPlayer().getX();
         initialPlayerY = gameModel.getPlayer().getY();
 
-        gameModel.setAnimationCallback(state -> {
-        });
         gameModel.setScreenBoundsProvider(() -> new Rectangle(gameModel.getPlayerCenterOfMass().x(),
                 gameModel.getPlayerCenterOfMass().y(), 10000f, 10000f));
-        gameModel.setAudioCallback(soundEffect -> {
-        });
     }
 
     @Test
@@ -100,6 +106,51 @@ class SpaceGameModelTest {
         assertFalse(HitDetection.isFriendlyFire(laser, enemy_1));
     }
 
+    @Test
+    void screenBoundsFetchedOncePerTickTest() {
+        int[] fetches = new int[1];
+        gameModel.setScreenBoundsProvider(new ScreenBoundsProvider() {
+            @Override
+            public Rectangle getBounds() {
+                throw new AssertionError("the model should copy into its own bounds");
+            }
+
+            @Override
+            public Rectangle getBounds(Rectangle bounds) {
+                fetches[0]++;
+                return bounds.set(initialPlayerX - 50f, initialPlayerY - 50f, 100f, 100f);
+            }
+        });
+        for (int i = 0; i < 20; i++) {
+            gameModel.createAsteroids();
+        }
+        fetches[0] = 0;
+
+        gameModel.update(0.01f);
+        assertTrue(gameModel.getAsteroids().size() > 0);
+        assertEquals(1, fetches[0]);
+    }
+
+    @Test
+    void despawnedShipReusedAfterDrainTest() {
+        GameEventListener listener = new GameEventListener() {
+        };
+        gameModel.spawnRandomShip();
+        SpaceShip ship = gameModel.getSpaceShips().get(1);
+        gameModel.drainEvents(listener);
+
+        // culled, but the view hasn't seen it leave yet
+        ship.setX(initialPlayerX + 1e6f);
+        gameModel.update(0.01f);
+        assertFalse(gameModel.getSpaceShips().contains(ship));
+        gameModel.spawnRandomShip();
+        assertNotSame(ship, gameModel.getSpaceShips().get(1));
+
+        gameModel.drainEvents(listener);
+        gameModel.spawnRandomShip();
+        assertSame(ship, gameModel.getSpaceShips().get(2));
+    }
+
     @Test
     public void createAsteroidsTest() {
         // check that asteroids are actually added
@@ -129,4 +180,129 @@ class SpaceGameModelTest {
         assertTrue(gameModel.getLasers().size() == 0);
         assertTrue(gameModel.getSpaceShips().size() == 1);
     }
-}
\ No newline at end of file
+
+    private Asteroid addMovingAsteroid() {
+        Asteroid asteroid = new Asteroid();
+        asteroid.init(initialPlayerX + 50f, initialPlayerY + 50f, 2f, 0f, 1, 1f, 0f, 0.5f, 0f, false);
+        gameModel.addAsteroid(asteroid);
+        return asteroid;
+    }
+
+    @Test
+    public void asteroidsMoveOncePerUpdateTest() {
+        Asteroid asteroid = addMovingAsteroid();
+        gameModel.update(0.5f);
+        assertEquals(initialPlayerX + 51f, asteroid.getX(), 1e-4f);
+        assertEquals(initialPlayerY + 50f, asteroid.getY(), 1e-4f);
+
+        // without a fixed tick rate, bodies are drawn at their current state
+        assertEquals(1f, gameModel.getInterpolationAlpha());
+        assertEquals(asteroid.getX(), asteroid.getInterpolatedX(gameModel.getInterpolationAlpha()));
+    }
+
+    @Test
+    public void fixedTimestepTest() {
+        gameModel.setTickRate(10f);
+        assertTrue(gameModel.hasFixedTimestep());
+        Asteroid asteroid = addMovingAsteroid();
+
+        // too short for a tick
+        gameModel.update(0.05f);
+        assertEquals(initialPlayerX + 50f, asteroid.getX(), 1e-4f);
+        assertEquals(0.5f, gameModel.getInterpolationAlpha(), 1e-4f);
+
+        // two ticks, and half of the next one is drawn by interpolation
+        gameModel.update(0.2f);
+        assertEquals(initialPlayerX + 50.4f, asteroid.getX(), 1e-4f);
+        assertEquals(0.5f, gameModel.getInterpolationAlpha(), 1e-4f);
+        assertEquals(initialPlayerX + 50.3f, asteroid.getInterpolatedX(gameModel.getInterpolationAlpha()), 1e-4f);
+
+        // a long frame runs a limited number of ticks and drops the rest
+        gameModel.update(2f);
+        assertEquals(initialPlayerX + 51.4f, asteroid.getX(), 1e-4f);
+        assertEquals(0.5f, gameModel.getInterpolationAlpha(), 1e-3f);
+
+        gameModel.useVariableTimestep();
+        assertFalse(gameModel.hasFixedTimestep());
+        assertEquals(1f, gameModel.getInterpolationAlpha());
+
+        assertThrows(IllegalArgumentException.class, () -> gameModel.setTickRate(0f));
+        assertThrows(IllegalArgumentException.class, () -> gameModel.setTickRate(Float.NaN));
+    }
+
+    @Test
+    public void shipEventTest() {
+        List<SpaceShip> spawned = new ArrayList<>();
+        List<SpaceShip> despawned = new ArrayList<>();
+        GameEventListener listener = new GameEventListener() {
+            @Override
+            public void shipSpawned(SpaceShip ship) {
+                spawned.add(ship);
+            }
+
+            @Override
+            public void shipDespawned(SpaceShip ship) {
+                despawned.add(ship);
+            }
+        };
+
+        gameModel.spawnRandomShip();
+        SpaceShip enemy = gameModel.getSpaceShips().get(1);
+        assertTrue(spawned.isEmpty());
+        gameModel.drainEvents(listener);
+        assertEquals(List.of(enemy), spawned);
+        assertTrue(despawned.isEmpty());
+
+        // culled when far from the player
+        gameModel.getPlayer().setPosition(new FloatPair(1_000_000f, -1_000_000f));
+        gameModel.update(0.01f);
+        gameModel.drainEvents(listener);
+        assertEquals(List.of(enemy), spawned);
+        assertEquals(List.of(enemy), despawned);
+    }
+
+    @Test
+    public void explosionEventTest() {
+        List<Float> explosions = new ArrayList<>();
+        List<SoundEffect> sounds = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        GameEventListener listener = new GameEventListener() {
+            @Override
+            public void addAnimationState(float x, float y, float radius, AnimationType type) {
+                explosions.add(x);
+            }
+
+            @Override
+            public void play(SoundEffect soundEffect) {
+                sounds.add(soundEffect);
+            }
+
+            @Override
+            public void scoreChanged(int score) {
+                scores.add(score);
+            }
+        };
+        gameModel.update(0.01f);
+        gameModel.drainEvents(listener);
+        scores.clear();
+
+        // two asteroids shot down in the same frame make one sound
+        Asteroid first = addMovingAsteroid();
+        Asteroid second = addMovingAsteroid();
+        Bullet laser = new Bullet("laser", "laser", first.getX(), first.getY(), 0f, 0f, 1, true);
+        gameModel.handleCollision(first, laser);
+        gameModel.handleCollision(second, laser);
+        gameModel.update(0.01f);
+
+        assertTrue(explosions.isEmpty());
+        gameModel.drainEvents(listener);
+        // the asteroids and the laser explode
+        assertEquals(3, explosions.size());
+        assertEquals(List.of(SoundEffect.SHIP_EXPLOSION_SMALL), sounds);
+        assertEquals(List.of(gameModel.getScore()), scores);
+
+        // drained events are gone
+        gameModel.drainEvents(listener);
+        assertEquals(3, explosions.size());
+    }
+}
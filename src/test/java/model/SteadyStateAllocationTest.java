@@ -0,0 +1,147 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.math.Vector2;
+import java.util.ArrayList;
+import java.util.List;
+import model.ShipComponents.ShipFactory;
+import model.SpaceCharacters.Asteroid;
+import model.SpaceCharacters.Ships.EnemyShip;
+import model.SpaceCharacters.Ships.Player;
+import model.ai.EnhancedLerpBrain;
+import model.ai.LerpBrain;
+import model.utils.FloatPair;
+import model.utils.SpaceCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the per-tick paths of ships, brains and hit detection don't
+ * allocate once they are warmed up. Allocations are counted per thread, so
+ * these tests are skipped on JVMs that can't count them.
+ */
+public class SteadyStateAllocationTest {
+
+    private static final int warmup = 200;
+    private static final int iterations = 2000;
+
+    private Player player;
+    private List<EnemyShip> enemies;
+
+    @BeforeEach
+    void setup() {
+        assumeTrue(HeadlessSimulation.allocatedBytes() >= 0);
+
+        player = new Player(ShipFactory.playerShip(), "player", "the player's ship", 0f, 0f);
+        enemies = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            EnemyShip enemy = new EnemyShip(ShipFactory.generateShipStructure(6, 3), "enemy", "an enemy ship",
+                    10f * i - 15f, 12f, 0f);
+            enemies.add(enemy);
+        }
+    }
+
+    /**
+     * @return the number of bytes allocated by running <code>tick</code>
+     *         {@link #iterations} times, after {@link #warmup} runs.
+     */
+    private static long allocatedBy(Runnable tick) {
+        for (int i = 0; i < warmup; i++) {
+            tick.run();
+        }
+
+        // the cost of reading the counter itself
+        long overheadStart = HeadlessSimulation.allocatedBytes();
+        long overhead = HeadlessSimulation.allocatedBytes() - overheadStart;
+
+        long start = HeadlessSimulation.allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            tick.run();
+        }
+        return HeadlessSimulation.allocatedBytes() - start - overhead;
+    }
+
+    /**
+     * A tick that allocates anything at all allocates at least 16 bytes, so less
+     * than a byte per tick on average only leaves room for one-off allocations
+     * made by the JVM itself, such as the JIT deoptimizing a method.
+     */
+    private static void assertNoSteadyStateAllocation(long bytes) {
+        assertTrue(bytes < iterations, bytes + " bytes allocated over " + iterations + " ticks");
+    }
+
+    @Test
+    void enhancedLerpBrainTest() {
+        List<EnhancedLerpBrain> brains = new ArrayList<>();
+        for (EnemyShip enemy : enemies) {
+            brains.add(new EnhancedLerpBrain(enemy, player));
+        }
+
+        long bytes = allocatedBy(() -> {
+            for (int i = 0; i < brains.size(); i++) {
+                brains.get(i).nearCollision(enemies.get((i + 1) % enemies.size()));
+                brains.get(i).update(1f / 60f);
+            }
+        });
+        assertNoSteadyStateAllocation(bytes);
+    }
+
+    @Test
+    void lerpBrainTest() {
+        LerpBrain brain = new LerpBrain(enemies.get(0), player);
+        assertNoSteadyStateAllocation(allocatedBy(() -> brain.update(1f / 60f)));
+    }
+
+    @Test
+    void shipUpdateTest() {
+        for (EnemyShip enemy : enemies) {
+            enemy.setToShoot(true);
+        }
+
+        long bytes = allocatedBy(() -> {
+            for (int i = 0; i < enemies.size(); i++) {
+                EnemyShip enemy = enemies.get(i);
+                enemy.rotate(1f);
+                enemy.update(1f / 60f);
+                enemy.getTransformCache();
+            }
+        });
+        assertNoSteadyStateAllocation(bytes);
+    }
+
+    @Test
+    void hitDetectionTest() {
+        HitDetection hitDetection = new HitDetection(mock(SpaceGameModel.class));
+        hitDetection.addCollider(player);
+        hitDetection.addColliders(enemies);
+        for (int i = 0; i < 20; i++) {
+            Asteroid asteroid = new Asteroid();
+            asteroid.init(-40f + 4f * i, -20f, 0f, 0f, 1, 1f, 0f, 0.5f, 0f, false);
+            hitDetection.addCollider(asteroid);
+        }
+
+        long bytes = allocatedBy(() -> {
+            for (int i = 0; i < enemies.size(); i++) {
+                enemies.get(i).rotate(1f);
+            }
+            hitDetection.checkCollisions();
+        });
+        assertNoSteadyStateAllocation(bytes);
+    }
+
+    @Test
+    void spaceCalculatorTest() {
+        Vector2 out = new Vector2();
+        FloatPair center = new FloatPair(0.5f, 1f);
+
+        long bytes = allocatedBy(() -> {
+            SpaceCalculator.rotatePoint(1f, 2f, center.x(), center.y(), 4f, 5f, 33f, out);
+            SpaceCalculator.lerp2D(out.x, out.y, 7f, -3f, 0.25f, out);
+            SpaceCalculator.getPointAtDistance(out.x, out.y, 0f, 0f, 2f, out);
+        });
+        assertNoSteadyStateAllocation(bytes);
+    }
+}
@@ -0,0 +1,132 @@
+package model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundingCircleTreeTest {
+
+    private static final float cellRadius = 0.5f;
+
+    @Test
+    public void emptyTreeTest() {
+        BoundingCircleTree tree = new BoundingCircleTree();
+        tree.build(new float[0], new float[0], 0, cellRadius);
+        assertEquals(0, tree.nodeCount());
+        assertFalse(tree.overlapsCircle(0f, 0f, 100f));
+        assertFalse(tree.overlapsTree(tree));
+    }
+
+    @Test
+    public void rootContainsAllCellsTest() {
+        float[] x = { 0f, 1f, 2f, 2f };
+        float[] y = { 0f, 0f, 0f, 3f };
+        BoundingCircleTree tree = new BoundingCircleTree();
+        tree.build(x, y, 4, cellRadius);
+
+        // root is centered at (1, 1.5), farthest cells are sqrt(1 + 2.25) away
+        assertEquals((float) Math.sqrt(3.25) + cellRadius, tree.getRootRadius(), 1e-5f);
+        assertTrue(tree.overlapsCircle(2f, 3.9f, 0.5f));
+        assertFalse(tree.overlapsCircle(0f, 3f, 0.5f));
+    }
+
+    @Test
+    public void coincidentCellsTest() {
+        float[] x = { 1f, 1f, 1f };
+        float[] y = { 2f, 2f, 2f };
+        BoundingCircleTree tree = new BoundingCircleTree();
+        tree.build(x, y, 3, cellRadius);
+        assertTrue(tree.overlapsCircle(1.9f, 2f, 0.5f));
+        assertFalse(tree.overlapsCircle(2.1f, 2f, 0.5f));
+    }
+
+    @Test
+    public void matchesBruteForceTest() {
+        Random rng = new Random(112);
+        BoundingCircleTree treeA = new BoundingCircleTree();
+        BoundingCircleTree treeB = new BoundingCircleTree();
+
+        for (int round = 0; round < 300; round++) {
+            float[][] shipA = randomShip(rng, 1 + rng.nextInt(40));
+            float[][] shipB = randomShip(rng, 1 + rng.nextInt(40));
+            int countA = shipA[0].length;
+            int countB = shipB[0].length;
+            treeA.build(shipA[0], shipA[1], countA, cellRadius);
+            treeB.build(shipB[0], shipB[1], countB, cellRadius);
+
+            float[] worldA = moveRandomly(rng, treeA, shipA, 0f);
+            float[] worldB = moveRandomly(rng, treeB, shipB, 6f);
+
+            boolean expected = false;
+            for (int i = 0; i < countA; i++) {
+                for (int j = 0; j < countB; j++) {
+                    float dx = worldA[2 * i] - worldB[2 * j];
+                    float dy = worldA[2 * i + 1] - worldB[2 * j + 1];
+                    if (Math.hypot(dx, dy) < 2 * cellRadius) {
+                        expected = true;
+                    }
+                }
+            }
+            assertEquals(expected, treeA.overlapsTree(treeB));
+            assertEquals(expected, treeB.overlapsTree(treeA));
+
+            float cx = rng.nextFloat(-4f, 10f);
+            float cy = rng.nextFloat(-4f, 10f);
+            float r = rng.nextFloat(0.05f, 1f);
+            boolean expectedCircle = false;
+            for (int i = 0; i < countA; i++) {
+                if (Math.hypot(worldA[2 * i] - cx, worldA[2 * i + 1] - cy) < cellRadius + r) {
+                    expectedCircle = true;
+                }
+            }
+            assertEquals(expectedCircle, treeA.overlapsCircle(cx, cy, r));
+        }
+    }
+
+    /**
+     * @return the distinct grid positions of <code>count</code> cells in an 8x8
+     *         grid, as {xs, ys}.
+     */
+    private static float[][] randomShip(Random rng, int count) {
+        boolean[] taken = new boolean[64];
+        float[][] cells = new float[2][count];
+        for (int i = 0; i < count; i++) {
+            int cell;
+            do {
+                cell = rng.nextInt(64);
+            } while (taken[cell]);
+            taken[cell] = true;
+            cells[0][i] = cell % 8;
+            cells[1][i] = cell / 8;
+        }
+        return cells;
+    }
+
+    /**
+     * Rotates and moves the tree, and returns the world positions of the cells
+     * under the same transform.
+     */
+    private static float[] moveRandomly(Random rng, BoundingCircleTree tree, float[][] cells, float offset) {
+        float pivotX = rng.nextFloat(0f, 7f);
+        float pivotY = rng.nextFloat(0f, 7f);
+        float worldPivotX = offset + rng.nextFloat(-3f, 3f);
+        float worldPivotY = offset + rng.nextFloat(-3f, 3f);
+        double angle = rng.nextDouble(2 * Math.PI);
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        tree.transform(pivotX, pivotY, worldPivotX, worldPivotY, cos, sin);
+
+        float[] world = new float[2 * cells[0].length];
+        for (int i = 0; i < cells[0].length; i++) {
+            float dx = cells[0][i] - pivotX;
+            float dy = cells[1][i] - pivotY;
+            world[2 * i] = worldPivotX + cos * dx - sin * dy;
+            world[2 * i + 1] = worldPivotY + sin * dx + cos * dy;
+        }
+        return world;
+    }
+}
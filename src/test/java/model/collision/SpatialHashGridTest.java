@@ -0,0 +1,96 @@
+package model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SpatialHashGridTest {
+
+    @Test
+    public void invalidCellSizeTest() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0f));
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(-1f));
+    }
+
+    @Test
+    public void separatedBodiesAreNotPartnersTest() {
+        SpatialHashGrid grid = new SpatialHashGrid(1f);
+        float[] x = { 0f, 10f, 0.5f };
+        float[] y = { 0f, 10f, 0.5f };
+        float[] r = { 0.25f, 0.25f, 0.25f };
+        grid.rebuild(x, y, r, 3);
+
+        int[] partners = new int[3];
+        assertEquals(1, grid.queryPartners(0, partners));
+        assertEquals(2, partners[0]);
+
+        // partners are only reported for higher indices
+        assertEquals(0, grid.queryPartners(1, partners));
+        assertEquals(0, grid.queryPartners(2, partners));
+    }
+
+    @Test
+    public void largeBodySpanningManyCellsIsReportedOnceTest() {
+        SpatialHashGrid grid = new SpatialHashGrid(1f);
+        float[] x = { 0f, 2f, -2f };
+        float[] y = { 0f, 2f, 1f };
+        float[] r = { 5f, 3f, 0.1f };
+        grid.rebuild(x, y, r, 3);
+
+        int[] partners = new int[3];
+        assertEquals(2, grid.queryPartners(0, partners));
+        assertArrayEquals(new int[] { 1, 2 }, new int[] { partners[0], partners[1] });
+    }
+
+    @Test
+    public void matchesAllPairsOverlapTest() {
+        Random rng = new Random(112);
+        SpatialHashGrid grid = new SpatialHashGrid();
+        int count = 400;
+        float[] x = new float[count];
+        float[] y = new float[count];
+        float[] r = new float[count];
+        int[] partners = new int[count];
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < count; i++) {
+                x[i] = rng.nextFloat(-60f, 60f);
+                y[i] = rng.nextFloat(-60f, 60f);
+                r[i] = rng.nextFloat(0.1f, 3f);
+            }
+            grid.rebuild(x, y, r, count);
+
+            for (int i = 0; i < count; i++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int j = i + 1; j < count; j++) {
+                    float d = (float) Math.hypot(x[i] - x[j], y[i] - y[j]);
+                    if (d < r[i] + r[j]) {
+                        expected.add(j);
+                    }
+                }
+
+                // every overlapping pair must be a candidate, in ascending order
+                int found = grid.queryPartners(i, partners);
+                List<Integer> overlapping = new ArrayList<>();
+                int previous = i;
+                for (int k = 0; k < found; k++) {
+                    assertTrue(partners[k] > previous);
+                    previous = partners[k];
+                    int j = partners[k];
+                    float d = (float) Math.hypot(x[i] - x[j], y[i] - y[j]);
+                    if (d < r[i] + r[j]) {
+                        overlapping.add(j);
+                    }
+                }
+                assertEquals(expected, overlapping);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SweepAndPruneBroadPhaseTest {
+
+    @Test
+    public void negativeIdTest() {
+        SweepAndPruneBroadPhase broadPhase = new SweepAndPruneBroadPhase();
+        assertThrows(IllegalArgumentException.class, () -> broadPhase.update(new int[] { -1 },
+                new float[] { 0f }, new float[] { 0f }, new float[] { 1f }, 1));
+    }
+
+    @Test
+    public void overlapOnlyOnOneAxisTest() {
+        SweepAndPruneBroadPhase broadPhase = new SweepAndPruneBroadPhase();
+        int[] ids = { 0, 1, 2 };
+        float[] x = { 0f, 0.5f, 10f };
+        float[] y = { 0f, 10f, 0f };
+        float[] r = { 1f, 1f, 1f };
+        broadPhase.update(ids, x, y, r, 3);
+
+        // body 1 overlaps on x, body 2 overlaps on y, but neither on both
+        assertEquals(0, broadPhase.pairCount());
+
+        y[1] = 0.5f;
+        broadPhase.update(ids, x, y, r, 3);
+        assertEquals(1, broadPhase.pairCount());
+
+        int[] partners = new int[3];
+        assertEquals(1, broadPhase.queryPartners(0, partners));
+        assertEquals(1, partners[0]);
+        assertEquals(0, broadPhase.queryPartners(1, partners));
+    }
+
+    @Test
+    public void matchesAllPairsAcrossFramesTest() {
+        Random rng = new Random(112);
+        SweepAndPruneBroadPhase broadPhase = new SweepAndPruneBroadPhase();
+
+        int capacity = 300;
+        List<float[]> bodies = new ArrayList<>(); // {id, x, y, vx, vy, r}
+        List<Integer> freeIds = new ArrayList<>();
+        int nextId = 0;
+
+        int[] ids = new int[capacity];
+        float[] x = new float[capacity];
+        float[] y = new float[capacity];
+        float[] r = new float[capacity];
+        int[] partners = new int[capacity];
+
+        for (int frame = 0; frame < 60; frame++) {
+            // remove and add a few bodies, reusing ids like HitDetection does
+            for (int k = 0; k < 5 && !bodies.isEmpty(); k++) {
+                float[] removed = bodies.remove(rng.nextInt(bodies.size()));
+                freeIds.add((int) removed[0]);
+            }
+            while (bodies.size() < 200 + rng.nextInt(50)) {
+                int id = freeIds.isEmpty() ? nextId++ : freeIds.remove(freeIds.size() - 1);
+                float[] body = { id, rng.nextFloat(-40f, 40f), rng.nextFloat(-40f, 40f),
+                        rng.nextFloat(-1f, 1f), rng.nextFloat(-1f, 1f), rng.nextFloat(0.1f, 2f) };
+                bodies.add(rng.nextInt(bodies.size() + 1), body);
+            }
+
+            int count = bodies.size();
+            for (int i = 0; i < count; i++) {
+                float[] body = bodies.get(i);
+                body[1] += body[3];
+                body[2] += body[4];
+                ids[i] = (int) body[0];
+                x[i] = body[1];
+                y[i] = body[2];
+                r[i] = body[5];
+            }
+            broadPhase.update(ids, x, y, r, count);
+
+            for (int i = 0; i < count; i++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int j = i + 1; j < count; j++) {
+                    if (Math.hypot(x[i] - x[j], y[i] - y[j]) < r[i] + r[j]) {
+                        expected.add(j);
+                    }
+                }
+
+                int found = broadPhase.queryPartners(i, partners);
+                List<Integer> overlapping = new ArrayList<>();
+                int previous = i;
+                for (int k = 0; k < found; k++) {
+                    int j = partners[k];
+                    assertTrue(j > previous);
+                    previous = j;
+                    if (Math.hypot(x[i] - x[j], y[i] - y[j]) < r[i] + r[j]) {
+                        overlapping.add(j);
+                    }
+                }
+                assertEquals(expected, overlapping);
+            }
+        }
+    }
+}
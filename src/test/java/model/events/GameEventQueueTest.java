@@ -0,0 +1,237 @@
+package model.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import controller.audio.SoundEffect;
+import model.Animation.AnimationType;
+import model.ShipComponents.ShipFactory;
+import model.SpaceCharacters.Ships.EnemyShip;
+import model.SpaceCharacters.Ships.SpaceShip;
+
+public class GameEventQueueTest {
+
+    // records every event as a line of text, in order
+    private static class RecordingListener implements GameEventListener {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<SpaceShip> ships = new ArrayList<>();
+
+        @Override
+        public void addAnimationState(float x, float y, float radius, AnimationType type) {
+            events.add("animation " + x + " " + y + " " + radius + " " + type);
+        }
+
+        @Override
+        public void play(SoundEffect soundEffect) {
+            events.add("sound " + soundEffect);
+        }
+
+        @Override
+        public void shipSpawned(SpaceShip ship) {
+            events.add("spawned");
+            ships.add(ship);
+        }
+
+        @Override
+        public void shipDespawned(SpaceShip ship) {
+            events.add("despawned");
+            ships.add(ship);
+        }
+
+        @Override
+        public void scoreChanged(int score) {
+            events.add("score " + score);
+        }
+    }
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventQueue(0));
+        assertEquals(0, new GameEventQueue().size());
+    }
+
+    @Test
+    void drainTest() {
+        GameEventQueue queue = new GameEventQueue(8);
+        SpaceShip ship = new EnemyShip(ShipFactory.simpleShip(), "enemy", "ship", 0f, 0f, 0f);
+        queue.pushShipSpawned(ship);
+        queue.pushAnimation(1f, 2f, 3f, AnimationType.EXPLOSION);
+        queue.pushSound(SoundEffect.LASER_0);
+        queue.pushScoreChanged(100);
+        queue.pushShipDespawned(ship);
+        assertEquals(5, queue.size());
+
+        RecordingListener listener = new RecordingListener();
+        queue.drain(listener);
+        assertEquals(List.of("spawned", "animation 1.0 2.0 3.0 EXPLOSION", "sound LASER_0", "score 100",
+                "despawned"), listener.events);
+        assertSame(ship, listener.ships.get(0));
+        assertSame(ship, listener.ships.get(1));
+        assertEquals(0, queue.size());
+
+        queue.drain(listener);
+        assertEquals(5, listener.events.size());
+    }
+
+    @Test
+    void coalesceSoundTest() {
+        GameEventQueue queue = new GameEventQueue(8);
+        queue.pushSound(SoundEffect.LASER_0);
+        queue.pushSound(SoundEffect.LASER_1);
+        queue.pushSound(SoundEffect.LASER_0);
+        queue.pushSound(SoundEffect.LASER_0);
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.getCoalescedSoundCount());
+
+        RecordingListener listener = new RecordingListener();
+        queue.drain(listener);
+        assertEquals(List.of("sound LASER_0", "sound LASER_1"), listener.events);
+
+        // the next frame plays the sound again
+        queue.pushSound(SoundEffect.LASER_0);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void growTest() {
+        GameEventQueue queue = new GameEventQueue(2);
+        for (int i = 0; i < 5; i++) {
+            queue.pushScoreChanged(i);
+        }
+        assertEquals(5, queue.size());
+
+        RecordingListener listener = new RecordingListener();
+        queue.drain(listener);
+        assertEquals(List.of("score 0", "score 1", "score 2", "score 3", "score 4"), listener.events);
+    }
+
+    @Test
+    void clearTest() {
+        GameEventQueue queue = new GameEventQueue(2);
+        queue.pushSound(SoundEffect.LASER_0);
+        queue.clear();
+        assertEquals(0, queue.size());
+
+        queue.pushSound(SoundEffect.LASER_0);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void dispatchAfterTest() {
+        GameEventQueue queue = new GameEventQueue(8);
+        queue.setTick(1);
+        queue.pushScoreChanged(1);
+        queue.setTick(2);
+        queue.pushScoreChanged(2);
+        queue.pushSound(SoundEffect.LASER_0);
+
+        RecordingListener listener = new RecordingListener();
+        queue.dispatchAfter(1, listener);
+        assertEquals(List.of("score 2", "sound LASER_0"), listener.events);
+        // the events are kept
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void discardThroughTest() {
+        GameEventQueue queue = new GameEventQueue(2);
+        queue.setTick(1);
+        queue.pushSound(SoundEffect.LASER_0);
+        queue.pushScoreChanged(1);
+        queue.setTick(2);
+        queue.pushSound(SoundEffect.LASER_1);
+        queue.pushScoreChanged(2);
+
+        queue.discardThrough(1);
+        assertEquals(2, queue.size());
+        RecordingListener listener = new RecordingListener();
+        queue.dispatchAfter(0, listener);
+        assertEquals(List.of("sound LASER_1", "score 2"), listener.events);
+
+        // the discarded sound may be queued again, the kept one may not
+        queue.pushSound(SoundEffect.LASER_0);
+        queue.pushSound(SoundEffect.LASER_1);
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void copyToTest() {
+        GameEventQueue log = new GameEventQueue(8);
+        log.setTick(3);
+        for (int i = 0; i < 5; i++) {
+            log.pushScoreChanged(i);
+        }
+        GameEventQueue copy = new GameEventQueue(2);
+        copy.pushScoreChanged(-1);
+        log.copyTo(copy);
+
+        assertEquals(5, log.size());
+        assertEquals(5, copy.size());
+        RecordingListener listener = new RecordingListener();
+        copy.dispatchAfter(2, listener);
+        assertEquals(List.of("score 0", "score 1", "score 2", "score 3", "score 4"), listener.events);
+        copy.dispatchAfter(3, listener);
+        assertEquals(5, listener.events.size());
+    }
+
+    @Test
+    void listenerTest() {
+        // draining into another queue appends the events to it
+        GameEventQueue queue = new GameEventQueue(8);
+        queue.pushAnimation(1f, 2f, 3f, AnimationType.EXPLOSION);
+        queue.pushSound(SoundEffect.LASER_0);
+        GameEventQueue log = new GameEventQueue(8);
+        log.pushScoreChanged(1);
+        queue.drain(log);
+
+        RecordingListener listener = new RecordingListener();
+        log.drain(listener);
+        assertEquals(List.of("score 1", "animation 1.0 2.0 3.0 EXPLOSION", "sound LASER_0"), listener.events);
+    }
+
+    @Test
+    void releaseShipsTest() {
+        SpaceShip first = new EnemyShip(ShipFactory.simpleShip(), "enemy", "enemy", 0f, 0f, 0f);
+        SpaceShip second = new EnemyShip(ShipFactory.simpleShip(), "enemy", "enemy", 0f, 0f, 0f);
+        List<SpaceShip> released = new ArrayList<>();
+        GameEventQueue queue = new GameEventQueue(4);
+        queue.setShipReleaser(released::add);
+
+        // a ship is released after its despawn is passed on, not before
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void shipDespawned(SpaceShip ship) {
+                super.shipDespawned(ship);
+                assertEquals(List.of(), released);
+            }
+        };
+        queue.pushShipSpawned(first);
+        queue.pushShipDespawned(first);
+        queue.drain(listener);
+        assertEquals(List.of(first), released);
+
+        // moved into another queue, the ship is released by that queue
+        List<SpaceShip> releasedByLog = new ArrayList<>();
+        GameEventQueue log = new GameEventQueue(4);
+        log.setShipReleaser(releasedByLog::add);
+        queue.pushShipDespawned(second);
+        queue.drain(log);
+        assertEquals(List.of(first), released);
+        log.setTick(1);
+        log.pushScoreChanged(1);
+        log.discardThrough(0);
+        assertEquals(List.of(second), releasedByLog);
+
+        // clearing releases as well
+        queue.pushShipDespawned(second);
+        queue.clear();
+        assertEquals(List.of(first, second), released);
+    }
+}
@@ -0,0 +1,139 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.junit.jupiter.api.Test;
+
+import controller.PlayerControls;
+
+public class PlayerCommandQueueTest {
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerCommandQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new PlayerCommandQueue(12));
+        assertEquals(0, new PlayerCommandQueue(16).size());
+    }
+
+    @Test
+    void drainTest() {
+        PlayerCommandQueue queue = new PlayerCommandQueue(16);
+        queue.setAccelerateForward(true);
+        queue.setAccelerateCounterClockwise(true);
+        queue.playerShoot();
+        queue.setAccelerateClockwise(true);
+        queue.setAccelerateClockwise(false);
+        queue.playerShoot();
+        assertEquals(2, queue.size());
+
+        // the clockwise press and release cancel out before the drain
+        PlayerControls controls = mock(PlayerControls.class);
+        assertEquals(4, queue.drainTo(controls));
+        verify(controls).setAccelerateForward(true);
+        verify(controls).setAccelerateCounterClockwise(true);
+        verify(controls, times(2)).playerShoot();
+        verify(controls, never()).setAccelerateBackward(anyBoolean());
+        verify(controls, never()).setAccelerateClockwise(anyBoolean());
+        assertEquals(0, queue.size());
+
+        // unchanged controls are not applied again
+        PlayerControls unchanged = mock(PlayerControls.class);
+        assertEquals(0, queue.drainTo(unchanged));
+        verifyNoInteractions(unchanged);
+
+        queue.setAccelerateForward(false);
+        queue.setAccelerateCounterClockwise(true);
+        PlayerControls released = mock(PlayerControls.class);
+        assertEquals(1, queue.drainTo(released));
+        verify(released).setAccelerateForward(false);
+        verifyNoMoreInteractions(released);
+    }
+
+    @Test
+    void fullTest() {
+        PlayerCommandQueue queue = new PlayerCommandQueue(2);
+        queue.setAccelerateBackward(true);
+        queue.playerShoot();
+        queue.playerShoot();
+        queue.playerShoot();
+        // held controls don't use the ring, so a full ring never loses a release
+        queue.setAccelerateBackward(false);
+        queue.setAccelerateClockwise(true);
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.getDroppedCount());
+
+        PlayerControls controls = mock(PlayerControls.class);
+        assertEquals(3, queue.drainTo(controls));
+        verify(controls, times(2)).playerShoot();
+        verify(controls).setAccelerateClockwise(true);
+        verify(controls, never()).setAccelerateBackward(anyBoolean());
+
+        // draining frees the ring, which wraps around
+        queue.playerShoot();
+        queue.playerShoot();
+        queue.setAccelerateClockwise(false);
+        assertEquals(3, queue.drainTo(controls));
+        verify(controls, times(4)).playerShoot();
+        verify(controls).setAccelerateClockwise(false);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    void concurrentTest() throws InterruptedException {
+        PlayerCommandQueue queue = new PlayerCommandQueue(8);
+        int commands = 50_000;
+        int[] shots = new int[1];
+        boolean[] forward = new boolean[1];
+        PlayerControls counter = new PlayerControls() {
+            @Override
+            public void setAccelerateForward(boolean accelerate) {
+                forward[0] = accelerate;
+            }
+
+            @Override
+            public void setAccelerateBackward(boolean accelerate) {
+            }
+
+            @Override
+            public void setAccelerateCounterClockwise(boolean accelerate) {
+            }
+
+            @Override
+            public void setAccelerateClockwise(boolean accelerate) {
+            }
+
+            @Override
+            public void playerShoot() {
+                shots[0]++;
+            }
+        };
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < commands; i++) {
+                queue.setAccelerateForward(true);
+                queue.playerShoot();
+                queue.setAccelerateForward(false);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            queue.drainTo(counter);
+        }
+        writer.join();
+        queue.drainTo(counter);
+
+        // every command is either applied or counted as dropped
+        assertEquals(commands, shots[0] + queue.getDroppedCount());
+        // the last release is applied, however many shots were dropped
+        assertFalse(forward[0]);
+    }
+}
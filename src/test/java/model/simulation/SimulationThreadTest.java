@@ -0,0 +1,202 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import model.HeadlessSimulation;
+import model.SpaceGameModel;
+import model.SpaceCharacters.Ships.SpaceShip;
+import model.constants.PhysicsParameters;
+import model.constants.SimulationPhase;
+import model.events.GameEventListener;
+import model.utils.FloatPair;
+
+public class SimulationThreadTest {
+
+    private SpaceGameModel model;
+    private final List<SpaceShip> spawned = new ArrayList<>();
+    private final List<SpaceShip> despawned = new ArrayList<>();
+    private final GameEventListener listener = new GameEventListener() {
+        @Override
+        public void shipSpawned(SpaceShip ship) {
+            spawned.add(ship);
+        }
+
+        @Override
+        public void shipDespawned(SpaceShip ship) {
+            despawned.add(ship);
+        }
+    };
+
+    @BeforeEach
+    void setup() {
+        HeadlessSimulation.startHeadlessApplication();
+        model = new SpaceGameModel(3L);
+        model.setTickRate(PhysicsParameters.simulationTickRate);
+        model.setScreenBoundsProvider(() -> {
+            FloatPair center = model.getPlayerCenterOfMass();
+            return new Rectangle(center.x() - 24f, center.y() - 14f, 48f, 28f);
+        });
+        spawned.clear();
+        despawned.clear();
+    }
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationThread(model, 0f));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationThread(model, Float.POSITIVE_INFINITY));
+
+        // there is a snapshot to read before the first tick
+        SimulationThread simulation = new SimulationThread(model, 60f);
+        WorldSnapshot snapshot = simulation.acquire(listener);
+        assertEquals(0, snapshot.getTick());
+        assertEquals(1, snapshot.getShipCount());
+        assertFalse(simulation.isRunning());
+    }
+
+    @Test
+    void stepTest() {
+        SimulationThread simulation = new SimulationThread(model, 60f);
+        float x = model.getPlayer().getX();
+        simulation.getControls().setAccelerateForward(true);
+        simulation.step();
+
+        // the input was applied before the tick
+        assertTrue(model.getPlayer().isAccelerating());
+        WorldSnapshot snapshot = simulation.acquire(listener);
+        assertEquals(1, snapshot.getTick());
+        assertEquals(1, simulation.getTick());
+        assertEquals(x, snapshot.getShipX(0, 0f));
+        assertEquals(model.getPlayer().getX(), snapshot.getShipX(0, 1f));
+    }
+
+    @Test
+    void eventsTest() {
+        SimulationThread simulation = new SimulationThread(model, 60f);
+        model.spawnRandomShip();
+        simulation.step();
+        simulation.acquire(listener);
+        assertEquals(1, spawned.size());
+        assertEquals(model.getSpaceShips().get(1), spawned.get(0));
+
+        // an event is passed on once, however many snapshots carry it
+        simulation.acquire(listener);
+        simulation.step();
+        simulation.acquire(listener);
+        assertEquals(1, spawned.size());
+    }
+
+    @Test
+    void skippedSnapshotTest() {
+        // the view may miss snapshots, but not their events
+        SimulationThread simulation = new SimulationThread(model, 60f);
+        model.spawnRandomShip();
+        simulation.step();
+        model.spawnRandomShip();
+        simulation.step();
+        simulation.step();
+
+        WorldSnapshot snapshot = simulation.acquire(listener);
+        assertEquals(3, snapshot.getTick());
+        assertEquals(2, spawned.size());
+    }
+
+    @Test
+    void startStopTest() throws InterruptedException {
+        SimulationThread simulation = new SimulationThread(model, 240f);
+        simulation.start();
+        assertTrue(simulation.isRunning());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (simulation.acquire(listener).getTick() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        simulation.stop();
+
+        assertFalse(simulation.isRunning());
+        assertTrue(simulation.getTick() >= 10);
+        // the last snapshot is of the model as the thread left it
+        WorldSnapshot snapshot = simulation.acquire(listener);
+        assertEquals(simulation.getTick(), snapshot.getTick());
+        assertEquals(model.getPlayer().getX(), snapshot.getShipX(0, 1f));
+    }
+
+    @Test
+    void stopPassesEventsTest() {
+        SimulationThread simulation = new SimulationThread(model, 60f);
+        model.spawnRandomShip();
+        SpaceShip ship = model.getSpaceShips().get(1);
+        simulation.step();
+        simulation.acquire(listener);
+
+        // culled in a tick the view never draws
+        ship.setX(model.getPlayer().getX() + 1e6f);
+        simulation.step();
+        simulation.stop(listener);
+        assertEquals(List.of(ship), despawned);
+
+        // the ship went back to the pool, and no event is passed on twice
+        model.spawnRandomShip();
+        assertSame(ship, model.getSpaceShips().get(1));
+        simulation.acquire(listener);
+        assertEquals(1, spawned.size());
+        assertEquals(1, despawned.size());
+    }
+
+    @Test
+    void profilingTest() {
+        SimulationThread simulation = new SimulationThread(model, 60f);
+        simulation.step();
+        assertFalse(model.getPhaseTimer().isEnabled());
+        assertFalse(simulation.acquire(listener).isPhasesTimed());
+
+        // applied by the simulation, and published in the snapshots
+        simulation.setProfiling(true);
+        for (int i = 0; i < 5; i++) {
+            simulation.step();
+        }
+        assertTrue(model.getPhaseTimer().isEnabled());
+        WorldSnapshot snapshot = simulation.acquire(listener);
+        assertTrue(snapshot.isPhasesTimed());
+        assertEquals(model.getPhaseTimer().getMedian(SimulationPhase.SHIPS),
+                snapshot.getPhaseMedian(SimulationPhase.SHIPS));
+        assertTrue(snapshot.appendPhaseReport(new StringBuilder()).toString().contains("ships: p50 "));
+        assertTrue(snapshot.getUpdateAllocatedBytes() >= 0);
+
+        simulation.setProfiling(false);
+        simulation.step();
+        assertFalse(model.getPhaseTimer().isEnabled());
+        assertFalse(simulation.acquire(listener).isPhasesTimed());
+    }
+
+    @Test
+    void failureTest() throws InterruptedException {
+        SpaceGameModel failing = new SpaceGameModel(3L) {
+            @Override
+            public void update(float delta) {
+                throw new IllegalStateException("failed");
+            }
+        };
+        SimulationThread simulation = new SimulationThread(failing, 60f);
+        simulation.start();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (simulation.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertFalse(simulation.isRunning());
+        assertThrows(IllegalStateException.class, () -> simulation.acquire(listener));
+    }
+}
@@ -0,0 +1,128 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.HeadlessSimulation;
+import model.HeadlessSimulation.Scenario;
+import model.SpaceGameModel;
+import model.ShipComponents.ShipFactory;
+import model.SpaceCharacters.Asteroid;
+import model.SpaceCharacters.Bullet;
+import model.SpaceCharacters.Ships.Player;
+import model.SpaceCharacters.Ships.ShipTransformCache;
+import model.SpaceCharacters.Ships.SpaceShip;
+
+public class WorldSnapshotTest {
+
+    private HeadlessSimulation simulation;
+    private SpaceGameModel model;
+    private WorldSnapshot snapshot;
+
+    @BeforeEach
+    void setup() {
+        simulation = new HeadlessSimulation(Scenario.SUSTAINED_FIRE, 7L);
+        simulation.run(240);
+        model = simulation.getModel();
+        snapshot = new WorldSnapshot();
+        snapshot.capture(model);
+    }
+
+    @Test
+    void playerTest() {
+        Player player = model.getPlayer();
+        assertEquals(model.isGameOver(), snapshot.isGameOver());
+        assertEquals(player.getVelocityX(), snapshot.getPlayerVelocityX());
+        assertEquals(player.getVelocityY(), snapshot.getPlayerVelocityY());
+        assertEquals(player.getSpeed(), snapshot.getPlayerSpeed());
+        assertEquals(player.getAbsoluteCenterOfMassX(), snapshot.getPlayerCenterOfMassX());
+        assertEquals(player.getAbsoluteCenterOfMassY(), snapshot.getPlayerCenterOfMassY());
+        assertEquals(player.getInventory().getResourceCount(), snapshot.getPlayerResources());
+    }
+
+    @Test
+    void bodiesTest() {
+        List<Asteroid> asteroids = model.getAsteroids();
+        assertEquals(asteroids.size(), snapshot.getAsteroidCount());
+        for (int i = 0; i < asteroids.size(); i++) {
+            Asteroid asteroid = asteroids.get(i);
+            assertEquals(asteroid.getInterpolatedX(0.25f), snapshot.getAsteroidX(i, 0.25f), 1e-4f);
+            assertEquals(asteroid.getInterpolatedY(0.25f), snapshot.getAsteroidY(i, 0.25f), 1e-4f);
+            assertEquals(asteroid.getInterpolatedRotationAngle(0.25f), snapshot.getAsteroidRotationAngle(i, 0.25f),
+                    1e-3f);
+            assertEquals(asteroid.getRadius(), snapshot.getAsteroidRadius(i));
+            assertEquals(asteroid.isLarge(), snapshot.isAsteroidLarge(i));
+        }
+
+        List<Bullet> lasers = model.getLasers();
+        assertTrue(lasers.size() > 0);
+        assertEquals(lasers.size(), snapshot.getLaserCount());
+        for (int i = 0; i < lasers.size(); i++) {
+            Bullet laser = lasers.get(i);
+            assertEquals(laser.getX(), snapshot.getLaserX(i, 1f), 1e-4f);
+            assertEquals(laser.getY(), snapshot.getLaserY(i, 1f), 1e-4f);
+            assertEquals(laser.getInterpolatedX(0f), snapshot.getLaserX(i, 0f), 1e-4f);
+        }
+    }
+
+    @Test
+    void shipsTest() {
+        List<SpaceShip> ships = model.getSpaceShips();
+        assertTrue(ships.size() > 1);
+        assertEquals(ships.size(), snapshot.getShipCount());
+        assertTrue(snapshot.isPlayerShip(0));
+
+        for (int i = 0; i < ships.size(); i++) {
+            SpaceShip ship = ships.get(i);
+            ShipTransformCache cells = ship.getTransformCache();
+            assertSame(ship, snapshot.getShip(i));
+            assertEquals(ship.getInterpolatedX(0.5f), snapshot.getShipX(i, 0.5f), 1e-4f);
+            assertEquals(ship.getInterpolatedY(0.5f), snapshot.getShipY(i, 0.5f), 1e-4f);
+            assertEquals(ship.getRotationAngle(), snapshot.getShipRotationAngle(i));
+            assertEquals(ship.getHitPoints(), snapshot.getShipHitPoints(i));
+            assertEquals(ship.getMaxHitPoints(), snapshot.getShipMaxHitPoints(i));
+            assertEquals(cells.getRelativeCenterOfMassX(), snapshot.getShipRelativeCenterOfMassX(i));
+            assertEquals(ship.getShipStructure().getNumFuselage(), snapshot.getShipCellCount(i));
+
+            assertEquals(cells.getThrusterCount(), snapshot.getShipThrusterCount(i));
+            for (int t = 0; t < cells.getThrusterCount(); t++) {
+                assertEquals(cells.getThrusterX(t), snapshot.getThrusterX(i, t));
+                assertEquals(cells.getThrusterY(t), snapshot.getThrusterY(i, t));
+            }
+        }
+    }
+
+    @Test
+    void cellsTest() {
+        // the player's ship is two fuselage, each holding an upgrade
+        WorldSnapshot ships = new WorldSnapshot();
+        ships.addShip(new Player(ShipFactory.playerShip(), "player", "the player's ship", 0f, 0f));
+        ships.addShip(new Player(ShipFactory.playerShip(), "player", "the player's ship", 0f, 0f));
+
+        assertEquals(0, ships.getShipFirstCell(0));
+        assertEquals(2, ships.getShipFirstCell(1));
+        for (int cell = 0; cell < 4; cell++) {
+            assertTrue(ships.getUpgradeType(cell) >= 0);
+            assertTrue(ships.getUpgradeStage(cell) >= 0);
+        }
+    }
+
+    @Test
+    void reuseTest() {
+        snapshot.clear();
+        assertEquals(0, snapshot.getShipCount());
+        assertEquals(0, snapshot.getAsteroidCount());
+        assertEquals(0, snapshot.getLaserCount());
+
+        simulation.run(60);
+        snapshot.capture(model);
+        assertEquals(model.getSpaceShips().size(), snapshot.getShipCount());
+        assertTrue(snapshot.isPlayerShip(0));
+    }
+}
@@ -0,0 +1,132 @@
+package model.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityStoreTest {
+
+    private EntityStore<String> store;
+    private final String a = "a";
+    private final String b = "b";
+    private final String c = "c";
+
+    @BeforeEach
+    public void setup() {
+        store = new EntityStore<>(2);
+        store.add(a);
+        store.add(b);
+        store.add(c);
+    }
+
+    @Test
+    public void addTest() {
+        assertEquals(3, store.size());
+        assertSame(a, store.get(0));
+        assertSame(b, store.get(1));
+        assertSame(c, store.get(2));
+
+        // adding twice does nothing
+        int handle = store.handleOf(b);
+        assertEquals(handle, store.add(b));
+        assertEquals(3, store.size());
+
+        assertThrows(IllegalArgumentException.class, () -> store.add(null));
+        assertThrows(IllegalArgumentException.class, () -> new EntityStore<String>(-1));
+    }
+
+    @Test
+    public void removeKeepsHandlesTest() {
+        int handleB = store.handleOf(b);
+        int handleC = store.handleOf(c);
+
+        assertTrue(store.remove(a));
+        assertFalse(store.remove(a));
+        assertFalse(store.contains(a));
+        assertEquals(-1, store.handleOf(a));
+        assertEquals(2, store.size());
+
+        // the last entity is swapped into the removed slot
+        assertSame(c, store.get(0));
+        assertSame(b, store.get(1));
+        assertEquals(handleB, store.handleOf(b));
+        assertEquals(handleC, store.handleOf(c));
+        assertSame(b, store.getByHandle(handleB));
+        assertSame(c, store.getByHandle(handleC));
+    }
+
+    @Test
+    public void handlesAreReusedTest() {
+        int handleA = store.handleOf(a);
+        store.remove(a);
+        assertNull(store.getByHandle(handleA));
+
+        String d = "d";
+        assertEquals(handleA, store.add(d));
+        assertSame(d, store.getByHandle(handleA));
+        assertNull(store.getByHandle(-1));
+        assertNull(store.getByHandle(100));
+    }
+
+    @Test
+    public void removeAtTest() {
+        assertSame(c, store.removeAt(2));
+        assertSame(a, store.removeAt(0));
+        assertEquals(1, store.size());
+        assertSame(b, store.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.removeAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(-1));
+    }
+
+    @Test
+    public void viewTest() {
+        List<String> view = store.view();
+        assertSame(view, store.view());
+        assertEquals(List.of("a", "b", "c"), view);
+        assertEquals(1, view.indexOf(b));
+
+        store.remove(b);
+        assertEquals(List.of("a", "c"), view);
+        assertEquals(-1, view.indexOf(b));
+        assertFalse(view.contains(b));
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+    }
+
+    @Test
+    public void matchesListTest() {
+        Random rng = new Random(112);
+        EntityStore<Object> entities = new EntityStore<>();
+        List<Object> expected = new ArrayList<>();
+
+        for (int step = 0; step < 1000; step++) {
+            if (expected.isEmpty() || rng.nextInt(3) > 0) {
+                Object entity = new Object();
+                entities.add(entity);
+                expected.add(entity);
+            } else {
+                Object entity = expected.remove(rng.nextInt(expected.size()));
+                assertTrue(entities.remove(entity));
+            }
+
+            assertEquals(expected.size(), entities.size());
+            assertEquals(new HashSet<>(expected), new HashSet<>(entities.view()));
+            for (int i = 0; i < entities.size(); i++) {
+                assertSame(entities.get(i), entities.getByHandle(entities.handleAt(i)));
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package model.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    private enum Phase {
+        FIRST,
+        SECOND,
+    }
+
+    private PhaseTimer<Phase> timer;
+
+    @BeforeEach
+    void setup() {
+        timer = new PhaseTimer<>(Phase.class, 10);
+    }
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new PhaseTimer<>(Phase.class, 0));
+        assertFalse(timer.isEnabled());
+        assertEquals(2, timer.getPhases().length);
+        assertEquals(0, timer.getMedian(Phase.FIRST));
+    }
+
+    @Test
+    void disabledTest() {
+        timer.begin(Phase.FIRST);
+        timer.end(Phase.FIRST);
+        assertEquals(0, timer.getCount(Phase.FIRST));
+    }
+
+    @Test
+    void spanTest() throws InterruptedException {
+        timer.setEnabled(true);
+        timer.begin(Phase.FIRST);
+        timer.begin(Phase.SECOND);
+        Thread.sleep(2);
+        timer.end(Phase.SECOND);
+        timer.end(Phase.FIRST);
+
+        assertEquals(1, timer.getCount(Phase.FIRST));
+        assertEquals(1, timer.getCount(Phase.SECOND));
+        assertTrue(timer.getMedian(Phase.SECOND) >= 2_000_000);
+        assertTrue(timer.getMedian(Phase.FIRST) >= timer.getMedian(Phase.SECOND));
+    }
+
+    @Test
+    void endWithoutBeginTest() {
+        timer.begin(Phase.FIRST);
+        timer.setEnabled(true);
+        // begun while disabled, so there is no span to end
+        timer.end(Phase.FIRST);
+        timer.end(Phase.SECOND);
+
+        assertEquals(0, timer.getCount(Phase.FIRST));
+        assertEquals(0, timer.getCount(Phase.SECOND));
+    }
+
+    @Test
+    void percentileTest() {
+        for (int i = 1; i <= 100; i++) {
+            timer.record(Phase.FIRST, i);
+        }
+
+        // only the last 10 spans are kept
+        assertEquals(10, timer.getCount(Phase.FIRST));
+        assertEquals(95, timer.getMedian(Phase.FIRST));
+        assertEquals(100, timer.getPercentile(Phase.FIRST, 0.99));
+        assertEquals(91, timer.getPercentile(Phase.FIRST, 0));
+        assertThrows(IllegalArgumentException.class, () -> timer.getPercentile(Phase.FIRST, -0.1));
+    }
+
+    @Test
+    void clearTest() {
+        timer.record(Phase.FIRST, 5);
+        timer.clear();
+        assertEquals(0, timer.getCount(Phase.FIRST));
+    }
+
+    @Test
+    void reportTest() {
+        timer.record(Phase.FIRST, 3_000);
+        timer.record(Phase.SECOND, 250_000);
+
+        String report = timer.appendReport(new StringBuilder()).toString();
+        assertEquals("first: p50 3 us, p99 3 us\nsecond: p50 250 us, p99 250 us\n", report);
+    }
+}
@@ -42,4 +42,14 @@ public class RotationTest {
         Rotation r = new Rotation(180);
         assertEquals("Rotation{angle=180.0}", r.toString());
     }
+
+    @Test
+    void interpolateTest() {
+        assertEquals(20f, Rotation.interpolate(10f, 30f, 0.5f), 1e-4f);
+        // turns the shortest way around
+        assertEquals(0f, Rotation.interpolate(350f, 10f, 0.5f), 1e-4f);
+        assertEquals(355f, Rotation.interpolate(10f, 340f, 0.5f), 1e-4f);
+        assertEquals(350f, Rotation.interpolate(350f, 10f, 0f), 1e-4f);
+        assertEquals(10f, Rotation.interpolate(350f, 10f, 1f), 1e-4f);
+    }
 }
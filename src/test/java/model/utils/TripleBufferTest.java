@@ -0,0 +1,96 @@
+package model.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class TripleBufferTest {
+
+    @Test
+    void publishTest() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        assertFalse(buffer.update());
+
+        buffer.getBack()[0] = 1;
+        buffer.publish();
+        assertNotSame(buffer.getBack(), buffer.getFront());
+        assertTrue(buffer.update());
+        assertEquals(1, buffer.getFront()[0]);
+
+        // nothing new, so the front stays the same
+        assertFalse(buffer.update());
+        assertEquals(1, buffer.getFront()[0]);
+    }
+
+    @Test
+    void latestWinsTest() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        for (int i = 1; i <= 3; i++) {
+            buffer.getBack()[0] = i;
+            buffer.publish();
+        }
+        assertTrue(buffer.update());
+        assertEquals(3, buffer.getFront()[0]);
+    }
+
+    @Test
+    void writerNeverTouchesFrontTest() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        buffer.getBack()[0] = 1;
+        buffer.publish();
+        buffer.update();
+        int[] front = buffer.getFront();
+
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(front, buffer.getBack());
+            buffer.getBack()[0] = 2;
+            buffer.publish();
+        }
+        assertEquals(1, front[0]);
+    }
+
+    @Test
+    void concurrentTest() throws InterruptedException {
+        // the writer fills each buffer with one value, so a torn read would show
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[64]);
+        AtomicBoolean torn = new AtomicBoolean(false);
+        int values = 100_000;
+
+        Thread reader = new Thread(() -> {
+            int last = 0;
+            while (last < values) {
+                if (!buffer.update()) {
+                    continue;
+                }
+                int[] front = buffer.getFront();
+                for (int value : front) {
+                    if (value != front[0]) {
+                        torn.set(true);
+                    }
+                }
+                if (front[0] < last) {
+                    torn.set(true);
+                }
+                last = front[0];
+            }
+        });
+        reader.start();
+
+        for (int i = 1; i <= values; i++) {
+            int[] back = buffer.getBack();
+            for (int j = 0; j < back.length; j++) {
+                back[j] = i;
+            }
+            buffer.publish();
+        }
+        reader.join(10_000);
+
+        assertFalse(reader.isAlive());
+        assertFalse(torn.get());
+    }
+}
@@ -0,0 +1,155 @@
+package view.debug;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FrameProfilerTest {
+
+    private FrameProfiler profiler;
+
+    // keeps the allocations from being optimized away
+    private static Object sink;
+
+    @BeforeEach
+    void setup() {
+        profiler = new FrameProfiler(8);
+    }
+
+    private void frame(int updateAllocation, int renderAllocation) {
+        profiler.beginFrame();
+        profiler.beginUpdate();
+        sink = new byte[updateAllocation];
+        profiler.endUpdate();
+        sink = new byte[renderAllocation];
+        profiler.endFrame();
+    }
+
+    @Test
+    void disabledTest() {
+        assertFalse(profiler.isEnabled());
+        frame(1024, 1024);
+        assertEquals(0, profiler.getFrameCount());
+        assertEquals(0, profiler.getUpdateBytes().getCount());
+    }
+
+    @Test
+    void toggleTest() {
+        profiler.toggle();
+        assertTrue(profiler.isEnabled());
+        frame(0, 0);
+        profiler.toggle();
+        frame(0, 0);
+
+        assertFalse(profiler.isEnabled());
+        assertEquals(1, profiler.getFrameCount());
+    }
+
+    @Test
+    void allocationSplitTest() {
+        assumeTrue(profiler.isAllocationCountingSupported());
+        profiler.setEnabled(true);
+
+        frame(100_000, 10_000);
+
+        long update = profiler.getUpdateBytes().getLatest();
+        long render = profiler.getRenderBytes().getLatest();
+        assertTrue(update >= 100_000, "update allocated " + update + " bytes");
+        assertTrue(update < 110_000, "update allocated " + update + " bytes");
+        assertTrue(render >= 10_000, "render allocated " + render + " bytes");
+        assertTrue(render < 100_000, "render allocated " + render + " bytes");
+    }
+
+    @Test
+    void otherThreadUpdateTest() {
+        profiler.setEnabled(true);
+        // the first total only sets where the counting starts
+        profiler.beginFrame();
+        profiler.addUpdateBytesTotal(5_000);
+        profiler.endFrame();
+        assertEquals(0, profiler.getUpdateBytes().getLatest());
+
+        profiler.beginFrame();
+        profiler.addUpdateBytesTotal(7_000);
+        profiler.endFrame();
+        assertEquals(2_000, profiler.getUpdateBytes().getLatest());
+
+        // a total passed outside of a frame is ignored, so its growth counts
+        // towards the next frame
+        profiler.addUpdateBytesTotal(9_000);
+        profiler.beginFrame();
+        profiler.addUpdateBytesTotal(10_000);
+        profiler.endFrame();
+        assertEquals(3_000, profiler.getUpdateBytes().getLatest());
+
+        // turning the profiler off and on starts the counting over
+        profiler.toggle();
+        profiler.toggle();
+        profiler.beginFrame();
+        profiler.addUpdateBytesTotal(50_000);
+        profiler.endFrame();
+        assertEquals(0, profiler.getUpdateBytes().getLatest());
+    }
+
+    @Test
+    void rollingWindowTest() {
+        profiler.setEnabled(true);
+        for (int i = 0; i < 20; i++) {
+            frame(0, 0);
+        }
+
+        assertEquals(20, profiler.getFrameCount());
+        assertEquals(8, profiler.getUpdateBytes().getCount());
+        assertEquals(8, profiler.getGcCounts().getCount());
+        assertEquals(8, profiler.getGcPauseMillis().getCount());
+    }
+
+    @Test
+    void drawCallsTest() {
+        profiler.addDrawCalls(3);
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        profiler.addDrawCalls(4);
+        profiler.addDrawCalls(5);
+        profiler.endFrame();
+
+        // calls made outside of a frame aren't counted
+        assertEquals(9, profiler.getDrawCalls().getLatest());
+    }
+
+    @Test
+    void gcTest() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        System.gc();
+        profiler.endFrame();
+
+        // System.gc() is only a request, so a collection can't be required
+        assertTrue(profiler.getGcCounts().getLatest() >= 0);
+        assertTrue(profiler.getGcPauseMillis().getLatest() >= 0);
+    }
+
+    @Test
+    void writeCsvTest() throws IOException {
+        profiler.setEnabled(true);
+        for (int i = 0; i < 10; i++) {
+            frame(0, 0);
+        }
+
+        StringBuilder csv = new StringBuilder();
+        profiler.writeCsv(csv);
+        String[] lines = csv.toString().split("\n");
+
+        assertEquals(9, lines.length);
+        assertEquals(FrameProfiler.CSV_HEADER, lines[0]);
+        // the two oldest frames fell out of the window
+        assertTrue(lines[1].startsWith("2,"));
+        assertTrue(lines[8].startsWith("9,"));
+        assertEquals(6, lines[8].split(",").length);
+    }
+}
@@ -0,0 +1,109 @@
+package view.debug;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RollingHistogramTest {
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new RollingHistogram(0));
+
+        RollingHistogram histogram = new RollingHistogram(4);
+        assertEquals(4, histogram.getCapacity());
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+
+    @Test
+    void addTest() {
+        RollingHistogram histogram = new RollingHistogram(4);
+        histogram.add(1);
+        histogram.add(2);
+        histogram.add(3);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(6, histogram.getSum());
+        assertEquals(2, histogram.getMean());
+        assertEquals(3, histogram.getMax());
+        assertEquals(1, histogram.get(0));
+        assertEquals(3, histogram.getLatest());
+    }
+
+    @Test
+    void evictTest() {
+        RollingHistogram histogram = new RollingHistogram(3);
+        for (int i = 1; i <= 5; i++) {
+            histogram.add(i * 100);
+        }
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(300, histogram.get(0));
+        assertEquals(400, histogram.get(1));
+        assertEquals(500, histogram.get(2));
+        assertEquals(1200, histogram.getSum());
+        assertEquals(500, histogram.getMax());
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.get(3));
+
+        // 100 and 200 were evicted, so only the buckets of 300 to 500 are counted
+        int counted = 0;
+        for (int bucket = 0; bucket < RollingHistogram.BUCKETS; bucket++) {
+            counted += histogram.getBucketCount(bucket);
+        }
+        assertEquals(3, counted);
+        assertEquals(0, histogram.getBucketCount(RollingHistogram.bucketOf(100)));
+    }
+
+    @Test
+    void bucketTest() {
+        assertEquals(0, RollingHistogram.bucketOf(0));
+        assertEquals(1, RollingHistogram.bucketOf(1));
+        assertEquals(2, RollingHistogram.bucketOf(2));
+        assertEquals(2, RollingHistogram.bucketOf(3));
+        assertEquals(3, RollingHistogram.bucketOf(4));
+        assertEquals(63, RollingHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void negativeSampleTest() {
+        RollingHistogram histogram = new RollingHistogram(2);
+        histogram.add(-5);
+        assertEquals(0, histogram.getLatest());
+        assertEquals(1, histogram.getBucketCount(0));
+    }
+
+    @Test
+    void percentileTest() {
+        RollingHistogram histogram = new RollingHistogram(100);
+        for (int i = 0; i < 99; i++) {
+            histogram.add(10);
+        }
+        histogram.add(5000);
+
+        // 10 is in the bucket from 8 to 15
+        assertEquals(15, histogram.getPercentile(0.5));
+        assertEquals(15, histogram.getPercentile(0.99));
+        // the bound is capped by the largest sample
+        assertEquals(5000, histogram.getPercentile(1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(1.5));
+    }
+
+    @Test
+    void clearTest() {
+        RollingHistogram histogram = new RollingHistogram(2);
+        histogram.add(7);
+        histogram.add(9);
+        histogram.clear();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getBucketCount(RollingHistogram.bucketOf(7)));
+
+        histogram.add(4);
+        assertEquals(4, histogram.get(0));
+    }
+}
@@ -0,0 +1,119 @@
+package view.lighting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LightBudgetTest {
+
+    private LightBudget budget;
+
+    @BeforeEach
+    void setup() {
+        budget = new LightBudget(3, 1f, 5f);
+        budget.begin(-10f, -10f, 10f, 10f, 0f, 0f);
+    }
+
+    @Test
+    void constructorTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LightBudget(-1, 1f, 5f));
+        assertThrows(IllegalArgumentException.class, () -> new LightBudget(3, 0f, 5f));
+        assertEquals(3, budget.getMaxLights());
+    }
+
+    @Test
+    void clusterTest() {
+        budget.addLaser(0.2f, 0.2f);
+        budget.addLaser(0.6f, 0.4f);
+        budget.addLaser(3.5f, 3.5f);
+        budget.plan(2f, 1f);
+
+        assertEquals(2, budget.getClusterCount());
+        assertEquals(2, budget.getClusterSize(0));
+        assertEquals(0.4f, budget.getClusterX(0), 1e-6f);
+        assertEquals(0.3f, budget.getClusterY(0), 1e-6f);
+        assertEquals(1, budget.getClusterSize(1));
+
+        // a cluster reaches further, up to twice as far as a single laser
+        assertEquals(1f, budget.getClusterReach(1, 1f), 1e-6f);
+        assertEquals((float) Math.sqrt(2), budget.getClusterReach(0, 1f), 1e-6f);
+        assertEquals(2, budget.getLitCount());
+    }
+
+    @Test
+    void cullTest() {
+        // reaches into the view from just outside of it
+        int reaching = budget.addThruster(11f, 0f, false);
+        int outside = budget.addThruster(15f, 0f, false);
+        budget.addLaser(0f, -12f);
+        budget.plan(2f, 1f);
+
+        assertTrue(budget.isThrusterLit(reaching));
+        assertFalse(budget.isThrusterLit(outside));
+        assertFalse(budget.isClusterLit(0));
+        assertEquals(1, budget.getLitCount());
+    }
+
+    @Test
+    void priorityTest() {
+        int far = budget.addThruster(9f, 9f, false);
+        int near = budget.addThruster(1f, 0f, false);
+        int player = budget.addThruster(9f, -9f, true);
+        budget.addLaser(-2.5f, 0.5f);
+        budget.addLaser(-8.5f, 0.5f);
+        budget.plan(2f, 1f);
+
+        // the player's thrusters come first, then the lights closest to the player
+        assertEquals(3, budget.getLitCount());
+        assertTrue(budget.isThrusterLit(player));
+        assertTrue(budget.isThrusterLit(near));
+        assertFalse(budget.isThrusterLit(far));
+        assertTrue(budget.isClusterLit(0));
+        assertFalse(budget.isClusterLit(1));
+    }
+
+    @Test
+    void raysTest() {
+        budget.addLaser(1.5f, 1.5f);
+        budget.addLaser(6.5f, 6.5f);
+        budget.plan(2f, 1f);
+
+        assertEquals(LightBudget.NEAR_RAYS, budget.getClusterRays(0));
+        assertEquals(LightBudget.FAR_RAYS, budget.getClusterRays(1));
+    }
+
+    @Test
+    void manyCandidatesTest() {
+        LightBudget large = new LightBudget(10, 1f, 5f);
+        large.begin(-100f, -100f, 100f, 100f, 0f, 0f);
+        int[] thrusters = new int[50];
+        for (int i = 0; i < thrusters.length; i++) {
+            // scattered so that the closest ones aren't added first
+            float distance = (i * 37) % 50;
+            thrusters[i] = large.addThruster(distance, 0f, false);
+        }
+        large.plan(2f, 1f);
+
+        assertEquals(10, large.getLitCount());
+        for (int i = 0; i < thrusters.length; i++) {
+            float distance = (i * 37) % 50;
+            assertEquals(distance < 10f, large.isThrusterLit(thrusters[i]));
+        }
+    }
+
+    @Test
+    void beginTest() {
+        budget.addLaser(0f, 0f);
+        budget.addThruster(0f, 0f, false);
+        budget.plan(2f, 1f);
+
+        budget.begin(-10f, -10f, 10f, 10f, 0f, 0f);
+        budget.plan(2f, 1f);
+        assertEquals(0, budget.getClusterCount());
+        assertEquals(0, budget.getLitCount());
+    }
+}
@@ -0,0 +1,128 @@
+package view.lighting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import grid.CellPosition;
+import model.ShipComponents.ShipFactory;
+import model.ShipComponents.ShipStructure;
+import model.ShipComponents.Components.Fuselage;
+import model.ShipComponents.Components.Thruster;
+import model.SpaceCharacters.Ships.EnemyShip;
+import model.SpaceCharacters.Ships.SpaceShip;
+
+public class ShipThrusterLightMapTest {
+
+    private int lightsMade;
+    private ShipThrusterLightMap map;
+
+    @BeforeEach
+    void setup() {
+        lightsMade = 0;
+        map = new ShipThrusterLightMap(() -> {
+            lightsMade++;
+            return mock(ThrusterLight.class);
+        }, 0);
+    }
+
+    private static SpaceShip oneThrusterShip() {
+        return new EnemyShip(ShipFactory.simpleShip(), "enemy", "one thruster", 0f, 0f, 0f);
+    }
+
+    private static SpaceShip twoThrusterShip() {
+        ShipStructure structure = new ShipStructure(2, 2);
+        structure.addUpgrade(new CellPosition(0, 0), new Fuselage(new Thruster()));
+        structure.addUpgrade(new CellPosition(0, 1), new Fuselage(new Thruster()));
+        return new EnemyShip(structure, "enemy", "two thrusters", 0f, 0f, 0f);
+    }
+
+    @Test
+    void obtainTest() {
+        SpaceShip ship = twoThrusterShip();
+        ThrusterLight[] lights = map.obtain(ship, 2);
+
+        assertEquals(1, map.size());
+        assertSame(lights, map.get(ship));
+        assertEquals(2, lights.length);
+        assertEquals(2, lightsMade);
+        assertNotSame(lights[0], lights[1]);
+
+        // asking again gives the same lights
+        assertSame(lights, map.obtain(ship, 2));
+        assertEquals(2, lightsMade);
+    }
+
+    @Test
+    void resizeTest() {
+        // an upgraded ship gets as many lights as it has thrusters now
+        SpaceShip ship = oneThrusterShip();
+        ThrusterLight light = map.obtain(ship, 1)[0];
+        assertEquals(2, map.obtain(ship, 2).length);
+        verify(light, times(2)).setActive(false);
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void despawnTest() {
+        SpaceShip ship = oneThrusterShip();
+        ThrusterLight light = map.obtain(ship, 1)[0];
+        map.shipDespawned(ship);
+
+        assertEquals(0, map.size());
+        assertNull(map.get(ship));
+        verify(light, times(2)).setActive(false);
+
+        // despawning twice does nothing
+        map.shipDespawned(ship);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void reuseTest() {
+        SpaceShip first = oneThrusterShip();
+        ThrusterLight[] lights = map.obtain(first, 1);
+        map.shipDespawned(first);
+
+        // a ship with as many thrusters gets the same lights
+        SpaceShip second = oneThrusterShip();
+        assertSame(lights, map.obtain(second, 1));
+        assertEquals(1, lightsMade);
+
+        // a ship with more thrusters needs new ones
+        SpaceShip third = twoThrusterShip();
+        map.obtain(third, 2);
+        assertEquals(3, lightsMade);
+    }
+
+    @Test
+    void respawnTest() {
+        // a pooled ship may spawn again, possibly without despawning in between
+        SpaceShip ship = oneThrusterShip();
+        ThrusterLight[] lights = map.obtain(ship, 1);
+        map.shipSpawned(ship);
+
+        assertEquals(0, map.size());
+        assertSame(lights, map.obtain(ship, 1));
+        assertEquals(1, lightsMade);
+    }
+
+    @Test
+    void deactivateAllTest() {
+        SpaceShip ship = twoThrusterShip();
+        map.obtain(ship, 2);
+        map.deactivateAll();
+
+        for (ThrusterLight light : map.get(ship)) {
+            verify(light, times(2)).setActive(false);
+        }
+        assertEquals(1, map.size());
+    }
+}
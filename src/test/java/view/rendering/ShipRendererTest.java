@@ -0,0 +1,101 @@
+package view.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import java.util.ArrayList;
+import java.util.List;
+import model.ShipComponents.ShipFactory;
+import model.SpaceCharacters.Ships.EnemyShip;
+import model.SpaceCharacters.Ships.Player;
+import model.SpaceCharacters.Ships.ShipTransformCache;
+import model.simulation.WorldSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ShipRendererTest {
+
+    private ShipRenderer renderer;
+    private Batch batch;
+    private List<float[]> drawn;
+
+    @BeforeEach
+    void setup() {
+        renderer = new ShipRenderer(new UpgradeSprites((name, index) -> new Sprite(), 1f, 1f));
+
+        batch = mock(Batch.class);
+        when(batch.getPackedColor()).thenReturn(Color.WHITE_FLOAT_BITS);
+        drawn = new ArrayList<>();
+        doAnswer(invocation -> {
+            // the renderer reuses its vertex array, so copy it
+            drawn.add(((float[]) invocation.getArgument(1)).clone());
+            return null;
+        }).when(batch).draw(any(), any(float[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    void drawsEveryCellTest() {
+        Player player = new Player(ShipFactory.playerShip(), "player", "the player's ship", 0f, 0f);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.addShip(player);
+
+        // the player's ship is two fuselage, each holding an upgrade
+        int sprites = renderer.draw(batch, snapshot, 1f, true);
+        assertEquals(4, sprites);
+        assertEquals(4, drawn.size());
+        // no transform matrix, and so no flush per ship
+        verify(batch, never()).setTransformMatrix(any());
+    }
+
+    @Test
+    void skipPlayerTest() {
+        Player player = new Player(ShipFactory.playerShip(), "player", "the player's ship", 0f, 0f);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.addShip(player);
+        assertEquals(0, renderer.draw(batch, snapshot, 1f, false));
+    }
+
+    @Test
+    void rotatedCellsTest() {
+        EnemyShip enemy = new EnemyShip(ShipFactory.generateShipStructure(6, 3), "enemy", "an enemy ship",
+                3f, -2f, 0f);
+        enemy.setRotation(37f);
+        enemy.storePreviousState();
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.addShip(enemy);
+
+        renderer.draw(batch, snapshot, 1f, true);
+
+        // every fuselage sprite is centered on a cell position of the transform cache
+        ShipTransformCache cells = enemy.getTransformCache();
+        int fuselageSprites = 0;
+        for (float[] vertices : drawn) {
+            float x = (vertices[0] + vertices[5] + vertices[10] + vertices[15]) / 4f;
+            float y = (vertices[1] + vertices[6] + vertices[11] + vertices[16]) / 4f;
+
+            boolean matched = false;
+            for (int i = 0; i < cells.getFuselageCount(); i++) {
+                if (Math.abs(cells.getFuselageX(i) - x) < 1e-4f && Math.abs(cells.getFuselageY(i) - y) < 1e-4f) {
+                    matched = true;
+                }
+            }
+            assertTrue(matched, "no cell at " + x + ", " + y);
+            fuselageSprites++;
+
+            // the sides keep their length when rotated
+            float side = (float) Math.hypot(vertices[5] - vertices[0], vertices[6] - vertices[1]);
+            assertEquals(1f, side, 1e-4f);
+        }
+        assertTrue(fuselageSprites >= cells.getFuselageCount());
+    }
+}
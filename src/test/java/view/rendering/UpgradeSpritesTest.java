@@ -0,0 +1,65 @@
+package view.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import model.ShipComponents.UpgradeStage;
+import model.ShipComponents.UpgradeType;
+import org.junit.jupiter.api.Test;
+
+public class UpgradeSpritesTest {
+
+    @Test
+    void lookupTest() {
+        UpgradeSprites sprites = new UpgradeSprites((name, index) -> new Sprite(), 0.8f, 0.5f);
+
+        Sprite turret = sprites.get(UpgradeType.TURRET, UpgradeStage.ONE);
+        assertNotNull(turret);
+        assertEquals(0.8f, turret.getWidth());
+        assertEquals(0.5f, turret.getHeight());
+        assertNotSame(turret, sprites.get(UpgradeType.TURRET, UpgradeStage.TWO));
+        assertNotSame(sprites.get(UpgradeType.FUSELAGE, UpgradeStage.ZERO),
+                sprites.getEnemyFuselage(UpgradeStage.ZERO));
+    }
+
+    @Test
+    void missingRegionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new UpgradeSprites((name, index) -> null, 1f, 1f));
+    }
+
+    @Test
+    void atlasHasEveryRegionTest() {
+        FileHandle atlasFile = new FileHandle(new File("src/main/resources/" + UpgradeSprites.ATLAS));
+        TextureAtlasData atlas = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
+
+        // the sprites drawn together in a frame should be on one page
+        assertEquals(1, atlas.getPages().size);
+
+        Set<String> regions = new HashSet<>();
+        for (Region region : atlas.getRegions()) {
+            regions.add(region.name + "#" + region.index);
+        }
+        for (UpgradeType type : UpgradeType.values()) {
+            for (UpgradeStage stage : UpgradeStage.values()) {
+                assertTrue(regions.contains(UpgradeSprites.regionName(type) + "#" + stage.ordinal()));
+                assertTrue(regions.contains(UpgradeSprites.ENEMY_FUSELAGE_REGION + "#" + stage.ordinal()));
+            }
+        }
+        assertTrue(regions.contains("asteroid#0"));
+        assertTrue(regions.contains("asteroid#1"));
+        assertTrue(regions.contains("laser_shot#0"));
+        assertTrue(regions.contains("diamond#-1"));
+        assertTrue(regions.contains("star#-1"));
+        assertTrue(regions.contains("upgrade_grid_tile_green#-1"));
+    }
+}
@@ -0,0 +1,195 @@
+package tools;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+
+/**
+ * Packs images into texture atlas pages, and writes them along with an atlas
+ * file that <code>TextureAtlas</code> can read.
+ * <p>
+ * Images are packed in rows, tallest first, onto square power-of-two pages of
+ * at most {@link #MAX_PAGE_SIZE} pixels, with {@link #PADDING} transparent
+ * pixels between them. A page only grows as large as its images need, and
+ * images that don't fit go on a new page. A file named <code>name_3.png</code>
+ * becomes region <code>name</code> with index 3, so related images can be
+ * found with <code>TextureAtlas.findRegion(name, index)</code>.
+ * <p>
+ * Run it with "mvn -P atlas test-compile exec:exec", which packs the gameplay
+ * sprites into <code>images/sprites.atlas</code>.
+ */
+public final class SpriteAtlasPacker {
+
+    public static final int MAX_PAGE_SIZE = 2048;
+    public static final int PADDING = 2;
+
+    private static final Pattern INDEXED_NAME = Pattern.compile("(.+)_(\\d+)");
+
+    private SpriteAtlasPacker() {
+        // Utility class
+    }
+
+    private record Sprite(String name, int index, BufferedImage image) {
+    }
+
+    private record Placement(Sprite sprite, int x, int y) {
+    }
+
+    private record Page(int size, List<Placement> placements) {
+    }
+
+    /**
+     * @param args the resource root, the name of the atlas, relative to the
+     *             resource root and without extension, and then the images and
+     *             directories of images to pack, relative to the resource root.
+     * @throws IOException if an image can't be read, or the atlas can't be
+     *                     written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("usage: SpriteAtlasPacker <root> <atlas> <image or directory>...");
+        }
+
+        File root = new File(args[0]);
+        List<Sprite> sprites = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            addSprites(new File(root, args[i]), sprites);
+        }
+
+        File atlas = new File(root, args[1] + ".atlas");
+        List<Page> pages = pack(sprites);
+        write(atlas, pages);
+        System.out.println("packed " + sprites.size() + " images onto " + pages.size() + " page(s) in " + atlas);
+    }
+
+    private static void addSprites(File file, List<Sprite> sprites) throws IOException {
+        if (file.isDirectory()) {
+            File[] files = file.listFiles((dir, name) -> name.endsWith(".png"));
+            if (files == null) {
+                throw new IOException("can't list " + file);
+            }
+            // sorted, so that the atlas is the same on every machine
+            Arrays.sort(files);
+            for (File child : files) {
+                addSprites(child, sprites);
+            }
+            return;
+        }
+
+        BufferedImage image = ImageIO.read(file);
+        if (image == null) {
+            throw new IOException("can't read " + file);
+        }
+        if (image.getWidth() + 2 * PADDING > MAX_PAGE_SIZE || image.getHeight() + 2 * PADDING > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(file + " is too large for a page");
+        }
+
+        String name = file.getName().substring(0, file.getName().length() - ".png".length());
+        Matcher indexed = INDEXED_NAME.matcher(name);
+        if (indexed.matches()) {
+            sprites.add(new Sprite(indexed.group(1), Integer.parseInt(indexed.group(2)), image));
+        } else {
+            sprites.add(new Sprite(name, -1, image));
+        }
+    }
+
+    private static List<Page> pack(List<Sprite> sprites) {
+        List<Sprite> remaining = new ArrayList<>(sprites);
+        remaining.sort(Comparator.comparingInt((Sprite sprite) -> sprite.image().getHeight()).reversed()
+                .thenComparing(Sprite::name).thenComparingInt(Sprite::index));
+
+        List<Page> pages = new ArrayList<>();
+        while (!remaining.isEmpty()) {
+            Page page = null;
+            for (int size = 64; size <= MAX_PAGE_SIZE && page == null; size *= 2) {
+                page = packPage(remaining, size, size == MAX_PAGE_SIZE);
+            }
+            for (Placement placement : page.placements()) {
+                remaining.remove(placement.sprite());
+            }
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    /**
+     * Places sprites in rows on a page of the given size.
+     *
+     * @return the page, or null if not all sprites fit and <code>partial</code> is
+     *         false.
+     */
+    private static Page packPage(List<Sprite> sprites, int size, boolean partial) {
+        List<Placement> placements = new ArrayList<>();
+        int x = PADDING;
+        int y = PADDING;
+        int rowHeight = 0;
+        for (Sprite sprite : sprites) {
+            int width = sprite.image().getWidth();
+            int height = sprite.image().getHeight();
+            if (x + width + PADDING > size) {
+                x = PADDING;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+            if (y + height + PADDING > size) {
+                if (!partial) {
+                    return null;
+                }
+                continue;
+            }
+            placements.add(new Placement(sprite, x, y));
+            x += width + PADDING;
+            rowHeight = Math.max(rowHeight, height);
+        }
+        return new Page(size, placements);
+    }
+
+    private static void write(File atlas, List<Page> pages) throws IOException {
+        String baseName = atlas.getName().substring(0, atlas.getName().length() - ".atlas".length());
+        try (PrintWriter out = new PrintWriter(atlas, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < pages.size(); i++) {
+                Page page = pages.get(i);
+                String pageName = pages.size() == 1 ? baseName + ".png" : baseName + "_page" + i + ".png";
+                writePage(new File(atlas.getParentFile(), pageName), page);
+
+                if (i > 0) {
+                    out.print('\n');
+                }
+                out.print(pageName + "\n");
+                out.print("size:" + page.size() + "," + page.size() + "\n");
+                out.print("repeat:none\n");
+                for (Placement placement : page.placements()) {
+                    Sprite sprite = placement.sprite();
+                    out.print(sprite.name() + "\n");
+                    if (sprite.index() >= 0) {
+                        out.print("index:" + sprite.index() + "\n");
+                    }
+                    out.print("bounds:" + placement.x() + "," + placement.y() + ","
+                            + sprite.image().getWidth() + "," + sprite.image().getHeight() + "\n");
+                }
+            }
+        }
+    }
+
+    private static void writePage(File file, Page page) throws IOException {
+        BufferedImage image = new BufferedImage(page.size(), page.size(), BufferedImage.TYPE_INT_ARGB);
+        for (Placement placement : page.placements()) {
+            BufferedImage sprite = placement.sprite().image();
+            for (int y = 0; y < sprite.getHeight(); y++) {
+                for (int x = 0; x < sprite.getWidth(); x++) {
+                    image.setRGB(placement.x() + x, placement.y() + y, sprite.getRGB(x, y));
+                }
+            }
+        }
+        ImageIO.write(image, "png", file);
+    }
+}